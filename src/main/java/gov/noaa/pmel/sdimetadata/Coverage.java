@@ -1,13 +1,13 @@
 package gov.noaa.pmel.sdimetadata;
 
+import gov.noaa.pmel.sdimetadata.util.DateTimeParser;
 import gov.noaa.pmel.sdimetadata.util.NumericString;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
-import java.util.TimeZone;
+import java.util.SortedSet;
 import java.util.TreeSet;
 
 /**
@@ -24,14 +24,9 @@ public class Coverage implements Cloneable {
      */
     public static final Date MIN_DATA_TIME;
 
-    private static final DateFormat TIMESTAMP_PARSER;
-
     static {
-        TIMESTAMP_PARSER = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        TIMESTAMP_PARSER.setTimeZone(TimeZone.getTimeZone("UTC"));
-        TIMESTAMP_PARSER.setLenient(false);
         try {
-            MIN_DATA_TIME = TIMESTAMP_PARSER.parse("1900-01-01 00:00:00");
+            MIN_DATA_TIME = DateTimeParser.parseTimestamp("1900-01-01 00:00:00");
         } catch ( ParseException ex ) {
             throw new RuntimeException(ex);
         }
@@ -45,16 +40,17 @@ public class Coverage implements Cloneable {
     protected Date latestDataTime;
     protected String spatialReference;
     protected TreeSet<String> geographicNames;
+    private boolean readOnly;
 
     /**
      * Create with empty longitudes, empty latitudes, invalid times,
      * the spatial reference set to WGS 84, and no geographic names.
      */
     public Coverage() {
-        westernLongitude = new NumericString(null, LONGITUDE_UNITS);
-        easternLongitude = new NumericString(null, LONGITUDE_UNITS);
-        southernLatitude = new NumericString(null, LATITUDE_UNITS);
-        northernLatitude = new NumericString(null, LATITUDE_UNITS);
+        westernLongitude = NumericString.valueOf(null, LONGITUDE_UNITS);
+        easternLongitude = NumericString.valueOf(null, LONGITUDE_UNITS);
+        southernLatitude = NumericString.valueOf(null, LATITUDE_UNITS);
+        northernLatitude = NumericString.valueOf(null, LATITUDE_UNITS);
         earliestDataTime = new Date(MIN_DATA_TIME.getTime() - 1);
         latestDataTime = new Date(MIN_DATA_TIME.getTime() - 1);
         spatialReference = WGS84;
@@ -86,14 +82,14 @@ public class Coverage implements Cloneable {
     public Coverage(String westernLongitude, String easternLongitude, String southernLatitude, String northernLatitude,
             String earliestDataTime, String latestDataTime) throws IllegalArgumentException {
         this();
-        setWesternLongitude(new NumericString(westernLongitude, LONGITUDE_UNITS));
-        setEasternLongitude(new NumericString(easternLongitude, LONGITUDE_UNITS));
-        setSouthernLatitude(new NumericString(southernLatitude, LATITUDE_UNITS));
-        setNorthernLatitude(new NumericString(northernLatitude, LATITUDE_UNITS));
+        setWesternLongitude(NumericString.valueOf(westernLongitude, LONGITUDE_UNITS));
+        setEasternLongitude(NumericString.valueOf(easternLongitude, LONGITUDE_UNITS));
+        setSouthernLatitude(NumericString.valueOf(southernLatitude, LATITUDE_UNITS));
+        setNorthernLatitude(NumericString.valueOf(northernLatitude, LATITUDE_UNITS));
         Date dataTime;
         if ( (earliestDataTime != null) && !earliestDataTime.trim().isEmpty() ) {
             try {
-                dataTime = TIMESTAMP_PARSER.parse(earliestDataTime.trim());
+                dataTime = DateTimeParser.parseTimestamp(earliestDataTime.trim());
             } catch ( ParseException ex ) {
                 throw new IllegalArgumentException("Invalid earliest data time: " + ex.getMessage());
             }
@@ -103,7 +99,7 @@ public class Coverage implements Cloneable {
         setEarliestDataTime(dataTime);
         if ( (latestDataTime != null) && !latestDataTime.trim().isEmpty() ) {
             try {
-                dataTime = TIMESTAMP_PARSER.parse(latestDataTime.trim());
+                dataTime = DateTimeParser.parseTimestamp(latestDataTime.trim());
             } catch ( ParseException ex ) {
                 throw new IllegalArgumentException("Invalid latest data time: " + ex.getMessage());
             }
@@ -150,7 +146,7 @@ public class Coverage implements Cloneable {
      *         to be a numeric value in the range [-360.0,360.0] and the units will be {@link #LONGITUDE_UNITS}.
      */
     public NumericString getWesternLongitude() {
-        return westernLongitude.clone();
+        return westernLongitude;
     }
 
     /**
@@ -162,16 +158,17 @@ public class Coverage implements Cloneable {
      *         if the unit string of the given longitude is not {@link #LONGITUDE_UNITS}
      */
     public void setWesternLongitude(NumericString westernLongitude) throws IllegalArgumentException {
+        checkModifiable();
         if ( (westernLongitude != null) && westernLongitude.isValid() ) {
             double val = westernLongitude.getNumericValue();
             if ( (val < -360.0) || (val > 360.0) )
                 throw new IllegalArgumentException("westernmost longitude is not in [-360.0,360.0]");
             if ( !LONGITUDE_UNITS.equals(westernLongitude.getUnitString()) )
                 throw new IllegalArgumentException("westernmost longitude units are not " + LONGITUDE_UNITS);
-            this.westernLongitude = westernLongitude.clone();
+            this.westernLongitude = westernLongitude;
         }
         else
-            this.westernLongitude = new NumericString(null, LONGITUDE_UNITS);
+            this.westernLongitude = NumericString.valueOf(null, LONGITUDE_UNITS);
     }
 
     /**
@@ -179,7 +176,7 @@ public class Coverage implements Cloneable {
      *         to be a numeric value in the range [-360.0,360.0] and the units will be {@link #LONGITUDE_UNITS}
      */
     public NumericString getEasternLongitude() {
-        return easternLongitude.clone();
+        return easternLongitude;
     }
 
     /**
@@ -191,16 +188,17 @@ public class Coverage implements Cloneable {
      *         if the unit string of the given longitude is not {@link #LONGITUDE_UNITS}
      */
     public void setEasternLongitude(NumericString easternLongitude) throws IllegalArgumentException {
+        checkModifiable();
         if ( (easternLongitude != null) && easternLongitude.isValid() ) {
             double val = easternLongitude.getNumericValue();
             if ( (val < -360.0) || (val > 360.0) )
                 throw new IllegalArgumentException("easternmost longitude is not in [-360.0,360.0]");
             if ( !LONGITUDE_UNITS.equals(easternLongitude.getUnitString()) )
                 throw new IllegalArgumentException("easternmost longitude units are not " + LONGITUDE_UNITS);
-            this.easternLongitude = easternLongitude.clone();
+            this.easternLongitude = easternLongitude;
         }
         else
-            this.easternLongitude = new NumericString(null, LONGITUDE_UNITS);
+            this.easternLongitude = NumericString.valueOf(null, LONGITUDE_UNITS);
     }
 
     /**
@@ -208,7 +206,7 @@ public class Coverage implements Cloneable {
      *         to be a numeric value in the range [-90.0,90.0] and the units will be {@link #LATITUDE_UNITS}
      */
     public NumericString getSouthernLatitude() {
-        return southernLatitude.clone();
+        return southernLatitude;
     }
 
     /**
@@ -220,16 +218,17 @@ public class Coverage implements Cloneable {
      *         if the unit string of the given latitude is not {@link #LATITUDE_UNITS}
      */
     public void setSouthernLatitude(NumericString southernLatitude) throws IllegalArgumentException {
+        checkModifiable();
         if ( (southernLatitude != null) && southernLatitude.isValid() ) {
             double val = southernLatitude.getNumericValue();
             if ( (val < -90.0) || (val > 90.0) )
                 throw new IllegalArgumentException("southernmost latitude is not in [-90.0,90.0]");
             if ( !LATITUDE_UNITS.equals(southernLatitude.getUnitString()) )
                 throw new IllegalArgumentException("southernLatitude longitude units are not " + LATITUDE_UNITS);
-            this.southernLatitude = southernLatitude.clone();
+            this.southernLatitude = southernLatitude;
         }
         else
-            this.southernLatitude = new NumericString(null, LATITUDE_UNITS);
+            this.southernLatitude = NumericString.valueOf(null, LATITUDE_UNITS);
     }
 
     /**
@@ -237,7 +236,7 @@ public class Coverage implements Cloneable {
      *         to be a numeric value in the range [-90.0,90.0] and the units will be {@link #LATITUDE_UNITS}
      */
     public NumericString getNorthernLatitude() {
-        return northernLatitude.clone();
+        return northernLatitude;
     }
 
     /**
@@ -249,16 +248,17 @@ public class Coverage implements Cloneable {
      *         if the unit string of the given latitude is not {@link #LATITUDE_UNITS}
      */
     public void setNorthernLatitude(NumericString northernLatitude) {
+        checkModifiable();
         if ( (northernLatitude != null) && northernLatitude.isValid() ) {
             double val = northernLatitude.getNumericValue();
             if ( (val < -90.0) || (val > 90.0) )
                 throw new IllegalArgumentException("northernmost latitude is not in [-90.0,90.0]");
             if ( !LATITUDE_UNITS.equals(northernLatitude.getUnitString()) )
                 throw new IllegalArgumentException("northernLatitude longitude units are not " + LATITUDE_UNITS);
-            this.northernLatitude = northernLatitude.clone();
+            this.northernLatitude = northernLatitude;
         }
         else
-            this.northernLatitude = new NumericString(null, LATITUDE_UNITS);
+            this.northernLatitude = NumericString.valueOf(null, LATITUDE_UNITS);
     }
 
     /**
@@ -274,6 +274,7 @@ public class Coverage implements Cloneable {
      *         if null, a date prior to {@link #MIN_DATA_TIME} will be assigned
      */
     public void setEarliestDataTime(Date earliestDataTime) {
+        checkModifiable();
         if ( earliestDataTime != null )
             this.earliestDataTime = new Date(earliestDataTime.getTime());
         else
@@ -293,6 +294,7 @@ public class Coverage implements Cloneable {
      *         if null, a date prior to {@link #MIN_DATA_TIME} will be assigned
      */
     public void setLatestDataTime(Date latestDataTime) {
+        checkModifiable();
         if ( latestDataTime != null )
             this.latestDataTime = new Date(latestDataTime.getTime());
         else
@@ -311,6 +313,7 @@ public class Coverage implements Cloneable {
      *         assign as the spatial reference; if null, WGS 84 is assigned
      */
     public void setSpatialReference(String spatialReference) {
+        checkModifiable();
         this.spatialReference = (spatialReference != null) ? spatialReference.trim() : WGS84;
         if ( this.spatialReference.isEmpty() )
             this.spatialReference = WGS84;
@@ -324,6 +327,13 @@ public class Coverage implements Cloneable {
         return new TreeSet<String>(geographicNames);
     }
 
+    /**
+     * @return an unmodifiable view of the set of geographic names (see {@link #getGeographicNames()})
+     */
+    public SortedSet<String> viewGeographicNames() {
+        return Collections.unmodifiableSortedSet(geographicNames);
+    }
+
     /**
      * @param geographicNames
      *         assign as the list of geographic names; if null, an empty set is assigned
@@ -332,7 +342,8 @@ public class Coverage implements Cloneable {
      *         if any name given is null or blank
      */
     public void setGeographicNames(Iterable<String> geographicNames) throws IllegalArgumentException {
-        this.geographicNames.clear();
+        checkModifiable();
+        TreeSet<String> newSet = new TreeSet<String>();
         if ( geographicNames != null ) {
             for (String name : geographicNames) {
                 if ( name == null )
@@ -340,9 +351,35 @@ public class Coverage implements Cloneable {
                 name = name.trim();
                 if ( name.isEmpty() )
                     throw new IllegalArgumentException("blank geographic region name given");
-                this.geographicNames.add(name);
+                newSet.add(name);
             }
         }
+        this.geographicNames.clear();
+        this.geographicNames.addAll(newSet);
+    }
+
+    /**
+     * Make this coverage read-only, so the setters throw an UnsupportedOperationException.  A read-only coverage
+     * can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this coverage is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this coverage is read-only
+     */
+    protected void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
     }
 
     @Override
@@ -353,10 +390,7 @@ public class Coverage implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
-        coverage.westernLongitude = westernLongitude.clone();
-        coverage.easternLongitude = easternLongitude.clone();
-        coverage.southernLatitude = southernLatitude.clone();
-        coverage.northernLatitude = northernLatitude.clone();
+        coverage.readOnly = false;
         coverage.earliestDataTime = new Date(earliestDataTime.getTime());
         coverage.latestDataTime = new Date(latestDataTime.getTime());
         coverage.spatialReference = spatialReference;
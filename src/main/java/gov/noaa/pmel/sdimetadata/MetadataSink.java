@@ -0,0 +1,24 @@
+package gov.noaa.pmel.sdimetadata;
+
+import java.io.IOException;
+
+/**
+ * Consumer of the contents of metadata, such as a writer of a metadata format, a search index, or a report.
+ * Sinks only examine the metadata through its view, so several sinks may consume the same metadata concurrently
+ * provided the metadata is not modified while they do so.
+ */
+public interface MetadataSink {
+
+    /**
+     * Consume the contents of the given metadata.  This may be called concurrently with other sinks consuming the
+     * same metadata, so the metadata must not be modified.
+     *
+     * @param mdata
+     *         consume the contents of this metadata
+     *
+     * @throws IOException
+     *         if writing the contents of the metadata throws one
+     */
+    void consume(SDIMetadataView mdata) throws IOException;
+
+}
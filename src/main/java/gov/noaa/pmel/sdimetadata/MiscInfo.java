@@ -3,8 +3,9 @@ package gov.noaa.pmel.sdimetadata;
 import gov.noaa.pmel.sdimetadata.util.Datestamp;
 
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 /**
  * Miscellaneous information about a dataset.
@@ -31,6 +32,7 @@ public class MiscInfo implements Cloneable {
     protected Datestamp startDatestamp;
     protected Datestamp endDatestamp;
     protected ArrayList<Datestamp> history;
+    private boolean readOnly;
 
     /**
      * Create with empty or invalid values for all fields.
@@ -53,8 +55,8 @@ public class MiscInfo implements Cloneable {
         references = new ArrayList<String>();
         portsOfCall = new ArrayList<String>();
         addnInfo = new ArrayList<String>();
-        startDatestamp = new Datestamp();
-        endDatestamp = new Datestamp();
+        startDatestamp = readOnlyDatestamp(null);
+        endDatestamp = readOnlyDatestamp(null);
         history = new ArrayList<Datestamp>();
     }
 
@@ -65,28 +67,18 @@ public class MiscInfo implements Cloneable {
         HashSet<String> invalid = new HashSet<String>();
         if ( datasetId.isEmpty() )
             invalid.add("datasetId");
-        Date startDate;
-        try {
-            startDate = startDatestamp.getEarliestTime();
-        } catch ( IllegalStateException ex ) {
-            startDate = null;
-        }
-        Date endDate;
-        try {
-            endDate = endDatestamp.getEarliestTime();
-        } catch ( IllegalStateException ex ) {
-            endDate = null;
-        }
-        if ( (startDate != null) && (endDate != null) ) {
-            if ( startDate.after(endDate) ) {
+        boolean startValid = startDatestamp.isValid();
+        boolean endValid = endDatestamp.isValid();
+        if ( startValid && endValid ) {
+            if ( startDatestamp.getEarliestMillis() > endDatestamp.getEarliestMillis() ) {
                 invalid.add("startDatestamp");
                 invalid.add("endDatestamp");
             }
         }
         else {
-            if ( null == startDate )
+            if ( !startValid )
                 invalid.add("startDatestamp");
-            if ( null == endDate )
+            if ( !endValid )
                 invalid.add("endDatestamp");
         }
         return invalid;
@@ -104,6 +96,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the unique ID for this dataset; if null, an empty string is assigned
      */
     public void setDatasetId(String datasetId) {
+        checkModifiable();
         this.datasetId = (datasetId != null) ? datasetId.trim() : "";
     }
 
@@ -119,6 +112,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the PI's name for this dataset; if null, an empty string is assigned
      */
     public void setDatasetName(String datasetName) {
+        checkModifiable();
         this.datasetName = (datasetName != null) ? datasetName.trim() : "";
     }
 
@@ -134,6 +128,7 @@ public class MiscInfo implements Cloneable {
      *         assign as dataset section/leg name; if null, an empty string is assigned
      */
     public void setSectionName(String sectionName) {
+        checkModifiable();
         this.sectionName = (sectionName != null) ? sectionName.trim() : "";
     }
 
@@ -149,6 +144,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the funding agency name; if null, an empty string is assigned
      */
     public void setFundingAgency(String fundingAgency) {
+        checkModifiable();
         this.fundingAgency = (fundingAgency != null) ? fundingAgency.trim() : "";
     }
 
@@ -164,6 +160,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the funding grant title; if null, an empty string is assigned
      */
     public void setFundingTitle(String fundingTitle) {
+        checkModifiable();
         this.fundingTitle = (fundingTitle != null) ? fundingTitle.trim() : "";
     }
 
@@ -179,6 +176,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the funding grant ID; if null, an empty string is assigned
      */
     public void setFundingId(String fundingId) {
+        checkModifiable();
         this.fundingId = (fundingId != null) ? fundingId.trim() : "";
     }
 
@@ -194,6 +192,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the research project ID; if null, an empty string is assigned
      */
     public void setResearchProject(String researchProject) {
+        checkModifiable();
         this.researchProject = (researchProject != null) ? researchProject.trim() : "";
     }
 
@@ -209,6 +208,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the DOI for this dataset; if null, an empty string is assigned
      */
     public void setDatasetDoi(String datasetDoi) {
+        checkModifiable();
         this.datasetDoi = (datasetDoi != null) ? datasetDoi.trim() : "";
     }
 
@@ -224,6 +224,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the access ID for this dataset; if null, an empty string is assigned
      */
     public void setAccessId(String accessId) {
+        checkModifiable();
         this.accessId = (accessId != null) ? accessId.trim() : "";
     }
 
@@ -239,6 +240,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the website for this dataset; if null, an empty string is assigned
      */
     public void setWebsite(String website) {
+        checkModifiable();
         this.website = (website != null) ? website.trim() : "";
     }
 
@@ -254,6 +256,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the download URL String for this dataset; if null, an empty string is assigned
      */
     public void setDownloadUrl(String downloadUrl) {
+        checkModifiable();
         this.downloadUrl = (downloadUrl != null) ? downloadUrl.trim() : "";
     }
 
@@ -269,6 +272,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the citation for this dataset; if null, an empty string is assigned
      */
     public void setCitation(String citation) {
+        checkModifiable();
         this.citation = (citation != null) ? citation.trim() : "";
     }
 
@@ -284,6 +288,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the synposis / abstract for this dataset; if null, an empty string is assigned
      */
     public void setSynopsis(String synopsis) {
+        checkModifiable();
         this.synopsis = (synopsis != null) ? synopsis.trim() : "";
     }
 
@@ -299,6 +304,7 @@ public class MiscInfo implements Cloneable {
      *         assign as the purpose for this dataset; if null, an empty string is assigned
      */
     public void setPurpose(String purpose) {
+        checkModifiable();
         this.purpose = (purpose != null) ? purpose.trim() : "";
     }
 
@@ -310,6 +316,13 @@ public class MiscInfo implements Cloneable {
         return new ArrayList<String>(references);
     }
 
+    /**
+     * @return an unmodifiable view of the list of references (see {@link #getReferences()})
+     */
+    public List<String> viewReferences() {
+        return Collections.unmodifiableList(references);
+    }
+
     /**
      * @param references
      *         assign as the list of references used by this dataset; if null, an empty list is assigned
@@ -318,7 +331,8 @@ public class MiscInfo implements Cloneable {
      *         if any reference given is null or blank
      */
     public void setReferences(Iterable<String> references) throws IllegalArgumentException {
-        this.references.clear();
+        checkModifiable();
+        ArrayList<String> newList = new ArrayList<String>();
         if ( references != null ) {
             for (String ref : references) {
                 if ( ref == null )
@@ -326,9 +340,11 @@ public class MiscInfo implements Cloneable {
                 ref = ref.trim();
                 if ( ref.isEmpty() )
                     throw new IllegalArgumentException("blank reference given");
-                this.references.add(ref);
+                newList.add(ref);
             }
         }
+        this.references.clear();
+        this.references.addAll(newList);
     }
 
     /**
@@ -339,6 +355,13 @@ public class MiscInfo implements Cloneable {
         return new ArrayList<String>(portsOfCall);
     }
 
+    /**
+     * @return an unmodifiable view of the port-of-call list (see {@link #getPortsOfCall()})
+     */
+    public List<String> viewPortsOfCall() {
+        return Collections.unmodifiableList(portsOfCall);
+    }
+
     /**
      * @param portsOfCall
      *         assign as the port-of-call list for this dataset; if null, an empty list is assigned
@@ -347,7 +370,8 @@ public class MiscInfo implements Cloneable {
      *         if any of the port-of-call strings are null or empty
      */
     public void setPortsOfCall(Iterable<String> portsOfCall) throws IllegalArgumentException {
-        this.portsOfCall.clear();
+        checkModifiable();
+        ArrayList<String> newList = new ArrayList<String>();
         if ( portsOfCall != null ) {
             for (String port : portsOfCall) {
                 if ( port == null )
@@ -355,9 +379,11 @@ public class MiscInfo implements Cloneable {
                 port = port.trim();
                 if ( port.isEmpty() )
                     throw new IllegalArgumentException("blank port-of-call string given");
-                this.portsOfCall.add(port);
+                newList.add(port);
             }
         }
+        this.portsOfCall.clear();
+        this.portsOfCall.addAll(newList);
     }
 
 
@@ -369,6 +395,13 @@ public class MiscInfo implements Cloneable {
         return new ArrayList<String>(addnInfo);
     }
 
+    /**
+     * @return an unmodifiable view of the list of additional information strings (see {@link #getAddnInfo()})
+     */
+    public List<String> viewAddnInfo() {
+        return Collections.unmodifiableList(addnInfo);
+    }
+
     /**
      * @param addnInfo
      *         assign as the list of additional information strings for this dataset;
@@ -378,7 +411,8 @@ public class MiscInfo implements Cloneable {
      *         if any of the additional information strings are null or empty
      */
     public void setAddnInfo(Iterable<String> addnInfo) throws IllegalArgumentException {
-        this.addnInfo.clear();
+        checkModifiable();
+        ArrayList<String> newList = new ArrayList<String>();
         if ( addnInfo != null ) {
             for (String info : addnInfo) {
                 if ( info == null )
@@ -386,9 +420,11 @@ public class MiscInfo implements Cloneable {
                 info = info.trim();
                 if ( info.isEmpty() )
                     throw new IllegalArgumentException("blank additional information string given");
-                this.addnInfo.add(info);
+                newList.add(info);
             }
         }
+        this.addnInfo.clear();
+        this.addnInfo.addAll(newList);
     }
 
     /**
@@ -398,13 +434,22 @@ public class MiscInfo implements Cloneable {
         return startDatestamp.clone();
     }
 
+    /**
+     * @return the start date without copying (see {@link #getStartDatestamp()});
+     *         the object returned is read-only
+     */
+    public Datestamp viewStartDatestamp() {
+        return startDatestamp;
+    }
+
     /**
      * @param startDatestamp
      *         assign as the starting date for this dataset;
      *         if null, an invalid Datestamp will be assigned.
      */
     public void setStartDatestamp(Datestamp startDatestamp) {
-        this.startDatestamp = (startDatestamp != null) ? startDatestamp.clone() : new Datestamp();
+        checkModifiable();
+        this.startDatestamp = readOnlyDatestamp(startDatestamp);
     }
 
     /**
@@ -414,13 +459,22 @@ public class MiscInfo implements Cloneable {
         return endDatestamp.clone();
     }
 
+    /**
+     * @return the end date without copying (see {@link #getEndDatestamp()});
+     *         the object returned is read-only
+     */
+    public Datestamp viewEndDatestamp() {
+        return endDatestamp;
+    }
+
     /**
      * @param endDatestamp
      *         assign as the ending date for this dataset;
      *         if null, an invalid Datestamp will be assigned.
      */
     public void setEndDatestamp(Datestamp endDatestamp) {
-        this.endDatestamp = (endDatestamp != null) ? endDatestamp.clone() : new Datestamp();
+        checkModifiable();
+        this.endDatestamp = readOnlyDatestamp(endDatestamp);
     }
 
     /**
@@ -435,6 +489,13 @@ public class MiscInfo implements Cloneable {
         return dup;
     }
 
+    /**
+     * @return an unmodifiable view of the list of read-only submission and update dates (see {@link #getHistory()})
+     */
+    public List<Datestamp> viewHistory() {
+        return Collections.unmodifiableList(history);
+    }
+
     /**
      * @param history
      *         assign as the submission date history list for this dataset; if null, an empty list is assigned.
@@ -443,19 +504,55 @@ public class MiscInfo implements Cloneable {
      *         if any of the dates given are invalid
      */
     public void setHistory(Iterable<Datestamp> history) throws IllegalArgumentException {
-        this.history.clear();
+        checkModifiable();
+        ArrayList<Datestamp> newList = new ArrayList<Datestamp>();
         if ( history != null ) {
             for (Datestamp datestamp : history) {
                 if ( datestamp == null )
                     throw new IllegalArgumentException("null datestamp given");
                 try {
-                    datestamp.getEarliestTime();
+                    datestamp.getEarliestMillis();
                 } catch ( Exception ex ) {
                     throw new IllegalArgumentException("invalid datestamp given: " + ex.getMessage(), ex);
                 }
-                this.history.add(datestamp.clone());
+                newList.add(readOnlyDatestamp(datestamp));
             }
         }
+        this.history.clear();
+        this.history.addAll(newList);
+    }
+
+    /**
+     * @return a read-only copy of the given date; a read-only invalid date if null
+     */
+    private static Datestamp readOnlyDatestamp(Datestamp datestamp) {
+        Datestamp dup = (datestamp != null) ? datestamp.clone() : new Datestamp();
+        dup.makeReadOnly();
+        return dup;
+    }
+
+    /**
+     * Make this miscellaneous information read-only, so the setters throw an UnsupportedOperationException.
+     * Read-only information can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this miscellaneous information is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this miscellaneous information is read-only
+     */
+    protected void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
     }
 
     @Override
@@ -466,6 +563,7 @@ public class MiscInfo implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
+        dup.readOnly = false;
         dup.datasetId = datasetId;
         dup.datasetName = datasetName;
         dup.sectionName = sectionName;
@@ -483,12 +581,10 @@ public class MiscInfo implements Cloneable {
         dup.references = new ArrayList<String>(references);
         dup.portsOfCall = new ArrayList<String>(portsOfCall);
         dup.addnInfo = new ArrayList<String>(addnInfo);
-        dup.startDatestamp = startDatestamp.clone();
-        dup.endDatestamp = endDatestamp.clone();
-        dup.history = new ArrayList<Datestamp>(history.size());
-        for (Datestamp datestamp : history) {
-            dup.history.add(datestamp.clone());
-        }
+        // The dates held are read-only, so they can be shared
+        dup.startDatestamp = startDatestamp;
+        dup.endDatestamp = endDatestamp;
+        dup.history = new ArrayList<Datestamp>(history);
         return dup;
     }
 
@@ -7,10 +7,14 @@ import gov.noaa.pmel.sdimetadata.platform.Platform;
 import gov.noaa.pmel.sdimetadata.variable.Variable;
 
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 
-public class SDIMetadata implements Cloneable {
+public class SDIMetadata implements SDIMetadataView, Cloneable {
 
     protected Submitter submitter;
     protected ArrayList<Investigator> investigators;
@@ -20,6 +24,18 @@ public class SDIMetadata implements Cloneable {
     protected ArrayList<Variable> variables;
     protected MiscInfo miscInfo;
 
+    // Cached unmodifiable sets of invalid field names of each part, or null if not yet determined.  The objects
+    // held are read-only and only ever replaced, so these are cleared only when a part is replaced by one
+    // that is not equal.  The arrays of invalid field names for investigators, instruments, and variables parallel
+    // those lists.  Concurrent readers may fill in these caches, so the sets are published through volatile fields
+    // and atomic arrays.  The coverage and miscellaneous information are not cached, as their validity depends on
+    // the current time.
+    private volatile Set<String> submitterInvalid;
+    private AtomicReferenceArray<Set<String>> investigatorsInvalid;
+    private volatile Set<String> platformInvalid;
+    private AtomicReferenceArray<Set<String>> instrumentsInvalid;
+    private AtomicReferenceArray<Set<String>> variablesInvalid;
+
     public SDIMetadata() {
         submitter = new Submitter();
         investigators = new ArrayList<Investigator>();
@@ -28,61 +44,233 @@ public class SDIMetadata implements Cloneable {
         instruments = new ArrayList<Instrument>();
         variables = new ArrayList<Variable>();
         miscInfo = new MiscInfo();
+        submitter.makeReadOnly();
+        platform.makeReadOnly();
+        coverage.makeReadOnly();
+        miscInfo.makeReadOnly();
+        investigatorsInvalid = new AtomicReferenceArray<Set<String>>(0);
+        instrumentsInvalid = new AtomicReferenceArray<Set<String>>(0);
+        variablesInvalid = new AtomicReferenceArray<Set<String>>(0);
+    }
+
+    /**
+     * Create metadata holding the given objects, which are not copied but are made read-only.  The given lists
+     * become owned by this metadata.
+     */
+    SDIMetadata(Submitter submitter, ArrayList<Investigator> investigators, Platform platform, Coverage coverage,
+            ArrayList<Instrument> instruments, ArrayList<Variable> variables, MiscInfo miscInfo) {
+        this.submitter = submitter;
+        this.investigators = investigators;
+        this.platform = platform;
+        this.coverage = coverage;
+        this.instruments = instruments;
+        this.variables = variables;
+        this.miscInfo = miscInfo;
+        submitter.makeReadOnly();
+        for (Investigator pi : investigators) {
+            pi.makeReadOnly();
+        }
+        platform.makeReadOnly();
+        coverage.makeReadOnly();
+        for (Instrument inst : instruments) {
+            inst.makeReadOnly();
+        }
+        for (Variable var : variables) {
+            var.makeReadOnly();
+        }
+        miscInfo.makeReadOnly();
+        investigatorsInvalid = new AtomicReferenceArray<Set<String>>(investigators.size());
+        instrumentsInvalid = new AtomicReferenceArray<Set<String>>(instruments.size());
+        variablesInvalid = new AtomicReferenceArray<Set<String>>(variables.size());
+    }
+
+    /**
+     * @return a snapshot of the current contents of this metadata; the read-only objects held by this metadata
+     *         are shared with the snapshot rather than copied
+     */
+    public SDIMetadataSnapshot snapshot() {
+        return new SDIMetadataSnapshot(submitter, new ArrayList<Investigator>(investigators), platform, coverage,
+                new ArrayList<Instrument>(instruments), new ArrayList<Variable>(variables), miscInfo);
     }
 
     /**
+     * The invalid field names of the submitter, platform, and each investigator, instrument, and variable of this
+     * metadata are remembered until that part is replaced by one that is not equal, so only parts that have changed
+     * are checked again.  This may be called by any number of threads concurrently, provided this metadata is not
+     * modified meanwhile.
+     *
      * @return list of field names that are currently invalid
      */
     public HashSet<String> invalidFieldNames() {
         HashSet<String> invalid = new HashSet<String>();
 
-        for (String name : submitter.invalidFieldNames()) {
-            invalid.add("submitter." + name);
-        }
+        addPrefixed(invalid, "submitter.", getSubmitterInvalid());
         for (int k = 0; k < investigators.size(); k++) {
-            for (String name : investigators.get(k).invalidFieldNames()) {
-                invalid.add("investigators[" + k + "]." + name);
-            }
+            Set<String> names = getInvestigatorInvalid(k);
+            if ( !names.isEmpty() )
+                addPrefixed(invalid, "investigators[" + k + "].", names);
         }
-        for (String name : platform.invalidFieldNames()) {
-            invalid.add("platform." + name);
+        addPrefixed(invalid, "platform.", getPlatformInvalid());
+        HashSet<String> coverageNames = coverage.invalidFieldNames();
+        addPrefixed(invalid, "coverage.", coverageNames);
+        for (int k = 0; k < instruments.size(); k++) {
+            Set<String> names = getInstrumentInvalid(k);
+            if ( !names.isEmpty() )
+                addPrefixed(invalid, "instruments[" + k + "].", names);
         }
-        for (String name : coverage.invalidFieldNames()) {
-            invalid.add("coverage." + name);
+        for (int k = 0; k < variables.size(); k++) {
+            Set<String> names = getVariableInvalid(k);
+            if ( !names.isEmpty() )
+                addPrefixed(invalid, "variables[" + k + "].", names);
+        }
+        HashSet<String> miscNames = miscInfo.invalidFieldNames();
+        addPrefixed(invalid, "miscInfo.", miscNames);
+        addDatesInvalid(invalid, coverageNames, miscNames);
+
+        // TODO: verify researcher and instrument names in variables match some entry in investigators and instruments
+
+        return invalid;
+    }
+
+    /**
+     * Unlike {@link #invalidFieldNames()}, this stops checking at the first invalid part found.  This may be called
+     * by any number of threads concurrently, provided this metadata is not modified meanwhile.
+     *
+     * @return true if all fields are currently valid
+     */
+    public boolean isValid() {
+        if ( !getSubmitterInvalid().isEmpty() )
+            return false;
+        for (int k = 0; k < investigators.size(); k++) {
+            if ( !getInvestigatorInvalid(k).isEmpty() )
+                return false;
         }
+        if ( !getPlatformInvalid().isEmpty() )
+            return false;
+        HashSet<String> coverageNames = coverage.invalidFieldNames();
+        if ( !coverageNames.isEmpty() )
+            return false;
         for (int k = 0; k < instruments.size(); k++) {
-            for (String name : instruments.get(k).invalidFieldNames()) {
-                invalid.add("instruments[" + k + "]." + name);
-            }
+            if ( !getInstrumentInvalid(k).isEmpty() )
+                return false;
         }
         for (int k = 0; k < variables.size(); k++) {
-            for (String name : variables.get(k).invalidFieldNames()) {
-                invalid.add("variables[" + k + "]." + name);
-            }
+            if ( !getVariableInvalid(k).isEmpty() )
+                return false;
         }
-        for (String name : miscInfo.invalidFieldNames()) {
-            invalid.add("miscInfo." + name);
+        HashSet<String> miscNames = miscInfo.invalidFieldNames();
+        if ( !miscNames.isEmpty() )
+            return false;
+        HashSet<String> datesNames = new HashSet<String>();
+        addDatesInvalid(datesNames, coverageNames, miscNames);
+        return datesNames.isEmpty();
+    }
+
+    private Set<String> getSubmitterInvalid() {
+        Set<String> names = submitterInvalid;
+        if ( names == null ) {
+            names = Collections.unmodifiableSet(submitter.invalidFieldNames());
+            submitterInvalid = names;
         }
+        return names;
+    }
+
+    private Set<String> getInvestigatorInvalid(int index) {
+        Set<String> names = investigatorsInvalid.get(index);
+        if ( names == null ) {
+            names = Collections.unmodifiableSet(investigators.get(index).invalidFieldNames());
+            investigatorsInvalid.set(index, names);
+        }
+        return names;
+    }
+
+    private Set<String> getPlatformInvalid() {
+        Set<String> names = platformInvalid;
+        if ( names == null ) {
+            names = Collections.unmodifiableSet(platform.invalidFieldNames());
+            platformInvalid = names;
+        }
+        return names;
+    }
 
-        // check that the data times are all within the specified time range
-        // (beginning of start day; end of ending day) for the dataset
-        if ( !(invalid.contains("miscInfo.startDatestamp") || invalid.contains("coverage.earliestDataTime")) ) {
-            Date start = miscInfo.getStartDatestamp().getEarliestTime();
-            if ( start.after(coverage.getEarliestDataTime()) ) {
+    private Set<String> getInstrumentInvalid(int index) {
+        Set<String> names = instrumentsInvalid.get(index);
+        if ( names == null ) {
+            names = Collections.unmodifiableSet(instruments.get(index).invalidFieldNames());
+            instrumentsInvalid.set(index, names);
+        }
+        return names;
+    }
+
+    private Set<String> getVariableInvalid(int index) {
+        Set<String> names = variablesInvalid.get(index);
+        if ( names == null ) {
+            names = Collections.unmodifiableSet(variables.get(index).invalidFieldNames());
+            variablesInvalid.set(index, names);
+        }
+        return names;
+    }
+
+    /**
+     * Add the fully-qualified field names made invalid by data times outside the time range (beginning of start
+     * day; end of ending day) for the dataset to the given set.
+     *
+     * @param invalid
+     *         add the invalid field names to this set
+     * @param coverageNames
+     *         the invalid field names of the coverage
+     * @param miscNames
+     *         the invalid field names of the miscellaneous information
+     */
+    private void addDatesInvalid(HashSet<String> invalid, Set<String> coverageNames, Set<String> miscNames) {
+        if ( !(miscNames.contains("startDatestamp") || coverageNames.contains("earliestDataTime")) ) {
+            long start = miscInfo.viewStartDatestamp().getEarliestMillis();
+            if ( start > coverage.getEarliestDataTime().getTime() ) {
                 invalid.add("miscInfo.startDatestamp");
                 invalid.add("coverage.earliestDataTime");
             }
         }
-        if ( !(invalid.contains("miscInfo.endDatestamp") || invalid.contains("coverage.latestDataTime")) ) {
-            Date end = new Date(miscInfo.getEndDatestamp().getEarliestTime().getTime() + 24L * 60L * 60L * 1000L);
-            if ( end.before(coverage.getLatestDataTime()) ) {
+        if ( !(miscNames.contains("endDatestamp") || coverageNames.contains("latestDataTime")) ) {
+            long end = miscInfo.viewEndDatestamp().getEarliestMillis() + 24L * 60L * 60L * 1000L;
+            if ( end < coverage.getLatestDataTime().getTime() ) {
                 invalid.add("miscInfo.endDatestamp");
                 invalid.add("coverage.latestDataTime");
             }
         }
+    }
 
-        // TODO: verify researcher and instrument names in variables match some entry in investigators and instruments
+    /**
+     * Add the given names, each with the given prefix, to the given set.
+     */
+    private static void addPrefixed(HashSet<String> invalid, String prefix, Set<String> names) {
+        for (String name : names) {
+            invalid.add(prefix + name);
+        }
+    }
 
+    /**
+     * @return the remembered invalid field names of the item at the given index of the old list if the given item
+     *         is of the same class as, and equal to, that item; otherwise null.  The classes are compared since
+     *         equals of a variable or instrument does not consider fields only present in subclasses.
+     */
+    private static <T> Set<String> reusedInvalid(List<T> oldList, AtomicReferenceArray<Set<String>> oldInvalid,
+            int index, T item) {
+        if ( index >= oldList.size() )
+            return null;
+        T oldItem = oldList.get(index);
+        if ( (item.getClass() == oldItem.getClass()) && item.equals(oldItem) )
+            return oldInvalid.get(index);
+        return null;
+    }
+
+    /**
+     * @return an array of the given invalid field names
+     */
+    private static AtomicReferenceArray<Set<String>> invalidArray(List<Set<String>> invalidList) {
+        AtomicReferenceArray<Set<String>> invalid = new AtomicReferenceArray<Set<String>>(invalidList.size());
+        for (int k = 0; k < invalidList.size(); k++) {
+            invalid.set(k, invalidList.get(k));
+        }
         return invalid;
     }
 
@@ -91,7 +279,11 @@ public class SDIMetadata implements Cloneable {
     }
 
     public void setSubmitter(Submitter submitter) {
-        this.submitter = (submitter != null) ? submitter.clone() : new Submitter();
+        Submitter dup = (submitter != null) ? submitter.clone() : new Submitter();
+        dup.makeReadOnly();
+        if ( !dup.equals(this.submitter) )
+            submitterInvalid = null;
+        this.submitter = dup;
     }
 
     public ArrayList<Investigator> getInvestigators() {
@@ -103,14 +295,21 @@ public class SDIMetadata implements Cloneable {
     }
 
     public void setInvestigators(Iterable<Investigator> investigators) throws IllegalArgumentException {
-        this.investigators.clear();
+        ArrayList<Investigator> piList = new ArrayList<Investigator>();
+        ArrayList<Set<String>> invalidList = new ArrayList<Set<String>>();
         if ( investigators != null ) {
             for (Investigator pi : investigators) {
                 if ( null == pi )
                     throw new IllegalArgumentException("null investigator given");
-                this.investigators.add(pi.clone());
+                Investigator dup = pi.clone();
+                dup.makeReadOnly();
+                invalidList.add(reusedInvalid(this.investigators, investigatorsInvalid, piList.size(), dup));
+                piList.add(dup);
             }
         }
+        this.investigators.clear();
+        this.investigators.addAll(piList);
+        investigatorsInvalid = invalidArray(invalidList);
     }
 
     public Platform getPlatform() {
@@ -118,7 +317,11 @@ public class SDIMetadata implements Cloneable {
     }
 
     public void setPlatform(Platform platform) {
-        this.platform = (platform != null) ? platform.clone() : new Platform();
+        Platform dup = (platform != null) ? platform.clone() : new Platform();
+        dup.makeReadOnly();
+        if ( !dup.equals(this.platform) )
+            platformInvalid = null;
+        this.platform = dup;
     }
 
     public Coverage getCoverage() {
@@ -126,7 +329,9 @@ public class SDIMetadata implements Cloneable {
     }
 
     public void setCoverage(Coverage coverage) {
-        this.coverage = (coverage != null) ? coverage.clone() : new Coverage();
+        Coverage dup = (coverage != null) ? coverage.clone() : new Coverage();
+        dup.makeReadOnly();
+        this.coverage = dup;
     }
 
     public ArrayList<Instrument> getInstruments() {
@@ -138,14 +343,21 @@ public class SDIMetadata implements Cloneable {
     }
 
     public void setInstruments(Iterable<Instrument> instruments) throws IllegalArgumentException {
-        this.instruments.clear();
+        ArrayList<Instrument> instList = new ArrayList<Instrument>();
+        ArrayList<Set<String>> invalidList = new ArrayList<Set<String>>();
         if ( instruments != null ) {
             for (Instrument inst : instruments) {
                 if ( null == inst )
                     throw new IllegalArgumentException("null instrument given");
-                this.instruments.add(inst.clone());
+                Instrument dup = inst.clone();
+                dup.makeReadOnly();
+                invalidList.add(reusedInvalid(this.instruments, instrumentsInvalid, instList.size(), dup));
+                instList.add(dup);
             }
         }
+        this.instruments.clear();
+        this.instruments.addAll(instList);
+        instrumentsInvalid = invalidArray(invalidList);
     }
 
     public ArrayList<Variable> getVariables() {
@@ -157,14 +369,21 @@ public class SDIMetadata implements Cloneable {
     }
 
     public void setVariables(Iterable<Variable> variables) throws IllegalArgumentException {
-        this.variables.clear();
+        ArrayList<Variable> varList = new ArrayList<Variable>();
+        ArrayList<Set<String>> invalidList = new ArrayList<Set<String>>();
         if ( variables != null ) {
             for (Variable var : variables) {
                 if ( null == var )
                     throw new IllegalArgumentException("null variable given");
-                this.variables.add(var.clone());
+                Variable dup = var.clone();
+                dup.makeReadOnly();
+                invalidList.add(reusedInvalid(this.variables, variablesInvalid, varList.size(), dup));
+                varList.add(dup);
             }
         }
+        this.variables.clear();
+        this.variables.addAll(varList);
+        variablesInvalid = invalidArray(invalidList);
     }
 
     public MiscInfo getMiscInfo() {
@@ -172,9 +391,75 @@ public class SDIMetadata implements Cloneable {
     }
 
     public void setMiscInfo(MiscInfo miscInfo) {
-        this.miscInfo = (miscInfo != null) ? miscInfo.clone() : new MiscInfo();
+        MiscInfo dup = (miscInfo != null) ? miscInfo.clone() : new MiscInfo();
+        dup.makeReadOnly();
+        this.miscInfo = dup;
     }
 
+    @Override
+    public Submitter viewSubmitter() {
+        return submitter;
+    }
+
+    @Override
+    public List<Investigator> viewInvestigators() {
+        return Collections.unmodifiableList(investigators);
+    }
+
+    @Override
+    public Platform viewPlatform() {
+        return platform;
+    }
+
+    @Override
+    public Coverage viewCoverage() {
+        return coverage;
+    }
+
+    @Override
+    public List<Instrument> viewInstruments() {
+        return Collections.unmodifiableList(instruments);
+    }
+
+    @Override
+    public List<Variable> viewVariables() {
+        return Collections.unmodifiableList(variables);
+    }
+
+    @Override
+    public MiscInfo viewMiscInfo() {
+        return miscInfo;
+    }
+
+    @Override
+    public void forEachInvestigator(Consumer<? super Investigator> action) {
+        for (Investigator pi : investigators) {
+            action.accept(pi);
+        }
+    }
+
+    @Override
+    public void forEachInstrument(Consumer<? super Instrument> action) {
+        for (Instrument inst : instruments) {
+            action.accept(inst);
+        }
+    }
+
+    @Override
+    public void forEachVariable(Consumer<? super Variable> action) {
+        for (Variable var : variables) {
+            action.accept(var);
+        }
+    }
+
+    /**
+     * The copy shares the objects held by this metadata, which are read-only, and only copies the lists of
+     * investigators, instruments, and variables.  The copy is nonetheless independent of this metadata: the
+     * shared objects cannot be modified, and the setters of either metadata replace objects rather than modify
+     * them.
+     *
+     * @return a copy of this metadata
+     */
     @Override
     public SDIMetadata clone() {
         SDIMetadata dup;
@@ -183,22 +468,11 @@ public class SDIMetadata implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
-        dup.submitter = submitter.clone();
-        dup.investigators = new ArrayList<Investigator>(investigators.size());
-        for (Investigator pi : investigators) {
-            dup.investigators.add(pi.clone());
-        }
-        dup.platform = platform.clone();
-        dup.coverage = coverage.clone();
-        dup.instruments = new ArrayList<Instrument>(instruments.size());
-        for (Instrument inst : instruments) {
-            dup.instruments.add(inst.clone());
-        }
-        dup.variables = new ArrayList<Variable>(variables.size());
-        for (Variable var : variables) {
-            dup.variables.add(var.clone());
-        }
-        dup.miscInfo = miscInfo.clone();
+        // The objects held are read-only, so they can be shared.  The arrays of
+        // remembered invalid field names can also be shared, as the setters replace rather than modify them.
+        dup.investigators = new ArrayList<Investigator>(investigators);
+        dup.instruments = new ArrayList<Instrument>(instruments);
+        dup.variables = new ArrayList<Variable>(variables);
         return dup;
     }
 
@@ -0,0 +1,154 @@
+package gov.noaa.pmel.sdimetadata;
+
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.person.Investigator;
+import gov.noaa.pmel.sdimetadata.person.Submitter;
+import gov.noaa.pmel.sdimetadata.platform.Platform;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+
+import java.util.ArrayList;
+
+/**
+ * Assembles metadata from newly created parts without copying them, for use by readers.  Unlike the setters of
+ * {@link SDIMetadata}, which copy the objects given, the setters here take ownership of the objects given, which
+ * are made read-only when the metadata is built.  After {@link #build()} or {@link #buildSnapshot()}, the builder is
+ * reset to empty metadata.  A builder is not thread-safe.
+ */
+public final class SDIMetadataBuilder {
+
+    private Submitter submitter;
+    private ArrayList<Investigator> investigators;
+    private Platform platform;
+    private Coverage coverage;
+    private ArrayList<Instrument> instruments;
+    private ArrayList<Variable> variables;
+    private MiscInfo miscInfo;
+
+    public SDIMetadataBuilder() {
+        reset();
+    }
+
+    /**
+     * Reset this builder to empty metadata.
+     */
+    private void reset() {
+        submitter = new Submitter();
+        investigators = new ArrayList<Investigator>();
+        platform = new Platform();
+        coverage = new Coverage();
+        instruments = new ArrayList<Instrument>();
+        variables = new ArrayList<Variable>();
+        miscInfo = new MiscInfo();
+    }
+
+    /**
+     * @param submitter
+     *         submitter to use, which is not copied; if null, an empty submitter is used
+     */
+    public void setSubmitter(Submitter submitter) {
+        this.submitter = (submitter != null) ? submitter : new Submitter();
+    }
+
+    /**
+     * @param investigators
+     *         investigators to use, which are not copied; if null, an empty list is used
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given investigators is null
+     */
+    public void setInvestigators(Iterable<Investigator> investigators) throws IllegalArgumentException {
+        ArrayList<Investigator> piList = new ArrayList<Investigator>();
+        if ( investigators != null ) {
+            for (Investigator pi : investigators) {
+                if ( null == pi )
+                    throw new IllegalArgumentException("null investigator given");
+                piList.add(pi);
+            }
+        }
+        this.investigators = piList;
+    }
+
+    /**
+     * @param platform
+     *         platform to use, which is not copied; if null, an empty platform is used
+     */
+    public void setPlatform(Platform platform) {
+        this.platform = (platform != null) ? platform : new Platform();
+    }
+
+    /**
+     * @param coverage
+     *         coverage to use, which is not copied; if null, an empty coverage is used
+     */
+    public void setCoverage(Coverage coverage) {
+        this.coverage = (coverage != null) ? coverage : new Coverage();
+    }
+
+    /**
+     * @param instruments
+     *         instruments to use, which are not copied; if null, an empty list is used
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given instruments is null
+     */
+    public void setInstruments(Iterable<Instrument> instruments) throws IllegalArgumentException {
+        ArrayList<Instrument> instList = new ArrayList<Instrument>();
+        if ( instruments != null ) {
+            for (Instrument inst : instruments) {
+                if ( null == inst )
+                    throw new IllegalArgumentException("null instrument given");
+                instList.add(inst);
+            }
+        }
+        this.instruments = instList;
+    }
+
+    /**
+     * @param variables
+     *         variables to use, which are not copied; if null, an empty list is used
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given variables is null
+     */
+    public void setVariables(Iterable<Variable> variables) throws IllegalArgumentException {
+        ArrayList<Variable> varList = new ArrayList<Variable>();
+        if ( variables != null ) {
+            for (Variable var : variables) {
+                if ( null == var )
+                    throw new IllegalArgumentException("null variable given");
+                varList.add(var);
+            }
+        }
+        this.variables = varList;
+    }
+
+    /**
+     * @param miscInfo
+     *         miscellaneous information to use, which is not copied; if null, empty miscellaneous information
+     *         is used
+     */
+    public void setMiscInfo(MiscInfo miscInfo) {
+        this.miscInfo = (miscInfo != null) ? miscInfo : new MiscInfo();
+    }
+
+    /**
+     * @return metadata holding the objects given to this builder; never null
+     */
+    public SDIMetadata build() {
+        SDIMetadata mdata = new SDIMetadata(submitter, investigators, platform, coverage, instruments, variables,
+                miscInfo);
+        reset();
+        return mdata;
+    }
+
+    /**
+     * @return a snapshot holding the objects given to this builder; never null
+     */
+    public SDIMetadataSnapshot buildSnapshot() {
+        SDIMetadataSnapshot snapshot = new SDIMetadataSnapshot(submitter, investigators, platform, coverage,
+                instruments, variables, miscInfo);
+        reset();
+        return snapshot;
+    }
+
+}
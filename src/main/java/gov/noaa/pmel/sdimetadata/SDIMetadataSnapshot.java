@@ -0,0 +1,402 @@
+package gov.noaa.pmel.sdimetadata;
+
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.person.Investigator;
+import gov.noaa.pmel.sdimetadata.person.Submitter;
+import gov.noaa.pmel.sdimetadata.platform.Platform;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot of the contents of metadata.  The "with" methods return a new snapshot with one part replaced; only
+ * the given replacement is copied, and all other parts are shared with this snapshot, so a change to a single
+ * variable copies that variable and the list of variable references but nothing else.
+ * <p>
+ * No method of a snapshot changes it, and the objects it holds are read-only (see {@link SDIMetadataView}), so
+ * they are shared with other snapshots, with the metadata the snapshot was taken from, and with metadata created
+ * from the snapshot rather than copied.  A snapshot may be read by any number of threads concurrently.  Use
+ * {@link SDIMetadata#snapshot()} and {@link #toSDIMetadata()} to convert between snapshots and the JavaBean form
+ * of metadata.
+ */
+public final class SDIMetadataSnapshot implements SDIMetadataView {
+
+    private final Submitter submitter;
+    private final List<Investigator> investigators;
+    private final Platform platform;
+    private final Coverage coverage;
+    private final List<Instrument> instruments;
+    private final List<Variable> variables;
+    private final MiscInfo miscInfo;
+
+    /**
+     * Create a snapshot of empty metadata.
+     */
+    public SDIMetadataSnapshot() {
+        this(new Submitter(), new ArrayList<Investigator>(0), new Platform(), new Coverage(),
+                new ArrayList<Instrument>(0), new ArrayList<Variable>(0), new MiscInfo());
+    }
+
+    /**
+     * Create a snapshot holding the given objects, which are not copied but are made read-only.  The given lists
+     * become owned by this snapshot.
+     */
+    SDIMetadataSnapshot(Submitter submitter, ArrayList<Investigator> investigators, Platform platform,
+            Coverage coverage, ArrayList<Instrument> instruments, ArrayList<Variable> variables, MiscInfo miscInfo) {
+        this.submitter = submitter;
+        this.investigators = Collections.unmodifiableList(investigators);
+        this.platform = platform;
+        this.coverage = coverage;
+        this.instruments = Collections.unmodifiableList(instruments);
+        this.variables = Collections.unmodifiableList(variables);
+        this.miscInfo = miscInfo;
+        submitter.makeReadOnly();
+        for (Investigator pi : investigators) {
+            pi.makeReadOnly();
+        }
+        platform.makeReadOnly();
+        coverage.makeReadOnly();
+        for (Instrument inst : instruments) {
+            inst.makeReadOnly();
+        }
+        for (Variable var : variables) {
+            var.makeReadOnly();
+        }
+        miscInfo.makeReadOnly();
+    }
+
+    /**
+     * Create a snapshot sharing the given objects, which are already read-only, and the given lists, which are
+     * already unmodifiable and owned by snapshots.
+     */
+    private SDIMetadataSnapshot(Submitter submitter, List<Investigator> investigators, Platform platform,
+            Coverage coverage, List<Instrument> instruments, List<Variable> variables, MiscInfo miscInfo) {
+        this.submitter = submitter;
+        this.investigators = investigators;
+        this.platform = platform;
+        this.coverage = coverage;
+        this.instruments = instruments;
+        this.variables = variables;
+        this.miscInfo = miscInfo;
+    }
+
+    /**
+     * @return new metadata with the contents of this snapshot; the read-only objects of this snapshot are shared
+     */
+    public SDIMetadata toSDIMetadata() {
+        return new SDIMetadata(submitter, new ArrayList<Investigator>(investigators), platform, coverage,
+                new ArrayList<Instrument>(instruments), new ArrayList<Variable>(variables), miscInfo);
+    }
+
+    /**
+     * @param submitter
+     *         submitter for the new snapshot; a copy is used.  If null, an empty submitter is used.
+     *
+     * @return a snapshot with the given submitter and everything else shared with this snapshot
+     */
+    public SDIMetadataSnapshot withSubmitter(Submitter submitter) {
+        Submitter dup = (submitter != null) ? submitter.clone() : new Submitter();
+        dup.makeReadOnly();
+        return new SDIMetadataSnapshot(dup, investigators, platform, coverage, instruments, variables, miscInfo);
+    }
+
+    /**
+     * @param investigators
+     *         investigators for the new snapshot; copies are used.  If null, an empty list is used.
+     *
+     * @return a snapshot with the given investigators and everything else shared with this snapshot
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given investigators is null
+     */
+    public SDIMetadataSnapshot withInvestigators(Iterable<Investigator> investigators)
+            throws IllegalArgumentException {
+        ArrayList<Investigator> piList = new ArrayList<Investigator>();
+        if ( investigators != null ) {
+            for (Investigator pi : investigators) {
+                if ( null == pi )
+                    throw new IllegalArgumentException("null investigator given");
+                Investigator dup = pi.clone();
+                dup.makeReadOnly();
+                piList.add(dup);
+            }
+        }
+        return new SDIMetadataSnapshot(submitter, Collections.unmodifiableList(piList), platform, coverage,
+                instruments, variables, miscInfo);
+    }
+
+    /**
+     * @param index
+     *         index of the investigator to replace
+     * @param investigator
+     *         investigator for the new snapshot at the given index; a copy is used
+     *
+     * @return a snapshot with the given investigator at the given index and everything else shared with this
+     *         snapshot
+     *
+     * @throws IllegalArgumentException
+     *         if the investigator is null, or if the index is invalid
+     */
+    public SDIMetadataSnapshot withInvestigator(int index, Investigator investigator)
+            throws IllegalArgumentException {
+        if ( null == investigator )
+            throw new IllegalArgumentException("null investigator given");
+        Investigator dup = investigator.clone();
+        dup.makeReadOnly();
+        return new SDIMetadataSnapshot(submitter, replaced(investigators, index, dup), platform, coverage,
+                instruments, variables, miscInfo);
+    }
+
+    /**
+     * @param platform
+     *         platform for the new snapshot; a copy is used.  If null, an empty platform is used.
+     *
+     * @return a snapshot with the given platform and everything else shared with this snapshot
+     */
+    public SDIMetadataSnapshot withPlatform(Platform platform) {
+        Platform dup = (platform != null) ? platform.clone() : new Platform();
+        dup.makeReadOnly();
+        return new SDIMetadataSnapshot(submitter, investigators, dup, coverage, instruments, variables, miscInfo);
+    }
+
+    /**
+     * @param coverage
+     *         coverage for the new snapshot; a copy is used.  If null, an empty coverage is used.
+     *
+     * @return a snapshot with the given coverage and everything else shared with this snapshot
+     */
+    public SDIMetadataSnapshot withCoverage(Coverage coverage) {
+        Coverage dup = (coverage != null) ? coverage.clone() : new Coverage();
+        dup.makeReadOnly();
+        return new SDIMetadataSnapshot(submitter, investigators, platform, dup, instruments, variables, miscInfo);
+    }
+
+    /**
+     * @param instruments
+     *         instruments for the new snapshot; copies are used.  If null, an empty list is used.
+     *
+     * @return a snapshot with the given instruments and everything else shared with this snapshot
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given instruments is null
+     */
+    public SDIMetadataSnapshot withInstruments(Iterable<Instrument> instruments) throws IllegalArgumentException {
+        ArrayList<Instrument> instList = new ArrayList<Instrument>();
+        if ( instruments != null ) {
+            for (Instrument inst : instruments) {
+                if ( null == inst )
+                    throw new IllegalArgumentException("null instrument given");
+                Instrument dup = inst.clone();
+                dup.makeReadOnly();
+                instList.add(dup);
+            }
+        }
+        return new SDIMetadataSnapshot(submitter, investigators, platform, coverage,
+                Collections.unmodifiableList(instList), variables, miscInfo);
+    }
+
+    /**
+     * @param index
+     *         index of the instrument to replace
+     * @param instrument
+     *         instrument for the new snapshot at the given index; a copy is used
+     *
+     * @return a snapshot with the given instrument at the given index and everything else shared with this
+     *         snapshot
+     *
+     * @throws IllegalArgumentException
+     *         if the instrument is null, or if the index is invalid
+     */
+    public SDIMetadataSnapshot withInstrument(int index, Instrument instrument) throws IllegalArgumentException {
+        if ( null == instrument )
+            throw new IllegalArgumentException("null instrument given");
+        Instrument dup = instrument.clone();
+        dup.makeReadOnly();
+        return new SDIMetadataSnapshot(submitter, investigators, platform, coverage,
+                replaced(instruments, index, dup), variables, miscInfo);
+    }
+
+    /**
+     * @param variables
+     *         variables for the new snapshot; copies are used.  If null, an empty list is used.
+     *
+     * @return a snapshot with the given variables and everything else shared with this snapshot
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given variables is null
+     */
+    public SDIMetadataSnapshot withVariables(Iterable<Variable> variables) throws IllegalArgumentException {
+        ArrayList<Variable> varList = new ArrayList<Variable>();
+        if ( variables != null ) {
+            for (Variable var : variables) {
+                if ( null == var )
+                    throw new IllegalArgumentException("null variable given");
+                Variable dup = var.clone();
+                dup.makeReadOnly();
+                varList.add(dup);
+            }
+        }
+        return new SDIMetadataSnapshot(submitter, investigators, platform, coverage, instruments,
+                Collections.unmodifiableList(varList), miscInfo);
+    }
+
+    /**
+     * @param index
+     *         index of the variable to replace
+     * @param variable
+     *         variable for the new snapshot at the given index; a copy is used
+     *
+     * @return a snapshot with the given variable at the given index and everything else shared with this snapshot
+     *
+     * @throws IllegalArgumentException
+     *         if the variable is null, or if the index is invalid
+     */
+    public SDIMetadataSnapshot withVariable(int index, Variable variable) throws IllegalArgumentException {
+        if ( null == variable )
+            throw new IllegalArgumentException("null variable given");
+        Variable dup = variable.clone();
+        dup.makeReadOnly();
+        return new SDIMetadataSnapshot(submitter, investigators, platform, coverage, instruments,
+                replaced(variables, index, dup), miscInfo);
+    }
+
+    /**
+     * @param miscInfo
+     *         miscellaneous information for the new snapshot; a copy is used.  If null, empty miscellaneous
+     *         information is used.
+     *
+     * @return a snapshot with the given miscellaneous information and everything else shared with this snapshot
+     */
+    public SDIMetadataSnapshot withMiscInfo(MiscInfo miscInfo) {
+        MiscInfo dup = (miscInfo != null) ? miscInfo.clone() : new MiscInfo();
+        dup.makeReadOnly();
+        return new SDIMetadataSnapshot(submitter, investigators, platform, coverage, instruments, variables, dup);
+    }
+
+    /**
+     * @return an unmodifiable copy of the given list, sharing all elements except the one at the given index,
+     *         which is replaced by the given item
+     *
+     * @throws IllegalArgumentException
+     *         if the index is invalid
+     */
+    private static <T> List<T> replaced(List<T> list, int index, T item) throws IllegalArgumentException {
+        if ( (index < 0) || (index >= list.size()) )
+            throw new IllegalArgumentException("invalid index " + index + " for a list of size " + list.size());
+        ArrayList<T> dup = new ArrayList<T>(list);
+        dup.set(index, item);
+        return Collections.unmodifiableList(dup);
+    }
+
+    @Override
+    public Submitter viewSubmitter() {
+        return submitter;
+    }
+
+    @Override
+    public List<Investigator> viewInvestigators() {
+        return investigators;
+    }
+
+    @Override
+    public Platform viewPlatform() {
+        return platform;
+    }
+
+    @Override
+    public Coverage viewCoverage() {
+        return coverage;
+    }
+
+    @Override
+    public List<Instrument> viewInstruments() {
+        return instruments;
+    }
+
+    @Override
+    public List<Variable> viewVariables() {
+        return variables;
+    }
+
+    @Override
+    public MiscInfo viewMiscInfo() {
+        return miscInfo;
+    }
+
+    @Override
+    public void forEachInvestigator(Consumer<? super Investigator> action) {
+        for (Investigator pi : investigators) {
+            action.accept(pi);
+        }
+    }
+
+    @Override
+    public void forEachInstrument(Consumer<? super Instrument> action) {
+        for (Instrument inst : instruments) {
+            action.accept(inst);
+        }
+    }
+
+    @Override
+    public void forEachVariable(Consumer<? super Variable> action) {
+        for (Variable var : variables) {
+            action.accept(var);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj )
+            return true;
+        if ( null == obj )
+            return false;
+        if ( !(obj instanceof SDIMetadataSnapshot) )
+            return false;
+
+        SDIMetadataSnapshot other = (SDIMetadataSnapshot) obj;
+
+        if ( !submitter.equals(other.submitter) )
+            return false;
+        if ( !investigators.equals(other.investigators) )
+            return false;
+        if ( !platform.equals(other.platform) )
+            return false;
+        if ( !coverage.equals(other.coverage) )
+            return false;
+        if ( !instruments.equals(other.instruments) )
+            return false;
+        if ( !variables.equals(other.variables) )
+            return false;
+        return miscInfo.equals(other.miscInfo);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 37;
+        int result = submitter.hashCode();
+        result = result * prime + investigators.hashCode();
+        result = result * prime + platform.hashCode();
+        result = result * prime + coverage.hashCode();
+        result = result * prime + instruments.hashCode();
+        result = result * prime + variables.hashCode();
+        result = result * prime + miscInfo.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SDIMetadataSnapshot{" +
+                "submitter=" + submitter +
+                ", investigators=" + investigators +
+                ", platform=" + platform +
+                ", coverage=" + coverage +
+                ", instruments=" + instruments +
+                ", variables=" + variables +
+                ", miscInfo=" + miscInfo +
+                '}';
+    }
+
+}
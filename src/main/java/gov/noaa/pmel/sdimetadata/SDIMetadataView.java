@@ -0,0 +1,75 @@
+package gov.noaa.pmel.sdimetadata;
+
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.person.Investigator;
+import gov.noaa.pmel.sdimetadata.person.Submitter;
+import gov.noaa.pmel.sdimetadata.platform.Platform;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Read-only access to the contents of metadata without copying.  Unlike the getters of {@link SDIMetadata},
+ * which return deep copies, the objects returned here are those held by the metadata; lists are unmodifiable
+ * views, and the objects are read-only, so their setters throw an UnsupportedOperationException.  This allows
+ * metadata to share these objects with its clones and snapshots.  Use the getters of {@link SDIMetadata} to obtain
+ * copies that may be modified.  These are intended for consumers, such as writers and validators, that only
+ * examine the metadata.
+ */
+public interface SDIMetadataView {
+
+    /**
+     * @return the submitter of the metadata; never null
+     */
+    Submitter viewSubmitter();
+
+    /**
+     * @return an unmodifiable view of the list of investigators; never null but may be empty
+     */
+    List<Investigator> viewInvestigators();
+
+    /**
+     * @return the platform; never null
+     */
+    Platform viewPlatform();
+
+    /**
+     * @return the coverage; never null
+     */
+    Coverage viewCoverage();
+
+    /**
+     * @return an unmodifiable view of the list of instruments; never null but may be empty
+     */
+    List<Instrument> viewInstruments();
+
+    /**
+     * @return an unmodifiable view of the list of variables; never null but may be empty
+     */
+    List<Variable> viewVariables();
+
+    /**
+     * @return the miscellaneous information; never null
+     */
+    MiscInfo viewMiscInfo();
+
+    /**
+     * @param action
+     *         perform this action on each investigator, in order
+     */
+    void forEachInvestigator(Consumer<? super Investigator> action);
+
+    /**
+     * @param action
+     *         perform this action on each instrument, in order
+     */
+    void forEachInstrument(Consumer<? super Instrument> action);
+
+    /**
+     * @param action
+     *         perform this action on each variable, in order
+     */
+    void forEachVariable(Consumer<? super Variable> action);
+
+}
@@ -0,0 +1,99 @@
+package gov.noaa.pmel.sdimetadata.apps;
+
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReaderFactory;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+public class CdiacReaderBenchmark {
+
+    private static final int DEFAULT_NUM_DOCUMENTS = 2000;
+
+    /**
+     * Compares the time needed to read a CDIAC XML document when a new parser is configured for each document
+     * (creating a CdiacReader directly) with the time needed when pre-configured parsers are reused (creating
+     * a CdiacReader using a CdiacReaderFactory).  Each approach reads the document repeatedly after a warm-up,
+     * and the average time per document is printed.
+     *
+     * @param args
+     *         -- CDIAC XML filename - read CDIAC XML from the file with this name
+     *         -- number of documents (optional) - number of times to read the document with each approach
+     */
+    public static void main(String[] args) {
+        if ( (args.length < 1) || (args.length > 2) ) {
+            System.err.println();
+            System.err.println("Arguments: CDIAC_input.xml [ Number_of_documents ]");
+            System.err.println();
+            System.err.println("Compares the time needed to read the CDIAC XML document when a new parser is configured");
+            System.err.println("for each document with the time needed when pre-configured parsers are reused.  The");
+            System.err.println("document is read the given number of times (default " + DEFAULT_NUM_DOCUMENTS +
+                    ") with each approach.");
+            System.err.println();
+            System.exit(1);
+        }
+
+        String xml = null;
+        int numDocs = DEFAULT_NUM_DOCUMENTS;
+        try {
+            xml = new String(Files.readAllBytes(Paths.get(args[0])), StandardCharsets.UTF_8);
+            if ( args.length == 2 ) {
+                numDocs = Integer.parseInt(args[1].trim());
+                if ( numDocs <= 0 )
+                    throw new IllegalArgumentException("number of documents is not positive");
+            }
+            new CdiacReader(null, new StringReader(xml)).createSDIMetadata();
+        } catch ( Exception ex ) {
+            System.err.println("Problems with the arguments: " + ex.getMessage());
+            System.exit(1);
+        }
+
+        CdiacReaderFactory factory = CdiacReaderFactory.getDefault();
+        // Warm up all approaches before timing any of them
+        for (int k = 0; k < 3; k++) {
+            timeNewReaders(xml, numDocs);
+            timeFactoryReaders(factory, xml, numDocs, false);
+            timeFactoryReaders(factory, xml, numDocs, true);
+        }
+        printResult("new CdiacReader per document", timeNewReaders(xml, numDocs), numDocs);
+        printResult("CdiacReaderFactory.createReader", timeFactoryReaders(factory, xml, numDocs, false), numDocs);
+        printResult("CdiacReaderFactory.createStreamingReader",
+                timeFactoryReaders(factory, xml, numDocs, true), numDocs);
+        System.exit(0);
+    }
+
+    /**
+     * @return nanoseconds needed to read the XML the given number of times, configuring a new parser for each
+     */
+    private static long timeNewReaders(String xml, int numDocs) {
+        long start = System.nanoTime();
+        for (int k = 0; k < numDocs; k++) {
+            new CdiacReader(null, new StringReader(xml)).createSDIMetadata();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * @return nanoseconds needed to read the XML the given number of times using readers from the factory
+     */
+    private static long timeFactoryReaders(CdiacReaderFactory factory, String xml, int numDocs, boolean streaming) {
+        long start = System.nanoTime();
+        for (int k = 0; k < numDocs; k++) {
+            CdiacReader reader;
+            if ( streaming )
+                reader = factory.createStreamingReader(new StringReader(xml));
+            else
+                reader = factory.createReader(new StringReader(xml));
+            reader.createSDIMetadata();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void printResult(String approach, long nanos, int numDocs) {
+        System.out.println(String.format("%-42s %10.1f microseconds per document", approach,
+                nanos / (1000.0 * numDocs)));
+    }
+
+}
@@ -3,10 +3,11 @@ package gov.noaa.pmel.sdimetadata.apps;
 import gov.noaa.pmel.sdimetadata.SDIMetadata;
 import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
 import gov.noaa.pmel.sdimetadata.xml.CdiacReader.VarType;
+import gov.noaa.pmel.sdimetadata.xml.ColumnTypeClassifier;
 import gov.noaa.pmel.sdimetadata.xml.OcadsWriter;
 
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.util.HashMap;
 import java.util.Properties;
 
@@ -43,9 +44,9 @@ public class CdiacToOcadsConverter {
             System.exit(1);
         }
 
-        HashMap<String,CdiacReader.VarType> addnMap = null;
+        ColumnTypeClassifier classifier = ColumnTypeClassifier.getDefault();
         if ( args.length == 3 ) {
-            addnMap = new HashMap<String,VarType>();
+            HashMap<String,VarType> addnMap = new HashMap<String,VarType>();
             try {
                 Properties props = new Properties();
                 props.load(new FileReader(args[2]));
@@ -55,6 +56,7 @@ public class CdiacToOcadsConverter {
                     addnMap.put(key.trim().toLowerCase(), type);
                     addnMap.put(key, type);
                 }
+                classifier = new ColumnTypeClassifier(addnMap);
             } catch ( Exception ex ) {
                 System.err
                         .println("Problems reading the column name keys to types properties file: " + ex.getMessage());
@@ -65,7 +67,7 @@ public class CdiacToOcadsConverter {
         SDIMetadata metadata = null;
         try {
             FileReader xmlReader = new FileReader(args[0]);
-            CdiacReader cdiacReader = new CdiacReader(xmlReader, addnMap);
+            CdiacReader cdiacReader = new CdiacReader(classifier, xmlReader);
             xmlReader.close();
             metadata = cdiacReader.createSDIMetadata();
         } catch ( Exception ex ) {
@@ -79,10 +81,10 @@ public class CdiacToOcadsConverter {
         }
 
         try {
-            FileWriter xmlWriter = new FileWriter(args[1]);
+            FileOutputStream xmlStream = new FileOutputStream(args[1]);
             OcadsWriter ocadsWriter = new OcadsWriter();
-            ocadsWriter.writeSDIMetadata(metadata, xmlWriter);
-            xmlWriter.close();
+            ocadsWriter.writeSDIMetadata(metadata, xmlStream);
+            xmlStream.close();
         } catch ( Exception ex ) {
             System.err.println("Problems writing the OCADS XML file '" + args[1] + "':");
             String msg = ex.getMessage();
@@ -0,0 +1,143 @@
+package gov.noaa.pmel.sdimetadata.apps;
+
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.instrument.Equilibrator;
+import gov.noaa.pmel.sdimetadata.instrument.GasSensor;
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.instrument.PressureSensor;
+import gov.noaa.pmel.sdimetadata.instrument.TemperatureSensor;
+import gov.noaa.pmel.sdimetadata.variable.AquGasConc;
+import gov.noaa.pmel.sdimetadata.variable.MethodType;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+import gov.noaa.pmel.sdimetadata.xml.OcadsWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class OcadsWriterBenchmark {
+
+    private static final int[] NUM_VARIABLES = { 10, 100, 1000 };
+    private static final int DEFAULT_TOTAL_VARIABLES = 200000;
+
+    /**
+     * Measures how the time needed to write OCADS XML scales with the number of variables.  For each size, metadata
+     * is created with that number of in-situ aqueous CO2 variables, each sampled by its own equilibrator (with an
+     * attached temperature sensor and pressure sensor) and analyzed by its own gas sensor, so the number of
+     * instruments grows with the number of variables.  Each document is written repeatedly after a warm-up, and
+     * the average time per document and per variable is printed.  Both the JDOM document and the streaming modes
+     * of OcadsWriter are measured.
+     *
+     * @param args
+     *         -- total number of variables (optional) - number of variables to write for each size; the number of
+     *         documents written for a size is this total divided by the number of variables in the document
+     */
+    public static void main(String[] args) {
+        if ( args.length > 1 ) {
+            System.err.println();
+            System.err.println("Arguments: [ Total_number_of_variables ]");
+            System.err.println();
+            System.err.println("Measures the time needed to write OCADS XML for metadata with " +
+                    Arrays.toString(NUM_VARIABLES));
+            System.err.println("variables.  Each size is written enough times to write the given total number of");
+            System.err.println("variables (default " + DEFAULT_TOTAL_VARIABLES + ").");
+            System.err.println();
+            System.exit(1);
+        }
+
+        int totalVars = DEFAULT_TOTAL_VARIABLES;
+        try {
+            if ( args.length == 1 ) {
+                totalVars = Integer.parseInt(args[0].trim());
+                if ( totalVars <= 0 )
+                    throw new IllegalArgumentException("total number of variables is not positive");
+            }
+        } catch ( Exception ex ) {
+            System.err.println("Problems with the arguments: " + ex.getMessage());
+            System.exit(1);
+        }
+
+        try {
+            for (boolean streaming : new boolean[] { false, true }) {
+                OcadsWriter ocadsWriter = new OcadsWriter(streaming);
+                System.out.println(streaming ? "Streaming:" : "JDOM document:");
+                for (int numVars : NUM_VARIABLES) {
+                    SDIMetadata metadata = createMetadata(numVars);
+                    int numDocs = Math.max(1, totalVars / numVars);
+                    // Warm up before timing
+                    for (int k = 0; k < 3; k++) {
+                        timeWrites(ocadsWriter, metadata, numDocs);
+                    }
+                    long nanos = timeWrites(ocadsWriter, metadata, numDocs);
+                    System.out.println(String.format("%5d variables: %12.1f microseconds per document, " +
+                                    "%8.2f microseconds per variable", numVars, nanos / (1000.0 * numDocs),
+                            nanos / (1000.0 * numDocs * numVars)));
+                }
+            }
+        } catch ( Exception ex ) {
+            System.err.println("Problems writing the OCADS XML: " + ex.getMessage());
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * @return metadata with the given number of aqueous CO2 variables, each with its own sampler and analyzer
+     */
+    private static SDIMetadata createMetadata(int numVars) {
+        ArrayList<Variable> variables = new ArrayList<Variable>(numVars);
+        ArrayList<Instrument> instruments = new ArrayList<Instrument>(4 * numVars);
+        for (int k = 0; k < numVars; k++) {
+            TemperatureSensor tempSensor = new TemperatureSensor();
+            tempSensor.setName("Equilibrator temperature sensor " + k);
+            tempSensor.setManufacturer("Hart");
+            tempSensor.setModel("1521");
+            instruments.add(tempSensor);
+
+            PressureSensor pressSensor = new PressureSensor();
+            pressSensor.setName("Equilibrator pressure sensor " + k);
+            pressSensor.setManufacturer("Setra");
+            pressSensor.setModel("239");
+            instruments.add(pressSensor);
+
+            Equilibrator equil = new Equilibrator();
+            equil.setName("Equilibrator " + k);
+            equil.setEquilibratorType("Spray head above dynamic pool");
+            equil.setChamberVol("0.95 L");
+            equil.setInstrumentNames(Arrays.asList(tempSensor.getName(), pressSensor.getName()));
+            instruments.add(equil);
+
+            GasSensor gasSensor = new GasSensor();
+            gasSensor.setName("CO2 sensor " + k);
+            gasSensor.setManufacturer("LI-COR");
+            gasSensor.setModel("6262");
+            instruments.add(gasSensor);
+
+            AquGasConc var = new AquGasConc();
+            var.setColName("xCO2_water_" + k);
+            var.setFullName("Mole fraction of CO2 in equilibrator headspace " + k);
+            var.setVarUnit("umol/mol");
+            var.setMeasureMethod(MethodType.MEASURED_INSITU);
+            var.setInstrumentNames(Arrays.asList(equil.getName(), gasSensor.getName()));
+            variables.add(var);
+        }
+        SDIMetadata metadata = new SDIMetadata();
+        metadata.setInstruments(instruments);
+        metadata.setVariables(variables);
+        return metadata;
+    }
+
+    /**
+     * @return nanoseconds needed to write the OCADS XML of the given metadata the given number of times
+     */
+    private static long timeWrites(OcadsWriter ocadsWriter, SDIMetadata metadata, int numDocs)
+            throws IOException {
+        long start = System.nanoTime();
+        for (int k = 0; k < numDocs; k++) {
+            ocadsWriter.writeSDIMetadata(metadata, new StringWriter());
+        }
+        return System.nanoTime() - start;
+    }
+
+}
@@ -26,6 +26,7 @@ public class Analyzer extends Instrument {
      *         assign as the calibration comment; if null, an empty string is assigned
      */
     public void setCalibration(String calibration) {
+        checkModifiable();
         this.calibration = (calibration != null) ? calibration.trim() : "";
     }
 
@@ -43,6 +44,11 @@ public class Analyzer extends Instrument {
         return invalids;
     }
 
+    @Override
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitAnalyzer(this);
+    }
+
     @Override
     public Analyzer clone() {
         Analyzer dup = (Analyzer) super.clone();
@@ -18,6 +18,7 @@ public class CalibrationGas implements Cloneable {
     protected String frequency;
     protected NumericString concentration;
     protected NumericString accuracy;
+    private boolean readOnly;
 
     /**
      * Assign with all fields empty or NaN
@@ -27,8 +28,8 @@ public class CalibrationGas implements Cloneable {
         type = "";
         supplier = "";
         frequency = "";
-        concentration = new NumericString(null, GAS_CONCENTRATION_UNIT);
-        accuracy = new NumericString(null, GAS_CONCENTRATION_UNIT);
+        concentration = NumericString.valueOf(null, GAS_CONCENTRATION_UNIT);
+        accuracy = NumericString.valueOf(null, GAS_CONCENTRATION_UNIT);
     }
 
     /**
@@ -60,10 +61,10 @@ public class CalibrationGas implements Cloneable {
         setFrequency(frequency);
         String strVal = (concStr != null) ? concStr.trim() : "";
         if ( !strVal.isEmpty() )
-            setConcentration(new NumericString(strVal, GAS_CONCENTRATION_UNIT));
+            setConcentration(NumericString.valueOf(strVal, GAS_CONCENTRATION_UNIT));
         strVal = (accStr != null) ? accStr.trim() : "";
         if ( !strVal.isEmpty() )
-            setAccuracy(new NumericString(strVal, GAS_CONCENTRATION_UNIT));
+            setAccuracy(NumericString.valueOf(strVal, GAS_CONCENTRATION_UNIT));
     }
 
     /**
@@ -94,6 +95,7 @@ public class CalibrationGas implements Cloneable {
      *         assign as the ID for the calibration gas, e.g., LL83539; if null, an empty string is assigned
      */
     public void setId(String id) {
+        checkModifiable();
         this.id = (id != null) ? id.trim() : "";
     }
 
@@ -109,6 +111,7 @@ public class CalibrationGas implements Cloneable {
      *         assign as the type of gas being calibrated, e.g., CO2; if null, an empty string is assigned
      */
     public void setType(String type) {
+        checkModifiable();
         this.type = (type != null) ? type.trim() : "";
     }
 
@@ -124,6 +127,7 @@ public class CalibrationGas implements Cloneable {
      *         assign as the supplier or manufacturer of the calibration gas; if null, an empty string is assigned
      */
     public void setSupplier(String supplier) {
+        checkModifiable();
         this.supplier = (supplier != null) ? supplier.trim() : "";
     }
 
@@ -139,6 +143,7 @@ public class CalibrationGas implements Cloneable {
      *         assign as the frequency of calibration using this gas; if null, an empty string is assigned
      */
     public void setFrequency(String frequency) {
+        checkModifiable();
         this.frequency = (frequency != null) ? frequency.trim() : "";
     }
 
@@ -147,7 +152,7 @@ public class CalibrationGas implements Cloneable {
      *         If not empty, guaranteed to represent a non-negative finite number.
      */
     public NumericString getConcentration() {
-        return concentration.clone();
+        return concentration;
     }
 
     /**
@@ -158,13 +163,14 @@ public class CalibrationGas implements Cloneable {
      *         if the concentration given, if not null, does not represent a non-negative finite number
      */
     public void setConcentration(NumericString concentration) throws IllegalArgumentException {
+        checkModifiable();
         if ( concentration != null ) {
             if ( !concentration.isNonNegative() )
                 throw new IllegalArgumentException("concentration specified is not a finite non-negative number");
-            this.concentration = concentration.clone();
+            this.concentration = concentration;
         }
         else
-            this.concentration = new NumericString(null, GAS_CONCENTRATION_UNIT);
+            this.concentration = NumericString.valueOf(null, GAS_CONCENTRATION_UNIT);
     }
 
     /**
@@ -172,7 +178,7 @@ public class CalibrationGas implements Cloneable {
      *         If not empty, guaranteed to represent a positive finite number.
      */
     public NumericString getAccuracy() {
-        return accuracy.clone();
+        return accuracy;
     }
 
     /**
@@ -185,16 +191,17 @@ public class CalibrationGas implements Cloneable {
      *         if the unit of the accuracy given is not {@link #GAS_CONCENTRATION_UNIT}
      */
     public void setAccuracy(NumericString accuracy) throws IllegalArgumentException {
+        checkModifiable();
         if ( accuracy != null ) {
             if ( !accuracy.isPositive() )
                 throw new IllegalArgumentException("accuracy specified is not a finite positive number");
             if ( !GAS_CONCENTRATION_UNIT.equals(accuracy.getUnitString()) )
                 throw new IllegalArgumentException(
                         "accuracy specified is not in units of " + GAS_CONCENTRATION_UNIT);
-            this.accuracy = accuracy.clone();
+            this.accuracy = accuracy;
         }
         else
-            this.accuracy = new NumericString(null, GAS_CONCENTRATION_UNIT);
+            this.accuracy = NumericString.valueOf(null, GAS_CONCENTRATION_UNIT);
     }
 
     /**
@@ -213,6 +220,30 @@ public class CalibrationGas implements Cloneable {
         return (concentration.getNumericValue() > accuracy.getNumericValue());
     }
 
+    /**
+     * Make this calibration gas read-only, so the setters throw an UnsupportedOperationException.  A read-only
+     * calibration gas can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this calibration gas is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this calibration gas is read-only
+     */
+    protected void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
+    }
+
     @Override
     public CalibrationGas clone() {
         CalibrationGas dup;
@@ -221,12 +252,11 @@ public class CalibrationGas implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
+        dup.readOnly = false;
         dup.id = id;
         dup.type = type;
         dup.supplier = supplier;
         dup.frequency = frequency;
-        dup.concentration = concentration.clone();
-        dup.accuracy = accuracy.clone();
         return dup;
     }
 
@@ -57,6 +57,7 @@ public class Equilibrator extends Sampler implements Cloneable {
      *         assign as the equilibrator type; if null or blank, an empty string is assigned
      */
     public void setEquilibratorType(String equilibratorType) {
+        checkModifiable();
         this.equilibratorType = (equilibratorType != null) ? equilibratorType.trim() : "";
     }
 
@@ -72,6 +73,7 @@ public class Equilibrator extends Sampler implements Cloneable {
      *         assign as the totla volume of the equilibrator chamber; if null or blank, an empty string is assigned
      */
     public void setChamberVol(String chamberVol) {
+        checkModifiable();
         this.chamberVol = (chamberVol != null) ? chamberVol.trim() : "";
     }
 
@@ -87,6 +89,7 @@ public class Equilibrator extends Sampler implements Cloneable {
      *         assign as the water volume in the equilibrator chamber; if null or blank, an empty string is assigned
      */
     public void setChamberWaterVol(String chamberWaterVol) {
+        checkModifiable();
         this.chamberWaterVol = (chamberWaterVol != null) ? chamberWaterVol.trim() : "";
     }
 
@@ -102,6 +105,7 @@ public class Equilibrator extends Sampler implements Cloneable {
      *         assign as the gas volume in the equilibrator chamber; if null or blank, an empty string is assigned
      */
     public void setChamberGasVol(String chamberGasVol) {
+        checkModifiable();
         this.chamberGasVol = (chamberGasVol != null) ? chamberGasVol.trim() : "";
     }
 
@@ -117,6 +121,7 @@ public class Equilibrator extends Sampler implements Cloneable {
      *         assign as the water flow rate through the equilibrator; if null or blank, an empty string is assigned
      */
     public void setWaterFlowRate(String waterFlowRate) {
+        checkModifiable();
         this.waterFlowRate = (waterFlowRate != null) ? waterFlowRate.trim() : "";
     }
 
@@ -132,6 +137,7 @@ public class Equilibrator extends Sampler implements Cloneable {
      *         assign as the gas flow rate through the equilibrator; if null or blank, an empty string is assigned
      */
     public void setGasFlowRate(String gasFlowRate) {
+        checkModifiable();
         this.gasFlowRate = (gasFlowRate != null) ? gasFlowRate.trim() : "";
     }
 
@@ -148,9 +154,15 @@ public class Equilibrator extends Sampler implements Cloneable {
      *         if null or blank, an empty string is assigned
      */
     public void setVenting(String venting) {
+        checkModifiable();
         this.venting = (venting != null) ? venting.trim() : "";
     }
 
+    @Override
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitEquilibrator(this);
+    }
+
     @Override
     public Equilibrator clone() {
         Equilibrator dup = (Equilibrator) super.clone();
@@ -3,6 +3,8 @@ package gov.noaa.pmel.sdimetadata.instrument;
 import gov.noaa.pmel.sdimetadata.variable.DataVar;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Basic information about an instrument that is a gas sensor.  Specific details about values
@@ -30,6 +32,13 @@ public class GasSensor extends Analyzer implements Cloneable {
         return gasList;
     }
 
+    /**
+     * @return an unmodifiable view of the list of read-only calibration gases (see {@link #getCalibrationGases()})
+     */
+    public List<CalibrationGas> viewCalibrationGases() {
+        return Collections.unmodifiableList(calibrationGases);
+    }
+
     /**
      * @param calibrationGases
      *         assign as the list of calibration gases; if null, an empty list is assigned.
@@ -38,23 +47,31 @@ public class GasSensor extends Analyzer implements Cloneable {
      *         if any of the gases given in the list are null
      */
     public void setCalibrationGases(Iterable<CalibrationGas> calibrationGases) throws IllegalArgumentException {
-        this.calibrationGases.clear();
+        checkModifiable();
+        ArrayList<CalibrationGas> newList = new ArrayList<CalibrationGas>();
         if ( calibrationGases != null ) {
             for (CalibrationGas gas : calibrationGases) {
                 if ( null == gas )
                     throw new IllegalArgumentException("null gas given");
-                this.calibrationGases.add(gas.clone());
+                CalibrationGas dup = gas.clone();
+                dup.makeReadOnly();
+                newList.add(dup);
             }
         }
+        this.calibrationGases.clear();
+        this.calibrationGases.addAll(newList);
+    }
+
+    @Override
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitGasSensor(this);
     }
 
     @Override
     public GasSensor clone() {
         GasSensor dup = (GasSensor) super.clone();
-        dup.calibrationGases = new ArrayList<CalibrationGas>(calibrationGases.size());
-        for (CalibrationGas gas : calibrationGases) {
-            dup.calibrationGases.add(gas.clone());
-        }
+        // The calibration gases held are read-only, so they can be shared
+        dup.calibrationGases = new ArrayList<CalibrationGas>(calibrationGases);
         return dup;
     }
 
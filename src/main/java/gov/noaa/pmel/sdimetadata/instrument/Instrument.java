@@ -1,7 +1,9 @@
 package gov.noaa.pmel.sdimetadata.instrument;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 /**
  * Base class for instruments (eg, sensors, equilibrators)
@@ -13,6 +15,7 @@ public class Instrument implements Cloneable {
     protected String manufacturer;
     protected String model;
     protected ArrayList<String> addnInfo;
+    private boolean readOnly;
 
     /**
      * Create with all fields empty
@@ -49,6 +52,7 @@ public class Instrument implements Cloneable {
      *         identify this instrument in other classes and should be unique among instument names in this dataset.
      */
     public void setName(String name) {
+        checkModifiable();
         this.name = (name != null) ? name.trim() : "";
     }
 
@@ -65,6 +69,7 @@ public class Instrument implements Cloneable {
      *         if null, an empty string is assigned
      */
     public void setId(String id) {
+        checkModifiable();
         this.id = (id != null) ? id.trim() : "";
     }
 
@@ -80,6 +85,7 @@ public class Instrument implements Cloneable {
      *         assign as the manufacturer of the instrument; if null, an empty string is assigned
      */
     public void setManufacturer(String manufacturer) {
+        checkModifiable();
         this.manufacturer = (manufacturer != null) ? manufacturer.trim() : "";
     }
 
@@ -95,6 +101,7 @@ public class Instrument implements Cloneable {
      *         assign as the model of the instrument; if null, an empty string is assigned
      */
     public void setModel(String model) {
+        checkModifiable();
         this.model = (model != null) ? model.trim() : "";
     }
 
@@ -106,6 +113,13 @@ public class Instrument implements Cloneable {
         return new ArrayList<String>(addnInfo);
     }
 
+    /**
+     * @return an unmodifiable view of the list of additional information strings (see {@link #getAddnInfo()})
+     */
+    public List<String> viewAddnInfo() {
+        return Collections.unmodifiableList(addnInfo);
+    }
+
     /**
      * @param addnInfo
      *         assign as the list of additional information about this instrument;
@@ -115,7 +129,8 @@ public class Instrument implements Cloneable {
      *         if any of the information strings are null or empty
      */
     public void setAddnInfo(Iterable<String> addnInfo) throws IllegalArgumentException {
-        this.addnInfo.clear();
+        checkModifiable();
+        ArrayList<String> newList = new ArrayList<String>();
         if ( addnInfo != null ) {
             for (String info : addnInfo) {
                 if ( info == null )
@@ -123,9 +138,47 @@ public class Instrument implements Cloneable {
                 info = info.trim();
                 if ( info.isEmpty() )
                     throw new IllegalArgumentException("blank information string given");
-                this.addnInfo.add(info);
+                newList.add(info);
             }
         }
+        this.addnInfo.clear();
+        this.addnInfo.addAll(newList);
+    }
+
+    /**
+     * Call the visitor method for the type of this instrument with this instrument.
+     *
+     * @param visitor
+     *         visit this instrument with this visitor
+     *
+     * @return the value returned by the visitor method
+     */
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitInstrument(this);
+    }
+
+    /**
+     * Make this instrument read-only, so the setters throw an UnsupportedOperationException.  A read-only instrument
+     * can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this instrument is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this instrument is read-only
+     */
+    protected void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
     }
 
     @Override
@@ -136,6 +189,7 @@ public class Instrument implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
+        dup.readOnly = false;
         dup.name = name;
         dup.id = id;
         dup.manufacturer = manufacturer;
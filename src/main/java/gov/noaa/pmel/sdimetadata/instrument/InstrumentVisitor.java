@@ -0,0 +1,78 @@
+package gov.noaa.pmel.sdimetadata.instrument;
+
+/**
+ * Operation on instruments that depends on the type of instrument.  An instrument calls the visit method for its own
+ * type from {@link Instrument#accept(InstrumentVisitor)}, so a visitor handles each type of instrument explicitly
+ * instead of testing the type of each instrument.  A visit method for a subtype may call the visit method for its
+ * supertype to perform the operation for the supertype fields.
+ *
+ * @param <R>
+ *         type of the value returned by the visit methods; use {@link Void} if nothing is returned
+ */
+public interface InstrumentVisitor<R> {
+
+    /**
+     * @param inst
+     *         instrument that is not one of the more specific types of instruments
+     *
+     * @return the result of the operation on the instrument
+     */
+    R visitInstrument(Instrument inst);
+
+    /**
+     * @param sampler
+     *         sampler that is not one of the more specific types of samplers
+     *
+     * @return the result of the operation on the sampler
+     */
+    R visitSampler(Sampler sampler);
+
+    /**
+     * @param equilibrator
+     *         equilibrator
+     *
+     * @return the result of the operation on the equilibrator
+     */
+    R visitEquilibrator(Equilibrator equilibrator);
+
+    /**
+     * @param analyzer
+     *         analyzer that is not one of the more specific types of analyzers
+     *
+     * @return the result of the operation on the analyzer
+     */
+    R visitAnalyzer(Analyzer analyzer);
+
+    /**
+     * @param sensor
+     *         gas sensor
+     *
+     * @return the result of the operation on the gas sensor
+     */
+    R visitGasSensor(GasSensor sensor);
+
+    /**
+     * @param sensor
+     *         pressure sensor
+     *
+     * @return the result of the operation on the pressure sensor
+     */
+    R visitPressureSensor(PressureSensor sensor);
+
+    /**
+     * @param sensor
+     *         salinity sensor
+     *
+     * @return the result of the operation on the salinity sensor
+     */
+    R visitSalinitySensor(SalinitySensor sensor);
+
+    /**
+     * @param sensor
+     *         temperature sensor
+     *
+     * @return the result of the operation on the temperature sensor
+     */
+    R visitTemperatureSensor(TemperatureSensor sensor);
+
+}
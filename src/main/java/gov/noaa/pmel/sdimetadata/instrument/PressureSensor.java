@@ -8,6 +8,11 @@ import gov.noaa.pmel.sdimetadata.variable.DataVar;
  */
 public class PressureSensor extends Analyzer implements Cloneable {
 
+    @Override
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitPressureSensor(this);
+    }
+
     @Override
     public PressureSensor clone() {
         return (PressureSensor) super.clone();
@@ -8,6 +8,11 @@ import gov.noaa.pmel.sdimetadata.variable.DataVar;
  */
 public class SalinitySensor extends Analyzer implements Cloneable {
 
+    @Override
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitSalinitySensor(this);
+    }
+
     @Override
     public SalinitySensor clone() {
         return (SalinitySensor) super.clone();
@@ -1,6 +1,8 @@
 package gov.noaa.pmel.sdimetadata.instrument;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Base class for a sampling instrument.
@@ -25,6 +27,13 @@ public class Sampler extends Instrument implements Cloneable {
         return new HashSet<String>(instrumentNames);
     }
 
+    /**
+     * @return an unmodifiable view of the set of names of attached instruments (see {@link #getInstrumentNames()})
+     */
+    public Set<String> viewInstrumentNames() {
+        return Collections.unmodifiableSet(instrumentNames);
+    }
+
     /**
      * @param instrumentNames
      *         assign as the set of names of attached instruments (primarily sensors);
@@ -34,7 +43,8 @@ public class Sampler extends Instrument implements Cloneable {
      *         if the set contains null or blank strings
      */
     public void setInstrumentNames(Iterable<String> instrumentNames) throws IllegalArgumentException {
-        this.instrumentNames.clear();
+        checkModifiable();
+        HashSet<String> newSet = new HashSet<String>();
         if ( instrumentNames != null ) {
             for (String name : instrumentNames) {
                 if ( name == null )
@@ -42,9 +52,16 @@ public class Sampler extends Instrument implements Cloneable {
                 name = name.trim();
                 if ( name.isEmpty() )
                     throw new IllegalArgumentException("blank instrument name given");
-                this.instrumentNames.add(name);
+                newSet.add(name);
             }
         }
+        this.instrumentNames.clear();
+        this.instrumentNames.addAll(newSet);
+    }
+
+    @Override
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitSampler(this);
     }
 
     @Override
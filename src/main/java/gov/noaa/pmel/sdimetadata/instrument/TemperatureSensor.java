@@ -8,6 +8,11 @@ import gov.noaa.pmel.sdimetadata.variable.DataVar;
  */
 public class TemperatureSensor extends Analyzer implements Cloneable {
 
+    @Override
+    public <R> R accept(InstrumentVisitor<R> visitor) {
+        return visitor.visitTemperatureSensor(this);
+    }
+
     @Override
     public TemperatureSensor clone() {
         return (TemperatureSensor) super.clone();
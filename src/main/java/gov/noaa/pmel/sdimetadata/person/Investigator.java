@@ -1,6 +1,8 @@
 package gov.noaa.pmel.sdimetadata.person;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Full information about an investigator.
@@ -54,6 +56,13 @@ public class Investigator extends Person implements Cloneable {
         return new ArrayList<String>(streets);
     }
 
+    /**
+     * @return an unmodifiable view of the street / delivery point portion of the address (see {@link #getStreets()})
+     */
+    public List<String> viewStreets() {
+        return Collections.unmodifiableList(streets);
+    }
+
     /**
      * @param streets
      *         assign as the street / delivery point portion of the address; if null, an empty list is assigned
@@ -62,7 +71,8 @@ public class Investigator extends Person implements Cloneable {
      *         if the given list contains a null or blank string
      */
     public void setStreets(Iterable<String> streets) throws IllegalArgumentException {
-        this.streets.clear();
+        checkModifiable();
+        ArrayList<String> newList = new ArrayList<String>();
         if ( streets != null ) {
             for (String loc : streets) {
                 if ( loc == null )
@@ -70,9 +80,11 @@ public class Investigator extends Person implements Cloneable {
                 loc = loc.trim();
                 if ( loc.isEmpty() )
                     throw new IllegalArgumentException("blank street String given");
-                this.streets.add(loc);
+                newList.add(loc);
             }
         }
+        this.streets.clear();
+        this.streets.addAll(newList);
     }
 
     /**
@@ -87,6 +99,7 @@ public class Investigator extends Person implements Cloneable {
      *         assign as the city; if null, an empty string is assigned
      */
     public void setCity(String city) {
+        checkModifiable();
         this.city = (city != null) ? city.trim() : "";
     }
 
@@ -102,6 +115,7 @@ public class Investigator extends Person implements Cloneable {
      *         assign as the region / state; if null, an empty string is assigned
      */
     public void setRegion(String region) {
+        checkModifiable();
         this.region = (region != null) ? region.trim() : "";
     }
 
@@ -117,6 +131,7 @@ public class Investigator extends Person implements Cloneable {
      *         assign as the ZIP code; if null, an empty string is assigned
      */
     public void setZipCode(String zipCode) {
+        checkModifiable();
         this.zipCode = (zipCode != null) ? zipCode.trim() : "";
     }
 
@@ -132,6 +147,7 @@ public class Investigator extends Person implements Cloneable {
      *         assign as the country; if null, an empty string is assigned
      */
     public void setCountry(String country) {
+        checkModifiable();
         this.country = (country != null) ? country.trim() : "";
     }
 
@@ -147,6 +163,7 @@ public class Investigator extends Person implements Cloneable {
      *         assign as the phone number; if null, an empty string is assigned
      */
     public void setPhone(String phone) {
+        checkModifiable();
         this.phone = (phone != null) ? phone.trim() : "";
     }
 
@@ -162,6 +179,7 @@ public class Investigator extends Person implements Cloneable {
      *         assign as the e-mail address; if null, an empty string is assigned
      */
     public void setEmail(String email) {
+        checkModifiable();
         this.email = (email != null) ? email.trim() : "";
     }
 
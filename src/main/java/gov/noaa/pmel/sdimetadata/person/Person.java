@@ -13,6 +13,7 @@ public class Person implements Cloneable {
     protected String id;
     protected String idType;
     protected String organization;
+    private boolean readOnly;
 
     /**
      * Create with all empty fields.
@@ -63,6 +64,7 @@ public class Person implements Cloneable {
      *         assign as the last name; if null, an empty string is assigned
      */
     public void setLastName(String lastName) {
+        checkModifiable();
         this.lastName = (lastName != null) ? lastName.trim() : "";
     }
 
@@ -78,6 +80,7 @@ public class Person implements Cloneable {
      *         assign as the first name; if null, an empty string is assigned
      */
     public void setFirstName(String firstName) {
+        checkModifiable();
         this.firstName = (firstName != null) ? firstName.trim() : "";
     }
 
@@ -93,6 +96,7 @@ public class Person implements Cloneable {
      *         assign as the middle name or initial(s); if null, an empty string is assigned
      */
     public void setMiddle(String middle) {
+        checkModifiable();
         this.middle = (middle != null) ? middle.trim() : "";
     }
 
@@ -108,6 +112,7 @@ public class Person implements Cloneable {
      *         assign as the investigator ID; if null, an empty string is assigned
      */
     public void setId(String id) {
+        checkModifiable();
         this.id = (id != null) ? id.trim() : "";
     }
 
@@ -123,6 +128,7 @@ public class Person implements Cloneable {
      *         assign as the type / issuer of the investigator ID; if null, an empty string is assigned
      */
     public void setIdType(String idType) {
+        checkModifiable();
         this.idType = (idType != null) ? idType.trim() : "";
     }
 
@@ -138,9 +144,34 @@ public class Person implements Cloneable {
      *         assign as the organization; if null, an empty string is assigned
      */
     public void setOrganization(String organization) {
+        checkModifiable();
         this.organization = (organization != null) ? organization.trim() : "";
     }
 
+    /**
+     * Make this person read-only, so the setters throw an UnsupportedOperationException.  A read-only person
+     * can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this person is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this person is read-only
+     */
+    protected void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
+    }
+
     @Override
     public Person clone() {
         Person dup;
@@ -149,6 +180,7 @@ public class Person implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
+        dup.readOnly = false;
         dup.lastName = lastName;
         dup.firstName = firstName;
         dup.middle = middle;
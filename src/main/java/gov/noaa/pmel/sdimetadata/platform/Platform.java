@@ -12,6 +12,7 @@ public class Platform implements Cloneable {
     protected PlatformType platformType;
     protected String platformOwner;
     protected String platformCountry;
+    private boolean readOnly;
 
     /**
      * Create with all values empty
@@ -50,6 +51,7 @@ public class Platform implements Cloneable {
      *         assign as the unique ID for this platform; if null, an empty string is assigned
      */
     public void setPlatformId(String platformId) {
+        checkModifiable();
         this.platformId = (platformId != null) ? platformId.trim() : "";
     }
 
@@ -65,6 +67,7 @@ public class Platform implements Cloneable {
      *         assign as the name for this platform; if null, an empty string is assigned
      */
     public void setPlatformName(String platformName) {
+        checkModifiable();
         this.platformName = (platformName != null) ? platformName.trim() : "";
     }
 
@@ -81,6 +84,7 @@ public class Platform implements Cloneable {
      *         if null, {@link PlatformType#UNKNOWN} is assigned
      */
     public void setPlatformType(PlatformType platformType) {
+        checkModifiable();
         this.platformType = (platformType != null) ? platformType : PlatformType.UNKNOWN;
     }
 
@@ -96,6 +100,7 @@ public class Platform implements Cloneable {
      *         assign as the owner of this platform; if null, an empty string is assigned
      */
     public void setPlatformOwner(String platformOwner) {
+        checkModifiable();
         this.platformOwner = (platformOwner != null) ? platformOwner.trim() : "";
     }
 
@@ -111,9 +116,34 @@ public class Platform implements Cloneable {
      *         assign as the country under which this platform is registered; if null, an empty string is assigned
      */
     public void setPlatformCountry(String platformCountry) {
+        checkModifiable();
         this.platformCountry = (platformCountry != null) ? platformCountry.trim() : "";
     }
 
+    /**
+     * Make this platform read-only, so the setters throw an UnsupportedOperationException.  A read-only platform
+     * can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this platform is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this platform is read-only
+     */
+    protected void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
+    }
+
     @Override
     public Platform clone() {
         Platform dup;
@@ -122,6 +152,7 @@ public class Platform implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
+        dup.readOnly = false;
         dup.platformId = platformId;
         dup.platformName = platformName;
         dup.platformType = platformType;
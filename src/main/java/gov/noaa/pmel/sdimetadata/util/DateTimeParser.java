@@ -0,0 +1,300 @@
+package gov.noaa.pmel.sdimetadata.util;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Thread-safe parsing and conversion of UTC dates and times.  Parsing is modeled on a non-lenient
+ * {@link java.text.SimpleDateFormat} for the supported patterns: spaces and tabs are skipped before each numeric
+ * field, numeric fields may have any number of digits unless immediately followed by another numeric field,
+ * and any text following the last field is ignored.  It is not an exact emulation: numeric fields here are only
+ * ASCII digits, whereas SimpleDateFormat parses fields with a {@link java.text.DecimalFormat} that also accepts
+ * exponent notation, so strings such as "9E6 31]19D102" and "12 18E7~ 84" are accepted by one and rejected by the
+ * other.  Dates before 1582-10-15 use the Julian calendar, as does {@link java.util.GregorianCalendar}.
+ */
+public final class DateTimeParser {
+
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /**
+     * Julian day number of 1970-01-01
+     */
+    private static final long EPOCH_JULIAN_DAY = 2440588L;
+
+    /**
+     * Julian day number of 1582-10-15, the first day of the Gregorian calendar
+     */
+    private static final long GREGORIAN_START_JULIAN_DAY = 2299161L;
+
+    /**
+     * Largest year supported by {@link java.util.GregorianCalendar}
+     */
+    private static final int MAX_YEAR = 292278993;
+
+    /**
+     * Value returned by the scanning methods if the scan failed
+     */
+    private static final long SCAN_FAILED = -1L;
+
+    private DateTimeParser() {
+    }
+
+    /**
+     * @param datestring
+     *         date stamp as yyyyMMdd or yyyy/MM/dd or yyyy-MM-dd; if null or blank, null is returned
+     *
+     * @return datestamp representing this date, or null if the date string is not in a valid format
+     *         or does not give a valid date
+     */
+    public static Datestamp parseDatestamp(String datestring) {
+        if ( (null == datestring) || datestring.trim().isEmpty() )
+            return null;
+        long packed = scanNumberDate(datestring);
+        if ( packed == SCAN_FAILED )
+            packed = scanSeparatedDate(datestring, '/');
+        if ( packed == SCAN_FAILED )
+            packed = scanSeparatedDate(datestring, '-');
+        if ( packed == SCAN_FAILED )
+            return null;
+        Datestamp stamp = new Datestamp();
+        stamp.setYear((int) (packed / 10000L));
+        stamp.setMonth((int) ((packed / 100L) % 100L));
+        stamp.setDay((int) (packed % 100L));
+        return stamp;
+    }
+
+    /**
+     * @param timestamp
+     *         UTC date and time in yyyy-MM-dd HH:mm:ss format; cannot be null
+     *
+     * @return the date and time given
+     *
+     * @throws ParseException
+     *         if the timestamp is not in a valid format or does not give a valid date and time
+     */
+    public static Date parseTimestamp(String timestamp) throws ParseException {
+        long[] fields = new long[6];
+        if ( !scanFields(timestamp, "-- ::", fields) || !isValidDate(fields[0], fields[1], fields[2]) ||
+                (fields[3] < 0L) || (fields[3] > 23L) || (fields[4] < 0L) || (fields[4] > 59L) ||
+                (fields[5] < 0L) || (fields[5] > 59L) )
+            throw new ParseException("Unparseable date: \"" + timestamp + "\"", 0);
+        long epochDay = getEpochDay((int) fields[0], (int) fields[1], (int) fields[2]);
+        return new Date(epochDay * MILLIS_PER_DAY + ((fields[3] * 60L + fields[4]) * 60L + fields[5]) * 1000L);
+    }
+
+    /**
+     * @param date
+     *         date to use; cannot be null
+     *
+     * @return datestamp of the UTC date of the given date; the time portion of the given date is ignored
+     */
+    public static Datestamp toDatestamp(Date date) {
+        long julianDay = Math.floorDiv(date.getTime(), MILLIS_PER_DAY) + EPOCH_JULIAN_DAY;
+        // The algorithm below requires a non-negative day number; the Julian calendar repeats every four years
+        long yearShift = 0L;
+        if ( julianDay < 0L ) {
+            long cycles = (-julianDay) / 1461L + 1L;
+            julianDay += cycles * 1461L;
+            yearShift = 4L * cycles;
+        }
+        // Richards' algorithm for converting a Julian day number to a calendar date
+        long f = julianDay + 1401L;
+        if ( julianDay >= GREGORIAN_START_JULIAN_DAY )
+            f += (((4L * julianDay + 274277L) / 146097L) * 3L) / 4L - 38L;
+        long e = 4L * f + 3L;
+        long h = 5L * ((e % 1461L) / 4L) + 2L;
+        long day = (h % 153L) / 5L + 1L;
+        long month = ((h / 153L) + 2L) % 12L + 1L;
+        long year = e / 1461L - 4716L + (14L - month) / 12L - yearShift;
+        // year of the era, as given by the yyyy pattern
+        if ( year <= 0L )
+            year = 1L - year;
+        Datestamp stamp = new Datestamp();
+        stamp.setYear((int) year);
+        stamp.setMonth((int) month);
+        stamp.setDay((int) day);
+        return stamp;
+    }
+
+    /**
+     * @return the number of days from 1970-01-01 to the given valid date
+     */
+    public static long getEpochDay(int year, int month, int day) {
+        long a = (14L - month) / 12L;
+        long y = year + 4800L - a;
+        long m = month + 12L * a - 3L;
+        long julianDay = day + (153L * m + 2L) / 5L + 365L * y + y / 4L;
+        if ( isGregorian(year, month, day) )
+            julianDay += -(y / 100L) + y / 400L - 32045L;
+        else
+            julianDay -= 32083L;
+        return julianDay - EPOCH_JULIAN_DAY;
+    }
+
+    /**
+     * @return if the given year, month, and day give a valid date
+     */
+    public static boolean isValidDate(long year, long month, long day) {
+        if ( (year < 1L) || (year > MAX_YEAR) || (month < 1L) || (month > 12L) || (day < 1L) )
+            return false;
+        if ( (year == 1582L) && (month == 10L) && (day > 4L) && (day < 15L) )
+            return false;
+        return day <= getMonthLength((int) year, (int) month);
+    }
+
+    /**
+     * @return the number of days in the given month of the given year
+     */
+    private static int getMonthLength(int year, int month) {
+        switch ( month ) {
+            case 2:
+                boolean leap;
+                if ( year <= 1582 )
+                    leap = (year % 4) == 0;
+                else
+                    leap = ((year % 4) == 0) && (((year % 100) != 0) || ((year % 400) == 0));
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return if the given date is in the Gregorian calendar (not before 1582-10-15)
+     */
+    private static boolean isGregorian(int year, int month, int day) {
+        if ( year != 1582 )
+            return year > 1582;
+        if ( month != 10 )
+            return month > 10;
+        return day >= 15;
+    }
+
+    /**
+     * Scan a date given as yyyyMMdd.
+     *
+     * @return the date as year * 10000 + month * 100 + day, or {@link #SCAN_FAILED}
+     */
+    private static long scanNumberDate(String text) {
+        long scan = scanNumber(text, 0, 4);
+        if ( scan == SCAN_FAILED )
+            return SCAN_FAILED;
+        long year = (int) scan;
+        scan = scanNumber(text, (int) (scan >>> 32), 2);
+        if ( scan == SCAN_FAILED )
+            return SCAN_FAILED;
+        long month = (int) scan;
+        scan = scanNumber(text, (int) (scan >>> 32), 0);
+        if ( scan == SCAN_FAILED )
+            return SCAN_FAILED;
+        long day = (int) scan;
+        if ( !isValidDate(year, month, day) )
+            return SCAN_FAILED;
+        return year * 10000L + month * 100L + day;
+    }
+
+    /**
+     * Scan a date given as year, month, and day numbers separated by the given character.
+     *
+     * @return the date as year * 10000 + month * 100 + day, or {@link #SCAN_FAILED}
+     */
+    private static long scanSeparatedDate(String text, char separator) {
+        long[] fields = new long[3];
+        if ( !scanFields(text, separator == '/' ? "//" : "--", fields) )
+            return SCAN_FAILED;
+        if ( !isValidDate(fields[0], fields[1], fields[2]) )
+            return SCAN_FAILED;
+        return fields[0] * 10000L + fields[1] * 100L + fields[2];
+    }
+
+    /**
+     * Scan numeric fields separated by the given characters.
+     *
+     * @param text
+     *         text to scan
+     * @param separators
+     *         the character that must immediately follow each numeric field, other than the last field
+     * @param fields
+     *         assigned the values of the numeric fields; must have a length one more than separators
+     *
+     * @return if all the numeric fields and separators were found
+     */
+    private static boolean scanFields(String text, String separators, long[] fields) {
+        int pos = 0;
+        for (int k = 0; k < fields.length; k++) {
+            if ( k > 0 ) {
+                if ( (pos >= text.length()) || (text.charAt(pos) != separators.charAt(k - 1)) )
+                    return false;
+                pos++;
+            }
+            long scan = scanNumber(text, pos, 0);
+            if ( scan == SCAN_FAILED )
+                return false;
+            fields[k] = (int) scan;
+            pos = (int) (scan >>> 32);
+        }
+        return true;
+    }
+
+    /**
+     * Scan a decimal integer, with an optional leading minus sign, skipping any spaces and tabs before the number.
+     *
+     * @param text
+     *         text to scan
+     * @param start
+     *         index in the text to start scanning
+     * @param width
+     *         if positive, the number must be contained in this many characters from the start index (including
+     *         any skipped spaces and tabs), and these characters must be available; otherwise, all consecutive
+     *         digits are read
+     *
+     * @return the position following the number in the upper 32 bits and the value of the number (saturated
+     *         at {@link Integer#MIN_VALUE} and {@link Integer#MAX_VALUE}) in the lower 32 bits,
+     *         or {@link #SCAN_FAILED} if there is no number
+     */
+    private static long scanNumber(String text, int start, int width) {
+        int length = text.length();
+        int pos = start;
+        while ( true ) {
+            if ( pos >= length )
+                return SCAN_FAILED;
+            char chr = text.charAt(pos);
+            if ( (chr != ' ') && (chr != '\t') )
+                break;
+            pos++;
+        }
+        int limit = length;
+        if ( width > 0 ) {
+            limit = start + width;
+            if ( limit > length )
+                return SCAN_FAILED;
+        }
+        boolean negative = false;
+        if ( (pos < limit) && (text.charAt(pos) == '-') ) {
+            negative = true;
+            pos++;
+        }
+        int begin = pos;
+        long value = 0L;
+        while ( pos < limit ) {
+            int digit = Character.digit(text.charAt(pos), 10);
+            if ( digit < 0 )
+                break;
+            if ( value <= Integer.MAX_VALUE )
+                value = value * 10L + digit;
+            pos++;
+        }
+        if ( pos == begin )
+            return SCAN_FAILED;
+        if ( negative )
+            value = -value;
+        value = Math.max(Integer.MIN_VALUE, Math.min(value, Integer.MAX_VALUE));
+        return ((long) pos << 32) | (value & 0xFFFFFFFFL);
+    }
+
+}
@@ -1,9 +1,6 @@
 package gov.noaa.pmel.sdimetadata.util;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
 
 /**
  * Represents and works with a date (without time)
@@ -15,17 +12,20 @@ public final class Datestamp implements Cloneable {
      */
     public static final Integer INVALID = 0;
 
-    private static final DateFormat TIMESTAMP_PARSER;
-
-    static {
-        TIMESTAMP_PARSER = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        TIMESTAMP_PARSER.setTimeZone(TimeZone.getTimeZone("UTC"));
-        TIMESTAMP_PARSER.setLenient(false);
-    }
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+    /**
+     * Value of epochDay when the year, month, and day do not give a valid date from 1900-01-01 through 9999-12-31
+     */
+    private static final long NOT_A_DAY = Long.MIN_VALUE;
 
-    private Integer year;
-    private Integer month;
-    private Integer day;
+    private int year;
+    private int month;
+    private int day;
+    /**
+     * Number of days from 1970-01-01 to this date, or {@link #NOT_A_DAY}; updated whenever the date is assigned
+     */
+    private long epochDay;
+    private boolean readOnly;
 
     /**
      * Create with invalid values ({@link #INVALID}) for year, month, and day.
@@ -34,6 +34,7 @@ public final class Datestamp implements Cloneable {
         year = INVALID;
         month = INVALID;
         day = INVALID;
+        epochDay = NOT_A_DAY;
     }
 
     /**
@@ -58,6 +59,17 @@ public final class Datestamp implements Cloneable {
         } catch ( Exception ex ) {
             throw new IllegalArgumentException("Invalid day '" + day + "': " + ex.getMessage());
         }
+        updateEpochDay();
+    }
+
+    /**
+     * Assign epochDay from the current year, month, and day.
+     */
+    private void updateEpochDay() {
+        if ( (year >= 1900) && (year <= 9999) && DateTimeParser.isValidDate(year, month, day) )
+            epochDay = DateTimeParser.getEpochDay(year, month, day);
+        else
+            epochDay = NOT_A_DAY;
     }
 
     /**
@@ -69,22 +81,32 @@ public final class Datestamp implements Cloneable {
      *         is later than the current date.
      */
     public Date getEarliestTime() throws IllegalStateException {
-        if ( (year < 1900) || (year > 9999) )
-            throw new IllegalStateException("invalid year: " + year);
-        if ( (month < 1) || (month > 12) )
-            throw new IllegalStateException("invalid month: " + month);
-        if ( (day < 1) || (day > 31) )
-            throw new IllegalStateException("invalid day: " + day);
-        String timestamp = String.format("%04d-%02d-%02d 00:00:00", year, month, day);
-        Date value;
-        try {
-            value = TIMESTAMP_PARSER.parse(timestamp);
-        } catch ( Exception ex ) {
-            throw new IllegalStateException("invalid timestamp '" + timestamp + "': " + ex.getMessage());
+        return new Date(getEarliestMillis());
+    }
+
+    /**
+     * @return milliseconds since 1970-01-01 00:00:00 UTC of the earliest time (00:00:00) of the datestamp.
+     *
+     * @throws IllegalStateException
+     *         if the date is not valid,
+     *         is earlier than 1900-01-01, or
+     *         is later than the current date.
+     */
+    public long getEarliestMillis() throws IllegalStateException {
+        if ( epochDay == NOT_A_DAY ) {
+            if ( (year < 1900) || (year > 9999) )
+                throw new IllegalStateException("invalid year: " + year);
+            if ( (month < 1) || (month > 12) )
+                throw new IllegalStateException("invalid month: " + month);
+            if ( (day < 1) || (day > 31) )
+                throw new IllegalStateException("invalid day: " + day);
+            throw new IllegalStateException("invalid day for the month: " + day);
         }
-        if ( value.after(new Date()) )
-            throw new IllegalStateException("'" + timestamp + "' is in the future");
-        return value;
+        long millis = epochDay * MILLIS_PER_DAY;
+        if ( millis > System.currentTimeMillis() )
+            throw new IllegalStateException("'" + String.format("%04d-%02d-%02d 00:00:00", year, month, day) +
+                    "' is in the future");
+        return millis;
     }
 
     /**
@@ -97,21 +119,27 @@ public final class Datestamp implements Cloneable {
      */
     public String stampString() throws IllegalStateException {
         // validate the date, allowing exceptions to propagate if invalid
-        getEarliestTime();
-        // return the date stamp
-        return String.format("%04d-%02d-%02d", year, month, day);
+        getEarliestMillis();
+        // return the date stamp; the year has four digits and the month and day at most two
+        char[] chars = new char[10];
+        chars[0] = (char) ('0' + year / 1000);
+        chars[1] = (char) ('0' + (year / 100) % 10);
+        chars[2] = (char) ('0' + (year / 10) % 10);
+        chars[3] = (char) ('0' + year % 10);
+        chars[4] = '-';
+        chars[5] = (char) ('0' + month / 10);
+        chars[6] = (char) ('0' + month % 10);
+        chars[7] = '-';
+        chars[8] = (char) ('0' + day / 10);
+        chars[9] = (char) ('0' + day % 10);
+        return new String(chars);
     }
 
     /**
      * @return if the date is valid, not earlier than 1900-01-01 and not later than the current date.
      */
     public boolean isValid() {
-        try {
-            getEarliestTime();
-        } catch ( IllegalStateException ex ) {
-            return false;
-        }
-        return true;
+        return (epochDay != NOT_A_DAY) && (epochDay * MILLIS_PER_DAY <= System.currentTimeMillis());
     }
 
     /**
@@ -126,7 +154,9 @@ public final class Datestamp implements Cloneable {
      *         assign as the year; if null, an invalid value ({@link #INVALID}) is assigned
      */
     public void setYear(Integer year) {
+        checkModifiable();
         this.year = (year != null) ? year : INVALID;
+        updateEpochDay();
     }
 
     /**
@@ -141,7 +171,9 @@ public final class Datestamp implements Cloneable {
      *         assign as the month; if null, an invalid value ({@link #INVALID}) is assigned
      */
     public void setMonth(Integer month) {
+        checkModifiable();
         this.month = (month != null) ? month : INVALID;
+        updateEpochDay();
     }
 
     /**
@@ -156,7 +188,33 @@ public final class Datestamp implements Cloneable {
      *         assign as the day; if null, an invalid value ({@link #INVALID}) is assigned
      */
     public void setDay(Integer day) {
+        checkModifiable();
         this.day = (day != null) ? day : INVALID;
+        updateEpochDay();
+    }
+
+    /**
+     * Make this date read-only, so the setters throw an UnsupportedOperationException.  A read-only date
+     * can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this date is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this date is read-only
+     */
+    private void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
     }
 
     @Override
@@ -167,9 +225,7 @@ public final class Datestamp implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
-        dup.year = year;
-        dup.month = month;
-        dup.day = day;
+        dup.readOnly = false;
         return dup;
     }
 
@@ -184,11 +240,11 @@ public final class Datestamp implements Cloneable {
 
         Datestamp datestamp = (Datestamp) obj;
 
-        if ( !year.equals(datestamp.year) )
+        if ( year != datestamp.year )
             return false;
-        if ( !month.equals(datestamp.month) )
+        if ( month != datestamp.month )
             return false;
-        if ( !day.equals(datestamp.day) )
+        if ( day != datestamp.day )
             return false;
         return true;
     }
@@ -196,9 +252,9 @@ public final class Datestamp implements Cloneable {
     @Override
     public int hashCode() {
         final int prime = 37;
-        int result = year.hashCode();
-        result = result * prime + month.hashCode();
-        result = result * prime + day.hashCode();
+        int result = year;
+        result = result * prime + month;
+        result = result * prime + day;
         return result;
     }
 
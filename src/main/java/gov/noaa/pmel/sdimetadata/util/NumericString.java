@@ -1,18 +1,42 @@
 package gov.noaa.pmel.sdimetadata.util;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a numeric string value with units (optional).
  * Used when the numeric value of the string needs to be validated and used.
+ * Instances are immutable, so they are shared instead of copied.  {@link #valueOf(String, String)} returns shared
+ * instances when the numeric string is empty, and the unit strings of those instances are reused by other
+ * instances with the same unit.
  */
-public final class NumericString implements Cloneable {
+public final class NumericString {
+
+    /**
+     * Numeric string with empty value and unit strings
+     */
+    public static final NumericString EMPTY = new NumericString();
+
+    /**
+     * Maximum number of shared instances with only a unit string to remember
+     */
+    private static final int MAX_CACHED_UNITS = 256;
+
+    /**
+     * Shared instances with an empty numeric string, by unit string
+     */
+    private static final ConcurrentHashMap<String,NumericString> UNIT_ONLY =
+            new ConcurrentHashMap<String,NumericString>();
 
-    private String valueString;
-    private String unitString;
+    private final String valueString;
+    private final String unitString;
     // numericValue is always assigned from parsing valueString
-    private double numericValue;
+    private final double numericValue;
+    // Cached result of asOneString; computed when first requested
+    private String oneString;
 
     /**
-     * Create with empty strings, and NaN as the associated numeric value
+     * Create with empty strings, and NaN as the associated numeric value.
+     * {@link #EMPTY} can be used instead.
      */
     public NumericString() {
         valueString = "";
@@ -31,8 +55,52 @@ public final class NumericString implements Cloneable {
      *         if the given numeric string, if not null or blank, does not represent a finite numeric value
      */
     public NumericString(String value, String unit) throws IllegalArgumentException {
-        setValueString(value);
-        setUnitString(unit);
+        valueString = (value != null) ? value.trim() : "";
+        if ( !valueString.isEmpty() ) {
+            if ( !isNumeric(valueString, 0, valueString.length()) )
+                throw new IllegalArgumentException("value is not a finite number: " + valueString);
+            numericValue = Double.parseDouble(valueString);
+            if ( Double.isInfinite(numericValue) )
+                throw new IllegalArgumentException("value is infinite");
+        }
+        else
+            numericValue = Double.NaN;
+        // Reuse the unit string of a shared instance, if any, rather than interning arbitrary text
+        String unitStr = (unit != null) ? unit.trim() : "";
+        NumericString shared = unitStr.isEmpty() ? EMPTY : UNIT_ONLY.get(unitStr);
+        unitString = (shared != null) ? shared.unitString : unitStr;
+    }
+
+    /**
+     * Same as {@link #NumericString(String, String)} except that a shared instance may be returned.
+     *
+     * @param value
+     *         numeric string to assign after trimming;  if null or blank,
+     *         an empty string is assigned and the associated numeric value is Double.NaN
+     * @param unit
+     *         unit string for the numeric value;  if null or blank, and empty string is assigned
+     *
+     * @return numeric string with the given value and unit strings
+     *
+     * @throws IllegalArgumentException
+     *         if the given numeric string, if not null or blank, does not represent a finite numeric value
+     */
+    public static NumericString valueOf(String value, String unit) throws IllegalArgumentException {
+        if ( (value != null) && !value.trim().isEmpty() )
+            return new NumericString(value, unit);
+        String unitStr = (unit != null) ? unit.trim() : "";
+        if ( unitStr.isEmpty() )
+            return EMPTY;
+        NumericString numStr = UNIT_ONLY.get(unitStr);
+        if ( numStr == null ) {
+            numStr = new NumericString(null, unitStr);
+            if ( UNIT_ONLY.size() < MAX_CACHED_UNITS ) {
+                NumericString prev = UNIT_ONLY.putIfAbsent(numStr.unitString, numStr);
+                if ( prev != null )
+                    numStr = prev;
+            }
+        }
+        return numStr;
     }
 
     /**
@@ -45,27 +113,16 @@ public final class NumericString implements Cloneable {
 
     /**
      * @param valueString
-     *         numeric string to assign after trimming; if null or blank,
-     *         an empty string is assigned and the associated numeric value is NaN
+     *         numeric string to use after trimming; if null or blank,
+     *         an empty string is used and the associated numeric value is NaN
+     *
+     * @return numeric string with the given numeric string and the unit string of this numeric string
      *
      * @throws IllegalArgumentException
      *         if the given string, if not null or blank, does not represent a finite numeric value
      */
-    public void setValueString(String valueString) throws IllegalArgumentException {
-        this.valueString = (valueString != null) ? valueString.trim() : "";
-        if ( !this.valueString.isEmpty() ) {
-            try {
-                this.numericValue = Double.parseDouble(this.valueString);
-            } catch ( NumberFormatException ex ) {
-                throw new IllegalArgumentException(ex);
-            }
-            if ( Double.isNaN(this.numericValue) )
-                throw new IllegalArgumentException("value is NaN");
-            if ( Double.isInfinite(this.numericValue) )
-                throw new IllegalArgumentException("value is infinite");
-        }
-        else
-            this.numericValue = Double.NaN;
+    public NumericString withValueString(String valueString) throws IllegalArgumentException {
+        return valueOf(valueString, unitString);
     }
 
     /**
@@ -77,10 +134,12 @@ public final class NumericString implements Cloneable {
 
     /**
      * @param unitString
-     *         assign at the unit string for the numeric value; if null or blank, an empty string is assigned
+     *         unit string to use for the numeric value; if null or blank, an empty string is used
+     *
+     * @return numeric string with the numeric string of this numeric string and the given unit string
      */
-    public void setUnitString(String unitString) {
-        this.unitString = (unitString != null) ? unitString.trim() : "";
+    public NumericString withUnitString(String unitString) {
+        return valueOf(valueString, unitString);
     }
 
     /**
@@ -90,13 +149,6 @@ public final class NumericString implements Cloneable {
         return numericValue;
     }
 
-    /**
-     * Does nothing; the numeric value is always assigned from parsing the string value.
-     * This only exist to satisfy JavaBean requirements.
-     */
-    private void setNumericValue(double numericValue) {
-    }
-
     /**
      * @return if this represents a valid numeric string (not empty)
      */
@@ -143,25 +195,90 @@ public final class NumericString implements Cloneable {
     }
 
     /**
-     * @return the trimmed string resulting from concatenating the numeric string, a space, and the unit string
+     * Checks if a span of characters is a floating-point number as accepted by {@link Double#parseDouble(String)},
+     * other than NaN or Infinity, without any surrounding whitespace.  Decimal and hexadecimal forms, with an
+     * optional sign, exponent, and type suffix (f, F, d, or D), are recognized.  A number that is too large in
+     * magnitude will be recognized even though it parses to an infinite value.
+     *
+     * @param text
+     *         characters to examine; cannot be null
+     * @param start
+     *         index of the first character of the span
+     * @param end
+     *         index following the last character of the span
+     *
+     * @return if the span of characters is a number
      */
-    public String asOneString() {
-        String repr = valueString + " " + unitString;
-        return repr.trim();
+    public static boolean isNumeric(CharSequence text, int start, int end) {
+        int pos = start;
+        if ( (pos < end) && ((text.charAt(pos) == '-') || (text.charAt(pos) == '+')) )
+            pos++;
+        boolean hex = (pos + 1 < end) && (text.charAt(pos) == '0') &&
+                ((text.charAt(pos + 1) == 'x') || (text.charAt(pos + 1) == 'X'));
+        if ( hex )
+            pos += 2;
+        int numDigits = 0;
+        while ( (pos < end) && isDigit(text.charAt(pos), hex) ) {
+            pos++;
+            numDigits++;
+        }
+        if ( (pos < end) && (text.charAt(pos) == '.') ) {
+            pos++;
+            while ( (pos < end) && isDigit(text.charAt(pos), hex) ) {
+                pos++;
+                numDigits++;
+            }
+        }
+        if ( numDigits == 0 )
+            return false;
+        // exponent is required in hexadecimal form
+        char expChar = (pos < end) ? Character.toLowerCase(text.charAt(pos)) : '\0';
+        if ( expChar == (hex ? 'p' : 'e') ) {
+            pos++;
+            if ( (pos < end) && ((text.charAt(pos) == '-') || (text.charAt(pos) == '+')) )
+                pos++;
+            int expStart = pos;
+            while ( (pos < end) && isDigit(text.charAt(pos), false) ) {
+                pos++;
+            }
+            if ( pos == expStart )
+                return false;
+        }
+        else if ( hex )
+            return false;
+        if ( pos < end ) {
+            char chr = text.charAt(pos);
+            if ( (chr == 'f') || (chr == 'F') || (chr == 'd') || (chr == 'D') )
+                pos++;
+        }
+        return pos == end;
     }
 
-    @Override
-    public NumericString clone() {
-        NumericString dup;
-        try {
-            dup = (NumericString) super.clone();
-        } catch ( CloneNotSupportedException ex ) {
-            throw new RuntimeException(ex);
+    /**
+     * @return if the given character is an ASCII digit, or an ASCII hexadecimal digit if hex is true
+     */
+    private static boolean isDigit(char chr, boolean hex) {
+        if ( (chr >= '0') && (chr <= '9') )
+            return true;
+        return hex && (((chr >= 'a') && (chr <= 'f')) || ((chr >= 'A') && (chr <= 'F')));
+    }
+
+    /**
+     * @return the trimmed string resulting from concatenating the numeric string, a space, and the unit string
+     */
+    public String asOneString() {
+        // Racing threads can only assign equal strings
+        String repr = oneString;
+        if ( repr == null ) {
+            if ( unitString.isEmpty() )
+                repr = valueString;
+            else if ( valueString.isEmpty() )
+                repr = unitString;
+            else
+                repr = valueString + " " + unitString;
+            oneString = repr;
         }
-        dup.valueString = valueString;
-        dup.unitString = unitString;
-        dup.numericValue = numericValue;
-        return dup;
+        return repr;
     }
 
     @Override
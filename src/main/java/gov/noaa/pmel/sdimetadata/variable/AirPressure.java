@@ -19,8 +19,8 @@ public class AirPressure extends DataVar implements Cloneable {
     public AirPressure() {
         super();
         varUnit = HECTOPASCALS_UNIT;
-        accuracy.setUnitString(HECTOPASCALS_UNIT);
-        precision.setUnitString(HECTOPASCALS_UNIT);
+        accuracy = accuracy.withUnitString(HECTOPASCALS_UNIT);
+        precision = precision.withUnitString(HECTOPASCALS_UNIT);
         pressureCorrection = "";
     }
 
@@ -30,19 +30,19 @@ public class AirPressure extends DataVar implements Cloneable {
      */
     public AirPressure(Variable var) {
         super(var);
-        accuracy.setUnitString(HECTOPASCALS_UNIT);
-        precision.setUnitString(HECTOPASCALS_UNIT);
+        accuracy = accuracy.withUnitString(HECTOPASCALS_UNIT);
+        precision = precision.withUnitString(HECTOPASCALS_UNIT);
         if ( (var != null) && (var instanceof AirPressure) ) {
             AirPressure press = (AirPressure) var;
             varUnit = press.varUnit;
-            accuracy = press.accuracy.clone();
-            precision = press.precision.clone();
+            accuracy = press.accuracy;
+            precision = press.precision;
             pressureCorrection = press.pressureCorrection;
         }
         else {
             varUnit = HECTOPASCALS_UNIT;
-            accuracy.setUnitString(HECTOPASCALS_UNIT);
-            precision.setUnitString(HECTOPASCALS_UNIT);
+            accuracy = accuracy.withUnitString(HECTOPASCALS_UNIT);
+            precision = precision.withUnitString(HECTOPASCALS_UNIT);
             pressureCorrection = "";
         }
     }
@@ -59,6 +59,7 @@ public class AirPressure extends DataVar implements Cloneable {
      *         assign as the pressure correction string; if null, and empty string is assigned
      */
     public void setPressureCorrection(String pressureCorrection) {
+        checkModifiable();
         this.pressureCorrection = (pressureCorrection != null) ? pressureCorrection.trim() : "";
     }
 
@@ -68,6 +69,7 @@ public class AirPressure extends DataVar implements Cloneable {
      */
     @Override
     public void setVarUnit(String varUnit) {
+        checkModifiable();
         this.varUnit = (varUnit != null) ? varUnit.trim() : HECTOPASCALS_UNIT;
         if ( this.varUnit.isEmpty() )
             this.varUnit = HECTOPASCALS_UNIT;
@@ -83,11 +85,12 @@ public class AirPressure extends DataVar implements Cloneable {
      */
     @Override
     public void setAccuracy(NumericString accuracy) throws IllegalArgumentException {
+        checkModifiable();
         if ( accuracy != null ) {
             super.setAccuracy(accuracy);
         }
         else
-            this.accuracy = new NumericString(null, HECTOPASCALS_UNIT);
+            this.accuracy = NumericString.valueOf(null, HECTOPASCALS_UNIT);
     }
 
     /**
@@ -100,11 +103,17 @@ public class AirPressure extends DataVar implements Cloneable {
      */
     @Override
     public void setPrecision(NumericString precision) throws IllegalArgumentException {
+        checkModifiable();
         if ( precision != null ) {
             super.setPrecision(precision);
         }
         else
-            this.precision = new NumericString(null, HECTOPASCALS_UNIT);
+            this.precision = NumericString.valueOf(null, HECTOPASCALS_UNIT);
+    }
+
+    @Override
+    public <R> R accept(VariableVisitor<R> visitor) {
+        return visitor.visitAirPressure(this);
     }
 
     @Override
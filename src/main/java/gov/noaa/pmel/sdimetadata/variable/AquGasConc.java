@@ -59,6 +59,7 @@ public class AquGasConc extends GasConc implements Cloneable {
      *         is reported;  if null or blank, an empty string is assigned
      */
     public void setReportTemperature(String reportTemperature) {
+        checkModifiable();
         this.reportTemperature = (reportTemperature != null) ? reportTemperature.trim() : "";
     }
 
@@ -74,9 +75,15 @@ public class AquGasConc extends GasConc implements Cloneable {
      *         assign as temperature effect corrections applied; if null or blank, an empty string is assigned
      */
     public void setTemperatureCorrection(String temperatureCorrection) {
+        checkModifiable();
         this.temperatureCorrection = (temperatureCorrection != null) ? temperatureCorrection.trim() : "";
     }
 
+    @Override
+    public <R> R accept(VariableVisitor<R> visitor) {
+        return visitor.visitAquGasConc(this);
+    }
+
     @Override
     public AquGasConc clone() {
         AquGasConc dup = (AquGasConc) super.clone();
@@ -74,6 +74,7 @@ public class BioDataVar extends DataVar implements Cloneable {
      *         assign as the biological subject; if null, an empty string is assigned
      */
     public void setBiologicalSubject(String biologicalSubject) {
+        checkModifiable();
         this.biologicalSubject = (biologicalSubject != null) ? biologicalSubject.trim() : "";
     }
 
@@ -89,6 +90,7 @@ public class BioDataVar extends DataVar implements Cloneable {
      *         assign as the species ID; if null, an empty string is assigned
      */
     public void setSpeciesId(String speciesId) {
+        checkModifiable();
         this.speciesId = (speciesId != null) ? speciesId.trim() : "";
     }
 
@@ -104,9 +106,15 @@ public class BioDataVar extends DataVar implements Cloneable {
      *         assign as the life stage; if null, an empty string is assigned
      */
     public void setLifeStage(String lifeStage) {
+        checkModifiable();
         this.lifeStage = (lifeStage != null) ? lifeStage.trim() : "";
     }
 
+    @Override
+    public <R> R accept(VariableVisitor<R> visitor) {
+        return visitor.visitBioDataVar(this);
+    }
+
     @Override
     public BioDataVar clone() {
         BioDataVar dup = (BioDataVar) super.clone();
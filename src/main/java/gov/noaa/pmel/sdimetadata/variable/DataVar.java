@@ -2,7 +2,9 @@ package gov.noaa.pmel.sdimetadata.variable;
 
 import gov.noaa.pmel.sdimetadata.person.Person;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Information about a generic data variable in a dataset.
@@ -39,7 +41,7 @@ public class DataVar extends Variable implements Cloneable {
         duration = "";
         analysisTemperature = "";
         replication = "";
-        researcher = new Person();
+        researcher = readOnlyResearcher(null);
         instrumentNames = new HashSet<String>();
     }
 
@@ -61,7 +63,7 @@ public class DataVar extends Variable implements Cloneable {
             duration = other.duration;
             analysisTemperature = other.analysisTemperature;
             replication = other.replication;
-            researcher = other.researcher.clone();
+            researcher = other.researcher;
             instrumentNames = new HashSet<String>(other.instrumentNames);
         }
         else {
@@ -76,7 +78,7 @@ public class DataVar extends Variable implements Cloneable {
             duration = "";
             analysisTemperature = "";
             replication = "";
-            researcher = new Person();
+            researcher = readOnlyResearcher(null);
             instrumentNames = new HashSet<String>();
         }
     }
@@ -124,6 +126,7 @@ public class DataVar extends Variable implements Cloneable {
      *         assign as the observation type of this variable; if null, an empty string is assigned
      */
     public void setObserveType(String observeType) {
+        checkModifiable();
         this.observeType = (observeType != null) ? observeType.trim() : "";
     }
 
@@ -139,6 +142,7 @@ public class DataVar extends Variable implements Cloneable {
      *         assign as the method of measuring this variable; if null, {@link MethodType#UNSPECIFIED} is assigned
      */
     public void setMeasureMethod(MethodType measureMethod) {
+        checkModifiable();
         this.measureMethod = (measureMethod != null) ? measureMethod : MethodType.UNSPECIFIED;
     }
 
@@ -154,6 +158,7 @@ public class DataVar extends Variable implements Cloneable {
      *         assign as the method for computing this variable; if null, an empty string is assigned
      */
     public void setMethodDescription(String methodDescription) {
+        checkModifiable();
         this.methodDescription = (methodDescription != null) ? methodDescription.trim() : "";
     }
 
@@ -170,6 +175,7 @@ public class DataVar extends Variable implements Cloneable {
      *         if null, an empty string is assigned
      */
     public void setMethodReference(String methodReference) {
+        checkModifiable();
         this.methodReference = (methodReference != null) ? methodReference.trim() : "";
     }
 
@@ -186,6 +192,7 @@ public class DataVar extends Variable implements Cloneable {
      *         if null, an empty string is assigned
      */
     public void setManipulationDescription(String manipulationDescription) {
+        checkModifiable();
         this.manipulationDescription = (manipulationDescription != null) ? manipulationDescription.trim() : "";
     }
 
@@ -201,6 +208,7 @@ public class DataVar extends Variable implements Cloneable {
      *         assign as the sampling location for this variable; if null, an empty string is assigned
      */
     public void setSamplingLocation(String samplingLocation) {
+        checkModifiable();
         this.samplingLocation = (samplingLocation != null) ? samplingLocation.trim() : "";
     }
 
@@ -216,6 +224,7 @@ public class DataVar extends Variable implements Cloneable {
      *         assign as the sampling height / depth for this variable; if null, an empty string is assigned
      */
     public void setSamplingElevation(String samplingElevation) {
+        checkModifiable();
         this.samplingElevation = (samplingElevation != null) ? samplingElevation.trim() : "";
     }
 
@@ -232,6 +241,7 @@ public class DataVar extends Variable implements Cloneable {
      *         if null, an empty string is assigned
      */
     public void setStorageMethod(String storageMethod) {
+        checkModifiable();
         this.storageMethod = (storageMethod != null) ? storageMethod.trim() : "";
     }
 
@@ -248,6 +258,7 @@ public class DataVar extends Variable implements Cloneable {
      *         if null, an empty string is assigned
      */
     public void setDuration(String duration) {
+        checkModifiable();
         this.duration = (duration != null) ? duration.trim() : "";
     }
 
@@ -265,6 +276,7 @@ public class DataVar extends Variable implements Cloneable {
      *         if null or blank, an empty string is assigned
      */
     public void setAnalysisTemperature(String analysisTemperature) {
+        checkModifiable();
         this.analysisTemperature = (analysisTemperature != null) ? analysisTemperature.trim() : "";
     }
 
@@ -280,6 +292,7 @@ public class DataVar extends Variable implements Cloneable {
      *         assign as replication information about this variable; if null, an empty string is assigned
      */
     public void setReplication(String replication) {
+        checkModifiable();
         this.replication = (replication != null) ? replication.trim() : "";
     }
 
@@ -291,13 +304,22 @@ public class DataVar extends Variable implements Cloneable {
         return researcher.clone();
     }
 
+    /**
+     * @return the researcher without copying (see {@link #getResearcher()});
+     *         the object returned is read-only
+     */
+    public Person viewResearcher() {
+        return researcher;
+    }
+
     /**
      * @param researcher
      *         assign as the reference to the investigator responsible for obtaining this variable;
      *         if null, an invalid reference (a Person with all-empty fields) is assigned
      */
     public void setResearcher(Person researcher) {
-        this.researcher = (researcher != null) ? researcher.clone() : new Person();
+        checkModifiable();
+        this.researcher = readOnlyResearcher(researcher);
     }
 
     /**
@@ -308,6 +330,13 @@ public class DataVar extends Variable implements Cloneable {
         return new HashSet<String>(instrumentNames);
     }
 
+    /**
+     * @return an unmodifiable view of the set of names of instruments used (see {@link #getInstrumentNames()})
+     */
+    public Set<String> viewInstrumentNames() {
+        return Collections.unmodifiableSet(instrumentNames);
+    }
+
     /**
      * @param instrumentNames
      *         assign as the list of names of instruments used to sample or analyze this variable;
@@ -317,7 +346,8 @@ public class DataVar extends Variable implements Cloneable {
      *         if any analyzer name given is null or blank
      */
     public void setInstrumentNames(Iterable<String> instrumentNames) throws IllegalArgumentException {
-        this.instrumentNames.clear();
+        checkModifiable();
+        HashSet<String> newSet = new HashSet<String>();
         if ( instrumentNames != null ) {
             for (String name : instrumentNames) {
                 if ( name == null )
@@ -325,9 +355,25 @@ public class DataVar extends Variable implements Cloneable {
                 name = name.trim();
                 if ( name.isEmpty() )
                     throw new IllegalArgumentException("blank instrument name given");
-                this.instrumentNames.add(name);
+                newSet.add(name);
             }
         }
+        this.instrumentNames.clear();
+        this.instrumentNames.addAll(newSet);
+    }
+
+    /**
+     * @return a read-only copy of the given researcher; a read-only empty researcher if null
+     */
+    private static Person readOnlyResearcher(Person researcher) {
+        Person dup = (researcher != null) ? researcher.clone() : new Person();
+        dup.makeReadOnly();
+        return dup;
+    }
+
+    @Override
+    public <R> R accept(VariableVisitor<R> visitor) {
+        return visitor.visitDataVar(this);
     }
 
     @Override
@@ -344,7 +390,7 @@ public class DataVar extends Variable implements Cloneable {
         dup.duration = duration;
         dup.analysisTemperature = analysisTemperature;
         dup.replication = replication;
-        dup.researcher = researcher.clone();
+        dup.researcher = researcher;
         dup.instrumentNames = new HashSet<String>(instrumentNames);
         return dup;
     }
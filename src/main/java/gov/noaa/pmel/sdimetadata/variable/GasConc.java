@@ -47,6 +47,7 @@ public class GasConc extends DataVar implements Cloneable {
      *         assign as description of drying method used; if null, an empty string is assigned
      */
     public void setDryingMethod(String dryingMethod) {
+        checkModifiable();
         this.dryingMethod = (dryingMethod != null) ? dryingMethod.trim() : "";
     }
 
@@ -62,9 +63,15 @@ public class GasConc extends DataVar implements Cloneable {
      *         assign as water vapor corrections made; if null, an empty string is assigned
      */
     public void setWaterVaporCorrection(String waterVaporCorrection) {
+        checkModifiable();
         this.waterVaporCorrection = (waterVaporCorrection != null) ? waterVaporCorrection.trim() : "";
     }
 
+    @Override
+    public <R> R accept(VariableVisitor<R> visitor) {
+        return visitor.visitGasConc(this);
+    }
+
     @Override
     public GasConc clone() {
         GasConc dup = (GasConc) super.clone();
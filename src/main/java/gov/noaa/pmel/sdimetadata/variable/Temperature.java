@@ -16,8 +16,8 @@ public class Temperature extends DataVar implements Cloneable {
     public Temperature() {
         super();
         varUnit = DEGREES_CELSIUS_UNIT;
-        accuracy.setUnitString(DEGREES_CELSIUS_UNIT);
-        precision.setUnitString(DEGREES_CELSIUS_UNIT);
+        accuracy = accuracy.withUnitString(DEGREES_CELSIUS_UNIT);
+        precision = precision.withUnitString(DEGREES_CELSIUS_UNIT);
     }
 
     /**
@@ -29,13 +29,13 @@ public class Temperature extends DataVar implements Cloneable {
         if ( (var != null) && ( var instanceof Temperature) ) {
             Temperature temp = (Temperature) var;
             varUnit = temp.varUnit;
-            accuracy = temp.accuracy.clone();
-            precision = temp.precision.clone();
+            accuracy = temp.accuracy;
+            precision = temp.precision;
         }
         else {
             varUnit = DEGREES_CELSIUS_UNIT;
-            accuracy.setUnitString(DEGREES_CELSIUS_UNIT);
-            precision.setUnitString(DEGREES_CELSIUS_UNIT);
+            accuracy = accuracy.withUnitString(DEGREES_CELSIUS_UNIT);
+            precision = precision.withUnitString(DEGREES_CELSIUS_UNIT);
         }
     }
 
@@ -45,6 +45,7 @@ public class Temperature extends DataVar implements Cloneable {
      */
     @Override
     public void setVarUnit(String varUnit) {
+        checkModifiable();
         this.varUnit = (varUnit != null) ? varUnit.trim() : DEGREES_CELSIUS_UNIT;
         if ( this.varUnit.isEmpty() )
             this.varUnit = DEGREES_CELSIUS_UNIT;
@@ -60,11 +61,12 @@ public class Temperature extends DataVar implements Cloneable {
      */
     @Override
     public void setAccuracy(NumericString accuracy) throws IllegalArgumentException {
+        checkModifiable();
         if ( accuracy != null ) {
             super.setAccuracy(accuracy);
         }
         else
-            this.accuracy = new NumericString(null, DEGREES_CELSIUS_UNIT);
+            this.accuracy = NumericString.valueOf(null, DEGREES_CELSIUS_UNIT);
     }
 
     /**
@@ -77,11 +79,17 @@ public class Temperature extends DataVar implements Cloneable {
      */
     @Override
     public void setPrecision(NumericString precision) throws IllegalArgumentException {
+        checkModifiable();
         if ( precision != null ) {
             super.setPrecision(precision);
         }
         else
-            this.precision = new NumericString(null, DEGREES_CELSIUS_UNIT);
+            this.precision = NumericString.valueOf(null, DEGREES_CELSIUS_UNIT);
+    }
+
+    @Override
+    public <R> R accept(VariableVisitor<R> visitor) {
+        return visitor.visitTemperature(this);
     }
 
     @Override
@@ -3,7 +3,9 @@ package gov.noaa.pmel.sdimetadata.variable;
 import gov.noaa.pmel.sdimetadata.util.NumericString;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 /**
  * Basic variable information; is the base class for all variable types.
@@ -18,6 +20,7 @@ public class Variable implements Cloneable {
     protected NumericString accuracy;
     protected NumericString precision;
     protected ArrayList<String> addnInfo;
+    private boolean readOnly;
 
     /**
      * Create with all fields empty.
@@ -28,8 +31,8 @@ public class Variable implements Cloneable {
         varUnit = "";
         missVal = "";
         flagColName = "";
-        accuracy = new NumericString();
-        precision = new NumericString();
+        accuracy = NumericString.EMPTY;
+        precision = NumericString.EMPTY;
         addnInfo = new ArrayList<String>();
     }
 
@@ -45,8 +48,8 @@ public class Variable implements Cloneable {
             varUnit = var.varUnit;
             missVal = var.missVal;
             flagColName = var.flagColName;
-            accuracy = var.accuracy.clone();
-            precision = var.precision.clone();
+            accuracy = var.accuracy;
+            precision = var.precision;
             addnInfo = new ArrayList<String>(var.addnInfo);
         }
         else {
@@ -55,8 +58,8 @@ public class Variable implements Cloneable {
             varUnit = "";
             missVal = "";
             flagColName = "";
-            accuracy = new NumericString();
-            precision = new NumericString();
+            accuracy = NumericString.EMPTY;
+            precision = NumericString.EMPTY;
             addnInfo = new ArrayList<String>();
         }
     }
@@ -85,6 +88,7 @@ public class Variable implements Cloneable {
      *         assign as the column name of this variable; if null, an empty string is assigned
      */
     public void setColName(String colName) {
+        checkModifiable();
         this.colName = (colName != null) ? colName.trim() : "";
     }
 
@@ -100,6 +104,7 @@ public class Variable implements Cloneable {
      *         assign as the full name of this variable; if null, an empty string is assigned
      */
     public void setFullName(String fullName) {
+        checkModifiable();
         this.fullName = (fullName != null) ? fullName.trim() : "";
     }
 
@@ -116,6 +121,7 @@ public class Variable implements Cloneable {
      *         assign as the unit for values of this variable; if null, an empty string is assigned
      */
     public void setVarUnit(String varUnit) {
+        checkModifiable();
         this.varUnit = (varUnit != null) ? varUnit.trim() : "";
     }
 
@@ -133,6 +139,7 @@ public class Variable implements Cloneable {
      *         if null, an empty string is assigned (which should be interpreted as standard missing values)
      */
     public void setMissVal(String missVal) {
+        checkModifiable();
         this.missVal = (missVal != null) ? missVal.trim() : "";
     }
 
@@ -148,6 +155,7 @@ public class Variable implements Cloneable {
      *         assign as the type of QC flag for this variable; if null, an empty string is assigned
      */
     public void setFlagColName(String flagColName) {
+        checkModifiable();
         this.flagColName = (flagColName != null) ? flagColName.trim() : "";
     }
 
@@ -156,7 +164,7 @@ public class Variable implements Cloneable {
      *         If not an empty numeric string, guaranteed to represent a finite positive number.
      */
     public NumericString getAccuracy() {
-        return accuracy.clone();
+        return accuracy;
     }
 
     /**
@@ -168,14 +176,15 @@ public class Variable implements Cloneable {
      *         if a numeric string is given but is not a finite positive number
      */
     public void setAccuracy(NumericString accuracy) throws IllegalArgumentException {
+        checkModifiable();
         if ( accuracy != null ) {
             // Empty numeric strings return false
             if ( accuracy.isNonPositive() )
                 throw new IllegalArgumentException("accuracy numeric string given is not a finite positive number");
-            this.accuracy = accuracy.clone();
+            this.accuracy = accuracy;
         }
         else
-            this.accuracy = new NumericString();
+            this.accuracy = NumericString.EMPTY;
     }
 
     /**
@@ -183,7 +192,7 @@ public class Variable implements Cloneable {
      *         If not an empty numeric string, guaranteed to represent a finite positive number.
      */
     public NumericString getPrecision() {
-        return precision.clone();
+        return precision;
     }
 
     /**
@@ -195,14 +204,15 @@ public class Variable implements Cloneable {
      *         if a numeric string is given but is not a finite positive number
      */
     public void setPrecision(NumericString precision) {
+        checkModifiable();
         if ( precision != null ) {
             // Empty numeric strings return false
             if ( precision.isNonPositive() )
                 throw new IllegalArgumentException("precision numeric string given is not a finite positive number");
-            this.precision = precision.clone();
+            this.precision = precision;
         }
         else
-            this.precision = new NumericString();
+            this.precision = NumericString.EMPTY;
     }
 
     /**
@@ -213,6 +223,13 @@ public class Variable implements Cloneable {
         return new ArrayList<String>(addnInfo);
     }
 
+    /**
+     * @return an unmodifiable view of the list of additional information strings (see {@link #getAddnInfo()})
+     */
+    public List<String> viewAddnInfo() {
+        return Collections.unmodifiableList(addnInfo);
+    }
+
     /**
      * @param addnInfo
      *         assign as the list of additional information strings; if null, an empty list is assigned
@@ -221,7 +238,8 @@ public class Variable implements Cloneable {
      *         if any information string given is null or blank
      */
     public void setAddnInfo(Iterable<String> addnInfo) throws IllegalArgumentException {
-        this.addnInfo.clear();
+        checkModifiable();
+        ArrayList<String> newList = new ArrayList<String>();
         if ( addnInfo != null ) {
             for (String info : addnInfo) {
                 if ( info == null )
@@ -229,9 +247,47 @@ public class Variable implements Cloneable {
                 info = info.trim();
                 if ( info.isEmpty() )
                     throw new IllegalArgumentException("blank information string given");
-                this.addnInfo.add(info);
+                newList.add(info);
             }
         }
+        this.addnInfo.clear();
+        this.addnInfo.addAll(newList);
+    }
+
+    /**
+     * Call the visitor method for the type of this variable with this variable.
+     *
+     * @param visitor
+     *         visit this variable with this visitor
+     *
+     * @return the value returned by the visitor method
+     */
+    public <R> R accept(VariableVisitor<R> visitor) {
+        return visitor.visitVariable(this);
+    }
+
+    /**
+     * Make this variable read-only, so the setters throw an UnsupportedOperationException.  A read-only variable
+     * can be shared instead of copied; copies made by {@link #clone()} are not read-only.
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return whether this variable is read-only (see {@link #makeReadOnly()})
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *         if this variable is read-only
+     */
+    protected void checkModifiable() throws UnsupportedOperationException {
+        if ( readOnly )
+            throw new UnsupportedOperationException("read-only " + getClass().getSimpleName() + " cannot be modified");
     }
 
     @Override
@@ -242,13 +298,12 @@ public class Variable implements Cloneable {
         } catch ( CloneNotSupportedException ex ) {
             throw new RuntimeException(ex);
         }
+        dup.readOnly = false;
         dup.colName = colName;
         dup.fullName = fullName;
         dup.varUnit = varUnit;
         dup.missVal = missVal;
         dup.flagColName = flagColName;
-        dup.accuracy = accuracy.clone();
-        dup.precision = precision.clone();
         dup.addnInfo = new ArrayList<String>(addnInfo);
         return dup;
     }
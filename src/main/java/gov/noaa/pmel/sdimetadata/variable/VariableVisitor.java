@@ -0,0 +1,70 @@
+package gov.noaa.pmel.sdimetadata.variable;
+
+/**
+ * Operation on variables that depends on the type of variable.  A variable calls the visit method for its own type
+ * from {@link Variable#accept(VariableVisitor)}, so a visitor handles each type of variable explicitly instead of
+ * testing the type of each variable.  A visit method for a subtype may call the visit method for its supertype to
+ * perform the operation for the supertype fields.
+ *
+ * @param <R>
+ *         type of the value returned by the visit methods; use {@link Void} if nothing is returned
+ */
+public interface VariableVisitor<R> {
+
+    /**
+     * @param var
+     *         variable that is not one of the more specific types of variables
+     *
+     * @return the result of the operation on the variable
+     */
+    R visitVariable(Variable var);
+
+    /**
+     * @param var
+     *         data variable that is not one of the more specific types of data variables
+     *
+     * @return the result of the operation on the data variable
+     */
+    R visitDataVar(DataVar var);
+
+    /**
+     * @param var
+     *         air pressure variable
+     *
+     * @return the result of the operation on the air pressure variable
+     */
+    R visitAirPressure(AirPressure var);
+
+    /**
+     * @param var
+     *         temperature variable
+     *
+     * @return the result of the operation on the temperature variable
+     */
+    R visitTemperature(Temperature var);
+
+    /**
+     * @param var
+     *         biological data variable
+     *
+     * @return the result of the operation on the biological data variable
+     */
+    R visitBioDataVar(BioDataVar var);
+
+    /**
+     * @param var
+     *         gas concentration variable that is not an aqueous gas concentration
+     *
+     * @return the result of the operation on the gas concentration variable
+     */
+    R visitGasConc(GasConc var);
+
+    /**
+     * @param var
+     *         aqueous gas concentration variable
+     *
+     * @return the result of the operation on the aqueous gas concentration variable
+     */
+    R visitAquGasConc(AquGasConc var);
+
+}
@@ -0,0 +1,38 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import java.util.List;
+
+/**
+ * Read-only access to the text of elements in CDIAC XML content, either for the whole document or for one of the
+ * repeated (list) elements in the document.  Element path names are always given as full path names from the root
+ * element, with element names in the path separated by {@link DocumentHandler#SEP}.  As with {@link DocumentHandler},
+ * the first element with the given name is used at each step of the path.
+ */
+interface CdiacContent {
+
+    /**
+     * @return trimmed text of this element; never null but may be empty
+     */
+    String getText();
+
+    /**
+     * @param fullElementName
+     *         path from the root element, through this element if this is a list element, to the desired element
+     *         containing the text; cannot be null or blank
+     *
+     * @return trimmed text of the specified element; an empty string is returned
+     *         if the element is not found or if the element does not contain text
+     */
+    String getElementText(String fullElementName);
+
+    /**
+     * @param fullElementName
+     *         path from the root element, through this element if this is a list element, to the desired list
+     *         elements; cannot be null or blank
+     *
+     * @return content of all the elements matching the path; an empty list is returned if no elements matching
+     *         the path are found
+     */
+    List<CdiacContent> getElementList(String fullElementName);
+
+}
@@ -0,0 +1,49 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import org.jdom2.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CDIAC XML content from an element of a JDOM document held by a {@link DocumentHandler}.
+ */
+final class CdiacElementContent implements CdiacContent {
+
+    private final DocumentHandler handler;
+    private final Element element;
+
+    /**
+     * @param handler
+     *         handler for the JDOM document containing the element; cannot be null
+     * @param element
+     *         element providing the content; if null, the root element of the document
+     */
+    CdiacElementContent(DocumentHandler handler, Element element) {
+        this.handler = handler;
+        this.element = element;
+    }
+
+    @Override
+    public String getText() {
+        if ( element == null )
+            return handler.rootElement.getTextTrim();
+        return element.getTextTrim();
+    }
+
+    @Override
+    public String getElementText(String fullElementName) {
+        return handler.getElementText(element, fullElementName);
+    }
+
+    @Override
+    public List<CdiacContent> getElementList(String fullElementName) {
+        List<Element> elemList = handler.getElementList(element, fullElementName);
+        ArrayList<CdiacContent> contentList = new ArrayList<CdiacContent>(elemList.size());
+        for (Element elem : elemList) {
+            contentList.add(new CdiacElementContent(handler, elem));
+        }
+        return contentList;
+    }
+
+}
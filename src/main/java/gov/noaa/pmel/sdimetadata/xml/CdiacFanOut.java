@@ -0,0 +1,149 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import gov.noaa.pmel.sdimetadata.MetadataSink;
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.SDIMetadataView;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Creates the metadata of CDIAC XML content once and gives it to any number of sinks, such as an OcadsWriter sink,
+ * a search index, and a report, so that each output does not read the CDIAC XML again.  If an executor is given,
+ * the sinks consume the metadata concurrently using the executor; otherwise the sinks consume the metadata one
+ * after another in the calling thread.
+ * <p>
+ * Instances may be shared between threads if the sinks given may be.
+ */
+public final class CdiacFanOut {
+
+    private final List<MetadataSink> sinks;
+    private final ExecutorService executor;
+
+    /**
+     * @param sinks
+     *         give the metadata to these sinks; cannot be null or contain null
+     * @param executor
+     *         run the sinks concurrently using this executor; if null, the sinks are run in the calling thread
+     *
+     * @throws IllegalArgumentException
+     *         if the sinks given is null or contains null
+     */
+    public CdiacFanOut(List<? extends MetadataSink> sinks, ExecutorService executor)
+            throws IllegalArgumentException {
+        if ( sinks == null )
+            throw new IllegalArgumentException("null sinks given");
+        ArrayList<MetadataSink> sinkList = new ArrayList<MetadataSink>(sinks.size());
+        for (MetadataSink sink : sinks) {
+            if ( sink == null )
+                throw new IllegalArgumentException("null sink given");
+            sinkList.add(sink);
+        }
+        this.sinks = Collections.unmodifiableList(sinkList);
+        this.executor = executor;
+    }
+
+    /**
+     * @return an unmodifiable list of the sinks given the metadata; never null but may be empty
+     */
+    public List<MetadataSink> getSinks() {
+        return sinks;
+    }
+
+    /**
+     * Create the metadata from the given CDIAC reader and give it to each of the sinks.
+     *
+     * @param cdiacReader
+     *         create the metadata using this reader
+     *
+     * @return the metadata created, which was given to all the sinks
+     *
+     * @throws IOException
+     *         if any sink throws one; see {@link #publish(SDIMetadataView)}
+     */
+    public SDIMetadata convert(CdiacReader cdiacReader) throws IOException {
+        SDIMetadata mdata = cdiacReader.createSDIMetadata();
+        publish(mdata);
+        return mdata;
+    }
+
+    /**
+     * Give the metadata to each of the sinks, and wait for all of them to finish.  Every sink is given the metadata
+     * even if another sink fails.  If any sinks fail, the exception thrown by the first of these sinks is thrown,
+     * with the exceptions thrown by the other sinks added as suppressed exceptions.  The metadata must not be
+     * modified until this method returns.
+     *
+     * @param mdata
+     *         give this metadata to the sinks
+     *
+     * @throws IOException
+     *         if a sink throws one, or if interrupted while waiting for the sinks (InterruptedIOException)
+     */
+    public void publish(final SDIMetadataView mdata) throws IOException {
+        Throwable failure = null;
+        if ( executor == null ) {
+            for (MetadataSink sink : sinks) {
+                try {
+                    sink.consume(mdata);
+                } catch ( IOException | RuntimeException ex ) {
+                    failure = addFailure(failure, ex);
+                }
+            }
+        }
+        else {
+            ArrayList<Future<Void>> futures = new ArrayList<Future<Void>>(sinks.size());
+            for (final MetadataSink sink : sinks) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws IOException {
+                        sink.consume(mdata);
+                        return null;
+                    }
+                }));
+            }
+            for (int k = 0; k < futures.size(); k++) {
+                try {
+                    futures.get(k).get();
+                } catch ( ExecutionException ex ) {
+                    failure = addFailure(failure, ex.getCause());
+                } catch ( InterruptedException ex ) {
+                    for (Future<Void> future : futures.subList(k, futures.size())) {
+                        future.cancel(true);
+                    }
+                    Thread.currentThread().interrupt();
+                    InterruptedIOException intEx =
+                            new InterruptedIOException("interrupted while waiting for the sinks to finish");
+                    if ( failure != null )
+                        intEx.addSuppressed(failure);
+                    throw intEx;
+                }
+            }
+        }
+        if ( failure instanceof IOException )
+            throw (IOException) failure;
+        if ( failure instanceof RuntimeException )
+            throw (RuntimeException) failure;
+        if ( failure instanceof Error )
+            throw (Error) failure;
+        if ( failure != null )
+            throw new IOException(failure);
+    }
+
+    /**
+     * @return the first failure, with the new failure added as suppressed if there was already a first failure
+     */
+    private static Throwable addFailure(Throwable first, Throwable failure) {
+        if ( first == null )
+            return failure;
+        first.addSuppressed(failure);
+        return first;
+    }
+
+}
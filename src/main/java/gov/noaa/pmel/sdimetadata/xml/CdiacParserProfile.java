@@ -0,0 +1,266 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import org.jdom2.SlimJDOMFactory;
+import org.jdom2.input.SAXBuilder;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for parsing CDIAC XML.  External entities (including an external DTD, if loaded) are never fetched
+ * from the network or the file system; they are only resolved from an in-memory catalog of entity contents keyed
+ * by public or system ID, and resolve to empty content if not in the catalog.  Loading of an external DTD is
+ * disabled by default.  The number of entity expansions and the number of characters in a document (and in all
+ * entity expansions of a document) are limited, so the time needed to parse a document is bounded.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ */
+public final class CdiacParserProfile {
+
+    /**
+     * Default maximum number of entity expansions in a document
+     */
+    public static final int DEFAULT_MAX_ENTITY_EXPANSIONS = 1000;
+
+    /**
+     * Default maximum number of characters in a document
+     */
+    public static final long DEFAULT_MAX_DOCUMENT_CHARS = 16L * 1024L * 1024L;
+
+    private static final String LOAD_EXTERNAL_DTD_FEATURE =
+            "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+    private static final String IGNORE_EXTERNAL_DTD_PROPERTY =
+            "http://java.sun.com/xml/stream/properties/ignore-external-dtd";
+    private static final String ENTITY_EXPANSION_LIMIT_PROPERTY =
+            "http://www.oracle.com/xml/jaxp/properties/entityExpansionLimit";
+    private static final String TOTAL_ENTITY_SIZE_LIMIT_PROPERTY =
+            "http://www.oracle.com/xml/jaxp/properties/totalEntitySizeLimit";
+
+    private static final CdiacParserProfile DEFAULT = new CdiacParserProfile(false, null,
+            DEFAULT_MAX_ENTITY_EXPANSIONS, DEFAULT_MAX_DOCUMENT_CHARS);
+
+    private final boolean loadExternalDtd;
+    private final Map<String,String> catalog;
+    private final int maxEntityExpansions;
+    private final long maxDocumentChars;
+
+    /**
+     * @param loadExternalDtd
+     *         load the external DTD of a document? (resolved only from the catalog)
+     * @param catalog
+     *         contents of external entities keyed by public or system ID; can be null.
+     *         A copy of this map is made, so later changes to the map have no effect on this profile.
+     * @param maxEntityExpansions
+     *         maximum number of entity expansions in a document; must be positive
+     * @param maxDocumentChars
+     *         maximum number of characters in a document, and in all entity expansions of a document;
+     *         must be positive
+     *
+     * @throws IllegalArgumentException
+     *         if either maximum is not positive, or if the catalog contains a null ID or content
+     */
+    public CdiacParserProfile(boolean loadExternalDtd, Map<String,String> catalog, int maxEntityExpansions,
+            long maxDocumentChars) throws IllegalArgumentException {
+        if ( maxEntityExpansions <= 0 )
+            throw new IllegalArgumentException("maximum number of entity expansions is not positive");
+        if ( maxDocumentChars <= 0L )
+            throw new IllegalArgumentException("maximum number of document characters is not positive");
+        HashMap<String,String> catalogCopy = new HashMap<String,String>();
+        if ( catalog != null ) {
+            for (Map.Entry<String,String> entry : catalog.entrySet()) {
+                if ( (entry.getKey() == null) || (entry.getValue() == null) )
+                    throw new IllegalArgumentException("null ID or content in the entity catalog");
+                catalogCopy.put(entry.getKey(), entry.getValue());
+            }
+        }
+        this.loadExternalDtd = loadExternalDtd;
+        this.catalog = Collections.unmodifiableMap(catalogCopy);
+        this.maxEntityExpansions = maxEntityExpansions;
+        this.maxDocumentChars = maxDocumentChars;
+    }
+
+    /**
+     * @return the default profile: external DTDs are not loaded, the catalog is empty,
+     *         and the default maximums are used
+     */
+    public static CdiacParserProfile getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return if the external DTD of a document is loaded
+     */
+    public boolean isLoadExternalDtd() {
+        return loadExternalDtd;
+    }
+
+    /**
+     * @return an unmodifiable map of external entity contents keyed by public or system ID; never null but may be empty
+     */
+    public Map<String,String> getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * @return the maximum number of entity expansions in a document
+     */
+    public int getMaxEntityExpansions() {
+        return maxEntityExpansions;
+    }
+
+    /**
+     * @return the maximum number of characters in a document
+     */
+    public long getMaxDocumentChars() {
+        return maxDocumentChars;
+    }
+
+    /**
+     * @param reader
+     *         reader to limit; cannot be null
+     *
+     * @return a reader that reads from the given reader, but throws an IOException if more than
+     *         {@link #getMaxDocumentChars()} characters are read
+     */
+    public Reader limitReader(Reader reader) {
+        return new LimitedReader(reader, maxDocumentChars);
+    }
+
+    /**
+     * Create a SAXBuilder configured with the settings of this profile.  The documents built only contain the content
+     * used by a CdiacReader: comments, processing instructions, and whitespace-only text of elements without other text
+     * are discarded (the trimmed text of every element is unchanged), and names are interned.  The builder is not
+     * thread-safe.
+     *
+     * @return a new SAXBuilder configured with the settings of this profile
+     */
+    public SAXBuilder createSAXBuilder() {
+        SAXBuilder builder = new SAXBuilder();
+        builder.setJDOMFactory(new SlimJDOMFactory(false));
+        builder.setSAXHandlerFactory(CdiacSAXHandler.FACTORY);
+        builder.setFeature(LOAD_EXTERNAL_DTD_FEATURE, loadExternalDtd);
+        builder.setProperty(ENTITY_EXPANSION_LIMIT_PROPERTY, Integer.toString(maxEntityExpansions));
+        builder.setProperty(TOTAL_ENTITY_SIZE_LIMIT_PROPERTY, Integer.toString(getEntitySizeLimit()));
+        builder.setEntityResolver(new EntityResolver() {
+            @Override
+            public InputSource resolveEntity(String publicId, String systemId) {
+                InputSource source = new InputSource(new StringReader(getCatalogContent(publicId, systemId)));
+                source.setPublicId(publicId);
+                source.setSystemId(systemId);
+                return source;
+            }
+        });
+        return builder;
+    }
+
+    /**
+     * @return a new XMLInputFactory configured with the settings of this profile
+     */
+    public XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        if ( factory.isPropertySupported(IGNORE_EXTERNAL_DTD_PROPERTY) )
+            factory.setProperty(IGNORE_EXTERNAL_DTD_PROPERTY, !loadExternalDtd);
+        if ( factory.isPropertySupported(ENTITY_EXPANSION_LIMIT_PROPERTY) )
+            factory.setProperty(ENTITY_EXPANSION_LIMIT_PROPERTY, Integer.toString(maxEntityExpansions));
+        if ( factory.isPropertySupported(TOTAL_ENTITY_SIZE_LIMIT_PROPERTY) )
+            factory.setProperty(TOTAL_ENTITY_SIZE_LIMIT_PROPERTY, Integer.toString(getEntitySizeLimit()));
+        factory.setXMLResolver(new XMLResolver() {
+            @Override
+            public Object resolveEntity(String publicId, String systemId, String baseURI, String namespace) {
+                // Content as an InputStream as not all implementations accept a Reader
+                String content = getCatalogContent(publicId, systemId);
+                return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        return factory;
+    }
+
+    /**
+     * @param xmlReader
+     *         read the XML from here; cannot be null
+     *
+     * @return a stream reader of the XML, limited to {@link #getMaxDocumentChars()} characters,
+     *         from a factory created by {@link #createXMLInputFactory()}
+     *
+     * @throws XMLStreamException
+     *         if the stream reader cannot be created
+     */
+    public XMLStreamReader createXMLStreamReader(Reader xmlReader) throws XMLStreamException {
+        return createXMLInputFactory().createXMLStreamReader(limitReader(xmlReader));
+    }
+
+    /**
+     * @return the content in the catalog for the public ID, or if not present, for the system ID;
+     *         an empty string if neither are in the catalog
+     */
+    private String getCatalogContent(String publicId, String systemId) {
+        String content = null;
+        if ( publicId != null )
+            content = catalog.get(publicId);
+        if ( (content == null) && (systemId != null) )
+            content = catalog.get(systemId);
+        if ( content == null )
+            content = "";
+        return content;
+    }
+
+    /**
+     * @return the limit on the total size of entity expansions, which cannot exceed the maximum int value
+     */
+    private int getEntitySizeLimit() {
+        return (int) Math.min(maxDocumentChars, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj )
+            return true;
+        if ( !(obj instanceof CdiacParserProfile) )
+            return false;
+
+        CdiacParserProfile other = (CdiacParserProfile) obj;
+
+        if ( loadExternalDtd != other.loadExternalDtd )
+            return false;
+        if ( maxEntityExpansions != other.maxEntityExpansions )
+            return false;
+        if ( maxDocumentChars != other.maxDocumentChars )
+            return false;
+        if ( !catalog.equals(other.catalog) )
+            return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 37;
+        int result = Boolean.valueOf(loadExternalDtd).hashCode();
+        result = result * prime + catalog.hashCode();
+        result = result * prime + maxEntityExpansions;
+        result = result * prime + Long.valueOf(maxDocumentChars).hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CdiacParserProfile{" +
+                "loadExternalDtd=" + loadExternalDtd +
+                ", catalog=" + catalog.keySet() +
+                ", maxEntityExpansions=" + maxEntityExpansions +
+                ", maxDocumentChars=" + maxDocumentChars +
+                '}';
+    }
+
+}
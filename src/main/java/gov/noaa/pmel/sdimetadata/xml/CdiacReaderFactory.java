@@ -0,0 +1,122 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import org.jdom2.input.SAXBuilder;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+
+/**
+ * Creates CdiacReader objects using pre-configured parsers.  Creating a CdiacReader directly configures a new
+ * parser for each document, which is a significant part of the time needed to read a small document.  A factory
+ * instead keeps a parser configured by its parser profile for each thread using the factory, and reuses that parser
+ * for every document read by that thread.
+ * <p>
+ * Instances may be shared between threads.  Parsers are confined to the thread that created them, so documents
+ * may be read concurrently.
+ */
+public final class CdiacReaderFactory {
+
+    private static final CdiacReaderFactory DEFAULT = new CdiacReaderFactory(null, null);
+
+    private final CdiacParserProfile profile;
+    private final ColumnTypeClassifier classifier;
+    private final ThreadLocal<SAXBuilder> builders;
+    private final ThreadLocal<XMLInputFactory> inputFactories;
+
+    /**
+     * @param profile
+     *         settings for parsing the XML; if null, the default profile is used
+     * @param classifier
+     *         classifier of variable column names to variable types; if null, the default classifier is used
+     */
+    public CdiacReaderFactory(CdiacParserProfile profile, ColumnTypeClassifier classifier) {
+        this.profile = (profile != null) ? profile : CdiacParserProfile.getDefault();
+        this.classifier = (classifier != null) ? classifier : ColumnTypeClassifier.getDefault();
+        builders = new ThreadLocal<SAXBuilder>() {
+            @Override
+            protected SAXBuilder initialValue() {
+                SAXBuilder builder = CdiacReaderFactory.this.profile.createSAXBuilder();
+                builder.setReuseParser(true);
+                return builder;
+            }
+        };
+        inputFactories = new ThreadLocal<XMLInputFactory>() {
+            @Override
+            protected XMLInputFactory initialValue() {
+                return CdiacReaderFactory.this.profile.createXMLInputFactory();
+            }
+        };
+    }
+
+    /**
+     * @return the factory using the default parser profile and the default column name classifier
+     */
+    public static CdiacReaderFactory getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return the parser profile used by this factory
+     */
+    public CdiacParserProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return the column name classifier given to the readers created by this factory
+     */
+    public ColumnTypeClassifier getClassifier() {
+        return classifier;
+    }
+
+    /**
+     * Create a reader of CDIAC XML content; equivalent to
+     * {@link CdiacReader#CdiacReader(CdiacParserProfile, ColumnTypeClassifier, Reader)}
+     * with the profile and classifier of this factory.
+     *
+     * @param xmlReader
+     *         read the CDIAC XML from here; this reader is not closed
+     *
+     * @return the CDIAC reader for the XML content
+     *
+     * @throws IllegalArgumentException
+     *         if there is a problem interpreting the XML read, or if the XML exceeds the limits of the profile
+     */
+    public CdiacReader createReader(Reader xmlReader) throws IllegalArgumentException {
+        return new CdiacReader(classifier, CdiacReader.buildDocument(profile, builders.get(), xmlReader));
+    }
+
+    /**
+     * Create a reader of CDIAC XML content that does not build a JDOM document; equivalent to
+     * {@link CdiacReader#CdiacReader(ColumnTypeClassifier, XMLStreamReader)} with the classifier of this
+     * factory and a stream reader created as specified by the profile of this factory.
+     *
+     * @param xmlReader
+     *         read the CDIAC XML from here; this reader is not closed
+     *
+     * @return the CDIAC reader for the XML content
+     *
+     * @throws IllegalArgumentException
+     *         if there is a problem interpreting the XML read, or if the XML exceeds the limits of the profile
+     */
+    public CdiacReader createStreamingReader(Reader xmlReader) throws IllegalArgumentException {
+        XMLStreamReader streamReader;
+        try {
+            streamReader = inputFactories.get().createXMLStreamReader(profile.limitReader(xmlReader));
+        } catch ( XMLStreamException ex ) {
+            throw new IllegalArgumentException("Problems interpreting the XML contents: " + ex.getMessage());
+        }
+        try {
+            return new CdiacReader(classifier, streamReader);
+        } finally {
+            try {
+                streamReader.close();
+            } catch ( XMLStreamException ex ) {
+                // Ignore - does not close the underlying reader
+            }
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import org.jdom2.Content;
+import org.jdom2.Element;
+import org.jdom2.JDOMFactory;
+import org.jdom2.Text;
+import org.jdom2.input.sax.SAXHandler;
+import org.jdom2.input.sax.SAXHandlerFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * SAX handler building a JDOM document with only the content used by a CdiacReader.  Comments and processing
+ * instructions are discarded, and text consisting only of whitespace is removed from any element without other
+ * text.  Since element text is only ever used trimmed, the trimmed text of every element is unchanged.
+ */
+final class CdiacSAXHandler extends SAXHandler {
+
+    /**
+     * Factory creating CdiacSAXHandler objects; may be shared between threads
+     */
+    static final SAXHandlerFactory FACTORY = new SAXHandlerFactory() {
+        @Override
+        public SAXHandler createSAXHandler(JDOMFactory factory) {
+            return new CdiacSAXHandler(factory);
+        }
+    };
+
+    private CdiacSAXHandler(JDOMFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    public void processingInstruction(String target, String data) {
+        // Discard
+    }
+
+    @Override
+    public void comment(char[] ch, int start, int length) {
+        // Discard
+    }
+
+    @Override
+    public void endElement(String namespaceURI, String localName, String qName) throws SAXException {
+        // Add any pending text to the element before examining its text content
+        flushCharacters();
+        removeWhitespaceText(getCurrentElement());
+        super.endElement(namespaceURI, localName, qName);
+    }
+
+    /**
+     * Remove all the text content of the given element if that text is only whitespace.
+     */
+    private static void removeWhitespaceText(Element element) {
+        int size = element.getContentSize();
+        boolean hasText = false;
+        for (int k = 0; k < size; k++) {
+            Content child = element.getContent(k);
+            if ( child instanceof Text ) {
+                if ( !isWhitespace(((Text) child).getText()) )
+                    return;
+                hasText = true;
+            }
+        }
+        if ( !hasText )
+            return;
+        for (int k = size - 1; k >= 0; k--) {
+            if ( element.getContent(k) instanceof Text )
+                element.removeContent(k);
+        }
+    }
+
+    /**
+     * @return if the given string is empty after trimming
+     */
+    private static boolean isWhitespace(String text) {
+        for (int k = 0; k < text.length(); k++) {
+            if ( text.charAt(k) > ' ' )
+                return false;
+        }
+        return true;
+    }
+
+}
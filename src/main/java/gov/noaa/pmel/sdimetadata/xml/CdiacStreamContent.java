@@ -0,0 +1,194 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CDIAC XML content recorded in a single forward pass over an XML stream.  Only the text of elements that can be
+ * reached by following the first element with a given name at each step of a path (as done by {@link
+ * DocumentHandler}) is recorded, as well as the content of each element of a specified set of list elements.
+ * No document tree is created.
+ */
+final class CdiacStreamContent implements CdiacContent {
+
+    /**
+     * Information about an element currently open in the XML stream
+     */
+    private static final class Frame {
+        /**
+         * full path name of this element; null if the content of this element is not recorded
+         */
+        final String path;
+        /**
+         * content objects recording the text of this element and its descendants; never null but may be empty
+         */
+        final List<CdiacStreamContent> targets;
+        /**
+         * names of child elements already seen; created when first needed
+         */
+        HashSet<String> childNames;
+        /**
+         * direct text of this element; created when first needed
+         */
+        StringBuilder text;
+
+        Frame(String path, List<CdiacStreamContent> targets) {
+            this.path = path;
+            this.targets = targets;
+            this.childNames = null;
+            this.text = null;
+        }
+    }
+
+    private static final Frame SKIPPED_FRAME = new Frame(null, Collections.<CdiacStreamContent>emptyList());
+
+    private final String path;
+    private final HashMap<String,String> textMap;
+    private final HashMap<String,List<CdiacContent>> listMap;
+    private String text;
+
+    /**
+     * @param path
+     *         full path name of the element for this content; an empty string for the document
+     */
+    private CdiacStreamContent(String path) {
+        this.path = path;
+        textMap = new HashMap<String,String>();
+        listMap = new HashMap<String,List<CdiacContent>>();
+        text = "";
+    }
+
+    /**
+     * Read XML from the given stream reader and record the content of the document.  Only elements without a
+     * namespace (other than the root element) are recorded, matching element lookups in {@link DocumentHandler}.
+     * The stream reader is read to the end of the document but is not closed.
+     *
+     * @param xmlReader
+     *         read the XML from here; cannot be null
+     * @param listElementNames
+     *         full path names of list elements whose content should be recorded; cannot be null
+     *
+     * @return the recorded content of the document; never null
+     *
+     * @throws XMLStreamException
+     *         if there are problems reading the XML
+     * @throws IllegalArgumentException
+     *         if no root element is found
+     */
+    static CdiacStreamContent read(XMLStreamReader xmlReader, Set<String> listElementNames)
+            throws XMLStreamException, IllegalArgumentException {
+        CdiacStreamContent docContent = null;
+        ArrayList<Frame> stack = new ArrayList<Frame>();
+        int event = xmlReader.getEventType();
+        while ( true ) {
+            switch ( event ) {
+                case XMLStreamConstants.START_ELEMENT: {
+                    if ( docContent == null ) {
+                        docContent = new CdiacStreamContent("");
+                        stack.add(new Frame("", Collections.singletonList(docContent)));
+                        break;
+                    }
+                    Frame parent = stack.get(stack.size() - 1);
+                    String nsUri = xmlReader.getNamespaceURI();
+                    if ( parent.targets.isEmpty() || ((nsUri != null) && !nsUri.isEmpty()) ) {
+                        stack.add(SKIPPED_FRAME);
+                        break;
+                    }
+                    String name = xmlReader.getLocalName();
+                    if ( parent.childNames == null )
+                        parent.childNames = new HashSet<String>();
+                    boolean first = parent.childNames.add(name);
+                    String fullName = parent.path.isEmpty() ? name : parent.path + DocumentHandler.SEP + name;
+                    List<CdiacStreamContent> targets;
+                    if ( listElementNames.contains(fullName) ) {
+                        CdiacStreamContent item = new CdiacStreamContent(fullName);
+                        for (CdiacStreamContent target : parent.targets) {
+                            List<CdiacContent> itemList = target.listMap.get(fullName);
+                            if ( itemList == null ) {
+                                itemList = new ArrayList<CdiacContent>();
+                                target.listMap.put(fullName, itemList);
+                            }
+                            itemList.add(item);
+                        }
+                        targets = new ArrayList<CdiacStreamContent>(parent.targets.size() + 1);
+                        if ( first )
+                            targets.addAll(parent.targets);
+                        targets.add(item);
+                    }
+                    else if ( first )
+                        targets = parent.targets;
+                    else {
+                        stack.add(SKIPPED_FRAME);
+                        break;
+                    }
+                    stack.add(new Frame(fullName, targets));
+                    break;
+                }
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE: {
+                    if ( stack.isEmpty() )
+                        break;
+                    Frame frame = stack.get(stack.size() - 1);
+                    if ( frame.targets.isEmpty() )
+                        break;
+                    if ( frame.text == null )
+                        frame.text = new StringBuilder();
+                    frame.text.append(xmlReader.getTextCharacters(), xmlReader.getTextStart(),
+                            xmlReader.getTextLength());
+                    break;
+                }
+                case XMLStreamConstants.END_ELEMENT: {
+                    Frame frame = stack.remove(stack.size() - 1);
+                    if ( frame.targets.isEmpty() )
+                        break;
+                    String trimmed = (frame.text != null) ? frame.text.toString().trim() : "";
+                    for (CdiacStreamContent target : frame.targets) {
+                        if ( target.path.equals(frame.path) )
+                            target.text = trimmed;
+                        else
+                            target.textMap.put(frame.path, trimmed);
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+            if ( !xmlReader.hasNext() )
+                break;
+            event = xmlReader.next();
+        }
+        if ( docContent == null )
+            throw new IllegalArgumentException("No root element found");
+        return docContent;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String getElementText(String fullElementName) {
+        String value = textMap.get(fullElementName);
+        if ( value == null )
+            return "";
+        return value;
+    }
+
+    @Override
+    public List<CdiacContent> getElementList(String fullElementName) {
+        List<CdiacContent> itemList = listMap.get(fullElementName);
+        if ( itemList == null )
+            return new ArrayList<CdiacContent>(0);
+        return new ArrayList<CdiacContent>(itemList);
+    }
+
+}
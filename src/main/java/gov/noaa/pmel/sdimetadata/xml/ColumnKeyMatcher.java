@@ -0,0 +1,291 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader.VarType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled matcher of variable column names to variable types.  Column names are normalized to a key by removing
+ * anything not alphanumeric and converting to lowercase; the key is then matched against a set of rules.  A rule
+ * is a key that may contain '*' wildcards, each of which matches any sequence (possibly empty) of key characters.
+ * A rule without wildcards (a literal rule) takes precedence over rules with wildcards; among rules with wildcards,
+ * the first rule given takes precedence.
+ * <p>
+ * The rules are compiled into a deterministic finite automaton, so a column name is normalized and matched in a
+ * single pass over its characters without allocating any objects (unless the column name contains non-ASCII
+ * characters).  Instances are immutable and may be shared between threads.
+ */
+final class ColumnKeyMatcher {
+
+    /**
+     * Number of characters that can appear in a key: the digits followed by the lowercase letters
+     */
+    private static final int ALPHABET_SIZE = 36;
+
+    /**
+     * Symbol (index into the alphabet) for each ASCII character; -1 for characters removed in normalization
+     */
+    private static final int[] ASCII_SYMBOLS = new int[128];
+
+    static {
+        Arrays.fill(ASCII_SYMBOLS, -1);
+        for (char chr = '0'; chr <= '9'; chr++) {
+            ASCII_SYMBOLS[chr] = chr - '0';
+        }
+        for (char chr = 'a'; chr <= 'z'; chr++) {
+            ASCII_SYMBOLS[chr] = chr - 'a' + 10;
+            ASCII_SYMBOLS[Character.toUpperCase(chr)] = chr - 'a' + 10;
+        }
+    }
+
+    private static final Pattern STRIP_PATTERN = Pattern.compile("[^\\p{javaUpperCase}\\p{Digit}]+");
+
+    private static final char WILDCARD = '*';
+
+    /**
+     * transitions[state * ALPHABET_SIZE + symbol] is the next state, or -1 if no rule can match
+     */
+    private final int[] transitions;
+    /**
+     * variable type of the rule matched when ending in a state; null if no rule is matched
+     */
+    private final VarType[] matchedTypes;
+
+    /**
+     * Compile a matcher for the given rules.  Rules containing characters other than digits, lowercase letters,
+     * and the '*' wildcard can never be matched, and rules mapping to null do not give a type, so these are ignored.
+     *
+     * @param rules
+     *         mappings of column name key rules to variable types; the iteration order of the map gives the
+     *         precedence of rules containing wildcards; cannot be null
+     */
+    ColumnKeyMatcher(Map<String,VarType> rules) {
+        // Order the rules by precedence: literal rules first, then wildcard rules in the order given
+        ArrayList<String> patterns = new ArrayList<String>(rules.size());
+        ArrayList<VarType> types = new ArrayList<VarType>(rules.size());
+        for (int pass = 0; pass < 2; pass++) {
+            for (Map.Entry<String,VarType> entry : rules.entrySet()) {
+                String key = entry.getKey();
+                if ( (key == null) || (entry.getValue() == null) || !isValidRule(key) )
+                    continue;
+                boolean literal = key.indexOf(WILDCARD) < 0;
+                if ( literal != (pass == 0) )
+                    continue;
+                patterns.add(key);
+                types.add(entry.getValue());
+            }
+        }
+
+        // NFA states are positions in the patterns; state offsets[k] + p is position p in pattern k
+        int numPatterns = patterns.size();
+        int[] offsets = new int[numPatterns + 1];
+        for (int k = 0; k < numPatterns; k++) {
+            offsets[k + 1] = offsets[k] + patterns.get(k).length() + 1;
+        }
+        int[] patternOf = new int[offsets[numPatterns]];
+        for (int k = 0; k < numPatterns; k++) {
+            Arrays.fill(patternOf, offsets[k], offsets[k + 1], k);
+        }
+
+        // Subset construction of the DFA; each DFA state is a sorted array of NFA states
+        HashMap<NfaStateSet,Integer> dfaStateIds = new HashMap<NfaStateSet,Integer>();
+        ArrayList<int[]> dfaStates = new ArrayList<int[]>();
+        boolean[] marks = new boolean[offsets[numPatterns]];
+        int[] work = new int[offsets[numPatterns]];
+        int size = 0;
+        for (int k = 0; k < numPatterns; k++) {
+            size = addClosure(patterns.get(k), offsets[k], 0, marks, work, size);
+        }
+        addDfaState(work, size, marks, dfaStateIds, dfaStates);
+
+        ArrayList<int[]> transitionRows = new ArrayList<int[]>();
+        for (int id = 0; id < dfaStates.size(); id++) {
+            int[] members = dfaStates.get(id);
+            int[] row = new int[ALPHABET_SIZE];
+            for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+                char chr = symbolChar(symbol);
+                size = 0;
+                for (int state : members) {
+                    int k = patternOf[state];
+                    String pattern = patterns.get(k);
+                    int pos = state - offsets[k];
+                    if ( pos >= pattern.length() )
+                        continue;
+                    char pchr = pattern.charAt(pos);
+                    if ( pchr == WILDCARD )
+                        size = addClosure(pattern, offsets[k], pos, marks, work, size);
+                    else if ( pchr == chr )
+                        size = addClosure(pattern, offsets[k], pos + 1, marks, work, size);
+                }
+                row[symbol] = addDfaState(work, size, marks, dfaStateIds, dfaStates);
+            }
+            transitionRows.add(row);
+        }
+
+        int numStates = dfaStates.size();
+        transitions = new int[numStates * ALPHABET_SIZE];
+        matchedTypes = new VarType[numStates];
+        for (int id = 0; id < numStates; id++) {
+            System.arraycopy(transitionRows.get(id), 0, transitions, id * ALPHABET_SIZE, ALPHABET_SIZE);
+            // NFA states are in pattern precedence order, so the first accepting state found is the one used
+            for (int state : dfaStates.get(id)) {
+                int k = patternOf[state];
+                if ( state - offsets[k] == patterns.get(k).length() ) {
+                    matchedTypes[id] = types.get(k);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param colName
+     *         column name to classify; cannot be null
+     *
+     * @return variable type of the rule matching the key for this column name; null if no rule matches
+     */
+    VarType match(String colName) {
+        int state = 0;
+        int len = colName.length();
+        for (int k = 0; k < len; k++) {
+            char chr = colName.charAt(k);
+            if ( chr >= 128 )
+                return matchKey(getKey(colName));
+            int symbol = ASCII_SYMBOLS[chr];
+            if ( symbol < 0 )
+                continue;
+            state = transitions[state * ALPHABET_SIZE + symbol];
+            if ( state < 0 )
+                return null;
+        }
+        return matchedTypes[state];
+    }
+
+    /**
+     * @param key
+     *         already normalized key to match
+     *
+     * @return variable type of the rule matching this key; null if no rule matches
+     */
+    private VarType matchKey(String key) {
+        int state = 0;
+        int len = key.length();
+        for (int k = 0; k < len; k++) {
+            char chr = key.charAt(k);
+            int symbol = (chr < 128) ? ASCII_SYMBOLS[chr] : -1;
+            if ( (symbol < 0) || (chr != symbolChar(symbol)) )
+                return null;
+            state = transitions[state * ALPHABET_SIZE + symbol];
+            if ( state < 0 )
+                return null;
+        }
+        return matchedTypes[state];
+    }
+
+    /**
+     * @param colName
+     *         column name to normalize; cannot be null
+     *
+     * @return the key for the column name: anything not alphanumeric removed, and converted to lowercase
+     */
+    static String getKey(String colName) {
+        return STRIP_PATTERN.matcher(colName.toUpperCase()).replaceAll("").toLowerCase();
+    }
+
+    /**
+     * @return if the given rule only contains digits, lowercase letters, and wildcards
+     */
+    private static boolean isValidRule(String rule) {
+        for (int k = 0; k < rule.length(); k++) {
+            char chr = rule.charAt(k);
+            if ( (chr != WILDCARD) && ((chr >= 128) || (ASCII_SYMBOLS[chr] < 0) || (chr != symbolChar(ASCII_SYMBOLS[chr]))) )
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the key character for the given symbol
+     */
+    private static char symbolChar(int symbol) {
+        if ( symbol < 10 )
+            return (char) ('0' + symbol);
+        return (char) ('a' + symbol - 10);
+    }
+
+    /**
+     * Add an NFA state, and the states following any wildcards at that position, to a set of states.
+     *
+     * @return the new size of the set
+     */
+    private static int addClosure(String pattern, int offset, int pos, boolean[] marks, int[] work, int size) {
+        while ( true ) {
+            int state = offset + pos;
+            if ( !marks[state] ) {
+                marks[state] = true;
+                work[size] = state;
+                size++;
+            }
+            if ( (pos >= pattern.length()) || (pattern.charAt(pos) != WILDCARD) )
+                return size;
+            pos++;
+        }
+    }
+
+    /**
+     * Get the ID of the DFA state for a set of NFA states, creating the DFA state if needed.  Clears the marks of
+     * the NFA states in the set.
+     *
+     * @return the ID of the DFA state; -1 if the set is empty
+     */
+    private static int addDfaState(int[] work, int size, boolean[] marks,
+            HashMap<NfaStateSet,Integer> dfaStateIds, ArrayList<int[]> dfaStates) {
+        if ( size == 0 )
+            return -1;
+        int[] members = Arrays.copyOf(work, size);
+        Arrays.sort(members);
+        for (int state : members) {
+            marks[state] = false;
+        }
+        NfaStateSet key = new NfaStateSet(members);
+        Integer id = dfaStateIds.get(key);
+        if ( id == null ) {
+            id = dfaStates.size();
+            dfaStates.add(members);
+            dfaStateIds.put(key, id);
+        }
+        return id;
+    }
+
+    /**
+     * Sorted set of NFA states, usable as a hash key
+     */
+    private static final class NfaStateSet {
+        private final int[] members;
+        private final int hash;
+
+        NfaStateSet(int[] members) {
+            this.members = members;
+            this.hash = Arrays.hashCode(members);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj )
+                return true;
+            if ( !(obj instanceof NfaStateSet) )
+                return false;
+            return Arrays.equals(members, ((NfaStateSet) obj).members);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
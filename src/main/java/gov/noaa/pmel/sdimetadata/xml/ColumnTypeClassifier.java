@@ -0,0 +1,1067 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader.VarType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Guesses the type of a variable from its column name.  The column name is converted to a key by removing anything
+ * not alphanumeric and converting to lowercase, and the key is matched against rules mapping keys to variable types.
+ * A rule may contain '*' wildcards, each of which matches any sequence (possibly empty) of key characters.
+ * The default mappings are all literal keys, so any column name whose key is not one of them is classified
+ * as {@link VarType#OTHER} unless an additional mapping matches it.
+ * <p>
+ * A classifier created with additional mappings consults those mappings first and then the default mappings,
+ * which are compiled once and shared by all classifiers.  Instances are immutable and may be shared between
+ * any number of readers and threads.
+ */
+public final class ColumnTypeClassifier {
+
+    private static final LinkedHashMap<String,VarType> DEFAULT_KEY_TO_TYPE_RULES;
+    private static final ColumnTypeClassifier DEFAULT;
+    // Assignments at the end of this file
+
+    private final ColumnKeyMatcher defaultMatcher;
+    private final ColumnKeyMatcher addnMatcher;
+
+    /**
+     * Create a classifier using the given mappings in addition to the default mappings.
+     *
+     * @param keyToTypeMap
+     *         additional mappings of variable column name key (remove anything not alphanumeric and
+     *         convert to lowercase; may contain '*' wildcards) to variable type, which take precedence over
+     *         the default mappings; the iteration order of the map gives the precedence of keys containing
+     *         wildcards; can be null
+     */
+    public ColumnTypeClassifier(Map<String,VarType> keyToTypeMap) {
+        defaultMatcher = DEFAULT.defaultMatcher;
+        if ( (keyToTypeMap != null) && !keyToTypeMap.isEmpty() )
+            addnMatcher = new ColumnKeyMatcher(keyToTypeMap);
+        else
+            addnMatcher = null;
+    }
+
+    /**
+     * @param defaultMatcher
+     *         matcher for the default mappings
+     * @param addnMatcher
+     *         matcher for the additional mappings; can be null
+     */
+    private ColumnTypeClassifier(ColumnKeyMatcher defaultMatcher, ColumnKeyMatcher addnMatcher) {
+        this.defaultMatcher = defaultMatcher;
+        this.addnMatcher = addnMatcher;
+    }
+
+    /**
+     * @return the classifier using only the default mappings; never null
+     */
+    public static ColumnTypeClassifier getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param keyToTypeMap
+     *         additional mappings of variable column name key to variable type; can be null
+     *
+     * @return the default classifier if no additional mappings are given,
+     *         otherwise a new classifier using the additional mappings; never null
+     */
+    static ColumnTypeClassifier getClassifier(Map<String,VarType> keyToTypeMap) {
+        if ( (keyToTypeMap == null) || keyToTypeMap.isEmpty() )
+            return DEFAULT;
+        return new ColumnTypeClassifier(keyToTypeMap);
+    }
+
+    /**
+     * @param colName
+     *         column name for the variable; cannot be null
+     *
+     * @return guessed type of this variable; {@link VarType#OTHER} if no mapping matches
+     */
+    public VarType getVarTypeFromColumnName(String colName) {
+        VarType type = null;
+        if ( addnMatcher != null )
+            type = addnMatcher.match(colName);
+        if ( type == null )
+            type = defaultMatcher.match(colName);
+        if ( type == null )
+            type = VarType.OTHER;
+        return type;
+    }
+
+    static {
+        DEFAULT_KEY_TO_TYPE_RULES = new LinkedHashMap<String,VarType>();
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2eq", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equ", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equi", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equil", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equilwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equiuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equiwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equiwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equw", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2equwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2eqwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2eqwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sweq", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequ", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequi", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequiuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequiwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequiwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequtempuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequtuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swequwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sweqwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sweqwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swteq", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequ", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequi", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequiuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequiwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequiwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swtequwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swteqwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swteqwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2teq", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequ", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequi", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequiuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequiwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequiwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2tequwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2teqwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2teqwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watequatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watereq", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequ", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequi", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequiuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequiwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequiwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterequwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watereqwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watereqwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterteq", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequ", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequi", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequiuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequiwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequiwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watertequwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterteqwet", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2waterteqwetuatm", VarType.FCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2wequil", VarType.FCO2_WATER_EQU);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2fsst", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("f1013uatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco21013uatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmpressuresstcorruatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES
+                .put("fco2forairinequilibriumwithseawateratseasurfacetemperatureatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2inseawater", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2inseawateruatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2insitu", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2insituwet", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2ocesstuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2recuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2seatsst100humidityatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2seauatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2seawetistempuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2seawettinsitu", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sst", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sst100humuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sstuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sstwet", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sstwetuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2sw", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swsatuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swsst", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swsstuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swsstwet", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swsstwetuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swsat", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swuatmuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2uatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2w", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2wat", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watersst", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watersstuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watersstwet", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watersstwetatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watersstwetuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2wateruatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watsstuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2watuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2wetswuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2winsitu", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2wsst100humuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2wsstuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2wuatm", VarType.FCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fpatm", VarType.FCO2_WATER_SST);      // ??????
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2pequ", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2eq", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equ", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equi", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equiuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equiwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equiwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2equwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2eqwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2eqwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sweq", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequ", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequi", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequiuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequiwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequiwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swequwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sweqwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sweqwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swteq", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequ", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequi", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequiuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequiwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swtequwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swteqwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swteqwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2teq", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequ", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequi", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequiuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequiwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequiwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tequwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2teqwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2teqwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2uatmfromproco2sn2909745pco2uatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watequatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watereq", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequ", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequi", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequi100humidity", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequiuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequiwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequiwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequwetatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterequwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watereqwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watereqwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterteq", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequ", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequi", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequiuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequiwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watertequwetuatm", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterteqwet", VarType.PCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2waterteqwetuatm", VarType.PCO2_WATER_EQU);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("1mproco2concuatmsn299745", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2ppm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2psst", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2380742525", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atinsitutempintaket", VarType.PCO2_WATER_SST);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("pco2atm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atminwater", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES
+                .put("pco2forairinequilibriumwithseawateratseasurfacetemperatureatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2headuatam", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2headuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2icosatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2inseawaterwet", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2inseawaterwetppm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2insituatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2insitutmatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2mol", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2ocesstuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2seatsst100humidityatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2seawetistempuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sst", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sst100humuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sstuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sstwet", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sstwetuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2sw", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swsatuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swsst", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swsstuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swsstwet", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swsstwetuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swwet", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tailuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2uatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2uatminwater", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2wat", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watersst", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watersst100humidityuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watersstuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watersstwet", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watersstwetatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watersstwetuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2wateruatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watsstuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watuamt", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2watuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2wetsst", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2wsst100humuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2wsstuatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("prookconc", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sami521mpco2", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seawaterpco2uatm", VarType.PCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sspco2", VarType.PCO2_WATER_SST);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2umm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2x", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("molefractionofco2inairfromequilibratormolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2wuatm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("vco2sw", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("vco2swppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2cal", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2cor", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2dryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2dryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2eq", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2eqdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2eqdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2eqdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2eqmicromolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2eqppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2eqppmppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equ", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equi", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equidry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equidryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equidryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equil", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equildry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equippm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equitempdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equiumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equmolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equmomol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2equumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2inseawaterdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2inseawaterdryuatm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2oceequilumolmol1", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2ppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sea", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2seappm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2seappmdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2seappmv", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2seatteqmolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sw", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sweq", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sweqdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sweqdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sweqdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sweqppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequ", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequi", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequidry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequidryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequidryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequippm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequiumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequmolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swequumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swteq", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swteqdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swteqdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swteqdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swteqppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequ", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequi", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequidry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequidryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequidryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequippm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequiumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequmolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swtequumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2teq", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2teqdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2teqdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2teqdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2teqppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequ", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequi", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequidry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequidryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequidryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequippm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequiumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequmolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequppmv", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2tequumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2um", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2wat", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2wateqppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2wateqppmv", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watereq", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watereqdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watereqdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watereqdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watereqppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequ", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequdrymolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequi", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequidry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequidryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequidryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequippm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequitempdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequiumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequmolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterequumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterteq", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterteqdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterteqdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterteqdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2waterteqppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequ", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequdry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequdryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequdryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequi", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequidry", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequidryppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequidryumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequippm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequiumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequmolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watertequumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watumolmol", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2wppm", VarType.XCO2_WATER_EQU);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2wumolmol", VarType.XCO2_WATER_EQU);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2sw", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2xcor", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eq", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2dryair", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2dryswppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put(
+                "xco2forairinequilibriumwiththeseawateratseasurfacetemperatureand101325hpaappliedpressureexpressedasmolmolindryair",
+                VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2ocesstumolmol1", VarType.XCO2_WATER_SST);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("xco2ppm", VarType.XCO2_WATER_SST);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("xco2seappm", VarType.XCO2_WATER_SST);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("xco2seappmdry", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2seatsstmolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sst", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sstdry", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sstdryppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sstdryumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sstppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2sstumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swdry", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swdryumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swppmv", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swsst", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swsstdry", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swsstdryppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swsstdryumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swsstppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swsstumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swwet", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2w", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watersst", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watersstdry", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watersstdrymolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watersstdryppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watersstdryumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watersstppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watersstumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watsstumolmol", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watstd", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2watstdppm", VarType.XCO2_WATER_SST);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xeq", VarType.XCO2_WATER_SST);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2a", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2air", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airactual", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airactualuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airsat", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airsatuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airwet", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airwetactual", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airwetactualuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airwetuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmactual", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmactualuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmwet", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmwetactual", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmwetactualuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmwetuatm", VarType.FCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2auatm", VarType.FCO2_ATM_ACTUAL);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("airfco2", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airfco2cal", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2fatm", VarType.FCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("fco2a", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airinerpuatm", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airinterp", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airinterpuatm", VarType.FCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("fco2airsatuatm", VarType.FCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("fco2airuatm", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airwetinterp", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2airwetinterpuatm", VarType.FCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("fco2atm", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmatm", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atminterp", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atminterpolated", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atminterpolateduatm", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atminterpuatm", VarType.FCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmuatm", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmuatminterpolateduatm", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmwetinterp", VarType.FCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2atmwetinterpuatm", VarType.FCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("fco2auatm", VarType.FCO2_ATM_INTERP);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpco2", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2air", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airactual", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airactualuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airsatuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airsatutam", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airwet", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airwetactual", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airwetactualuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airwetuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmactual", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmactualuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmmeasuredintheair", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmwet", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmwetactual", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmwetactualuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmwetuatm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2inairwet", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2inairwetppm", VarType.PCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2uatmmeasuredintheair", VarType.PCO2_ATM_ACTUAL);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpco2", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpco2cal", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosphericpco2ppm", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airinterp", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airinterpuatm", VarType.PCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("pco2airuatm", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airwetinterp", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2airwetinterpuatm", VarType.PCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("pco2atm", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atminterp", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atminterpuatm", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmwetinterp", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2atmwetinterpuatm", VarType.PCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2auatm", VarType.PCO2_ATM_INTERP);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("airxco2", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmxco2dryppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2a", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2air", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airactual", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airactualppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airactualumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airaveppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdry", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdryactual", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdryactualppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdryactualumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdryppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdryumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airwet", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2amicromolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2appm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmactual", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmactualppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmactualumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdry", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryactual", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryactualppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryactualumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppmdry", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppmmeasured", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppmppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppmv", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2aumolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2dryairmolmol", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2dryairppm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2inairdry", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2inairdryuatm", VarType.XCO2_ATM_ACTUAL);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2indriedairactualumolmol", VarType.XCO2_ATM_ACTUAL);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("air", VarType.XCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("airxco2", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airxco2cal", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmxco2dryrunningmeanppm", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2atm", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2xatm", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xair", VarType.XCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("xco2a", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2ainterpolatedppm", VarType.XCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("xco2air", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdryppmv", VarType.XCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("xco2airdryumolmol", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airint", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airinterp", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airinterpppm", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airinterpumolmol", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airintppm", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airintumolmol", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2airmolmol", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmassigned", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryinterp", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryinterpumolmol", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmdryppmv", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atminterp", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atminterpolated", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atminterpolatedppm", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atminterpppm", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atminterpppmdry", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atminterpumolmol", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmintumolmol1", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppminterp", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppminterpolatedppm", VarType.XCO2_ATM_INTERP);
+        // DEFAULT_KEY_TO_TYPE_RULES.put("xco2atmppmv", VarType.XCO2_ATM_INTERP);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2indryairppmv", VarType.XCO2_ATM_INTERP);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("intaketemperature", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("intaketemperaturecelsius", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("istempdegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sami521mtemp", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sbo37temp", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seasurfacetemperature", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seasurfacetemperaturec", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seasurfacetemperaturedegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seasurfacetemperaturedegrc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seasurfacetemperatureinsituc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seatempdegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("shiptempc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sst", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sst38", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sstc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sstcal", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sstdegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sstdegreesc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sstk", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sstoc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sstsw", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssttsg", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssttsgc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("swtemperaturec", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tdegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temp", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempdegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperature", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperatureatseawaterintakeoc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperaturec", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperaturefrommicrocatat1mtemperature", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempheadoc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempintake", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempoc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempseawaterdegreesc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempsst", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temptailoc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tinsitu", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tinsituc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tinsitudegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tintake", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tmpfb", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tmpfb11163", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tmpwatdegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tsea", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tstc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("watertemp", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("watertempdegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("watertempdegreesc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("watertemperature", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("watertemperaturedegc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("waterttempc", VarType.SEA_SURFACE_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("waterttemperaturec", VarType.SEA_SURFACE_TEMPERATURE);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqt", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqtemp", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqtempc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqtempcal", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqtempdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqtmp", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqtmpdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratortemperature", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratortemperaturec", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratortemperaturedegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratortemperaturedegrc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilitc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilt", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equiltemp", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equiltempdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equitempdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equtemp", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equtempdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equtempsw", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("licortemp", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2tmp", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempeq", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempeqc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempeqdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempeqdegreesc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequ", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequi", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequic", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequidegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequil", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tempequoc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperatureatpco2equilibratoroc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperatureequi", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperatureequic", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperatureequidegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperatureofequilibration", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("temperatureofequilibrationdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("teq", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("teqc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("teqdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("teqic", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("teqoc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequ", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequdegreesc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequi", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequic", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequidegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequil", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequilc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tequildegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tmpeq", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tmpeqdegc", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tsgtemp", VarType.EQUILIBRATOR_TEMPERATURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ttechc", VarType.EQUILIBRATOR_TEMPERATURE);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("airp", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpress", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpresshpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpressure", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpressurehpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpressurekpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpressurembar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("airpressuremmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosphericpressure", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosphericpressurehpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosphericpressurekpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosphericpressuremb", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosrmpresscal", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosrmpresscalhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpre", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpredbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmprehpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmprembar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmprepatm", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpres", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpresmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpress", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpressmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpressurehpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmpressurembar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmprs", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmprshpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("barometricpressurehpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("barometricpressurembar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("bpratm", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pair", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pairhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pairkpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pairmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pairmmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pam", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("patm", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("patmhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("patmkpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("patmmb", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("patmmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("patmmmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pppp", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pppphpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ppppkpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ppppmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ppppmmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pres", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presair", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presairhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presairkpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presairmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presairmmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presatm", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presatmhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presatmkpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presatmmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presatmmmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presatmssp", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presatmssphpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preskpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presmb", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressatm", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressatmhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressealevelhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presssealevelhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressure", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureatm", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureatmhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureatmkpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureatmmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureatmmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressurembar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("prsatm", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("prsatmhpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sealevelpressure", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sealevelpressurehpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sealevelpressurekpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sealevelpressurembar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sealevelpressuremmhg", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("shipatmpresshpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("slp", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("slphpa", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("slpmbar", VarType.SEA_LEVEL_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("slpmmhg", VarType.SEA_LEVEL_PRESSURE);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("atmosphericpressureatpco2systemmb", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("baropress", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqp", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqphpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqpre", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqprehpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqprembar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqpress", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("eqpresshpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratorpressure", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratorpressurehpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratorpressurekpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratorpressurembar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilibratorpressuremmhg", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilpres", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilpress", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilpresshpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equilpressurehpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equipressmbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equpresmbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equpress", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equpresssw", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("equpressure", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("licoratmpressure", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("licoratmpressurehpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("peq", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("peqhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("peqkpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("peqmbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("peqmmhg", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequ", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequi", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequihpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequikpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequilib", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequimbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequimmhg", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequkpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pequmbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("peqummhg", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("phpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preseq", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preseqhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preseqkpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preseqmbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preseqmmhg", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequ", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequi", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequihpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequikpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequilhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequimbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequimmhg", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequkpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presequmbar", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preseqummhg", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preslabhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("preslicorhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("presseq", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressequhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressequilhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureequi", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureequil", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pressureofequilibrationhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES
+                .put("pressureofequilibrationthepressureintheequilibrationvesselhpa", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("prseq", VarType.EQUILIBRATOR_PRESSURE);
+        DEFAULT_KEY_TO_TYPE_RULES.put("prseqhpa", VarType.EQUILIBRATOR_PRESSURE);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("issal", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("psusw", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sal", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salfb", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salfb35395", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinity", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinityatseawaterintake", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinityfrommicrocatat1msalinity", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinityperm", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinitypermil", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinityppt", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinitypss", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinitypsu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinityqualityflagsalquality", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinitysource", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinitywoceflag", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salinsitupsu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salperm", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salpermil", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salpsu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("saltsg", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("saltsgpermil", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salttsg", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("salverified", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sdsal", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("seasurfacesalinityinsitu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("shipsalpsu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sinsitu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssea", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sss", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sssnu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("sssperm", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssspermil", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssspss", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssspss78", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssspsu", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("ssstsg", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tsgsal", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tsgsalcorr", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tsgsalt", VarType.SALINITY);
+        DEFAULT_KEY_TO_TYPE_RULES.put("tssal", VarType.SALINITY);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2fwoceflag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("co2swqf", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2flag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2qcflag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("fco2swqf", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("flag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("pco2swqf", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qc", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcco2aq", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcco2sw", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcco2water", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcflag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcflagw", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcwater", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qfco2sw", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qffco2sw", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qfpco2sw", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qfxco2", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qfxco2sw", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceco2", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceco2aq", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceco2sw", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceco2water", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceflag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceflags", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceqcflag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("wocewater", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2dryswwoceflag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2flag", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swqf", VarType.WOCE_CO2_WATER);
+        DEFAULT_KEY_TO_TYPE_RULES.put("xco2swqfint", VarType.WOCE_CO2_WATER);
+
+        DEFAULT_KEY_TO_TYPE_RULES.put("woceco2atm", VarType.WOCE_CO2_ATM);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcair", VarType.WOCE_CO2_ATM);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcco2air", VarType.WOCE_CO2_ATM);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcco2atm", VarType.WOCE_CO2_ATM);
+        DEFAULT_KEY_TO_TYPE_RULES.put("qcflagair", VarType.WOCE_CO2_ATM);
+
+        DEFAULT = new ColumnTypeClassifier(new ColumnKeyMatcher(DEFAULT_KEY_TO_TYPE_RULES), null);
+    }
+
+}
@@ -2,18 +2,17 @@ package gov.noaa.pmel.sdimetadata.xml;
 
 import gov.noaa.pmel.sdimetadata.person.Person;
 import gov.noaa.pmel.sdimetadata.platform.PlatformType;
+import gov.noaa.pmel.sdimetadata.util.DateTimeParser;
 import gov.noaa.pmel.sdimetadata.util.Datestamp;
 import gov.noaa.pmel.sdimetadata.util.NumericString;
 import org.jdom2.Element;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.TimeZone;
 import java.util.regex.Pattern;
 
 public abstract class DocumentHandler {
@@ -23,22 +22,14 @@ public abstract class DocumentHandler {
      */
     public static final String SEP = "\t";
 
-    private static final SimpleDateFormat DATE_NUMBER_PARSER = new SimpleDateFormat("yyyyMMdd");
-    private static final SimpleDateFormat DATE_SLASH_PARSER = new SimpleDateFormat("yyyy/MM/dd");
-    private static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("yyyy-MM-dd");
-
-    static {
-        TimeZone utc = TimeZone.getTimeZone("UTC");
-        DATE_NUMBER_PARSER.setTimeZone(utc);
-        DATE_NUMBER_PARSER.setLenient(false);
-        DATE_SLASH_PARSER.setTimeZone(utc);
-        DATE_SLASH_PARSER.setLenient(false);
-        DATE_FORMATTER.setTimeZone(utc);
-        DATE_FORMATTER.setLenient(false);
-    }
-
     protected Element rootElement = null;
 
+    /**
+     * index of elements found from paths starting at indexedRoot; created when first needed
+     */
+    private HashMap<ElementPath,Element> pathIndex = null;
+    private Element indexedRoot = null;
+
     private static final Pattern EXPOCODE_PATTERN =
             Pattern.compile("[\\p{javaUpperCase}\\p{Digit}]{4}[\\p{Digit}]{8}");
 
@@ -165,45 +156,10 @@ public abstract class DocumentHandler {
      *         date stamp as yyyyMMdd or yyyy/MM/dd or yyyy-MM-dd; if null or empty, null is returned
      *
      * @return datestamp representing this date, or null if the date string is not in a valid format
-     *         (the validity of the date itself is not checked)
+     *         or does not give a valid date
      */
     public static Datestamp getDatestamp(String datestring) {
-        if ( (null == datestring) || datestring.trim().isEmpty() )
-            return null;
-        String hypenstring;
-        try {
-            // Convert yyyyMMdd to yyyy-MM-dd, checking if valid
-            hypenstring = DATE_FORMATTER.format(DATE_NUMBER_PARSER.parse(datestring));
-        } catch ( ParseException ex ) {
-            hypenstring = null;
-        }
-        if ( null == hypenstring ) {
-            // Convert yyyy/MM/dd to yyyy-MM-dd, checking if valid
-            try {
-                hypenstring = DATE_FORMATTER.format(DATE_SLASH_PARSER.parse(datestring));
-            } catch ( ParseException ex ) {
-                // leave hypenstring as null
-            }
-        }
-        if ( null == hypenstring ) {
-            // Check if given as yyyy-MM-dd and is valid
-            try {
-                hypenstring = DATE_FORMATTER.format(DATE_FORMATTER.parse(datestring));
-            } catch ( ParseException ex ) {
-                // leave hypenstring as null
-            }
-        }
-        if ( null == hypenstring )
-            return null;
-
-        String[] pieces = hypenstring.split("-");
-        if ( pieces.length != 3 )
-            throw new RuntimeException("Unexpected hyphenated date of: " + hypenstring);
-        try {
-            return new Datestamp(pieces[0], pieces[1], pieces[2]);
-        } catch ( IllegalArgumentException ex ) {
-            return null;
-        }
+        return DateTimeParser.parseDatestamp(datestring);
     }
 
     /**
@@ -215,15 +171,7 @@ public abstract class DocumentHandler {
     public static Datestamp getDatestamp(Date date) {
         if ( null == date )
             return null;
-        String hypenstring = DATE_FORMATTER.format(date);
-        String[] pieces = hypenstring.split("-");
-        if ( pieces.length != 3 )
-            throw new RuntimeException("Unexpected hyphenated date of: " + hypenstring);
-        try {
-            return new Datestamp(pieces[0], pieces[1], pieces[2]);
-        } catch ( IllegalArgumentException ex ) {
-            throw new RuntimeException("Unexpected failure to make a datestamp from: " + hypenstring);
-        }
+        return DateTimeParser.toDatestamp(date);
     }
 
     /**
@@ -236,36 +184,86 @@ public abstract class DocumentHandler {
      * @return the numeric string object; never null but may be empty
      */
     public static NumericString getNumericString(String numVal, String unitVal) {
-        String numStr = numVal;
+        if ( numVal == null )
+            return NumericString.valueOf(null, unitVal);
+        int length = numVal.length();
+        // Skip any initial non-numeric values (such as ~ or ±)
+        int start = 0;
+        for (int k = 0; k < length; k++) {
+            char chr = numVal.charAt(k);
+            if ( (chr == '-') || (chr == '+') || (chr == '.') || Character.isDigit(chr) ) {
+                start = k;
+                break;
+            }
+        }
+        int end = length;
         String unitStr = unitVal;
-        if ( numStr != null ) {
-            // Strip off any initial non-numeric values (such as ~ or ±)
-            for (int k = 0; k < numStr.length(); k++) {
-                char chr = numStr.charAt(k);
-                if ( (chr == '-') || (chr == '+') || (chr == '.') || Character.isDigit(chr) ) {
-                    numStr = numStr.substring(k);
-                    break;
-                }
+        if ( unitStr == null ) {
+            // Check if unit is part of the string in the number element; the unit pieces are joined with spaces
+            end = start;
+            while ( (end < length) && !isUnitSeparator(numVal.charAt(end)) ) {
+                end++;
             }
-            if ( unitStr == null ) {
-                // Check if unit is part of the string in the number element
-                String[] pieces = numStr.split("[ \t\\(\\)\\[\\]\\{\\}]+");
-                if ( pieces.length > 1 ) {
-                    numStr = pieces[0];
-                    unitStr = pieces[1];
-                    for (int k = 2; k < pieces.length; k++) {
-                        unitStr += " " + pieces[k];
-                    }
+            int pos = end;
+            StringBuilder unitBldr = null;
+            while ( pos < length ) {
+                while ( (pos < length) && isUnitSeparator(numVal.charAt(pos)) ) {
+                    pos++;
+                }
+                int pieceStart = pos;
+                while ( (pos < length) && !isUnitSeparator(numVal.charAt(pos)) ) {
+                    pos++;
                 }
+                if ( pos == pieceStart )
+                    break;
+                if ( unitStr == null )
+                    unitStr = numVal.substring(pieceStart, pos);
                 else {
-                    numStr = pieces[0];
+                    if ( unitBldr == null )
+                        unitBldr = new StringBuilder(unitStr);
+                    unitBldr.append(' ');
+                    unitBldr.append(numVal, pieceStart, pos);
                 }
             }
+            if ( unitBldr != null )
+                unitStr = unitBldr.toString();
+            // Nothing but separators
+            if ( (end == start) && (unitStr == null) )
+                return NumericString.EMPTY;
+        }
+        // Trim the value span as done by String.trim
+        while ( (start < end) && (numVal.charAt(start) <= ' ') ) {
+            start++;
         }
+        while ( (end > start) && (numVal.charAt(end - 1) <= ' ') ) {
+            end--;
+        }
+        if ( (start < end) && !NumericString.isNumeric(numVal, start, end) )
+            return NumericString.EMPTY;
         try {
-            return new NumericString(numStr, unitStr);
-        } catch ( Exception ex ) {
-            return new NumericString();
+            return NumericString.valueOf(numVal.substring(start, end), unitStr);
+        } catch ( IllegalArgumentException ex ) {
+            // value too large in magnitude
+            return NumericString.EMPTY;
+        }
+    }
+
+    /**
+     * @return if the given character separates a numeric value from its unit, or pieces of the unit
+     */
+    private static boolean isUnitSeparator(char chr) {
+        switch ( chr ) {
+            case ' ':
+            case '\t':
+            case '(':
+            case ')':
+            case '[':
+            case ']':
+            case '{':
+            case '}':
+                return true;
+            default:
+                return false;
         }
     }
 
@@ -283,23 +281,32 @@ public abstract class DocumentHandler {
      * @return list of all child elements; an empty list is returned if no elements matching the path are found
      */
     public List<Element> getElementList(Element ancestor, String fullElementName) {
+        return getElementList(ancestor, ElementPath.compile(fullElementName));
+    }
+
+    /**
+     * Get the list of all elements matching a compiled name path.  See {@link #getElementList(Element, String)}.
+     *
+     * @param ancestor
+     *         find the list of elements under this element; if null, use the root element
+     * @param path
+     *         path from the root element, through the ancestor element if ancestor is not null, to the desired list
+     *         elements; cannot be null
+     *
+     * @return list of all child elements; an empty list is returned if no elements matching the path are found
+     */
+    public List<Element> getElementList(Element ancestor, ElementPath path) {
+        int lastIndex = path.getLength() - 1;
         Element elem;
-        String pathName;
-        if ( ancestor != null ) {
-            elem = ancestor;
-            pathName = getRelativePath(ancestor, fullElementName);
-        }
-        else {
+        if ( ancestor != null )
+            elem = findElement(ancestor, getAncestorLength(ancestor, path), path, lastIndex);
+        else if ( lastIndex > 0 )
+            elem = findIndexedElement(path.getParent());
+        else
             elem = rootElement;
-            pathName = fullElementName;
-        }
-        String[] names = pathName.split(SEP);
-        for (int k = 0; k < names.length - 1; k++) {
-            elem = elem.getChild(names[k]);
-            if ( null == elem )
-                return new ArrayList<Element>(0);
-        }
-        return elem.getChildren(names[names.length - 1]);
+        if ( null == elem )
+            return new ArrayList<Element>(0);
+        return elem.getChildren(path.getName(lastIndex));
     }
 
     /**
@@ -318,21 +325,29 @@ public abstract class DocumentHandler {
      *         if the element is not found or if the element does not contain text
      */
     public String getElementText(Element ancestor, String fullElementName) {
+        return getElementText(ancestor, ElementPath.compile(fullElementName));
+    }
+
+    /**
+     * Get the text from an element specified by a compiled name path.  See {@link #getElementText(Element, String)}.
+     *
+     * @param ancestor
+     *         get the text from an element under this element; if null, use the root element
+     * @param path
+     *         path from the root element, through the ancestor element if ancestor is not null, to the desired
+     *         element containing the text; cannot be null
+     *
+     * @return trimmed text of the specified element; an empty string is returned
+     *         if the element is not found or if the element does not contain text
+     */
+    public String getElementText(Element ancestor, ElementPath path) {
         Element elem;
-        String pathName;
-        if ( ancestor != null ) {
-            elem = ancestor;
-            pathName = getRelativePath(ancestor, fullElementName);
-        }
-        else {
-            elem = rootElement;
-            pathName = fullElementName;
-        }
-        for (String name : pathName.split(SEP)) {
-            elem = elem.getChild(name);
-            if ( null == elem )
-                return "";
-        }
+        if ( ancestor != null )
+            elem = findElement(ancestor, getAncestorLength(ancestor, path), path, path.getLength());
+        else
+            elem = findIndexedElement(path);
+        if ( null == elem )
+            return "";
         return elem.getTextTrim();
     }
 
@@ -358,27 +373,41 @@ public abstract class DocumentHandler {
      *         DocumentHandler, or the full element name does not start with the path to the ancestor element
      */
     public void setElementText(Element ancestor, String fullElementName, String text) {
+        setElementText(ancestor, ElementPath.compile(fullElementName), text);
+    }
+
+    /**
+     * Assign the text of an element specified by a compiled name path.
+     * See {@link #setElementText(Element, String, String)}.
+     *
+     * @param ancestor
+     *         assign text to the specified element under with this element; if null, use the root element
+     * @param path
+     *         path from the root element, through the ancestor element if ancestor is not null, to the element
+     *         to which the text is to be assigned; cannot be null
+     * @param text
+     *         text to assign after trimmming; if null or blank, an empty string is assigned if the element exists
+     *
+     * @throws IllegalArgumentException
+     *         if the ancestor element is not null and either: the ancestor element is not an element of this
+     *         DocumentHandler, or the full element name does not start with the path to the ancestor element
+     */
+    public void setElementText(Element ancestor, ElementPath path, String text) {
+        boolean noText = (null == text) || text.trim().isEmpty();
         Element elem;
-        String pathName;
         if ( ancestor != null ) {
-            elem = ancestor;
-            pathName = getRelativePath(ancestor, fullElementName);
-        }
-        else {
-            elem = rootElement;
-            pathName = fullElementName;
-        }
-        boolean noText = (null == text) || text.trim().isEmpty();
-        for (String name : pathName.split(SEP)) {
-            Element child = elem.getChild(name);
-            if ( null == child ) {
-                if ( noText )
-                    return;
-                child = new Element(name);
-                elem.addContent(child);
-            }
-            elem = child;
+            int start = getAncestorLength(ancestor, path);
+            if ( noText )
+                elem = findElement(ancestor, start, path, path.getLength());
+            else
+                elem = createElement(ancestor, start, path, path.getLength());
         }
+        else if ( noText )
+            elem = findIndexedElement(path);
+        else
+            elem = createIndexedElement(path);
+        if ( null == elem )
+            return;
         elem.setText(noText ? "" : text.trim());
     }
 
@@ -399,59 +428,191 @@ public abstract class DocumentHandler {
      * @return the new empty child element
      */
     public Element addListElement(Element ancestor, String fullElementName) {
+        return addListElement(ancestor, ElementPath.compile(fullElementName));
+    }
+
+    /**
+     * Creates a new list element specified by a compiled name path.  See {@link #addListElement(Element, String)}.
+     *
+     * @param ancestor
+     *         create the new child element under this element; if null, use the root element
+     * @param path
+     *         path from the root element, through the ancestor element if ancestor is not null, to the element
+     *         to be created; cannot be null
+     *
+     * @return the new empty child element
+     */
+    public Element addListElement(Element ancestor, ElementPath path) {
+        int lastIndex = path.getLength() - 1;
         Element parent;
-        String pathName;
-        if ( ancestor != null ) {
-            parent = ancestor;
-            pathName = getRelativePath(ancestor, fullElementName);
-        }
-        else {
+        if ( ancestor != null )
+            parent = createElement(ancestor, getAncestorLength(ancestor, path), path, lastIndex);
+        else if ( lastIndex > 0 )
+            parent = createIndexedElement(path.getParent());
+        else
             parent = rootElement;
-            pathName = fullElementName;
+        Element child = new Element(path.getName(lastIndex));
+        parent.addContent(child);
+        return child;
+    }
+
+    /**
+     * Finds the element at the end of a path from the root element, using the first element with the given name at
+     * each step of the path.  Elements found are recorded in an index of this document, which is created when first
+     * needed and discarded if the root element is changed.  An element in the index is only used if it is still
+     * the first child with its name at each step of the path from the root element; otherwise, such as when it has
+     * been removed from the document or another element with the same name has been inserted ahead of it, it is
+     * found again.
+     *
+     * @param path
+     *         path from the root element to the element to find
+     *
+     * @return the element found, or null if the element does not exist
+     */
+    private Element findIndexedElement(ElementPath path) {
+        if ( (pathIndex == null) || (indexedRoot != rootElement) ) {
+            pathIndex = new HashMap<ElementPath,Element>();
+            indexedRoot = rootElement;
+        }
+        Element elem = pathIndex.get(path);
+        if ( elem != null ) {
+            Element child = elem;
+            for (int k = path.getLength() - 1; k >= 0; k--) {
+                Element parent = child.getParentElement();
+                if ( (null == parent) || (parent.getChild(path.getName(k)) != child) ) {
+                    child = null;
+                    break;
+                }
+                child = parent;
+            }
+            if ( child == rootElement )
+                return elem;
+            pathIndex.remove(path);
+        }
+        ElementPath parentPath = path.getParent();
+        Element parent = (parentPath != null) ? findIndexedElement(parentPath) : rootElement;
+        if ( null == parent )
+            return null;
+        elem = parent.getChild(path.getName(path.getLength() - 1));
+        if ( elem != null )
+            pathIndex.put(path, elem);
+        return elem;
+    }
+
+    /**
+     * Finds the element at the end of a path from the root element, creating any elements that do not exist.
+     *
+     * @param path
+     *         path from the root element to the element to find or create
+     *
+     * @return the element found or created; never null
+     */
+    private Element createIndexedElement(ElementPath path) {
+        Element elem = findIndexedElement(path);
+        if ( null == elem ) {
+            ElementPath parentPath = path.getParent();
+            Element parent = (parentPath != null) ? createIndexedElement(parentPath) : rootElement;
+            elem = new Element(path.getName(path.getLength() - 1));
+            parent.addContent(elem);
+            pathIndex.put(path, elem);
+        }
+        return elem;
+    }
+
+    /**
+     * Finds an element under an ancestor element using the first element with the given name at each step.
+     *
+     * @param ancestor
+     *         start from this element
+     * @param start
+     *         index in the path of the first element name under the ancestor element
+     * @param path
+     *         path of element names to follow
+     * @param end
+     *         index in the path just after the last element name to follow
+     *
+     * @return the element found, or null if the element does not exist
+     */
+    private static Element findElement(Element ancestor, int start, ElementPath path, int end) {
+        Element elem = ancestor;
+        for (int k = start; k < end; k++) {
+            elem = elem.getChild(path.getName(k));
+            if ( null == elem )
+                return null;
         }
-        String[] names = pathName.split(SEP);
-        for (int k = 0; k < names.length - 1; k++) {
-            Element elem = parent.getChild(names[k]);
-            if ( null == elem ) {
-                elem = new Element(names[k]);
-                parent.addContent(elem);
+        return elem;
+    }
+
+    /**
+     * Finds an element under an ancestor element using the first element with the given name at each step,
+     * creating any elements that do not exist.
+     *
+     * @param ancestor
+     *         start from this element
+     * @param start
+     *         index in the path of the first element name under the ancestor element
+     * @param path
+     *         path of element names to follow
+     * @param end
+     *         index in the path just after the last element name to follow
+     *
+     * @return the element found or created; never null
+     */
+    private static Element createElement(Element ancestor, int start, ElementPath path, int end) {
+        Element elem = ancestor;
+        for (int k = start; k < end; k++) {
+            String name = path.getName(k);
+            Element child = elem.getChild(name);
+            if ( null == child ) {
+                child = new Element(name);
+                elem.addContent(child);
             }
-            parent = elem;
+            elem = child;
         }
-        Element child = new Element(names[names.length - 1]);
-        parent.addContent(child);
-        return child;
+        return elem;
     }
 
     /**
-     * Determines the relative path from an ancestor element to a desired element.
+     * Determines the number of element names in the path from the root element to an ancestor element,
+     * checking that the path to a desired element goes through the ancestor element.
      *
      * @param ancestor
      *         ancestor element to use; cannot be null
-     * @param fullElementName
-     *         path name from the root element to the desired element
+     * @param path
+     *         path from the root element to the desired element
      *
-     * @return path name from the ancestor element to the desired element
+     * @return number of element names in the path to the ancestor element, which is also the index in the given
+     *         path of the first element name under the ancestor element
      *
      * @throws IllegalArgumentException
      *         the ancestor element is not an element of this DocumentHandler, or
      *         the full element name does not start with the path to the ancestor element
      */
-    private String getRelativePath(Element ancestor, String fullElementName) throws IllegalArgumentException {
-        String ancestorName = ancestor.getName();
+    private int getAncestorLength(Element ancestor, ElementPath path) throws IllegalArgumentException {
+        int depth = 1;
         Element parent = ancestor.getParentElement();
         while ( parent != rootElement ) {
             if ( parent == null )
-                throw new IllegalArgumentException("ancestor element (" + ancestorName +
+                throw new IllegalArgumentException("ancestor element (" + ancestor.getName() +
                         ") not part of this document");
-            ancestorName = parent.getName() + SEP + ancestorName;
+            depth++;
             parent = parent.getParentElement();
         }
-        ancestorName += SEP;
-        if ( !fullElementName.startsWith(ancestorName) )
-            throw new IllegalArgumentException("full element path (" + fullElementName +
-                    ") does not start with the ancestor full element path (" + ancestorName + ")");
-        return fullElementName.substring(ancestorName.length());
+        boolean matches = depth < path.getLength();
+        Element elem = ancestor;
+        for (int k = depth - 1; matches && (k >= 0); k--) {
+            matches = elem.getName().equals(path.getName(k));
+            elem = elem.getParentElement();
+        }
+        if ( !matches ) {
+            String ancestorName = ancestor.getName();
+            for (parent = ancestor.getParentElement(); parent != rootElement; parent = parent.getParentElement()) {
+                ancestorName = parent.getName() + SEP + ancestorName;
+            }
+            throw new IllegalArgumentException("full element path (" + path.getFullName() +
+                    ") does not start with the ancestor full element path (" + ancestorName + SEP + ")");
+        }
+        return depth;
     }
 
 }
@@ -0,0 +1,168 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled element path name: the element names in the path, already split and interned, as used by the
+ * element methods of {@link DocumentHandler}.  Instances are immutable and may be shared between threads.
+ */
+public final class ElementPath {
+
+    /**
+     * maximum number of compiled paths to cache
+     */
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    private static final ConcurrentHashMap<String,ElementPath> COMPILED_PATHS =
+            new ConcurrentHashMap<String,ElementPath>();
+
+    private final String fullName;
+    private final String[] names;
+    private final int length;
+    private final int hash;
+    private final ElementPath parent;
+
+    /**
+     * @param fullName
+     *         full path name of this path
+     * @param names
+     *         element names, of which the first length are used for this path
+     * @param length
+     *         number of element names in this path
+     */
+    private ElementPath(String fullName, String[] names, int length) {
+        this.fullName = fullName;
+        this.names = names;
+        this.length = length;
+        final int prime = 37;
+        int result = 0;
+        for (int k = 0; k < length; k++) {
+            result = result * prime + names[k].hashCode();
+        }
+        this.hash = result;
+        if ( length > 1 ) {
+            StringBuilder strBldr = new StringBuilder(names[0]);
+            for (int k = 1; k < length - 1; k++) {
+                strBldr.append(DocumentHandler.SEP);
+                strBldr.append(names[k]);
+            }
+            this.parent = new ElementPath(strBldr.toString(), names, length - 1);
+        }
+        else
+            this.parent = null;
+    }
+
+    /**
+     * Get the compiled path for the given path name.  Compiled paths are cached, so repeated calls with the same
+     * path name normally return the same object.
+     *
+     * @param fullElementName
+     *         path name from the root element; element names in the path should be separated by
+     *         {@link DocumentHandler#SEP}; cannot be null
+     *
+     * @return the compiled path; never null
+     */
+    public static ElementPath compile(String fullElementName) {
+        ElementPath path = COMPILED_PATHS.get(fullElementName);
+        if ( path == null ) {
+            String[] names = fullElementName.split(DocumentHandler.SEP);
+            for (int k = 0; k < names.length; k++) {
+                names[k] = names[k].intern();
+            }
+            path = new ElementPath(fullElementName, names, names.length);
+            if ( COMPILED_PATHS.size() < MAX_CACHED_PATHS ) {
+                ElementPath prev = COMPILED_PATHS.putIfAbsent(fullElementName, path);
+                if ( prev != null )
+                    path = prev;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Get the compiled path to a child element of the last element in this path.  Intended for building the
+     * compiled paths of a fixed document layout once, such as in static constants.
+     *
+     * @param childName
+     *         name of the child element; cannot be null or contain {@link DocumentHandler#SEP}
+     *
+     * @return the compiled path to the child element; never null
+     */
+    public ElementPath child(String childName) {
+        return compile(fullName + DocumentHandler.SEP + childName);
+    }
+
+    /**
+     * @return the full path name of this path; never null
+     */
+    public String getFullName() {
+        return fullName;
+    }
+
+    /**
+     * @return the number of element names in this path; always at least one
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @param index
+     *         index of the element name in this path; the root element's child is at index zero
+     *
+     * @return the interned element name
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the index is negative or not less than the length of this path
+     */
+    public String getName(int index) throws IndexOutOfBoundsException {
+        if ( (index < 0) || (index >= length) )
+            throw new IndexOutOfBoundsException("invalid index " + index + " for a path of length " + length);
+        return names[index];
+    }
+
+    /**
+     * @return the path to the parent element of the last element in this path;
+     *         null if this path only contains one element name
+     */
+    public ElementPath getParent() {
+        return parent;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj )
+            return true;
+        if ( null == obj )
+            return false;
+        if ( !(obj instanceof ElementPath) )
+            return false;
+
+        ElementPath other = (ElementPath) obj;
+
+        if ( hash != other.hash )
+            return false;
+        if ( length != other.length )
+            return false;
+        for (int k = 0; k < length; k++) {
+            if ( !names[k].equals(other.names[k]) )
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementPath{" +
+                "names=" + Arrays.toString(Arrays.copyOf(names, length)) +
+                '}';
+    }
+
+}
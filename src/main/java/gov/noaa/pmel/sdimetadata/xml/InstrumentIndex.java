@@ -0,0 +1,92 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.instrument.Sampler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index of the instruments of a dataset by name, for resolving the instrument names given in variables and
+ * samplers without searching the list of instruments.  The instruments attached to a sampler are resolved when
+ * first requested and then remembered.  Instruments found are always returned in the order they appear in the
+ * list of instruments, and all instruments with a given name are returned.  An index is not thread-safe and is
+ * intended to be used for a single document.
+ */
+final class InstrumentIndex {
+
+    private final List<Instrument> instruments;
+    /**
+     * positions in the list of instruments of the instruments with a given name
+     */
+    private final HashMap<String,ArrayList<Integer>> positions;
+    /**
+     * attached instruments of samplers that have been resolved
+     */
+    private final IdentityHashMap<Sampler,List<Instrument>> attached;
+
+    /**
+     * @param instruments
+     *         index this list of instruments, which must not be modified while this index is in use
+     */
+    InstrumentIndex(List<Instrument> instruments) {
+        this.instruments = instruments;
+        positions = new HashMap<String,ArrayList<Integer>>();
+        for (int k = 0; k < instruments.size(); k++) {
+            String name = instruments.get(k).getName();
+            ArrayList<Integer> posList = positions.get(name);
+            if ( posList == null ) {
+                posList = new ArrayList<Integer>(1);
+                positions.put(name, posList);
+            }
+            posList.add(k);
+        }
+        attached = new IdentityHashMap<Sampler,List<Instrument>>();
+    }
+
+    /**
+     * @param names
+     *         names of the instruments to find
+     *
+     * @return the instruments with any of the given names, in the order they appear in the list of instruments;
+     *         never null but may be empty
+     */
+    List<Instrument> findInstruments(Set<String> names) {
+        if ( names.isEmpty() )
+            return Collections.emptyList();
+        ArrayList<Integer> found = new ArrayList<Integer>();
+        for (String name : names) {
+            ArrayList<Integer> posList = positions.get(name);
+            if ( posList != null )
+                found.addAll(posList);
+        }
+        if ( found.size() > 1 )
+            Collections.sort(found);
+        ArrayList<Instrument> instList = new ArrayList<Instrument>(found.size());
+        for (Integer pos : found) {
+            instList.add(instruments.get(pos));
+        }
+        return instList;
+    }
+
+    /**
+     * @param sampler
+     *         get the instruments attached to this sampler
+     *
+     * @return the instruments named as attached to the given sampler, in the order they appear in the list
+     *         of instruments; never null but may be empty
+     */
+    List<Instrument> getAttachedInstruments(Sampler sampler) {
+        List<Instrument> instList = attached.get(sampler);
+        if ( instList == null ) {
+            instList = findInstruments(sampler.viewInstrumentNames());
+            attached.put(sampler, instList);
+        }
+        return instList;
+    }
+
+}
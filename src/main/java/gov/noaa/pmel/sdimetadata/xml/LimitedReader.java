@@ -0,0 +1,72 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A reader that throws an IOException once more than a given number of characters have been read.
+ */
+final class LimitedReader extends FilterReader {
+
+    private final long maxChars;
+    private long numRead;
+
+    /**
+     * @param reader
+     *         reader to read from; cannot be null
+     * @param maxChars
+     *         maximum number of characters that can be read
+     */
+    LimitedReader(Reader reader, long maxChars) {
+        super(reader);
+        this.maxChars = maxChars;
+        this.numRead = 0L;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int chr = super.read();
+        if ( chr >= 0 )
+            addRead(1);
+        return chr;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int num = super.read(cbuf, off, len);
+        if ( num > 0 )
+            addRead(num);
+        return num;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long num = super.skip(n);
+        if ( num > 0L )
+            addRead(num);
+        return num;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset not supported");
+    }
+
+    private void addRead(long num) throws IOException {
+        numRead += num;
+        if ( numRead > maxChars )
+            throw new IOException("document exceeds the maximum of " + maxChars + " characters");
+    }
+
+}
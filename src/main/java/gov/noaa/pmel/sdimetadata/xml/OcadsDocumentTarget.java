@@ -0,0 +1,56 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Builds an OCADS XML document as a JDOM document, which is written using the JDOM pretty format when finished.
+ * In compact form, the pretty format is used without an indent.  Each instance holds the state of a single
+ * document.
+ */
+final class OcadsDocumentTarget extends DocumentHandler implements OcadsTarget<Element> {
+
+    private final Writer xmlWriter;
+    private final boolean compact;
+    private final OcadsSchemaValidator validator;
+
+    /**
+     * @param rootName
+     *         name of the root element of the document
+     * @param xmlWriter
+     *         write the document to this writer
+     * @param compact
+     *         write the document in compact form?
+     * @param validator
+     *         also validate the document with this validator after it is written; if null, no validation is done
+     */
+    OcadsDocumentTarget(String rootName, Writer xmlWriter, boolean compact, OcadsSchemaValidator validator) {
+        rootElement = new Element(rootName);
+        this.xmlWriter = xmlWriter;
+        this.compact = compact;
+        this.validator = validator;
+    }
+
+    @Override
+    public void setText(Element element, String text) {
+        element.setText(text);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        Document doc = new Document(rootElement);
+        Format format = Format.getPrettyFormat();
+        if ( compact )
+            format.setIndent(null);
+        XMLOutputter outputter = new XMLOutputter(format);
+        outputter.output(doc, xmlWriter);
+        if ( validator != null )
+            validator.validate(rootElement);
+    }
+
+}
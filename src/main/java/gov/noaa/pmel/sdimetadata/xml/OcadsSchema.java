@@ -0,0 +1,96 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled XML schema for validating OCADS XML as it is written by an {@link OcadsWriter}.  Compiling a schema
+ * is expensive, so schemas are compiled once and cached for the life of the process.  Instances are immutable and
+ * may be shared between threads.
+ */
+public final class OcadsSchema {
+
+    private static final ConcurrentHashMap<String,OcadsSchema> LOADED_SCHEMAS =
+            new ConcurrentHashMap<String,OcadsSchema>();
+
+    private final String location;
+    private final Schema schema;
+
+    private OcadsSchema(String location, Schema schema) {
+        this.location = location;
+        this.schema = schema;
+    }
+
+    /**
+     * Get the compiled schema in the given XSD file.  The schema is compiled the first time a file is given and
+     * cached; later calls with the same file return the cached schema, even if the file has since changed.
+     *
+     * @param xsdFile
+     *         local XSD file containing the schema
+     *
+     * @return the compiled schema; never null
+     *
+     * @throws IllegalArgumentException
+     *         if the file cannot be found, or if the schema cannot be compiled
+     */
+    public static OcadsSchema load(File xsdFile) throws IllegalArgumentException {
+        String location;
+        try {
+            location = xsdFile.getCanonicalPath();
+        } catch ( IOException ex ) {
+            throw new IllegalArgumentException("Problems locating the schema file " + xsdFile.getPath() +
+                    ": " + ex.getMessage());
+        }
+        OcadsSchema ocadsSchema = LOADED_SCHEMAS.get(location);
+        if ( ocadsSchema == null ) {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            Schema schema;
+            try {
+                schema = factory.newSchema(new File(location));
+            } catch ( SAXException ex ) {
+                throw new IllegalArgumentException("Problems compiling the schema file " + location +
+                        ": " + ex.getMessage());
+            }
+            ocadsSchema = new OcadsSchema(location, schema);
+            OcadsSchema prev = LOADED_SCHEMAS.putIfAbsent(location, ocadsSchema);
+            if ( prev != null )
+                ocadsSchema = prev;
+        }
+        return ocadsSchema;
+    }
+
+    /**
+     * @return the canonical path of the XSD file containing this schema; never null
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * @return the compiled schema; never null
+     */
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return a new validator for validating one document against this schema
+     */
+    OcadsSchemaValidator newValidator() {
+        return new OcadsSchemaValidator(schema.newValidatorHandler());
+    }
+
+    @Override
+    public String toString() {
+        return "OcadsSchema{" +
+                "location='" + location + "'" +
+                '}';
+    }
+
+}
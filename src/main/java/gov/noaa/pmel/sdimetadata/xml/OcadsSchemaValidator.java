@@ -0,0 +1,194 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import gov.noaa.pmel.sdimetadata.xml.OcadsValidationResult.Problem;
+import gov.noaa.pmel.sdimetadata.xml.OcadsValidationResult.Severity;
+import org.jdom2.Element;
+import org.jdom2.Verifier;
+import org.xml.sax.Attributes;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import javax.xml.validation.ValidatorHandler;
+import java.util.ArrayList;
+
+/**
+ * Validates a single OCADS XML document against a schema from the elements and text of the document as it is
+ * written, without parsing the XML written.  Elements only contain either text or child elements, and have no
+ * attributes.  Problems reported by the schema validator are collected instead of thrown.
+ */
+final class OcadsSchemaValidator implements ErrorHandler {
+
+    private static final Attributes NO_ATTRIBUTES = new AttributesImpl();
+
+    private final ValidatorHandler handler;
+    /**
+     * names of the elements that have been started but not ended
+     */
+    private final ArrayList<String> openNames;
+    private final ArrayList<Problem> problems;
+    /**
+     * set after a fatal error, after which nothing more is validated
+     */
+    private boolean stopped;
+
+    /**
+     * @param handler
+     *         validate using this handler, which is used only by this validator
+     */
+    OcadsSchemaValidator(ValidatorHandler handler) {
+        this.handler = handler;
+        handler.setErrorHandler(this);
+        openNames = new ArrayList<String>();
+        problems = new ArrayList<Problem>();
+        stopped = false;
+    }
+
+    /**
+     * Start validating the document.
+     */
+    void startDocument() {
+        if ( stopped )
+            return;
+        try {
+            handler.startDocument();
+        } catch ( SAXException ex ) {
+            stop(ex);
+        }
+    }
+
+    /**
+     * Finish validating the document.
+     */
+    void endDocument() {
+        if ( stopped )
+            return;
+        try {
+            handler.endDocument();
+        } catch ( SAXException ex ) {
+            stop(ex);
+        }
+    }
+
+    /**
+     * @param name
+     *         name of the element started
+     */
+    void startElement(String name) {
+        openNames.add(name);
+        if ( stopped )
+            return;
+        try {
+            handler.startElement("", name, name, NO_ATTRIBUTES);
+        } catch ( SAXException ex ) {
+            stop(ex);
+        }
+    }
+
+    /**
+     * @param name
+     *         name of the element ended, which must be the element most recently started and not ended
+     */
+    void endElement(String name) {
+        if ( !stopped ) {
+            try {
+                handler.endElement("", name, name);
+            } catch ( SAXException ex ) {
+                stop(ex);
+            }
+        }
+        openNames.remove(openNames.size() - 1);
+    }
+
+    /**
+     * @param text
+     *         text of the current element, which is trimmed as when written; nothing is done if null or blank
+     */
+    void text(String text) {
+        if ( stopped || (text == null) )
+            return;
+        int start = 0;
+        int end = text.length();
+        while ( (start < end) && Verifier.isXMLWhitespace(text.charAt(start)) ) {
+            start++;
+        }
+        while ( (end > start) && Verifier.isXMLWhitespace(text.charAt(end - 1)) ) {
+            end--;
+        }
+        if ( start == end )
+            return;
+        try {
+            handler.characters(text.substring(start, end).toCharArray(), 0, end - start);
+        } catch ( SAXException ex ) {
+            stop(ex);
+        }
+    }
+
+    /**
+     * Validate a complete JDOM document.
+     *
+     * @param root
+     *         root element of the document
+     */
+    void validate(Element root) {
+        startDocument();
+        validateElement(root);
+        endDocument();
+    }
+
+    private void validateElement(Element element) {
+        startElement(element.getName());
+        if ( element.getChildren().isEmpty() )
+            text(element.getText());
+        else {
+            for (Element child : element.getChildren()) {
+                validateElement(child);
+            }
+        }
+        endElement(element.getName());
+    }
+
+    /**
+     * @return the result of the validation, with all problems reported so far
+     */
+    OcadsValidationResult getResult() {
+        return new OcadsValidationResult(problems);
+    }
+
+    @Override
+    public void warning(SAXParseException ex) {
+        addProblem(Severity.WARNING, ex);
+    }
+
+    @Override
+    public void error(SAXParseException ex) {
+        addProblem(Severity.ERROR, ex);
+    }
+
+    @Override
+    public void fatalError(SAXParseException ex) {
+        addProblem(Severity.FATAL_ERROR, ex);
+        stopped = true;
+    }
+
+    /**
+     * Record an exception thrown by the validator as a fatal error, unless already reported as one, and stop
+     * validating.
+     */
+    private void stop(SAXException ex) {
+        if ( !stopped )
+            addProblem(Severity.FATAL_ERROR, ex);
+        stopped = true;
+    }
+
+    private void addProblem(Severity severity, SAXException ex) {
+        StringBuilder strBldr = new StringBuilder();
+        for (String name : openNames) {
+            strBldr.append('/');
+            strBldr.append(name);
+        }
+        problems.add(new Problem(severity, strBldr.toString(), ex.getMessage()));
+    }
+
+}
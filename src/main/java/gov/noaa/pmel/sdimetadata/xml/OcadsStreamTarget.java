@@ -0,0 +1,258 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Writes an OCADS XML document as its elements are created, without building a JDOM document.  Only the content
+ * of the most recently created child element of the root element is kept in memory; when another child element of
+ * the root element is created, the previous child element is written and discarded.  Thus elements under a child
+ * of the root element cannot be modified once another child of the root element has been created.  The document
+ * written is identical to that written by an {@link OcadsDocumentTarget} in the same form.
+ */
+final class OcadsStreamTarget implements OcadsTarget<OcadsStreamTarget.Node> {
+
+    /**
+     * An element of the document, with either text or child elements as content
+     */
+    static final class Node {
+        private final String name;
+        private final Node parent;
+        private final int depth;
+        private final OcadsXmlEmitter.Markup markup;
+        private String text;
+        private ArrayList<Node> children;
+
+        private Node(String name, Node parent, OcadsXmlEmitter emitter) {
+            this.name = name;
+            this.parent = parent;
+            this.depth = (parent != null) ? parent.depth + 1 : 0;
+            this.markup = emitter.getMarkup(name, depth);
+            this.text = null;
+            this.children = null;
+        }
+
+        /**
+         * @return the first child element with the given name, or null if there is no such child element
+         */
+        private Node getChild(String childName) {
+            if ( children == null )
+                return null;
+            for (Node child : children) {
+                if ( child.name.equals(childName) )
+                    return child;
+            }
+            return null;
+        }
+
+        /**
+         * @return a new child element with the given name added as the last content of this element
+         */
+        private Node addChild(String childName, OcadsXmlEmitter emitter) {
+            Node child = new Node(childName, this, emitter);
+            if ( children == null )
+                children = new ArrayList<Node>();
+            children.add(child);
+            return child;
+        }
+    }
+
+    private final OcadsXmlEmitter emitter;
+    private final Node root;
+    /**
+     * names of the child elements of the root element already written
+     */
+    private final HashSet<String> writtenNames;
+    private boolean rootStarted;
+
+    /**
+     * @param rootName
+     *         name of the root element of the document
+     * @param writer
+     *         write the document to this writer
+     * @param compact
+     *         write the document in compact form?
+     * @param validator
+     *         also validate the document with this validator; if null, no validation is done
+     */
+    OcadsStreamTarget(String rootName, Writer writer, boolean compact, OcadsSchemaValidator validator) {
+        emitter = new OcadsXmlEmitter(writer, compact, validator);
+        root = new Node(rootName, null, emitter);
+        writtenNames = new HashSet<String>();
+        rootStarted = false;
+    }
+
+    @Override
+    public void setElementText(Node ancestor, ElementPath path, String text) {
+        boolean noText = (null == text) || text.trim().isEmpty();
+        Node start = (ancestor != null) ? ancestor : root;
+        int startIndex = getAncestorLength(start, path);
+        Node elem;
+        if ( noText )
+            elem = findElement(start, startIndex, path, path.getLength());
+        else
+            elem = createElement(start, startIndex, path, path.getLength());
+        if ( null == elem )
+            return;
+        setText(elem, noText ? "" : text.trim());
+    }
+
+    @Override
+    public String getElementText(Node ancestor, ElementPath path) {
+        Node start = (ancestor != null) ? ancestor : root;
+        Node elem = findElement(start, getAncestorLength(start, path), path, path.getLength());
+        if ( (null == elem) || (null == elem.text) )
+            return "";
+        return elem.text.trim();
+    }
+
+    @Override
+    public Node addListElement(Node ancestor, ElementPath path) {
+        Node start = (ancestor != null) ? ancestor : root;
+        Node parent = createElement(start, getAncestorLength(start, path), path, path.getLength() - 1);
+        return addChild(parent, path.getName(path.getLength() - 1));
+    }
+
+    @Override
+    public void setText(Node element, String text) {
+        OcadsXmlEmitter.checkText(text);
+        element.children = null;
+        element.text = text;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writeRootChildren();
+        if ( rootStarted ) {
+            emitter.writeEndTag(root.markup);
+        }
+        else {
+            emitter.writeDeclaration();
+            emitter.writeTextElement(root.markup, null);
+        }
+        emitter.finish();
+    }
+
+    /**
+     * @return the number of element names in the path to the given ancestor element
+     *
+     * @throws IllegalArgumentException
+     *         if the full element path does not start with the path to the ancestor element
+     */
+    private static int getAncestorLength(Node ancestor, ElementPath path) throws IllegalArgumentException {
+        boolean matches = ancestor.depth < path.getLength();
+        Node elem = ancestor;
+        for (int k = ancestor.depth - 1; matches && (k >= 0); k--) {
+            matches = elem.name.equals(path.getName(k));
+            elem = elem.parent;
+        }
+        if ( !matches )
+            throw new IllegalArgumentException("full element path (" + path.getFullName() +
+                    ") does not start with the ancestor element path");
+        return ancestor.depth;
+    }
+
+    /**
+     * Finds an element under an ancestor element using the first element with the given name at each step.
+     *
+     * @return the element found, or null if the element does not exist
+     *
+     * @throws IllegalStateException
+     *         if the path goes through a child of the root element that has already been written
+     */
+    private Node findElement(Node ancestor, int start, ElementPath path, int end) throws IllegalStateException {
+        Node elem = ancestor;
+        for (int k = start; k < end; k++) {
+            String name = path.getName(k);
+            Node child = elem.getChild(name);
+            if ( null == child ) {
+                if ( (elem == root) && writtenNames.contains(name) )
+                    throw new IllegalStateException("element " + name + " has already been written");
+                return null;
+            }
+            elem = child;
+        }
+        return elem;
+    }
+
+    /**
+     * Finds an element under an ancestor element using the first element with the given name at each step,
+     * creating any elements that do not exist.
+     *
+     * @return the element found or created; never null
+     *
+     * @throws IllegalStateException
+     *         if the path goes through a child of the root element that has already been written
+     */
+    private Node createElement(Node ancestor, int start, ElementPath path, int end) throws IllegalStateException {
+        Node elem = ancestor;
+        for (int k = start; k < end; k++) {
+            String name = path.getName(k);
+            Node child = elem.getChild(name);
+            if ( null == child ) {
+                if ( (elem == root) && writtenNames.contains(name) )
+                    throw new IllegalStateException("element " + name + " has already been written");
+                child = addChild(elem, name);
+            }
+            elem = child;
+        }
+        return elem;
+    }
+
+    /**
+     * Adds a new child element; if the parent is the root element, the existing children
+     * of the root element are first written and discarded.
+     *
+     * @return the new child element
+     *
+     * @throws UncheckedIOException
+     *         if writing the existing children of the root element throws an IOException
+     */
+    private Node addChild(Node parent, String name) {
+        if ( parent == root ) {
+            try {
+                writeRootChildren();
+            } catch ( IOException ex ) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return parent.addChild(name, emitter);
+    }
+
+    /**
+     * Write and discard the children of the root element.
+     *
+     * @throws IOException
+     *         if writing throws one
+     */
+    private void writeRootChildren() throws IOException {
+        if ( root.children == null )
+            return;
+        if ( !rootStarted ) {
+            emitter.writeDeclaration();
+            emitter.writeStartTag(root.markup);
+            rootStarted = true;
+        }
+        for (Node child : root.children) {
+            writeNode(child);
+            writtenNames.add(child.name);
+        }
+        root.children = null;
+    }
+
+    private void writeNode(Node node) throws IOException {
+        if ( node.children == null ) {
+            emitter.writeTextElement(node.markup, node.text);
+            return;
+        }
+        emitter.writeStartTag(node.markup);
+        for (Node child : node.children) {
+            writeNode(child);
+        }
+        emitter.writeEndTag(node.markup);
+    }
+
+}
@@ -0,0 +1,48 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import java.io.IOException;
+
+/**
+ * Destination of the elements of an OCADS XML document created by an OcadsWriter.  The element methods have the
+ * semantics of the {@link DocumentHandler} methods of the same name; element paths are compiled paths from the
+ * root element, which an OcadsWriter compiles only once.
+ *
+ * @param <E>
+ *         type of the handles to elements of the document
+ */
+interface OcadsTarget<E> {
+
+    /**
+     * See {@link DocumentHandler#setElementText(org.jdom2.Element, ElementPath, String)}
+     */
+    void setElementText(E ancestor, ElementPath path, String text);
+
+    /**
+     * See {@link DocumentHandler#getElementText(org.jdom2.Element, ElementPath)}
+     */
+    String getElementText(E ancestor, ElementPath path);
+
+    /**
+     * See {@link DocumentHandler#addListElement(org.jdom2.Element, ElementPath)}
+     */
+    E addListElement(E ancestor, ElementPath path);
+
+    /**
+     * Assign the text of an element, removing any existing content of the element.
+     *
+     * @param element
+     *         assign the text of this element
+     * @param text
+     *         text to assign; not trimmed
+     */
+    void setText(E element, String text);
+
+    /**
+     * Complete the document and write any of its content not yet written.
+     *
+     * @throws IOException
+     *         if writing the document throws one
+     */
+    void finish() throws IOException;
+
+}
@@ -0,0 +1,152 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of validating OCADS XML against an {@link OcadsSchema}: the problems reported by the schema validator,
+ * in the order they were reported.  Instances are immutable.
+ */
+public final class OcadsValidationResult {
+
+    /**
+     * Severity of a problem, as reported to a SAX error handler
+     */
+    public enum Severity {
+        /**
+         * a warning, which does not make the document invalid
+         */
+        WARNING,
+        /**
+         * a violation of the schema
+         */
+        ERROR,
+        /**
+         * a problem after which validation could not continue
+         */
+        FATAL_ERROR
+    }
+
+    /**
+     * A problem reported by the schema validator.  Instances are immutable.
+     */
+    public static final class Problem {
+        private final Severity severity;
+        private final String elementPath;
+        private final String message;
+
+        /**
+         * @param severity
+         *         severity of the problem; cannot be null
+         * @param elementPath
+         *         path of the element being validated when the problem was reported, with each element name
+         *         preceded by a slash; if null, an empty string is assigned
+         * @param message
+         *         description of the problem; if null, an empty string is assigned
+         */
+        Problem(Severity severity, String elementPath, String message) {
+            this.severity = severity;
+            this.elementPath = (elementPath != null) ? elementPath : "";
+            this.message = (message != null) ? message : "";
+        }
+
+        /**
+         * @return the severity of the problem; never null
+         */
+        public Severity getSeverity() {
+            return severity;
+        }
+
+        /**
+         * @return the path of the element being validated when the problem was reported, such as
+         *         "/metadata/variable/abbrev"; never null but empty if not within an element
+         */
+        public String getElementPath() {
+            return elementPath;
+        }
+
+        /**
+         * @return the description of the problem given by the validator; never null but may be empty
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj )
+                return true;
+            if ( null == obj )
+                return false;
+            if ( !(obj instanceof Problem) )
+                return false;
+
+            Problem other = (Problem) obj;
+
+            if ( severity != other.severity )
+                return false;
+            if ( !elementPath.equals(other.elementPath) )
+                return false;
+            if ( !message.equals(other.message) )
+                return false;
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 37;
+            int result = severity.hashCode();
+            result = result * prime + elementPath.hashCode();
+            result = result * prime + message.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Problem{" +
+                    "severity=" + severity +
+                    ", elementPath='" + elementPath + "'" +
+                    ", message='" + message + "'" +
+                    '}';
+        }
+    }
+
+    private final List<Problem> problems;
+
+    /**
+     * @param problems
+     *         problems reported by the validator, in the order they were reported
+     */
+    OcadsValidationResult(List<Problem> problems) {
+        this.problems = Collections.unmodifiableList(new ArrayList<Problem>(problems));
+    }
+
+    /**
+     * @return an unmodifiable list of all the problems reported, including warnings, in the order they were
+     *         reported; never null but may be empty
+     */
+    public List<Problem> getProblems() {
+        return problems;
+    }
+
+    /**
+     * @return true if no errors or fatal errors were reported; warnings may have been reported
+     */
+    public boolean isValid() {
+        for (Problem problem : problems) {
+            if ( problem.getSeverity() != Severity.WARNING )
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "OcadsValidationResult{" +
+                "problems=" + problems +
+                '}';
+    }
+
+}
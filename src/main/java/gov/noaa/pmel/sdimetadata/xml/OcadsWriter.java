@@ -1,14 +1,17 @@
 package gov.noaa.pmel.sdimetadata.xml;
 
 import gov.noaa.pmel.sdimetadata.Coverage;
+import gov.noaa.pmel.sdimetadata.MetadataSink;
 import gov.noaa.pmel.sdimetadata.MiscInfo;
-import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.SDIMetadataView;
 import gov.noaa.pmel.sdimetadata.instrument.Analyzer;
 import gov.noaa.pmel.sdimetadata.instrument.CalibrationGas;
 import gov.noaa.pmel.sdimetadata.instrument.Equilibrator;
 import gov.noaa.pmel.sdimetadata.instrument.GasSensor;
 import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.instrument.InstrumentVisitor;
 import gov.noaa.pmel.sdimetadata.instrument.PressureSensor;
+import gov.noaa.pmel.sdimetadata.instrument.SalinitySensor;
 import gov.noaa.pmel.sdimetadata.instrument.Sampler;
 import gov.noaa.pmel.sdimetadata.instrument.TemperatureSensor;
 import gov.noaa.pmel.sdimetadata.person.Investigator;
@@ -19,25 +22,36 @@ import gov.noaa.pmel.sdimetadata.util.Datestamp;
 import gov.noaa.pmel.sdimetadata.util.NumericString;
 import gov.noaa.pmel.sdimetadata.variable.AirPressure;
 import gov.noaa.pmel.sdimetadata.variable.AquGasConc;
+import gov.noaa.pmel.sdimetadata.variable.BioDataVar;
 import gov.noaa.pmel.sdimetadata.variable.DataVar;
 import gov.noaa.pmel.sdimetadata.variable.GasConc;
 import gov.noaa.pmel.sdimetadata.variable.MethodType;
+import gov.noaa.pmel.sdimetadata.variable.Temperature;
 import gov.noaa.pmel.sdimetadata.variable.Variable;
-import org.jdom2.Document;
-import org.jdom2.Element;
-import org.jdom2.output.Format;
-import org.jdom2.output.XMLOutputter;
-
+import gov.noaa.pmel.sdimetadata.variable.VariableVisitor;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
-import java.util.ArrayList;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.List;
+
+import static gov.noaa.pmel.sdimetadata.xml.DocumentHandler.SEP;
 
-public class OcadsWriter extends DocumentHandler {
+/**
+ * Writes SDIMetadata as OCADS XML.  Instances hold no per-document state, so a single instance
+ * can be reused for any number of documents and shared between threads.
+ */
+public class OcadsWriter {
 
-    private static final String ACCESS_ID_ELEMENT_NAME = "related" + SEP + "name";
-    private static final String SUBMISSION_DATE_ELEMENT_NAME = "submissiondate";
-    private static final String UPDATE_DATE_ELEMENT_NAME = "update";
+    private static final ElementPath ACCESS_ID_ELEMENT_NAME = ElementPath.compile("related" + SEP + "name");
+    private static final ElementPath SUBMISSION_DATE_ELEMENT_NAME = ElementPath.compile("submissiondate");
+    private static final ElementPath UPDATE_DATE_ELEMENT_NAME = ElementPath.compile("update");
 
     private static final String NAME_ELEMENT_NAME = "name";
     private static final String ORG_ELEMENT_NAME = "organization";
@@ -52,138 +66,176 @@ public class OcadsWriter extends DocumentHandler {
     private static final String ID_ELEMENT_NAME = "ID";
     private static final String ID_TYPE_ELEMENT_NAME = "IDtype";
 
-    private static final String SUBMITTER_ELEMENT_NAME = "datasubmitter";
-    private static final String SUBMITTER_NAME_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + NAME_ELEMENT_NAME;
-    private static final String SUBMITTER_ORG_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + ORG_ELEMENT_NAME;
-    private static final String SUBMITTER_FIRST_STREET_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + FIRST_STREET_ELEMENT_NAME;
-    private static final String SUBMITTER_SECOND_STREET_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + SECOND_STREET_ELEMENT_NAME;
-    private static final String SUBMITTER_CITY_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + CITY_ELEMENT_NAME;
-    private static final String SUBMITTER_REGION_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + REGION_ELEMENT_NAME;
-    private static final String SUBMITTER_ZIP_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + ZIP_ELEMENT_NAME;
-    private static final String SUBMITTER_COUNTRY_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + COUNTRY_ELEMENT_NAME;
-    private static final String SUBMITTER_EMAIL_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + EMAIL_ELEMENT_NAME;
-    private static final String SUBMITTER_PHONE_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + PHONE_ELEMENT_NAME;
-    private static final String SUBMITTER_ID_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + ID_ELEMENT_NAME;
-    private static final String SUBMITTER_ID_TYPE_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME + SEP + ID_TYPE_ELEMENT_NAME;
-
-    private static final String INVESTIGATOR_ELEMENT_NAME = "person";
-    private static final String INVESTIGATOR_ROLE_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + "role";
-    private static final String INVESTIGATOR_NAME_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + NAME_ELEMENT_NAME;
-    private static final String INVESTIGATOR_ORG_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + ORG_ELEMENT_NAME;
-    private static final String INVESTIGATOR_FIRST_STREET_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + FIRST_STREET_ELEMENT_NAME;
-    private static final String INVESTIGATOR_SECOND_STREET_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + SECOND_STREET_ELEMENT_NAME;
-    private static final String INVESTIGATOR_CITY_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + CITY_ELEMENT_NAME;
-    private static final String INVESTIGATOR_REGION_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + REGION_ELEMENT_NAME;
-    private static final String INVESTIGATOR_ZIP_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + ZIP_ELEMENT_NAME;
-    private static final String INVESTIGATOR_COUNTRY_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + COUNTRY_ELEMENT_NAME;
-    private static final String INVESTIGATOR_EMAIL_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + EMAIL_ELEMENT_NAME;
-    private static final String INVESTIGATOR_PHONE_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + PHONE_ELEMENT_NAME;
-    private static final String INVESTIGATOR_ID_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + ID_ELEMENT_NAME;
-    private static final String INVESTIGATOR_ID_TYPE_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME + SEP + ID_TYPE_ELEMENT_NAME;
+    private static final ElementPath SUBMITTER_ELEMENT_NAME = ElementPath.compile("datasubmitter");
+    private static final ElementPath SUBMITTER_NAME_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(NAME_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_ORG_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(ORG_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_FIRST_STREET_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(FIRST_STREET_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_SECOND_STREET_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(SECOND_STREET_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_CITY_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(CITY_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_REGION_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(REGION_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_ZIP_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(ZIP_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_COUNTRY_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(COUNTRY_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_EMAIL_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(EMAIL_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_PHONE_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(PHONE_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_ID_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(ID_ELEMENT_NAME);
+    private static final ElementPath SUBMITTER_ID_TYPE_ELEMENT_NAME = SUBMITTER_ELEMENT_NAME.child(ID_TYPE_ELEMENT_NAME);
+
+    private static final ElementPath INVESTIGATOR_ELEMENT_NAME = ElementPath.compile("person");
+    private static final ElementPath INVESTIGATOR_ROLE_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child("role");
+    private static final ElementPath INVESTIGATOR_NAME_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(NAME_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_ORG_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(ORG_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_FIRST_STREET_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(FIRST_STREET_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_SECOND_STREET_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(SECOND_STREET_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_CITY_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(CITY_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_REGION_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(REGION_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_ZIP_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(ZIP_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_COUNTRY_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(COUNTRY_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_EMAIL_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(EMAIL_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_PHONE_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(PHONE_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_ID_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(ID_ELEMENT_NAME);
+    private static final ElementPath INVESTIGATOR_ID_TYPE_ELEMENT_NAME = INVESTIGATOR_ELEMENT_NAME.child(ID_TYPE_ELEMENT_NAME);
 
     // private static final String TITLE_ELEMENT_NAME = "title";
-    private static final String SYNOPSIS_ELEMENT_NAME = "abstract";
-    private static final String PURPOSE_ELEMENT_NAME = "purpose";
-    private static final String RESEARCH_PROJECT_ELEMENT_NAME = "researchProject";
-
-    private static final String FUNDING_AGENCY_ELEMENT_NAME = "fundingAgency";
-    private static final String FUNDING_AGENCY_NAME_ELEMENT_NAME = FUNDING_AGENCY_ELEMENT_NAME + SEP + "agency";
-    private static final String FUNDING_AGENCY_TITLE_ELEMENT_NAME = FUNDING_AGENCY_ELEMENT_NAME + SEP + "title";
-    private static final String FUNDING_AGENCY_ID_ELEMENT_NAME = FUNDING_AGENCY_ELEMENT_NAME + SEP + "ID";
-
-    private static final String DATASET_ID_ELEMENT_NAME = "expocode";
-    private static final String DATASET_NAME_ELEMENT_NAME = "cruiseID";
-    private static final String SECTION_NAME_ELEMENT_NAME = "section";
-
-    private static final String CITATION_ELEMENT_NAME = "citation";
-    private static final String REFERENCE_ELEMENT_NAME = "reference";
-
-    private static final String ADDN_INFO_ELEMENT_NAME = "suppleInfo";
-    private static final String WEBSITE_ELEMENT_NAME = "link_landing";
-    private static final String DOWNLOAD_URL_ELEMENT_NAME = "link_download";
-
-    private static final String DATA_START_DATE_ELEMENT_NAME = "startdate";
-    private static final String DATA_END_DATE_ELEMENT_NAME = "enddate";
-    private static final String WESTERNMOST_LONGITUDE_ELEMENT_NAME = "westbd";
-    private static final String EASTERNMOST_LONGITUDE_ELEMENT_NAME = "eastbd";
-    private static final String SOUTHERNMOST_LATITUDE_ELEMENT_NAME = "southbd";
-    private static final String NORTHERNMOST_LATITUDE_ELEMENT_NAME = "northbd";
-    private static final String SPATIAL_REFERENCE_ELEMENT_NAME = "spatialReference";
-    private static final String GEOGRAPHIC_NAME_ELEMENT_NAME = "geographicName";
-
-    private static final String PLATFORM_ELEMENT_NAME = "Platform";
-    private static final String PLATFORM_NAME_ELEMENT_NAME = PLATFORM_ELEMENT_NAME + SEP + "PlatformName";
-    private static final String PLATFORM_ID_ELEMENT_NAME = PLATFORM_ELEMENT_NAME + SEP + "PlatformID";
-    private static final String PLATFORM_TYPE_ELEMENT_NAME = PLATFORM_ELEMENT_NAME + SEP + "PlatformType";
-    private static final String PLATFORM_OWNER_ELEMENT_NAME = PLATFORM_ELEMENT_NAME + SEP + "PlatformOwner";
-    private static final String PLATFORM_COUNTRY_ELEMENT_NAME = PLATFORM_ELEMENT_NAME + SEP + "PlatformCountry";
-
-    private static final String VARIABLE_ELEMENT_NAME = "variable";
-    private static final String VARIABLE_COLUMN_NAME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "abbrev";
-    private static final String VARIABLE_FULL_NAME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "fullname";
-    private static final String VARIABLE_UNIT_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "unit";
-    private static final String VARIABLE_OBS_TYPE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "observationType";
-    private static final String VARIABLE_IN_SITU_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "insitu";
-    private static final String VARIABLE_MEASURED_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "measured";
-    private static final String VARIABLE_MANIPULATION_METHOD_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "manipulationMethod";
-    private static final String VARIABLE_CALC_METHOD_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "calcMethod";
-    private static final String VARIABLE_SAMPLING_INST_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "samplingInstrument";
-    private static final String VARIABLE_ANALYZING_INST_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "analyzingInstrument";
-    private static final String VARIABLE_REPLICATE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "replicate";
-    private static final String VARIABLE_DURATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "duration";
-    private static final String VARIABLE_UNCERTAINTY_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "uncertainty";
-    private static final String VARIABLE_FLAG_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "flag";
-    private static final String VARIABLE_METHOD_REFERENCE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "methodReference";
-    private static final String VARIABLE_RESEARCHER_NAME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "researcherName";
-    private static final String VARIABLE_RESEARCHER_ORGANIZATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "researcherInstitution";
-    private static final String VARIABLE_ADDN_INFO_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "detailedInfo";
-    private static final String VARIABLE_INTERNAL_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "internal";
-
-    private static final String VARIABLE_SAMPLING_LOCATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "locationSeawaterIntake";
-    private static final String VARIABLE_SAMPLING_DEPTH_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "DepthSeawaterIntake";
-    private static final String VARIABLE_WATER_VAPOR_CORRECTION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "waterVaportCorrection";
-    private static final String VARIABLE_TEMPERATURE_CORRECTION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "temperatureCorrection";
-    private static final String VARIABLE_REPORT_TEMPERATURE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "co2ReportTemperature";
-
-    private static final String VARIABLE_STORAGE_METHOD_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "storageMethod";
-    private static final String VARIABLE_ANALYSIS_WATER_VOLUME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "seawatervol";
-    private static final String VARIABLE_ANALYSIS_HEADSPACE_VOLUME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "headspacevol";
-    private static final String VARIABLE_ANALYSIS_TEMPERATURE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "temperatureMeasure";
-
-    private static final String EQUILIBRATOR_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "equilibrator";
-    private static final String EQUILIBRATOR_TYPE_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "type";
-    private static final String EQUILIBRATOR_VOLUME_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "volume";
-    private static final String EQUILIBRATOR_VENTED_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "vented";
-    private static final String EQUILIBRATOR_WATER_FLOW_RATE_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "waterFlowRate";
-    private static final String EQUILIBRATOR_GAS_FLOW_RATE_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "gasFlowRate";
-    private static final String EQUILIBRATOR_TEMPERATURE_EQUI_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "temperatureEquilibratorMethod";
-    private static final String EQUILIBRATOR_PRESSURE_EQUI_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "pressureEquilibratorMethod";
-    private static final String EQUILIBRATOR_DRYING_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME + SEP + "dryMethod";
-
-    private static final String GAS_SENSOR_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "gasDetector";
-    private static final String GAS_SENSOR_MANUFACTURER_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME + SEP + "manufacturer";
-    private static final String GAS_SENSOR_MODEL_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME + SEP + "model";
-    private static final String GAS_SENSOR_RESOLUTION_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME + SEP + "resolution";
-    private static final String GAS_SENSOR_UNCERTAINTY_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME + SEP + "uncertainty";
-
-    private static final String STANDARDIZATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME + SEP + "standardization";
-    private static final String STANDARDIZATION_DESCRIPTION_ELEMENT_NAME = STANDARDIZATION_ELEMENT_NAME + SEP + "description";
-    private static final String STANDARDIZATION_FREQUENCY_ELEMENT_NAME = STANDARDIZATION_ELEMENT_NAME + SEP + "frequency";
-
-    private static final String STANDARD_GAS_ELEMENT_NAME = STANDARDIZATION_ELEMENT_NAME + SEP + "standardgas";
-    private static final String STANDARD_GAS_MANUFACTURER_ELEMENT_NAME = STANDARD_GAS_ELEMENT_NAME + SEP + "manufacturer";
-    private static final String STANDARD_GAS_CONCENTRATION_ELEMENT_NAME = STANDARD_GAS_ELEMENT_NAME + SEP + "concentration";
-    private static final String STANDARD_GAS_UNCERTAINTY_ELEMENT_NAME = STANDARD_GAS_ELEMENT_NAME + SEP + "uncertainty";
+    private static final ElementPath SYNOPSIS_ELEMENT_NAME = ElementPath.compile("abstract");
+    private static final ElementPath PURPOSE_ELEMENT_NAME = ElementPath.compile("purpose");
+    private static final ElementPath RESEARCH_PROJECT_ELEMENT_NAME = ElementPath.compile("researchProject");
+
+    private static final ElementPath FUNDING_AGENCY_ELEMENT_NAME = ElementPath.compile("fundingAgency");
+    private static final ElementPath FUNDING_AGENCY_NAME_ELEMENT_NAME = FUNDING_AGENCY_ELEMENT_NAME.child("agency");
+    private static final ElementPath FUNDING_AGENCY_TITLE_ELEMENT_NAME = FUNDING_AGENCY_ELEMENT_NAME.child("title");
+    private static final ElementPath FUNDING_AGENCY_ID_ELEMENT_NAME = FUNDING_AGENCY_ELEMENT_NAME.child("ID");
+
+    private static final ElementPath DATASET_ID_ELEMENT_NAME = ElementPath.compile("expocode");
+    private static final ElementPath DATASET_NAME_ELEMENT_NAME = ElementPath.compile("cruiseID");
+    private static final ElementPath SECTION_NAME_ELEMENT_NAME = ElementPath.compile("section");
+
+    private static final ElementPath CITATION_ELEMENT_NAME = ElementPath.compile("citation");
+    private static final ElementPath REFERENCE_ELEMENT_NAME = ElementPath.compile("reference");
+
+    private static final ElementPath ADDN_INFO_ELEMENT_NAME = ElementPath.compile("suppleInfo");
+    private static final ElementPath WEBSITE_ELEMENT_NAME = ElementPath.compile("link_landing");
+    private static final ElementPath DOWNLOAD_URL_ELEMENT_NAME = ElementPath.compile("link_download");
+
+    private static final ElementPath DATA_START_DATE_ELEMENT_NAME = ElementPath.compile("startdate");
+    private static final ElementPath DATA_END_DATE_ELEMENT_NAME = ElementPath.compile("enddate");
+    private static final ElementPath WESTERNMOST_LONGITUDE_ELEMENT_NAME = ElementPath.compile("westbd");
+    private static final ElementPath EASTERNMOST_LONGITUDE_ELEMENT_NAME = ElementPath.compile("eastbd");
+    private static final ElementPath SOUTHERNMOST_LATITUDE_ELEMENT_NAME = ElementPath.compile("southbd");
+    private static final ElementPath NORTHERNMOST_LATITUDE_ELEMENT_NAME = ElementPath.compile("northbd");
+    private static final ElementPath SPATIAL_REFERENCE_ELEMENT_NAME = ElementPath.compile("spatialReference");
+    private static final ElementPath GEOGRAPHIC_NAME_ELEMENT_NAME = ElementPath.compile("geographicName");
+
+    private static final ElementPath PLATFORM_ELEMENT_NAME = ElementPath.compile("Platform");
+    private static final ElementPath PLATFORM_NAME_ELEMENT_NAME = PLATFORM_ELEMENT_NAME.child("PlatformName");
+    private static final ElementPath PLATFORM_ID_ELEMENT_NAME = PLATFORM_ELEMENT_NAME.child("PlatformID");
+    private static final ElementPath PLATFORM_TYPE_ELEMENT_NAME = PLATFORM_ELEMENT_NAME.child("PlatformType");
+    private static final ElementPath PLATFORM_OWNER_ELEMENT_NAME = PLATFORM_ELEMENT_NAME.child("PlatformOwner");
+    private static final ElementPath PLATFORM_COUNTRY_ELEMENT_NAME = PLATFORM_ELEMENT_NAME.child("PlatformCountry");
+
+    private static final ElementPath VARIABLE_ELEMENT_NAME = ElementPath.compile("variable");
+    private static final ElementPath VARIABLE_COLUMN_NAME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("abbrev");
+    private static final ElementPath VARIABLE_FULL_NAME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("fullname");
+    private static final ElementPath VARIABLE_UNIT_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("unit");
+    private static final ElementPath VARIABLE_OBS_TYPE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("observationType");
+    private static final ElementPath VARIABLE_IN_SITU_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("insitu");
+    private static final ElementPath VARIABLE_MEASURED_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("measured");
+    private static final ElementPath VARIABLE_MANIPULATION_METHOD_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("manipulationMethod");
+    private static final ElementPath VARIABLE_CALC_METHOD_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("calcMethod");
+    private static final ElementPath VARIABLE_SAMPLING_INST_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("samplingInstrument");
+    private static final ElementPath VARIABLE_ANALYZING_INST_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("analyzingInstrument");
+    private static final ElementPath VARIABLE_REPLICATE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("replicate");
+    private static final ElementPath VARIABLE_DURATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("duration");
+    private static final ElementPath VARIABLE_UNCERTAINTY_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("uncertainty");
+    private static final ElementPath VARIABLE_FLAG_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("flag");
+    private static final ElementPath VARIABLE_METHOD_REFERENCE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("methodReference");
+    private static final ElementPath VARIABLE_RESEARCHER_NAME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("researcherName");
+    private static final ElementPath VARIABLE_RESEARCHER_ORGANIZATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("researcherInstitution");
+    private static final ElementPath VARIABLE_ADDN_INFO_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("detailedInfo");
+    private static final ElementPath VARIABLE_INTERNAL_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("internal");
+
+    private static final ElementPath VARIABLE_SAMPLING_LOCATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("locationSeawaterIntake");
+    private static final ElementPath VARIABLE_SAMPLING_DEPTH_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("DepthSeawaterIntake");
+    private static final ElementPath VARIABLE_WATER_VAPOR_CORRECTION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("waterVaportCorrection");
+    private static final ElementPath VARIABLE_TEMPERATURE_CORRECTION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("temperatureCorrection");
+    private static final ElementPath VARIABLE_REPORT_TEMPERATURE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("co2ReportTemperature");
+
+    private static final ElementPath VARIABLE_STORAGE_METHOD_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("storageMethod");
+    private static final ElementPath VARIABLE_ANALYSIS_WATER_VOLUME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("seawatervol");
+    private static final ElementPath VARIABLE_ANALYSIS_HEADSPACE_VOLUME_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("headspacevol");
+    private static final ElementPath VARIABLE_ANALYSIS_TEMPERATURE_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("temperatureMeasure");
+
+    private static final ElementPath EQUILIBRATOR_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("equilibrator");
+    private static final ElementPath EQUILIBRATOR_TYPE_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("type");
+    private static final ElementPath EQUILIBRATOR_VOLUME_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("volume");
+    private static final ElementPath EQUILIBRATOR_VENTED_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("vented");
+    private static final ElementPath EQUILIBRATOR_WATER_FLOW_RATE_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("waterFlowRate");
+    private static final ElementPath EQUILIBRATOR_GAS_FLOW_RATE_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("gasFlowRate");
+    private static final ElementPath EQUILIBRATOR_TEMPERATURE_EQUI_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("temperatureEquilibratorMethod");
+    private static final ElementPath EQUILIBRATOR_PRESSURE_EQUI_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("pressureEquilibratorMethod");
+    private static final ElementPath EQUILIBRATOR_DRYING_ELEMENT_NAME = EQUILIBRATOR_ELEMENT_NAME.child("dryMethod");
+
+    private static final ElementPath GAS_SENSOR_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("gasDetector");
+    private static final ElementPath GAS_SENSOR_MANUFACTURER_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME.child("manufacturer");
+    private static final ElementPath GAS_SENSOR_MODEL_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME.child("model");
+    private static final ElementPath GAS_SENSOR_RESOLUTION_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME.child("resolution");
+    private static final ElementPath GAS_SENSOR_UNCERTAINTY_ELEMENT_NAME = GAS_SENSOR_ELEMENT_NAME.child("uncertainty");
+
+    private static final ElementPath STANDARDIZATION_ELEMENT_NAME = VARIABLE_ELEMENT_NAME.child("standardization");
+    private static final ElementPath STANDARDIZATION_DESCRIPTION_ELEMENT_NAME = STANDARDIZATION_ELEMENT_NAME.child("description");
+    private static final ElementPath STANDARDIZATION_FREQUENCY_ELEMENT_NAME = STANDARDIZATION_ELEMENT_NAME.child("frequency");
+
+    private static final ElementPath STANDARD_GAS_ELEMENT_NAME = STANDARDIZATION_ELEMENT_NAME.child("standardgas");
+    private static final ElementPath STANDARD_GAS_MANUFACTURER_ELEMENT_NAME = STANDARD_GAS_ELEMENT_NAME.child("manufacturer");
+    private static final ElementPath STANDARD_GAS_CONCENTRATION_ELEMENT_NAME = STANDARD_GAS_ELEMENT_NAME.child("concentration");
+    private static final ElementPath STANDARD_GAS_UNCERTAINTY_ELEMENT_NAME = STANDARD_GAS_ELEMENT_NAME.child("uncertainty");
+
+    private static final String ROOT_ELEMENT_NAME = "metadata";
+
+    /**
+     * size, in characters, of the buffer used when writing to a byte stream or channel
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean streaming;
+    private final boolean compact;
 
     /**
-     * Create a new document containing only the root element for OCADS XML content
+     * Create a writer that builds each OCADS XML document as a JDOM document before writing it
      */
     public OcadsWriter() {
-        rootElement = new Element("metadata");
+        this(false);
     }
 
     /**
-     * Write the contents of the given metadata in OCADS XML to the given writer.
+     * Create a writer of OCADS XML documents.  If streaming, the OCADS XML is written as it is created without
+     * building a JDOM document.  The OCADS XML written is identical in either case.
+     *
+     * @param streaming
+     *         write the OCADS XML as it is created?
+     */
+    public OcadsWriter(boolean streaming) {
+        this(streaming, false);
+    }
+
+    /**
+     * Create a writer of OCADS XML documents.  If streaming, the OCADS XML is written as it is created without
+     * building a JDOM document.  If compact, the OCADS XML is written without indentation or line separators
+     * between elements, as done by the JDOM pretty format without an indent; otherwise the OCADS XML is written
+     * in the JDOM pretty format.  The OCADS XML written does not depend on whether streaming.
+     *
+     * @param streaming
+     *         write the OCADS XML as it is created?
+     * @param compact
+     *         write the OCADS XML in compact form?
+     */
+    public OcadsWriter(boolean streaming, boolean compact) {
+        this.streaming = streaming;
+        this.compact = compact;
+    }
+
+    /**
+     * Write the contents of the given metadata in OCADS XML to the given writer.  The XML declaration written
+     * gives the UTF-8 encoding, so the writer should encode characters in UTF-8.
      *
      * @param mdata
      *         write the contents of this metadata
@@ -193,89 +245,235 @@ public class OcadsWriter extends DocumentHandler {
      * @throws IOException
      *         if writing to the given writer throws one
      */
-    public void writeSDIMetadata(SDIMetadata mdata, Writer xmlWriter) throws IOException {
-        MiscInfo info = mdata.getMiscInfo();
-        setElementText(null, ACCESS_ID_ELEMENT_NAME, info.getAccessId());
-        ArrayList<Datestamp> history = info.getHistory();
+    public void writeSDIMetadata(SDIMetadataView mdata, Writer xmlWriter) throws IOException {
+        writeSDIMetadata(mdata, xmlWriter, (OcadsSchemaValidator) null);
+    }
+
+    /**
+     * Write the contents of the given metadata in OCADS XML to the given writer, validating the OCADS XML against
+     * the given schema as it is written.  The elements and text created are validated directly, so the XML written
+     * is not parsed.  The OCADS XML is written whether or not it is valid.
+     *
+     * @param mdata
+     *         write the contents of this metadata
+     * @param xmlWriter
+     *         write OCADS XML to this writer
+     * @param schema
+     *         validate the OCADS XML against this schema
+     *
+     * @return the result of validating the OCADS XML written; never null
+     *
+     * @throws IOException
+     *         if writing to the given writer throws one
+     */
+    public OcadsValidationResult writeSDIMetadata(SDIMetadataView mdata, Writer xmlWriter, OcadsSchema schema)
+            throws IOException {
+        OcadsSchemaValidator validator = schema.newValidator();
+        writeSDIMetadata(mdata, xmlWriter, validator);
+        return validator.getResult();
+    }
+
+    /**
+     * Write the contents of the given metadata in OCADS XML, encoded in UTF-8, to the given output stream,
+     * validating the OCADS XML against the given schema as it is written.  The output stream is flushed but not
+     * closed.  See {@link #writeSDIMetadata(SDIMetadataView, Writer, OcadsSchema)}.
+     *
+     * @param mdata
+     *         write the contents of this metadata
+     * @param xmlStream
+     *         write UTF-8 encoded OCADS XML to this output stream
+     * @param schema
+     *         validate the OCADS XML against this schema
+     *
+     * @return the result of validating the OCADS XML written; never null
+     *
+     * @throws IOException
+     *         if writing to the given output stream throws one
+     */
+    public OcadsValidationResult writeSDIMetadata(SDIMetadataView mdata, OutputStream xmlStream,
+            OcadsSchema schema) throws IOException {
+        Writer xmlWriter = new BufferedWriter(new OutputStreamWriter(xmlStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        OcadsValidationResult result = writeSDIMetadata(mdata, xmlWriter, schema);
+        xmlWriter.flush();
+        return result;
+    }
+
+    /**
+     * Write the contents of the given metadata in OCADS XML to the given writer.
+     *
+     * @param validator
+     *         also validate the OCADS XML with this validator; if null, no validation is done
+     */
+    private void writeSDIMetadata(SDIMetadataView mdata, Writer xmlWriter, OcadsSchemaValidator validator)
+            throws IOException {
+        if ( streaming ) {
+            try {
+                writeSDIMetadata(new OcadsStreamTarget(ROOT_ELEMENT_NAME, xmlWriter, compact, validator), mdata);
+            } catch ( UncheckedIOException ex ) {
+                throw ex.getCause();
+            }
+        }
+        else {
+            writeSDIMetadata(new OcadsDocumentTarget(ROOT_ELEMENT_NAME, xmlWriter, compact, validator), mdata);
+        }
+    }
+
+    /**
+     * Write the contents of the given metadata in OCADS XML, encoded in UTF-8, to the given output stream.
+     * The output stream is flushed but not closed.
+     *
+     * @param mdata
+     *         write the contents of this metadata
+     * @param xmlStream
+     *         write UTF-8 encoded OCADS XML to this output stream
+     *
+     * @throws IOException
+     *         if writing to the given output stream throws one
+     */
+    public void writeSDIMetadata(SDIMetadataView mdata, OutputStream xmlStream) throws IOException {
+        Writer xmlWriter = new BufferedWriter(new OutputStreamWriter(xmlStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writeSDIMetadata(mdata, xmlWriter);
+        xmlWriter.flush();
+    }
+
+    /**
+     * Write the contents of the given metadata in OCADS XML, encoded in UTF-8, to the given channel.
+     * The channel is not closed.
+     *
+     * @param mdata
+     *         write the contents of this metadata
+     * @param xmlChannel
+     *         write UTF-8 encoded OCADS XML to this channel, which must be in blocking mode
+     *
+     * @throws IOException
+     *         if writing to the given channel throws one
+     */
+    public void writeSDIMetadata(SDIMetadataView mdata, WritableByteChannel xmlChannel) throws IOException {
+        writeSDIMetadata(mdata, Channels.newOutputStream(xmlChannel));
+    }
+
+    /**
+     * Create a sink that writes the metadata it consumes in OCADS XML, encoded in UTF-8, to the given output stream
+     * using this writer.  See {@link #writeSDIMetadata(SDIMetadataView, OutputStream)}.
+     *
+     * @param xmlStream
+     *         write UTF-8 encoded OCADS XML to this output stream
+     *
+     * @return the sink writing OCADS XML to the output stream
+     */
+    public MetadataSink createSink(final OutputStream xmlStream) {
+        return new MetadataSink() {
+            @Override
+            public void consume(SDIMetadataView mdata) throws IOException {
+                writeSDIMetadata(mdata, xmlStream);
+            }
+        };
+    }
+
+    /**
+     * Create a sink that writes the metadata it consumes in OCADS XML to the given writer using this writer.
+     * See {@link #writeSDIMetadata(SDIMetadataView, Writer)}.
+     *
+     * @param xmlWriter
+     *         write OCADS XML to this writer
+     *
+     * @return the sink writing OCADS XML to the writer
+     */
+    public MetadataSink createSink(final Writer xmlWriter) {
+        return new MetadataSink() {
+            @Override
+            public void consume(SDIMetadataView mdata) throws IOException {
+                writeSDIMetadata(mdata, xmlWriter);
+            }
+        };
+    }
+
+    /**
+     * Create the OCADS XML for the given metadata in the given target, then finish the target.
+     *
+     * @param target
+     *         create the OCADS XML elements in this target
+     * @param mdata
+     *         write the contents of this metadata
+     *
+     * @throws IOException
+     *         if the target throws one
+     */
+    private <E> void writeSDIMetadata(OcadsTarget<E> target, SDIMetadataView mdata) throws IOException {
+        MiscInfo info = mdata.viewMiscInfo();
+        target.setElementText(null, ACCESS_ID_ELEMENT_NAME, info.getAccessId());
+        List<Datestamp> history = info.viewHistory();
         if ( history.size() > 0 )
-            setElementText(null, SUBMISSION_DATE_ELEMENT_NAME, history.get(0).stampString());
+            target.setElementText(null, SUBMISSION_DATE_ELEMENT_NAME, history.get(0).stampString());
         for (int k = 1; k < history.size(); k++) {
-            Element elem = addListElement(null, UPDATE_DATE_ELEMENT_NAME);
-            elem.setText(history.get(k).stampString());
+            E elem = target.addListElement(null, UPDATE_DATE_ELEMENT_NAME);
+            target.setText(elem, history.get(k).stampString());
         }
 
-        addInvestigatorFields(null, mdata.getSubmitter());
-        for (Investigator pi : mdata.getInvestigators()) {
-            Element ancestor = addListElement(null, INVESTIGATOR_ELEMENT_NAME);
-            addInvestigatorFields(ancestor, pi);
+        addInvestigatorFields(target, null, mdata.viewSubmitter());
+        for (Investigator pi : mdata.viewInvestigators()) {
+            E ancestor = target.addListElement(null, INVESTIGATOR_ELEMENT_NAME);
+            addInvestigatorFields(target, ancestor, pi);
         }
 
-        // setElementText(null, TITLE_ELEMENT_NAME, ?
-        setElementText(null, SYNOPSIS_ELEMENT_NAME, info.getSynopsis());
-        setElementText(null, PURPOSE_ELEMENT_NAME, info.getPurpose());
+        // target.setElementText(null, TITLE_ELEMENT_NAME, ?
+        target.setElementText(null, SYNOPSIS_ELEMENT_NAME, info.getSynopsis());
+        target.setElementText(null, PURPOSE_ELEMENT_NAME, info.getPurpose());
 
-        Coverage coverage = mdata.getCoverage();
+        Coverage coverage = mdata.viewCoverage();
         Datestamp stamp = DocumentHandler.getDatestamp(coverage.getEarliestDataTime());
         try {
-            setElementText(null, DATA_START_DATE_ELEMENT_NAME, stamp.stampString());
+            target.setElementText(null, DATA_START_DATE_ELEMENT_NAME, stamp.stampString());
         } catch ( IllegalStateException ex ) {
             // Invalid Datestamp - leave unassigned
         }
         stamp = DocumentHandler.getDatestamp(coverage.getLatestDataTime());
         try {
-            setElementText(null, DATA_END_DATE_ELEMENT_NAME, stamp.stampString());
+            target.setElementText(null, DATA_END_DATE_ELEMENT_NAME, stamp.stampString());
         } catch ( IllegalStateException ex ) {
             // Invalid Datestamp - leave unassigned
         }
-        setElementText(null, WESTERNMOST_LONGITUDE_ELEMENT_NAME, coverage.getWesternLongitude().getValueString());
-        setElementText(null, EASTERNMOST_LONGITUDE_ELEMENT_NAME, coverage.getEasternLongitude().getValueString());
-        setElementText(null, SOUTHERNMOST_LATITUDE_ELEMENT_NAME, coverage.getSouthernLatitude().getValueString());
-        setElementText(null, NORTHERNMOST_LATITUDE_ELEMENT_NAME, coverage.getNorthernLatitude().getValueString());
-        setElementText(null, SPATIAL_REFERENCE_ELEMENT_NAME, coverage.getSpatialReference());
-        for (String region : coverage.getGeographicNames()) {
-            addListElement(null, GEOGRAPHIC_NAME_ELEMENT_NAME).setText(region);
+        target.setElementText(null, WESTERNMOST_LONGITUDE_ELEMENT_NAME, coverage.getWesternLongitude().getValueString());
+        target.setElementText(null, EASTERNMOST_LONGITUDE_ELEMENT_NAME, coverage.getEasternLongitude().getValueString());
+        target.setElementText(null, SOUTHERNMOST_LATITUDE_ELEMENT_NAME, coverage.getSouthernLatitude().getValueString());
+        target.setElementText(null, NORTHERNMOST_LATITUDE_ELEMENT_NAME, coverage.getNorthernLatitude().getValueString());
+        target.setElementText(null, SPATIAL_REFERENCE_ELEMENT_NAME, coverage.getSpatialReference());
+        for (String region : coverage.viewGeographicNames()) {
+            target.setText(target.addListElement(null, GEOGRAPHIC_NAME_ELEMENT_NAME), region);
         }
 
-        setElementText(null, FUNDING_AGENCY_NAME_ELEMENT_NAME, info.getFundingAgency());
-        setElementText(null, FUNDING_AGENCY_TITLE_ELEMENT_NAME, info.getFundingTitle());
-        setElementText(null, FUNDING_AGENCY_ID_ELEMENT_NAME, info.getFundingId());
-        setElementText(null, RESEARCH_PROJECT_ELEMENT_NAME, info.getResearchProject());
+        target.setElementText(null, FUNDING_AGENCY_NAME_ELEMENT_NAME, info.getFundingAgency());
+        target.setElementText(null, FUNDING_AGENCY_TITLE_ELEMENT_NAME, info.getFundingTitle());
+        target.setElementText(null, FUNDING_AGENCY_ID_ELEMENT_NAME, info.getFundingId());
+        target.setElementText(null, RESEARCH_PROJECT_ELEMENT_NAME, info.getResearchProject());
 
-        Platform platform = mdata.getPlatform();
-        setElementText(null, PLATFORM_NAME_ELEMENT_NAME, platform.getPlatformName());
-        setElementText(null, PLATFORM_ID_ELEMENT_NAME, platform.getPlatformId());
-        setElementText(null, PLATFORM_TYPE_ELEMENT_NAME, platform.getPlatformType().toString());
-        setElementText(null, PLATFORM_OWNER_ELEMENT_NAME, platform.getPlatformOwner());
-        setElementText(null, PLATFORM_COUNTRY_ELEMENT_NAME, platform.getPlatformCountry());
+        Platform platform = mdata.viewPlatform();
+        target.setElementText(null, PLATFORM_NAME_ELEMENT_NAME, platform.getPlatformName());
+        target.setElementText(null, PLATFORM_ID_ELEMENT_NAME, platform.getPlatformId());
+        target.setElementText(null, PLATFORM_TYPE_ELEMENT_NAME, platform.getPlatformType().toString());
+        target.setElementText(null, PLATFORM_OWNER_ELEMENT_NAME, platform.getPlatformOwner());
+        target.setElementText(null, PLATFORM_COUNTRY_ELEMENT_NAME, platform.getPlatformCountry());
 
-        setElementText(null, DATASET_ID_ELEMENT_NAME, info.getDatasetId());
-        setElementText(null, DATASET_NAME_ELEMENT_NAME, info.getDatasetName());
-        setElementText(null, SECTION_NAME_ELEMENT_NAME, info.getSectionName());
+        target.setElementText(null, DATASET_ID_ELEMENT_NAME, info.getDatasetId());
+        target.setElementText(null, DATASET_NAME_ELEMENT_NAME, info.getDatasetName());
+        target.setElementText(null, SECTION_NAME_ELEMENT_NAME, info.getSectionName());
 
-        setElementText(null, CITATION_ELEMENT_NAME, info.getCitation());
+        target.setElementText(null, CITATION_ELEMENT_NAME, info.getCitation());
 
         StringBuilder strBldr = new StringBuilder();
-        for (String ref : info.getReferences()) {
+        for (String ref : info.viewReferences()) {
             if ( strBldr.length() > 0 )
                 strBldr.append("\n");
             strBldr.append(ref);
         }
-        setElementText(null, REFERENCE_ELEMENT_NAME, strBldr.toString());
+        target.setElementText(null, REFERENCE_ELEMENT_NAME, strBldr.toString());
 
-        ArrayList<Instrument> instruments = mdata.getInstruments();
-        HashSet<String> usedInstrumentNames = new HashSet<String>();
-        for (Variable var : mdata.getVariables()) {
-            Element ancestor = addListElement(null, VARIABLE_ELEMENT_NAME);
-            addVariableFields(ancestor, var);
-            if ( var instanceof DataVar )
-                usedInstrumentNames.addAll(addDataVariableAddnFields(ancestor, (DataVar) var, instruments));
-            if ( var instanceof AirPressure )
-                addAirPressureAddnFields(ancestor, (AirPressure) var);
-            if ( var instanceof GasConc )
-                addGasConcAddnFields(ancestor, (GasConc) var);
-            if ( var instanceof AquGasConc )
-                addAquGasConcAddnFields(ancestor, (AquGasConc) var);
+        List<Instrument> instruments = mdata.viewInstruments();
+        VariableElementWriter<E> varWriter = new VariableElementWriter<E>(target, new InstrumentIndex(instruments));
+        for (Variable var : mdata.viewVariables()) {
+            varWriter.write(var);
         }
+        HashSet<String> usedInstrumentNames = varWriter.usedInstrumentNames;
 
         // Additional information
         strBldr = new StringBuilder();
@@ -288,7 +486,7 @@ public class OcadsWriter extends DocumentHandler {
             }
         }
         // Include the ports-of-call
-        for (String port : info.getPortsOfCall()) {
+        for (String port : info.viewPortsOfCall()) {
             if ( strBldr.length() > 0 )
                 strBldr.append("\n");
             strBldr.append("Port of Call: ");
@@ -296,19 +494,17 @@ public class OcadsWriter extends DocumentHandler {
 
         }
         // And any additional information in the SDIMetadata
-        for (String addn : info.getAddnInfo()) {
+        for (String addn : info.viewAddnInfo()) {
             if ( strBldr.length() > 0 )
                 strBldr.append("\n");
             strBldr.append(addn);
         }
-        setElementText(null, ADDN_INFO_ELEMENT_NAME, strBldr.toString());
+        target.setElementText(null, ADDN_INFO_ELEMENT_NAME, strBldr.toString());
 
-        setElementText(null, WEBSITE_ELEMENT_NAME, info.getWebsite());
-        setElementText(null, DOWNLOAD_URL_ELEMENT_NAME, info.getDownloadUrl());
+        target.setElementText(null, WEBSITE_ELEMENT_NAME, info.getWebsite());
+        target.setElementText(null, DOWNLOAD_URL_ELEMENT_NAME, info.getDownloadUrl());
 
-        Document doc = new Document(rootElement);
-        XMLOutputter outputter = new XMLOutputter(Format.getPrettyFormat());
-        outputter.output(doc, xmlWriter);
+        target.finish();
     }
 
     /**
@@ -320,24 +516,24 @@ public class OcadsWriter extends DocumentHandler {
      * @param pi
      *         use the information from this investigator or submitter
      */
-    private void addInvestigatorFields(Element ancestor, Investigator pi) {
+    private <E> void addInvestigatorFields(OcadsTarget<E> target, E ancestor, Investigator pi) {
         boolean issubmitter;
         if ( pi instanceof Submitter ) {
             issubmitter = true;
         }
         else {
             issubmitter = false;
-            setElementText(ancestor, INVESTIGATOR_ROLE_ELEMENT_NAME, "investigator");
+            target.setElementText(ancestor, INVESTIGATOR_ROLE_ELEMENT_NAME, "investigator");
         }
         String strVal = pi.getFirstName() + " " + pi.getMiddle();
         strVal = strVal.trim() + " " + pi.getLastName();
-        setElementText(ancestor, issubmitter ? SUBMITTER_NAME_ELEMENT_NAME : INVESTIGATOR_NAME_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_NAME_ELEMENT_NAME : INVESTIGATOR_NAME_ELEMENT_NAME,
                 strVal);
-        setElementText(ancestor, issubmitter ? SUBMITTER_ORG_ELEMENT_NAME : INVESTIGATOR_ORG_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_ORG_ELEMENT_NAME : INVESTIGATOR_ORG_ELEMENT_NAME,
                 pi.getOrganization());
-        ArrayList<String> strList = pi.getStreets();
+        List<String> strList = pi.viewStreets();
         if ( strList.size() > 0 )
-            setElementText(ancestor,
+            target.setElementText(ancestor,
                     issubmitter ? SUBMITTER_FIRST_STREET_ELEMENT_NAME : INVESTIGATOR_FIRST_STREET_ELEMENT_NAME,
                     strList.get(0));
         if ( strList.size() > 1 ) {
@@ -345,25 +541,25 @@ public class OcadsWriter extends DocumentHandler {
             for (int k = 2; k < strList.size(); k++) {
                 strVal += "\n" + strList.get(k);
             }
-            setElementText(ancestor,
+            target.setElementText(ancestor,
                     issubmitter ? SUBMITTER_SECOND_STREET_ELEMENT_NAME : INVESTIGATOR_SECOND_STREET_ELEMENT_NAME,
                     strVal);
         }
-        setElementText(ancestor, issubmitter ? SUBMITTER_CITY_ELEMENT_NAME : INVESTIGATOR_CITY_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_CITY_ELEMENT_NAME : INVESTIGATOR_CITY_ELEMENT_NAME,
                 pi.getCity());
-        setElementText(ancestor, issubmitter ? SUBMITTER_REGION_ELEMENT_NAME : INVESTIGATOR_REGION_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_REGION_ELEMENT_NAME : INVESTIGATOR_REGION_ELEMENT_NAME,
                 pi.getRegion());
-        setElementText(ancestor, issubmitter ? SUBMITTER_ZIP_ELEMENT_NAME : INVESTIGATOR_ZIP_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_ZIP_ELEMENT_NAME : INVESTIGATOR_ZIP_ELEMENT_NAME,
                 pi.getZipCode());
-        setElementText(ancestor, issubmitter ? SUBMITTER_COUNTRY_ELEMENT_NAME : INVESTIGATOR_COUNTRY_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_COUNTRY_ELEMENT_NAME : INVESTIGATOR_COUNTRY_ELEMENT_NAME,
                 pi.getCountry());
-        setElementText(ancestor, issubmitter ? SUBMITTER_EMAIL_ELEMENT_NAME : INVESTIGATOR_EMAIL_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_EMAIL_ELEMENT_NAME : INVESTIGATOR_EMAIL_ELEMENT_NAME,
                 pi.getEmail());
-        setElementText(ancestor, issubmitter ? SUBMITTER_PHONE_ELEMENT_NAME : INVESTIGATOR_PHONE_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_PHONE_ELEMENT_NAME : INVESTIGATOR_PHONE_ELEMENT_NAME,
                 pi.getPhone());
-        setElementText(ancestor, issubmitter ? SUBMITTER_ID_ELEMENT_NAME : INVESTIGATOR_ID_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_ID_ELEMENT_NAME : INVESTIGATOR_ID_ELEMENT_NAME,
                 pi.getId());
-        setElementText(ancestor, issubmitter ? SUBMITTER_ID_TYPE_ELEMENT_NAME : INVESTIGATOR_ID_TYPE_ELEMENT_NAME,
+        target.setElementText(ancestor, issubmitter ? SUBMITTER_ID_TYPE_ELEMENT_NAME : INVESTIGATOR_ID_TYPE_ELEMENT_NAME,
                 pi.getIdType());
     }
 
@@ -374,37 +570,18 @@ public class OcadsWriter extends DocumentHandler {
      *         add under this element
      * @param var
      *         use the information given in this variable
+     * @param detailedInfo
+     *         detailed information for this variable
      */
-    private void addVariableFields(Element ancestor, Variable var) {
-        setElementText(ancestor, VARIABLE_COLUMN_NAME_ELEMENT_NAME, var.getColName());
-        setElementText(ancestor, VARIABLE_FULL_NAME_ELEMENT_NAME, var.getFullName());
-        setElementText(ancestor, VARIABLE_UNIT_ELEMENT_NAME, var.getVarUnit());
-        setElementText(ancestor, VARIABLE_UNCERTAINTY_ELEMENT_NAME, var.getAccuracy().asOneString());
+    private <E> void addVariableFields(OcadsTarget<E> target, E ancestor, Variable var, DetailedInfo detailedInfo) {
+        target.setElementText(ancestor, VARIABLE_COLUMN_NAME_ELEMENT_NAME, var.getColName());
+        target.setElementText(ancestor, VARIABLE_FULL_NAME_ELEMENT_NAME, var.getFullName());
+        target.setElementText(ancestor, VARIABLE_UNIT_ELEMENT_NAME, var.getVarUnit());
+        target.setElementText(ancestor, VARIABLE_UNCERTAINTY_ELEMENT_NAME, var.getAccuracy().asOneString());
         String strVal = var.getFlagColName();
         if ( !strVal.isEmpty() )
-            setElementText(ancestor, VARIABLE_FLAG_ELEMENT_NAME, "Given in column: " + strVal);
-
-        StringBuilder strBldr = new StringBuilder();
-        strVal = var.getMissVal();
-        if ( !strVal.isEmpty() ) {
-            if ( strBldr.length() > 0 )
-                strBldr.append("\n");
-            strBldr.append("Missing Value: ");
-            strBldr.append(strVal);
-        }
-        strVal = var.getPrecision().asOneString();
-        if ( !strVal.isEmpty() ) {
-            if ( strBldr.length() > 0 )
-                strBldr.append("\n");
-            strBldr.append("Resolution/Precision: ");
-            strBldr.append(strVal);
-        }
-        for (String addn : var.getAddnInfo()) {
-            if ( strBldr.length() > 0 )
-                strBldr.append("\n");
-            strBldr.append(addn);
-        }
-        setElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME, strBldr.toString());
+            target.setElementText(ancestor, VARIABLE_FLAG_ELEMENT_NAME, "Given in column: " + strVal);
+        detailedInfo.write(target, ancestor, DetailedInfo.VARIABLE_PART);
     }
 
     /**
@@ -414,138 +591,94 @@ public class OcadsWriter extends DocumentHandler {
      *         add under this element
      * @param var
      *         use the information given in this data variable
-     * @param instruments
-     *         list of instruments used in this dataset
+     * @param instIndex
+     *         index of the instruments used in this dataset
+     * @param detailedInfo
+     *         detailed information for this variable
      *
      * @return set of instrument names used in the description
      */
-    private HashSet<String> addDataVariableAddnFields(Element ancestor, DataVar var,
-            ArrayList<Instrument> instruments) {
+    private <E> HashSet<String> addDataVariableAddnFields(OcadsTarget<E> target, E ancestor, DataVar var,
+            InstrumentIndex instIndex, DetailedInfo detailedInfo) {
         HashSet<String> usedInstNames = new HashSet<String>();
 
-        setElementText(ancestor, VARIABLE_OBS_TYPE_ELEMENT_NAME, var.getObserveType());
+        target.setElementText(ancestor, VARIABLE_OBS_TYPE_ELEMENT_NAME, var.getObserveType());
         switch ( var.getMeasureMethod() ) {
             case UNSPECIFIED:
                 break;
             case MEASURED_INSITU:
-                setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Measured in-situ");
-                setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Measured in-situ");
+                target.setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Measured in-situ");
+                target.setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Measured in-situ");
                 break;
             case MEASURED_DISCRETE:
-                setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Measured from collected sample");
-                setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Measured from collected sample");
+                target.setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Measured from collected sample");
+                target.setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Measured from collected sample");
                 break;
             case MANIPULATION:
-                setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Manipulation");
-                setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Manipulation");
+                target.setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Manipulation");
+                target.setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Manipulation");
                 break;
             case RESPONSE:
-                setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Response");
-                setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Response");
+                target.setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Response");
+                target.setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Response");
                 break;
             case COMPUTED:
-                setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Computed");
-                setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Computed");
+                target.setElementText(ancestor, VARIABLE_IN_SITU_ELEMENT_NAME, "Computed");
+                target.setElementText(ancestor, VARIABLE_MEASURED_ELEMENT_NAME, "Computed");
                 break;
             default:
         }
-        setElementText(ancestor, VARIABLE_CALC_METHOD_ELEMENT_NAME, var.getMethodDescription());
-        setElementText(ancestor, VARIABLE_METHOD_REFERENCE_ELEMENT_NAME, var.getMethodReference());
-        setElementText(ancestor, VARIABLE_MANIPULATION_METHOD_ELEMENT_NAME, var.getManipulationDescription());
-        setElementText(ancestor, VARIABLE_DURATION_ELEMENT_NAME, var.getDuration());
+        target.setElementText(ancestor, VARIABLE_CALC_METHOD_ELEMENT_NAME, var.getMethodDescription());
+        target.setElementText(ancestor, VARIABLE_METHOD_REFERENCE_ELEMENT_NAME, var.getMethodReference());
+        target.setElementText(ancestor, VARIABLE_MANIPULATION_METHOD_ELEMENT_NAME, var.getManipulationDescription());
+        target.setElementText(ancestor, VARIABLE_DURATION_ELEMENT_NAME, var.getDuration());
 
-        HashSet<String> strSet = var.getInstrumentNames();
-        if ( !strSet.isEmpty() ) {
-            for (Instrument inst : instruments) {
-                if ( !strSet.contains(inst.getName()) )
-                    continue;
-                if ( inst instanceof Sampler )
-                    usedInstNames.addAll(addSamplerElements(ancestor, var, (Sampler) inst, instruments));
-                else if ( inst instanceof Analyzer )
-                    usedInstNames.addAll(addAnalyzerElements(ancestor, var, (Analyzer) inst));
-            }
+        InstrumentElementWriter<E> instWriter =
+                new InstrumentElementWriter<E>(target, ancestor, var, instIndex, usedInstNames);
+        for (Instrument inst : instIndex.findInstruments(var.viewInstrumentNames())) {
+            inst.accept(instWriter);
         }
 
         if ( (var instanceof AquGasConc) && MethodType.MEASURED_INSITU.equals(var.getMeasureMethod()) ) {
             // These tags are only defined for "autonomous" (in-situ) aqueous CO2 measurements
-            setElementText(ancestor, VARIABLE_SAMPLING_LOCATION_ELEMENT_NAME, var.getSamplingLocation());
-            setElementText(ancestor, VARIABLE_SAMPLING_DEPTH_ELEMENT_NAME, var.getSamplingElevation());
+            target.setElementText(ancestor, VARIABLE_SAMPLING_LOCATION_ELEMENT_NAME, var.getSamplingLocation());
+            target.setElementText(ancestor, VARIABLE_SAMPLING_DEPTH_ELEMENT_NAME, var.getSamplingElevation());
         }
         else {
-            String loc = var.getSamplingLocation();
-            String elev = var.getSamplingElevation();
-            if ( !(loc.isEmpty() && elev.isEmpty()) ) {
-                String addnInfo = getElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME);
-                StringBuilder strBldr = new StringBuilder();
-                if ( !loc.isEmpty() ) {
-                    strBldr.append("Sampling location: ");
-                    strBldr.append(loc);
-                }
-                if ( !elev.isEmpty() ) {
-                    if ( strBldr.length() > 0 )
-                        strBldr.append("\n");
-                    strBldr.append("Sampling elevation: ");
-                    strBldr.append(elev);
-                }
-                if ( !addnInfo.isEmpty() ) {
-                    strBldr.append("\n");
-                    strBldr.append(addnInfo);
-                }
-                setElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME, strBldr.toString());
-            }
+            detailedInfo.write(target, ancestor, DetailedInfo.SAMPLING_PART);
         }
 
         if ( (var instanceof AquGasConc) && MethodType.MEASURED_DISCRETE.equals(var.getMeasureMethod()) ) {
             // These tags are only defined for values from stored samples for CO2 and pH - but not doing pH at this time
-            setElementText(ancestor, VARIABLE_STORAGE_METHOD_ELEMENT_NAME, var.getStorageMethod());
-            setElementText(ancestor, VARIABLE_ANALYSIS_TEMPERATURE_ELEMENT_NAME, var.getAnalysisTemperature());
+            target.setElementText(ancestor, VARIABLE_STORAGE_METHOD_ELEMENT_NAME, var.getStorageMethod());
+            target.setElementText(ancestor, VARIABLE_ANALYSIS_TEMPERATURE_ELEMENT_NAME, var.getAnalysisTemperature());
         }
         else {
-            String store = var.getStorageMethod();
-            String mtemp = var.getAnalysisTemperature();
-            if ( !(store.isEmpty() && mtemp.isEmpty()) ) {
-                String addnInfo = getElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME);
-                StringBuilder strBldr = new StringBuilder();
-                if ( !store.isEmpty() ) {
-                    strBldr.append("Storage Method: ");
-                    strBldr.append(store);
-                }
-                if ( !mtemp.isEmpty() ) {
-                    if ( strBldr.length() > 0 )
-                        strBldr.append("\n");
-                    strBldr.append("Measurement Temperature: ");
-                    strBldr.append(mtemp);
-                }
-                if ( !addnInfo.isEmpty() ) {
-                    strBldr.append("\n");
-                    strBldr.append(addnInfo);
-                }
-                setElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME, strBldr.toString());
-            }
+            detailedInfo.write(target, ancestor, DetailedInfo.STORAGE_PART);
         }
-        setElementText(ancestor, VARIABLE_REPLICATE_ELEMENT_NAME, var.getReplication());
-        Person pi = var.getResearcher();
+        target.setElementText(ancestor, VARIABLE_REPLICATE_ELEMENT_NAME, var.getReplication());
+        Person pi = var.viewResearcher();
         String fullname = pi.getFirstName() + " " + pi.getMiddle();
         fullname = fullname.trim() + " " + pi.getLastName();
-        setElementText(ancestor, VARIABLE_RESEARCHER_NAME_ELEMENT_NAME, fullname);
-        setElementText(ancestor, VARIABLE_RESEARCHER_ORGANIZATION_ELEMENT_NAME, pi.getOrganization());
+        target.setElementText(ancestor, VARIABLE_RESEARCHER_NAME_ELEMENT_NAME, fullname);
+        target.setElementText(ancestor, VARIABLE_RESEARCHER_ORGANIZATION_ELEMENT_NAME, pi.getOrganization());
 
         if ( var instanceof AquGasConc ) {
             switch ( var.getMeasureMethod() ) {
                 case MEASURED_INSITU:
-                    setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "4");
+                    target.setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "4");
                     break;
                 case MEASURED_DISCRETE:
-                    setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "5");
+                    target.setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "5");
                     break;
                 default:
-                    setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "0");
+                    target.setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "0");
                     break;
             }
         }
         else {
             // Not handling DIC, TA, or pH at this time
-            setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "0");
+            target.setElementText(ancestor, VARIABLE_INTERNAL_ELEMENT_NAME, "0");
         }
 
         return usedInstNames;
@@ -556,22 +689,12 @@ public class OcadsWriter extends DocumentHandler {
      *
      * @param ancestor
      *         add under this element
-     * @param var
-     *         use the information given in this air pressure variable
+     * @param detailedInfo
+     *         detailed information for this air pressure variable
      */
-    private void addAirPressureAddnFields(Element ancestor, AirPressure var) {
-        String pressureCorrection = var.getPressureCorrection();
-        if ( pressureCorrection.isEmpty() )
-            return;
-        String addnInfo = getElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME);
-        StringBuilder strBldr = new StringBuilder();
-        strBldr.append("Pressure Correction: ");
-        strBldr.append(pressureCorrection);
-        if ( !addnInfo.isEmpty() ) {
-            strBldr.append("\n");
-            strBldr.append(addnInfo);
-        }
-        setElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME, strBldr.toString());
+    private <E> void addAirPressureAddnFields(OcadsTarget<E> target, E ancestor, DetailedInfo detailedInfo) {
+        // The pressure correction is only given in the detailed information
+        detailedInfo.write(target, ancestor, DetailedInfo.AIR_PRESSURE_PART);
     }
 
     /**
@@ -581,35 +704,18 @@ public class OcadsWriter extends DocumentHandler {
      *         add under this element
      * @param var
      *         use the information given in this gas concentration variable
+     * @param detailedInfo
+     *         detailed information for this gas concentration variable
      */
-    private void addGasConcAddnFields(Element ancestor, GasConc var) {
+    private <E> void addGasConcAddnFields(OcadsTarget<E> target, E ancestor, GasConc var,
+            DetailedInfo detailedInfo) {
         if ( (var instanceof AquGasConc) && MethodType.MEASURED_INSITU.equals(var.getMeasureMethod()) ) {
             // Only "autonomous" (in-situ) aqueous CO2 has these fields
-            setElementText(ancestor, EQUILIBRATOR_DRYING_ELEMENT_NAME, var.getDryingMethod());
-            setElementText(ancestor, VARIABLE_WATER_VAPOR_CORRECTION_ELEMENT_NAME, var.getWaterVaporCorrection());
+            target.setElementText(ancestor, EQUILIBRATOR_DRYING_ELEMENT_NAME, var.getDryingMethod());
+            target.setElementText(ancestor, VARIABLE_WATER_VAPOR_CORRECTION_ELEMENT_NAME, var.getWaterVaporCorrection());
         }
         else {
-            String dryMethod = var.getDryingMethod();
-            String waterVaporCorrection = var.getWaterVaporCorrection();
-            if ( !(dryMethod.isEmpty() && waterVaporCorrection.isEmpty()) ) {
-                String addnInfo = getElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME);
-                StringBuilder strBldr = new StringBuilder();
-                if ( !dryMethod.isEmpty() ) {
-                    strBldr.append("Drying Method: ");
-                    strBldr.append(dryMethod);
-                }
-                if ( !waterVaporCorrection.isEmpty() ) {
-                    if ( strBldr.length() > 0 )
-                        strBldr.append("\n");
-                    strBldr.append("Water Vapor Correction: ");
-                    strBldr.append(waterVaporCorrection);
-                }
-                if ( !addnInfo.isEmpty() ) {
-                    strBldr.append("\n");
-                    strBldr.append(addnInfo);
-                }
-                setElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME, strBldr.toString());
-            }
+            detailedInfo.write(target, ancestor, DetailedInfo.GAS_CONC_PART);
         }
     }
 
@@ -621,9 +727,9 @@ public class OcadsWriter extends DocumentHandler {
      * @param var
      *         use the information given in this aqueous gas concentration
      */
-    private void addAquGasConcAddnFields(Element ancestor, AquGasConc var) {
-        setElementText(ancestor, VARIABLE_REPORT_TEMPERATURE_ELEMENT_NAME, var.getReportTemperature());
-        setElementText(ancestor, VARIABLE_TEMPERATURE_CORRECTION_ELEMENT_NAME, var.getTemperatureCorrection());
+    private <E> void addAquGasConcAddnFields(OcadsTarget<E> target, E ancestor, AquGasConc var) {
+        target.setElementText(ancestor, VARIABLE_REPORT_TEMPERATURE_ELEMENT_NAME, var.getReportTemperature());
+        target.setElementText(ancestor, VARIABLE_TEMPERATURE_CORRECTION_ELEMENT_NAME, var.getTemperatureCorrection());
     }
 
     /**
@@ -635,13 +741,13 @@ public class OcadsWriter extends DocumentHandler {
      *         describe the sampler appropriately for this variable
      * @param inst
      *         describe this sampling instrument
-     * @param instruments
-     *         list of all instruments (for describing any attached instruments)
+     * @param instIndex
+     *         index of all instruments (for describing any attached instruments)
      *
      * @return set of instrument names used in the description
      */
-    private HashSet<String> addSamplerElements(Element ancestor, DataVar var, Sampler inst,
-            ArrayList<Instrument> instruments) {
+    private <E> HashSet<String> addSamplerElements(OcadsTarget<E> target, E ancestor, DataVar var, Sampler inst,
+            InstrumentIndex instIndex) {
         HashSet<String> usedInstNames = new HashSet<String>();
         usedInstNames.add(inst.getName());
 
@@ -650,7 +756,7 @@ public class OcadsWriter extends DocumentHandler {
             Equilibrator equil = (Equilibrator) inst;
             if ( MethodType.MEASURED_INSITU.equals(var.getMeasureMethod()) ) {
                 // These tags are only available for "autonomous" (in-situ) aqueous CO2
-                setElementText(ancestor, EQUILIBRATOR_TYPE_ELEMENT_NAME, equil.getEquilibratorType());
+                target.setElementText(ancestor, EQUILIBRATOR_TYPE_ELEMENT_NAME, equil.getEquilibratorType());
                 StringBuilder strBldr = new StringBuilder();
                 strBldr.append(equil.getChamberVol());
                 String vol = equil.getChamberWaterVol();
@@ -668,32 +774,27 @@ public class OcadsWriter extends DocumentHandler {
                     strBldr.append(vol);
 
                 }
-                setElementText(ancestor, EQUILIBRATOR_VOLUME_ELEMENT_NAME, strBldr.toString());
-                setElementText(ancestor, EQUILIBRATOR_VENTED_ELEMENT_NAME, equil.getVenting());
-                setElementText(ancestor, EQUILIBRATOR_WATER_FLOW_RATE_ELEMENT_NAME, equil.getWaterFlowRate());
-                setElementText(ancestor, EQUILIBRATOR_GAS_FLOW_RATE_ELEMENT_NAME, equil.getGasFlowRate());
-                HashSet<String> attachInstNames = inst.getInstrumentNames();
-                if ( !attachInstNames.isEmpty() ) {
-                    for (Instrument attachInst : instruments) {
-                        if ( attachInstNames.contains(attachInst.getName()) ) {
-                            if ( attachInst instanceof TemperatureSensor ) {
-                                usedInstNames.add(attachInst.getName());
-                                String info = getElementText(ancestor, EQUILIBRATOR_TEMPERATURE_EQUI_ELEMENT_NAME);
-                                if ( !info.isEmpty() )
-                                    info += "\n";
-                                info += getInstrumentDescription(attachInst);
-                                setElementText(ancestor, EQUILIBRATOR_TEMPERATURE_EQUI_ELEMENT_NAME, info);
-
-                            }
-                            if ( attachInst instanceof PressureSensor ) {
-                                usedInstNames.add(attachInst.getName());
-                                String info = getElementText(ancestor, EQUILIBRATOR_PRESSURE_EQUI_ELEMENT_NAME);
-                                if ( !info.isEmpty() )
-                                    info += "\n";
-                                info += getInstrumentDescription(attachInst);
-                                setElementText(ancestor, EQUILIBRATOR_PRESSURE_EQUI_ELEMENT_NAME, info);
-                            }
-                        }
+                target.setElementText(ancestor, EQUILIBRATOR_VOLUME_ELEMENT_NAME, strBldr.toString());
+                target.setElementText(ancestor, EQUILIBRATOR_VENTED_ELEMENT_NAME, equil.getVenting());
+                target.setElementText(ancestor, EQUILIBRATOR_WATER_FLOW_RATE_ELEMENT_NAME, equil.getWaterFlowRate());
+                target.setElementText(ancestor, EQUILIBRATOR_GAS_FLOW_RATE_ELEMENT_NAME, equil.getGasFlowRate());
+                for (Instrument attachInst : instIndex.getAttachedInstruments(inst)) {
+                    if ( attachInst instanceof TemperatureSensor ) {
+                        usedInstNames.add(attachInst.getName());
+                        String info = target.getElementText(ancestor, EQUILIBRATOR_TEMPERATURE_EQUI_ELEMENT_NAME);
+                        if ( !info.isEmpty() )
+                            info += "\n";
+                        info += getInstrumentDescription(attachInst);
+                        target.setElementText(ancestor, EQUILIBRATOR_TEMPERATURE_EQUI_ELEMENT_NAME, info);
+
+                    }
+                    if ( attachInst instanceof PressureSensor ) {
+                        usedInstNames.add(attachInst.getName());
+                        String info = target.getElementText(ancestor, EQUILIBRATOR_PRESSURE_EQUI_ELEMENT_NAME);
+                        if ( !info.isEmpty() )
+                            info += "\n";
+                        info += getInstrumentDescription(attachInst);
+                        target.setElementText(ancestor, EQUILIBRATOR_PRESSURE_EQUI_ELEMENT_NAME, info);
                     }
                 }
             }
@@ -702,20 +803,20 @@ public class OcadsWriter extends DocumentHandler {
                 String vol = equil.getChamberWaterVol();
                 if ( vol.isEmpty() )
                     vol = "Water volume of: " + equil.getChamberVol();
-                setElementText(ancestor, VARIABLE_ANALYSIS_WATER_VOLUME_ELEMENT_NAME, vol);
+                target.setElementText(ancestor, VARIABLE_ANALYSIS_WATER_VOLUME_ELEMENT_NAME, vol);
                 vol = equil.getChamberGasVol();
                 if ( vol.isEmpty() )
                     vol = "Gas volume of: " + equil.getChamberVol();
-                setElementText(ancestor, VARIABLE_ANALYSIS_HEADSPACE_VOLUME_ELEMENT_NAME, vol);
+                target.setElementText(ancestor, VARIABLE_ANALYSIS_HEADSPACE_VOLUME_ELEMENT_NAME, vol);
             }
         }
 
         // Always describe everything under the generic sampling instrument tag
-        String str = getElementText(ancestor, VARIABLE_SAMPLING_INST_ELEMENT_NAME);
+        String str = target.getElementText(ancestor, VARIABLE_SAMPLING_INST_ELEMENT_NAME);
         if ( !str.isEmpty() )
             str += "\n";
         str += getInstrumentDescription(inst);
-        setElementText(ancestor, VARIABLE_SAMPLING_INST_ELEMENT_NAME, str);
+        target.setElementText(ancestor, VARIABLE_SAMPLING_INST_ELEMENT_NAME, str);
 
         return usedInstNames;
     }
@@ -732,41 +833,41 @@ public class OcadsWriter extends DocumentHandler {
      *
      * @return set of instrument names used in the description
      */
-    private HashSet<String> addAnalyzerElements(Element ancestor, DataVar var, Analyzer inst) {
+    private <E> HashSet<String> addAnalyzerElements(OcadsTarget<E> target, E ancestor, DataVar var, Analyzer inst) {
         HashSet<String> usedInstNames = new HashSet<String>();
         usedInstNames.add(inst.getName());
 
         // Always describe everything under the generic analyzing instrument tag
-        String str = getElementText(ancestor, VARIABLE_ANALYZING_INST_ELEMENT_NAME);
+        String str = target.getElementText(ancestor, VARIABLE_ANALYZING_INST_ELEMENT_NAME);
         if ( !str.isEmpty() )
             str += "\n";
         str += getInstrumentDescription(inst);
-        setElementText(ancestor, VARIABLE_ANALYZING_INST_ELEMENT_NAME, str);
+        target.setElementText(ancestor, VARIABLE_ANALYZING_INST_ELEMENT_NAME, str);
 
         if ( (var instanceof AquGasConc) && (inst instanceof GasSensor) ) {
             // Repeat information in these sepcific fields
-            setElementText(ancestor, GAS_SENSOR_MANUFACTURER_ELEMENT_NAME, inst.getManufacturer());
-            setElementText(ancestor, GAS_SENSOR_MODEL_ELEMENT_NAME, inst.getModel());
-            setElementText(ancestor, GAS_SENSOR_RESOLUTION_ELEMENT_NAME, var.getPrecision().asOneString());
-            setElementText(ancestor, GAS_SENSOR_UNCERTAINTY_ELEMENT_NAME, var.getAccuracy().asOneString());
-            setElementText(ancestor, STANDARDIZATION_DESCRIPTION_ELEMENT_NAME, inst.getCalibration());
+            target.setElementText(ancestor, GAS_SENSOR_MANUFACTURER_ELEMENT_NAME, inst.getManufacturer());
+            target.setElementText(ancestor, GAS_SENSOR_MODEL_ELEMENT_NAME, inst.getModel());
+            target.setElementText(ancestor, GAS_SENSOR_RESOLUTION_ELEMENT_NAME, var.getPrecision().asOneString());
+            target.setElementText(ancestor, GAS_SENSOR_UNCERTAINTY_ELEMENT_NAME, var.getAccuracy().asOneString());
+            target.setElementText(ancestor, STANDARDIZATION_DESCRIPTION_ELEMENT_NAME, inst.getCalibration());
             GasSensor sensor = (GasSensor) inst;
             StringBuilder strBldr = new StringBuilder();
             int gasNum = 0;
-            for (CalibrationGas gas : sensor.getCalibrationGases()) {
+            for (CalibrationGas gas : sensor.viewCalibrationGases()) {
                 gasNum++;
-                Element stdGasElem = addListElement(ancestor, STANDARD_GAS_ELEMENT_NAME);
+                E stdGasElem = target.addListElement(ancestor, STANDARD_GAS_ELEMENT_NAME);
                 String info = gas.getSupplier();
                 if ( !info.isEmpty() )
                     info = " from " + info;
-                setElementText(stdGasElem, STANDARD_GAS_MANUFACTURER_ELEMENT_NAME, gas.getId() + info);
+                target.setElementText(stdGasElem, STANDARD_GAS_MANUFACTURER_ELEMENT_NAME, gas.getId() + info);
                 NumericString numStr = gas.getConcentration();
                 if ( numStr.isValid() )
-                    setElementText(stdGasElem, STANDARD_GAS_CONCENTRATION_ELEMENT_NAME,
+                    target.setElementText(stdGasElem, STANDARD_GAS_CONCENTRATION_ELEMENT_NAME,
                             numStr.asOneString() + " " + gas.getType());
                 numStr = gas.getAccuracy();
                 if ( numStr.isValid() )
-                    setElementText(stdGasElem, STANDARD_GAS_UNCERTAINTY_ELEMENT_NAME, numStr.asOneString());
+                    target.setElementText(stdGasElem, STANDARD_GAS_UNCERTAINTY_ELEMENT_NAME, numStr.asOneString());
                 info = gas.getFrequency();
                 if ( !info.isEmpty() ) {
                     if ( strBldr.length() > 0 )
@@ -777,7 +878,7 @@ public class OcadsWriter extends DocumentHandler {
                     strBldr.append(info);
                 }
             }
-            setElementText(ancestor, STANDARDIZATION_FREQUENCY_ELEMENT_NAME, strBldr.toString());
+            target.setElementText(ancestor, STANDARDIZATION_FREQUENCY_ELEMENT_NAME, strBldr.toString());
         }
 
         return usedInstNames;
@@ -824,7 +925,7 @@ public class OcadsWriter extends DocumentHandler {
                 strBldr.append(str);
             }
         }
-        for (String addn : inst.getAddnInfo()) {
+        for (String addn : inst.viewAddnInfo()) {
             if ( strBldr.length() > 0 )
                 strBldr.append("; ");
             strBldr.append(addn);
@@ -840,5 +941,266 @@ public class OcadsWriter extends DocumentHandler {
         return strBldr.toString();
     }
 
-}
+    /**
+     * Writes the elements of each variable of a document, handling each type of variable explicitly.
+     * Each instance holds the state of writing the variables of a single document.
+     */
+    private final class VariableElementWriter<E> implements VariableVisitor<Void> {
+        private final OcadsTarget<E> target;
+        private final InstrumentIndex instIndex;
+        /**
+         * names of the instruments described in the elements of the variables written
+         */
+        private final HashSet<String> usedInstrumentNames;
+        /**
+         * element of the variable being written
+         */
+        private E ancestor;
+        /**
+         * detailed information of the variable being written
+         */
+        private DetailedInfo detailedInfo;
 
+        /**
+         * @param target
+         *         create the variable elements in this target
+         * @param instIndex
+         *         index of the instruments used in the document
+         */
+        VariableElementWriter(OcadsTarget<E> target, InstrumentIndex instIndex) {
+            this.target = target;
+            this.instIndex = instIndex;
+            usedInstrumentNames = new HashSet<String>();
+        }
+
+        /**
+         * @param var
+         *         add a variable element with the information given in this variable
+         */
+        void write(Variable var) {
+            ancestor = target.addListElement(null, VARIABLE_ELEMENT_NAME);
+            detailedInfo = new DetailedInfo(var);
+            var.accept(this);
+        }
+
+        @Override
+        public Void visitVariable(Variable var) {
+            addVariableFields(target, ancestor, var, detailedInfo);
+            return null;
+        }
+
+        @Override
+        public Void visitDataVar(DataVar var) {
+            visitVariable(var);
+            usedInstrumentNames.addAll(addDataVariableAddnFields(target, ancestor, var, instIndex, detailedInfo));
+            return null;
+        }
+
+        @Override
+        public Void visitAirPressure(AirPressure var) {
+            visitDataVar(var);
+            addAirPressureAddnFields(target, ancestor, detailedInfo);
+            return null;
+        }
+
+        @Override
+        public Void visitTemperature(Temperature var) {
+            // No OCADS XML elements for the temperature fields, which only change default units
+            return visitDataVar(var);
+        }
+
+        @Override
+        public Void visitBioDataVar(BioDataVar var) {
+            // Not handling biological subject, species, or life stage at this time
+            return visitDataVar(var);
+        }
+
+        @Override
+        public Void visitGasConc(GasConc var) {
+            visitDataVar(var);
+            addGasConcAddnFields(target, ancestor, var, detailedInfo);
+            return null;
+        }
+
+        @Override
+        public Void visitAquGasConc(AquGasConc var) {
+            visitGasConc(var);
+            addAquGasConcAddnFields(target, ancestor, var);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the elements describing the instruments used by a data variable, handling each type of instrument
+     * explicitly.  Instruments that are neither samplers nor analyzers are only described in the supplemental
+     * information of the document.
+     */
+    private final class InstrumentElementWriter<E> implements InstrumentVisitor<Void> {
+        private final OcadsTarget<E> target;
+        private final E ancestor;
+        private final DataVar var;
+        private final InstrumentIndex instIndex;
+        private final HashSet<String> usedInstNames;
+
+        /**
+         * @param target
+         *         create the instrument elements in this target
+         * @param ancestor
+         *         add under this element
+         * @param var
+         *         data variable using the instruments
+         * @param instIndex
+         *         index of the instruments used in the document
+         * @param usedInstNames
+         *         add the names of instruments described to this set
+         */
+        InstrumentElementWriter(OcadsTarget<E> target, E ancestor, DataVar var, InstrumentIndex instIndex,
+                HashSet<String> usedInstNames) {
+            this.target = target;
+            this.ancestor = ancestor;
+            this.var = var;
+            this.instIndex = instIndex;
+            this.usedInstNames = usedInstNames;
+        }
+
+        @Override
+        public Void visitInstrument(Instrument inst) {
+            return null;
+        }
+
+        @Override
+        public Void visitSampler(Sampler sampler) {
+            usedInstNames.addAll(addSamplerElements(target, ancestor, var, sampler, instIndex));
+            return null;
+        }
+
+        @Override
+        public Void visitEquilibrator(Equilibrator equilibrator) {
+            return visitSampler(equilibrator);
+        }
+
+        @Override
+        public Void visitAnalyzer(Analyzer analyzer) {
+            usedInstNames.addAll(addAnalyzerElements(target, ancestor, var, analyzer));
+            return null;
+        }
+
+        @Override
+        public Void visitGasSensor(GasSensor sensor) {
+            return visitAnalyzer(sensor);
+        }
+
+        @Override
+        public Void visitPressureSensor(PressureSensor sensor) {
+            return visitAnalyzer(sensor);
+        }
+
+        @Override
+        public Void visitSalinitySensor(SalinitySensor sensor) {
+            return visitAnalyzer(sensor);
+        }
+
+        @Override
+        public Void visitTemperatureSensor(TemperatureSensor sensor) {
+            return visitAnalyzer(sensor);
+        }
+    }
+
+    /**
+     * The text of the detailed information element of a variable.  The text is assembled from all its parts before
+     * any elements of the variable are created so the element is set only once.  The element is created at the
+     * point where its first non-empty part is reached, so the position of the element among the elements of the
+     * variable depends on which parts are given.  The text starts with the part reached last and ends with the
+     * part reached first.
+     */
+    private static final class DetailedInfo {
+        /**
+         * parts of the detailed information, in the order they are reached when creating the variable elements
+         */
+        static final int VARIABLE_PART = 0;
+        static final int SAMPLING_PART = 1;
+        static final int STORAGE_PART = 2;
+        static final int AIR_PRESSURE_PART = 3;
+        static final int GAS_CONC_PART = 4;
+        private static final int NUM_PARTS = 5;
+
+        private final String text;
+        private final int firstPart;
+
+        /**
+         * @param var
+         *         assemble the detailed information of this variable
+         */
+        DetailedInfo(Variable var) {
+            StringBuilder[] parts = new StringBuilder[NUM_PARTS];
+            for (int k = 0; k < NUM_PARTS; k++) {
+                parts[k] = new StringBuilder();
+            }
+            appendLine(parts[VARIABLE_PART], "Missing Value: ", var.getMissVal());
+            appendLine(parts[VARIABLE_PART], "Resolution/Precision: ", var.getPrecision().asOneString());
+            for (String addn : var.viewAddnInfo()) {
+                appendLine(parts[VARIABLE_PART], "", addn);
+            }
+            if ( var instanceof DataVar ) {
+                DataVar dataVar = (DataVar) var;
+                boolean aqueous = dataVar instanceof AquGasConc;
+                if ( !(aqueous && MethodType.MEASURED_INSITU.equals(dataVar.getMeasureMethod())) ) {
+                    appendLine(parts[SAMPLING_PART], "Sampling location: ", dataVar.getSamplingLocation());
+                    appendLine(parts[SAMPLING_PART], "Sampling elevation: ", dataVar.getSamplingElevation());
+                }
+                if ( !(aqueous && MethodType.MEASURED_DISCRETE.equals(dataVar.getMeasureMethod())) ) {
+                    appendLine(parts[STORAGE_PART], "Storage Method: ", dataVar.getStorageMethod());
+                    appendLine(parts[STORAGE_PART], "Measurement Temperature: ", dataVar.getAnalysisTemperature());
+                }
+                if ( dataVar instanceof AirPressure ) {
+                    appendLine(parts[AIR_PRESSURE_PART], "Pressure Correction: ",
+                            ((AirPressure) dataVar).getPressureCorrection());
+                }
+                if ( (dataVar instanceof GasConc) &&
+                        !(aqueous && MethodType.MEASURED_INSITU.equals(dataVar.getMeasureMethod())) ) {
+                    GasConc gasConc = (GasConc) dataVar;
+                    appendLine(parts[GAS_CONC_PART], "Drying Method: ", gasConc.getDryingMethod());
+                    appendLine(parts[GAS_CONC_PART], "Water Vapor Correction: ", gasConc.getWaterVaporCorrection());
+                }
+            }
+            StringBuilder strBldr = new StringBuilder();
+            int first = NUM_PARTS;
+            for (int k = NUM_PARTS - 1; k >= 0; k--) {
+                if ( parts[k].length() == 0 )
+                    continue;
+                if ( strBldr.length() > 0 )
+                    strBldr.append("\n");
+                strBldr.append(parts[k]);
+                first = k;
+            }
+            text = strBldr.toString();
+            firstPart = first;
+        }
+
+        /**
+         * Append a line with the given label and value, unless the value is empty.
+         */
+        private static void appendLine(StringBuilder strBldr, String label, String value) {
+            if ( value.isEmpty() )
+                return;
+            if ( strBldr.length() > 0 )
+                strBldr.append("\n");
+            strBldr.append(label);
+            strBldr.append(value);
+        }
+
+        /**
+         * Set the detailed information element to the complete text if the given part is the first non-empty part.
+         *
+         * @param ancestor
+         *         element of the variable
+         * @param part
+         *         the part of the detailed information that has been reached
+         */
+        <E> void write(OcadsTarget<E> target, E ancestor, int part) {
+            if ( part == firstPart )
+                target.setElementText(ancestor, VARIABLE_ADDN_INFO_ELEMENT_NAME, text);
+        }
+    }
+
+}
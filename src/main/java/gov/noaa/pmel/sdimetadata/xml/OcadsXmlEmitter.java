@@ -0,0 +1,294 @@
+package gov.noaa.pmel.sdimetadata.xml;
+
+import org.jdom2.IllegalDataException;
+import org.jdom2.Verifier;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes XML directly to a Writer in exactly the form produced by a JDOM XMLOutputter using the pretty format:
+ * an indent of two spaces, "\r\n" line separators, element text trimmed, and elements without content written as
+ * &lt;name /&gt;.  In compact form, the output is that of the pretty format without an indent, which puts all the
+ * elements on one line following the declaration.  Only elements containing either text or child elements are
+ * supported.  The markup of elements is precomputed and cached, so writing a document mostly consists of writing
+ * the escaped text of elements.
+ */
+final class OcadsXmlEmitter {
+
+    private static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final String INDENT = "  ";
+
+    /**
+     * number of levels of elements for which the markup is cached
+     */
+    private static final int MAX_CACHED_DEPTH = 8;
+
+    /**
+     * cached markup of elements, indexed by the depth of the element and then by the name of the element
+     */
+    private static final ArrayList<ConcurrentHashMap<String,Markup>> CACHED_MARKUP;
+    /**
+     * cached compact markup of elements other than the root element, indexed by the name of the element
+     */
+    private static final ConcurrentHashMap<String,Markup> CACHED_COMPACT_MARKUP =
+            new ConcurrentHashMap<String,Markup>();
+
+    static {
+        CACHED_MARKUP = new ArrayList<ConcurrentHashMap<String,Markup>>(MAX_CACHED_DEPTH);
+        for (int k = 0; k < MAX_CACHED_DEPTH; k++) {
+            CACHED_MARKUP.add(new ConcurrentHashMap<String,Markup>());
+        }
+    }
+
+    /**
+     * The markup written for an element with a given name at a given depth, including indentation and line
+     * separators, precomputed so that writing an element only requires writing these strings and the escaped text.
+     * Instances are immutable and may be shared between threads.
+     */
+    static final class Markup {
+        /**
+         * indented start tag followed by a line separator, for an element containing child elements
+         */
+        private final String startLine;
+        /**
+         * indented end tag followed by a line separator, for an element containing child elements
+         */
+        private final String endLine;
+        /**
+         * indented empty-element tag followed by a line separator, for an element without content
+         */
+        private final String emptyLine;
+        /**
+         * indented start tag, for an element containing text
+         */
+        private final String textStart;
+        /**
+         * end tag followed by a line separator, for an element containing text
+         */
+        private final String textEnd;
+        /**
+         * name of the element
+         */
+        private final String name;
+
+        private Markup(String name, int depth, boolean compact) {
+            StringBuilder strBldr = new StringBuilder();
+            for (int k = 0; !compact && (k < depth); k++) {
+                strBldr.append(INDENT);
+            }
+            String indent = strBldr.toString();
+            // In compact form, the only line separator after the declaration is at the end of the root element
+            String separator = compact ? "" : LINE_SEPARATOR;
+            String endSeparator = (compact && (depth > 0)) ? "" : LINE_SEPARATOR;
+            textStart = indent + "<" + name + ">";
+            textEnd = "</" + name + ">" + endSeparator;
+            startLine = textStart + separator;
+            endLine = indent + textEnd;
+            emptyLine = indent + "<" + name + " />" + endSeparator;
+            this.name = name;
+        }
+    }
+
+    private final Writer writer;
+    private final boolean compact;
+    /**
+     * what is written for a newline in element text
+     */
+    private final String newline;
+    /**
+     * also validate the elements written with this validator, if not null
+     */
+    private final OcadsSchemaValidator validator;
+
+    /**
+     * @param writer
+     *         write the XML to this writer
+     * @param compact
+     *         write the XML in compact form?
+     * @param validator
+     *         also validate the elements written with this validator; if null, no validation is done
+     */
+    OcadsXmlEmitter(Writer writer, boolean compact, OcadsSchemaValidator validator) {
+        this.writer = writer;
+        this.compact = compact;
+        this.newline = compact ? "\n" : LINE_SEPARATOR;
+        this.validator = validator;
+    }
+
+    /**
+     * Get the markup for an element in the form written by this emitter.  The markup is cached, so repeated calls
+     * with the same name and depth normally return the same object.
+     *
+     * @param name
+     *         name of the element
+     * @param depth
+     *         number of ancestors of the element
+     *
+     * @return the markup for the element; never null
+     */
+    Markup getMarkup(String name, int depth) {
+        ConcurrentHashMap<String,Markup> cache;
+        if ( compact )
+            cache = (depth > 0) ? CACHED_COMPACT_MARKUP : null;
+        else
+            cache = (depth < MAX_CACHED_DEPTH) ? CACHED_MARKUP.get(depth) : null;
+        if ( cache == null )
+            return new Markup(name, depth, compact);
+        Markup markup = cache.get(name);
+        if ( markup == null ) {
+            markup = new Markup(name, depth, compact);
+            Markup prev = cache.putIfAbsent(name, markup);
+            if ( prev != null )
+                markup = prev;
+        }
+        return markup;
+    }
+
+    /**
+     * Write the XML declaration, which must be the first thing written.
+     *
+     * @throws IOException
+     *         if writing to the writer throws one
+     */
+    void writeDeclaration() throws IOException {
+        writer.write(DECLARATION + LINE_SEPARATOR);
+        if ( validator != null )
+            validator.startDocument();
+    }
+
+    /**
+     * Write the start tag of an element that contains child elements.
+     *
+     * @param markup
+     *         markup of the element
+     *
+     * @throws IOException
+     *         if writing to the writer throws one
+     */
+    void writeStartTag(Markup markup) throws IOException {
+        writer.write(markup.startLine);
+        if ( validator != null )
+            validator.startElement(markup.name);
+    }
+
+    /**
+     * Write the end tag of an element that contains child elements.
+     *
+     * @param markup
+     *         markup of the element
+     *
+     * @throws IOException
+     *         if writing to the writer throws one
+     */
+    void writeEndTag(Markup markup) throws IOException {
+        writer.write(markup.endLine);
+        if ( validator != null )
+            validator.endElement(markup.name);
+    }
+
+    /**
+     * Write an element that does not contain child elements.
+     *
+     * @param markup
+     *         markup of the element
+     * @param text
+     *         text of the element, which will be trimmed; if null or blank, an empty element is written
+     *
+     * @throws IOException
+     *         if writing to the writer throws one
+     */
+    void writeTextElement(Markup markup, String text) throws IOException {
+        int start = 0;
+        int end = (text != null) ? text.length() : 0;
+        while ( (start < end) && Verifier.isXMLWhitespace(text.charAt(start)) ) {
+            start++;
+        }
+        while ( (end > start) && Verifier.isXMLWhitespace(text.charAt(end - 1)) ) {
+            end--;
+        }
+        if ( start == end ) {
+            writer.write(markup.emptyLine);
+        }
+        else {
+            writer.write(markup.textStart);
+            writeEscapedText(text, start, end);
+            writer.write(markup.textEnd);
+        }
+        if ( validator != null ) {
+            validator.startElement(markup.name);
+            validator.text(text);
+            validator.endElement(markup.name);
+        }
+    }
+
+    /**
+     * Finish the document, which must be the last thing written, and flush the writer.
+     *
+     * @throws IOException
+     *         if flushing the writer throws one
+     */
+    void finish() throws IOException {
+        if ( validator != null )
+            validator.endDocument();
+        writer.flush();
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *         (IllegalDataException) if the text contains characters not allowed in XML character content
+     */
+    static void checkText(String text) throws IllegalArgumentException {
+        if ( text == null )
+            return;
+        String reason = Verifier.checkCharacterData(text);
+        if ( reason != null )
+            throw new IllegalDataException("The data \"" + text +
+                    "\" is not legal for a JDOM character content: " + reason + ".");
+    }
+
+    /**
+     * Write the characters from start to end in the given text, escaping special characters as done by JDOM for
+     * the UTF-8 encoding; in particular, carriage returns and supplementary characters are written as character
+     * references, and newlines are written as the line separator unless compact.
+     */
+    private void writeEscapedText(String text, int start, int end) throws IOException {
+        int plain = start;
+        for (int k = start; k < end; k++) {
+            char chr = text.charAt(k);
+            String replacement;
+            switch ( chr ) {
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '\r':
+                    replacement = "&#xD;";
+                    break;
+                case '\n':
+                    replacement = newline;
+                    break;
+                default:
+                    // Text has been checked, so a high surrogate is always followed by a low surrogate
+                    if ( !Character.isHighSurrogate(chr) )
+                        continue;
+                    replacement = "&#x" + Integer.toHexString(text.codePointAt(k)) + ";";
+            }
+            writer.write(text, plain, k - plain);
+            writer.write(replacement);
+            if ( Character.isHighSurrogate(chr) )
+                k++;
+            plain = k + 1;
+        }
+        writer.write(text, plain, end - plain);
+    }
+
+}
@@ -9,6 +9,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -53,7 +54,7 @@ public class AirPressureTest {
         assertEquals(EMPTY_PRESSURE, pressure.getAccuracy());
         pressure.setAccuracy(ACCURACY);
         assertEquals(ACCURACY, pressure.getAccuracy());
-        assertNotSame(ACCURACY, pressure.getAccuracy());
+        assertSame(ACCURACY, pressure.getAccuracy());
         assertEquals(AirPressure.HECTOPASCALS_UNIT, pressure.getVarUnit());
         assertEquals(EMPTY_STR, pressure.getPressureCorrection());
         pressure.setAccuracy(null);
@@ -86,7 +87,7 @@ public class AirPressureTest {
         assertEquals(EMPTY_PRESSURE, pressure.getPrecision());
         pressure.setPrecision(PRECISION);
         assertEquals(PRECISION, pressure.getPrecision());
-        assertNotSame(PRECISION, pressure.getPrecision());
+        assertSame(PRECISION, pressure.getPrecision());
         assertEquals(EMPTY_PRESSURE, pressure.getAccuracy());
         assertEquals(AirPressure.HECTOPASCALS_UNIT, pressure.getVarUnit());
         assertEquals(EMPTY_STR, pressure.getPressureCorrection());
@@ -131,8 +132,8 @@ public class AirPressureTest {
         dup = pressure.clone();
         assertEquals(pressure, dup);
         assertNotSame(pressure, dup);
-        assertNotSame(pressure.getAccuracy(), dup.getAccuracy());
-        assertNotSame(pressure.getPrecision(), dup.getPrecision());
+        assertSame(pressure.getAccuracy(), dup.getAccuracy());
+        assertSame(pressure.getPrecision(), dup.getPrecision());
     }
 
     @Test
@@ -14,6 +14,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class AquGasConcTest {
@@ -200,8 +201,8 @@ public class AquGasConcTest {
         dup = var.clone();
         assertEquals(var, dup);
         assertNotSame(var, dup);
-        assertNotSame(var.getAccuracy(), dup.getAccuracy());
-        assertNotSame(var.getPrecision(), dup.getPrecision());
+        assertSame(var.getAccuracy(), dup.getAccuracy());
+        assertSame(var.getPrecision(), dup.getPrecision());
         assertNotSame(var.getAddnInfo(), dup.getAddnInfo());
         assertNotSame(var.getResearcher(), dup.getResearcher());
         assertNotSame(var.getInstrumentNames(), dup.getInstrumentNames());
@@ -0,0 +1,125 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.MetadataSink;
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.SDIMetadataView;
+import gov.noaa.pmel.sdimetadata.xml.CdiacFanOut;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReaderFactory;
+import gov.noaa.pmel.sdimetadata.xml.OcadsWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CdiacFanOutTest {
+
+    /**
+     * Sink recording the metadata it consumes
+     */
+    private static class RecordingSink implements MetadataSink {
+        final List<SDIMetadataView> consumed =
+                Collections.synchronizedList(new ArrayList<SDIMetadataView>());
+
+        @Override
+        public void consume(SDIMetadataView mdata) {
+            consumed.add(mdata);
+        }
+    }
+
+    @Test
+    public void testConvert() throws Exception {
+        OcadsWriter ocadsWriter = new OcadsWriter();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (ExecutorService exec : new ExecutorService[] { null, executor }) {
+                ByteArrayOutputStream xmlStream = new ByteArrayOutputStream();
+                StringWriter xmlWriter = new StringWriter();
+                RecordingSink recorder = new RecordingSink();
+                CdiacFanOut fanOut = new CdiacFanOut(Arrays.asList(ocadsWriter.createSink(xmlStream),
+                        new OcadsWriter(true, true).createSink(xmlWriter), recorder), exec);
+                assertEquals(3, fanOut.getSinks().size());
+
+                SDIMetadata mdata = fanOut.convert(CdiacReaderFactory.getDefault()
+                        .createReader(new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING)));
+                assertEquals(1, recorder.consumed.size());
+                assertSame(mdata, recorder.consumed.get(0));
+
+                ByteArrayOutputStream expectedStream = new ByteArrayOutputStream();
+                ocadsWriter.writeSDIMetadata(mdata, expectedStream);
+                assertArrayEquals(expectedStream.toByteArray(), xmlStream.toByteArray());
+                StringWriter expectedWriter = new StringWriter();
+                new OcadsWriter(false, true).writeSDIMetadata(mdata, expectedWriter);
+                assertEquals(expectedWriter.toString(), xmlWriter.toString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPublishFailures() throws Exception {
+        final ConcurrentHashMap<String,Boolean> ran = new ConcurrentHashMap<String,Boolean>();
+        MetadataSink firstFailure = new MetadataSink() {
+            @Override
+            public void consume(SDIMetadataView mdata) throws IOException {
+                ran.put("first", Boolean.TRUE);
+                throw new IOException("first failure");
+            }
+        };
+        MetadataSink success = new MetadataSink() {
+            @Override
+            public void consume(SDIMetadataView mdata) {
+                ran.put("success", Boolean.TRUE);
+            }
+        };
+        MetadataSink secondFailure = new MetadataSink() {
+            @Override
+            public void consume(SDIMetadataView mdata) {
+                ran.put("second", Boolean.TRUE);
+                throw new IllegalStateException("second failure");
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (ExecutorService exec : new ExecutorService[] { null, executor }) {
+                ran.clear();
+                CdiacFanOut fanOut = new CdiacFanOut(Arrays.asList(firstFailure, success, secondFailure), exec);
+                try {
+                    fanOut.publish(new SDIMetadata());
+                    fail("publish with failing sinks succeeded");
+                } catch ( IOException ex ) {
+                    assertEquals("first failure", ex.getMessage());
+                    assertEquals(1, ex.getSuppressed().length);
+                    assertTrue(ex.getSuppressed()[0] instanceof IllegalStateException);
+                }
+                // Every sink is run even though some fail
+                assertEquals(3, ran.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try {
+            new CdiacFanOut(Arrays.asList(success, null), null);
+            fail("creating a CdiacFanOut with a null sink succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+    }
+
+}
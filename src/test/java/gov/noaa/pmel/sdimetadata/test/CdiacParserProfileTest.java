@@ -0,0 +1,260 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.xml.CdiacParserProfile;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.input.SAXBuilder;
+import org.junit.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CdiacParserProfileTest {
+
+    private static final String XML_DECL = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String DTD_SYSTEM_ID = "http://www.example.invalid/cdiac.dtd";
+    private static final String DTD_PUBLIC_ID = "-//CDIAC//DTD Underway//EN";
+    private static final String ENTITY_DTD = "<!ENTITY submitter \"Jane Doe\">\n";
+
+    /**
+     * @return the AOML CDIAC XML data string with the given DOCTYPE declaration and the
+     *         submitter name replaced with the given text
+     */
+    private static String getXmlString(String doctype, String name) {
+        String xml = CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING;
+        assertTrue(xml.startsWith(XML_DECL));
+        xml = XML_DECL + doctype + xml.substring(XML_DECL.length());
+        return xml.replace("<Name>Robert Castle</Name>", "<Name>" + name + "</Name>");
+    }
+
+    @Test
+    public void testGetDefault() {
+        CdiacParserProfile profile = CdiacParserProfile.getDefault();
+        assertFalse(profile.isLoadExternalDtd());
+        assertTrue(profile.getCatalog().isEmpty());
+        assertEquals(CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS, profile.getMaxEntityExpansions());
+        assertEquals(CdiacParserProfile.DEFAULT_MAX_DOCUMENT_CHARS, profile.getMaxDocumentChars());
+        assertEquals(new CdiacParserProfile(false, null, CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS,
+                CdiacParserProfile.DEFAULT_MAX_DOCUMENT_CHARS), profile);
+
+        SDIMetadata expected = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        SDIMetadata mdata = new CdiacReader(profile, null,
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING)).createSDIMetadata();
+        assertEquals(expected, mdata);
+    }
+
+    @Test
+    public void testConstructor() {
+        HashMap<String,String> catalog = new HashMap<String,String>();
+        catalog.put(DTD_SYSTEM_ID, ENTITY_DTD);
+        CdiacParserProfile profile = new CdiacParserProfile(true, catalog, 10, 100L);
+        assertTrue(profile.isLoadExternalDtd());
+        assertEquals(catalog, profile.getCatalog());
+        assertEquals(10, profile.getMaxEntityExpansions());
+        assertEquals(100L, profile.getMaxDocumentChars());
+
+        catalog.put(DTD_PUBLIC_ID, ENTITY_DTD);
+        assertEquals(1, profile.getCatalog().size());
+        assertNotEquals(new CdiacParserProfile(true, catalog, 10, 100L), profile);
+        try {
+            profile.getCatalog().clear();
+            fail("catalog of a profile is modifiable");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+
+        try {
+            new CdiacParserProfile(false, null, 0, 100L);
+            fail("profile created with no entity expansions allowed");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            new CdiacParserProfile(false, null, 10, 0L);
+            fail("profile created with no document characters allowed");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        catalog.put(DTD_SYSTEM_ID, null);
+        try {
+            new CdiacParserProfile(false, catalog, 10, 100L);
+            fail("profile created with null catalog content");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+    }
+
+    @Test
+    public void testCreateSAXBuilder() throws Exception {
+        String xml = XML_DECL + "<!-- document comment -->\n" +
+                "<x_tags>\n" +
+                "  <!-- element comment -->\n" +
+                "  <?some-pi some data?>\n" +
+                "  <User>\n" +
+                "    <Name> Robert <!-- interior comment -->Castle </Name>\n" +
+                "    <Organization>NOAA <b/> <i>PMEL</i> <b/> </Organization>\n" +
+                "    <Address>   </Address>\n" +
+                "    <Phone><![CDATA[ ]]> </Phone>\n" +
+                "  </User>\n" +
+                "</x_tags>\n";
+        Document expected = new SAXBuilder().build(new StringReader(xml));
+        SAXBuilder builder = CdiacParserProfile.getDefault().createSAXBuilder();
+        Document doc = builder.build(new StringReader(xml));
+        // Names are shared between documents built by the same builder
+        Element other = builder.build(new StringReader(xml)).getRootElement().getChild("User");
+        assertEquals(1, doc.getContentSize());
+        Element root = doc.getRootElement();
+        assertEquals(1, root.getContentSize());
+        Element user = root.getChild("User");
+        assertEquals(4, user.getContentSize());
+        for (Element child : user.getChildren()) {
+            Element expectedChild = expected.getRootElement().getChild("User").getChild(child.getName());
+            assertEquals(expectedChild.getTextTrim(), child.getTextTrim());
+            assertSame(other.getChild(child.getName()).getName(), child.getName());
+        }
+        assertEquals("Robert Castle", user.getChildText("Name").trim());
+        // Text around a discarded comment is not split
+        assertEquals(1, user.getChild("Name").getContentSize());
+        assertEquals("NOAA", user.getChild("Organization").getTextTrim());
+        assertEquals(7, user.getChild("Organization").getContentSize());
+        assertEquals(0, user.getChild("Address").getContentSize());
+        assertEquals(0, user.getChild("Phone").getContentSize());
+    }
+
+    @Test
+    public void testExternalDtd() throws XMLStreamException {
+        // The external DTD is not loaded by default, so the unreachable system ID is never used
+        String xml = getXmlString("<!DOCTYPE x_tags SYSTEM \"" + DTD_SYSTEM_ID + "\">\n", "Robert Castle");
+        SDIMetadata mdata = new CdiacReader(CdiacParserProfile.getDefault(), null,
+                new StringReader(xml)).createSDIMetadata();
+        assertEquals("Castle", mdata.getSubmitter().getLastName());
+        mdata = new CdiacReader(CdiacParserProfile.getDefault().createXMLStreamReader(new StringReader(xml)),
+                null).createSDIMetadata();
+        assertEquals("Castle", mdata.getSubmitter().getLastName());
+
+        // When loaded, the external DTD only comes from the catalog
+        HashMap<String,String> catalog = new HashMap<String,String>();
+        catalog.put(DTD_PUBLIC_ID, ENTITY_DTD);
+        CdiacParserProfile profile = new CdiacParserProfile(true, catalog,
+                CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS, CdiacParserProfile.DEFAULT_MAX_DOCUMENT_CHARS);
+        xml = getXmlString("<!DOCTYPE x_tags PUBLIC \"" + DTD_PUBLIC_ID + "\" \"" + DTD_SYSTEM_ID + "\">\n",
+                "&submitter;");
+        mdata = new CdiacReader(profile, null, new StringReader(xml)).createSDIMetadata();
+        assertEquals("Doe", mdata.getSubmitter().getLastName());
+        assertEquals("Jane", mdata.getSubmitter().getFirstName());
+        mdata = new CdiacReader(profile.createXMLStreamReader(new StringReader(xml)), null).createSDIMetadata();
+        assertEquals("Doe", mdata.getSubmitter().getLastName());
+    }
+
+    @Test
+    public void testExternalEntity() throws XMLStreamException {
+        // External entities not in the catalog resolve to empty content
+        String xml = getXmlString("<!DOCTYPE x_tags [\n" +
+                "  <!ENTITY local SYSTEM \"file:///etc/hostname\">\n" +
+                "  <!ENTITY remote SYSTEM \"http://www.example.invalid/name.txt\">\n" +
+                "]>\n", "Jane &local;&remote;Doe");
+        SDIMetadata mdata = new CdiacReader(CdiacParserProfile.getDefault(), null,
+                new StringReader(xml)).createSDIMetadata();
+        assertEquals("Doe", mdata.getSubmitter().getLastName());
+        assertEquals("Jane", mdata.getSubmitter().getFirstName());
+
+        HashMap<String,String> catalog = new HashMap<String,String>();
+        catalog.put("http://www.example.invalid/name.txt", "Q. ");
+        CdiacParserProfile profile = new CdiacParserProfile(false, catalog,
+                CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS, CdiacParserProfile.DEFAULT_MAX_DOCUMENT_CHARS);
+        mdata = new CdiacReader(profile, null, new StringReader(xml)).createSDIMetadata();
+        assertEquals("Doe", mdata.getSubmitter().getLastName());
+        assertEquals("Q.", mdata.getSubmitter().getMiddle());
+        mdata = new CdiacReader(profile.createXMLStreamReader(new StringReader(xml)), null).createSDIMetadata();
+        assertEquals("Q.", mdata.getSubmitter().getMiddle());
+    }
+
+    @Test
+    public void testEntityExpansionLimit() {
+        StringBuilder doctype = new StringBuilder();
+        doctype.append("<!DOCTYPE x_tags [\n  <!ENTITY lol0 \"lol\">\n");
+        for (int k = 1; k < 10; k++) {
+            doctype.append("  <!ENTITY lol").append(k).append(" \"");
+            for (int j = 0; j < 10; j++) {
+                doctype.append("&lol").append(k - 1).append(';');
+            }
+            doctype.append("\">\n");
+        }
+        doctype.append("]>\n");
+        String xml = getXmlString(doctype.toString(), "&lol9;");
+        long start = System.nanoTime();
+        try {
+            new CdiacReader(CdiacParserProfile.getDefault(), null, new StringReader(xml));
+            fail("entity expansion limit not enforced");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            new CdiacReader(CdiacParserProfile.getDefault().createXMLStreamReader(new StringReader(xml)), null);
+            fail("entity expansion limit not enforced for stream reader");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        } catch ( XMLStreamException ex ) {
+            // Also acceptable
+        }
+        assertTrue(System.nanoTime() - start < 10000000000L);
+
+        // Within the limits
+        xml = getXmlString(doctype.toString(), "&lol2;");
+        new CdiacReader(CdiacParserProfile.getDefault(), null, new StringReader(xml));
+    }
+
+    @Test
+    public void testDocumentSizeLimit() throws IOException {
+        String xml = CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING;
+        CdiacParserProfile profile = new CdiacParserProfile(false, null,
+                CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS, xml.length());
+        new CdiacReader(profile, null, new StringReader(xml));
+
+        profile = new CdiacParserProfile(false, null,
+                CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS, xml.length() - 1);
+        try {
+            new CdiacReader(profile, null, new StringReader(xml));
+            fail("document size limit not enforced");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            new CdiacReader(profile.createXMLStreamReader(new StringReader(xml)), null);
+            fail("document size limit not enforced for stream reader");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        } catch ( XMLStreamException ex ) {
+            // Also acceptable
+        }
+
+        Reader reader = profile.limitReader(new StringReader("abcdef"));
+        char[] buffer = new char[4];
+        assertEquals(4, reader.read(buffer));
+        assertEquals('e', reader.read());
+        assertEquals(1, reader.read(buffer));
+        assertEquals(-1, reader.read());
+        reader = new CdiacParserProfile(false, null, 1, 4L).limitReader(new StringReader("abcdef"));
+        assertEquals(4, reader.read(buffer));
+        try {
+            reader.read();
+            fail("reader limit not enforced");
+        } catch ( IOException ex ) {
+            // Expected result
+        }
+    }
+
+}
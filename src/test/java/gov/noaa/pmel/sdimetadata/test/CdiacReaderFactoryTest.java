@@ -0,0 +1,136 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.xml.CdiacParserProfile;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader.VarType;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReaderFactory;
+import gov.noaa.pmel.sdimetadata.xml.ColumnTypeClassifier;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class CdiacReaderFactoryTest {
+
+    @Test
+    public void testGetDefault() {
+        CdiacReaderFactory factory = CdiacReaderFactory.getDefault();
+        assertSame(factory, CdiacReaderFactory.getDefault());
+        assertSame(CdiacParserProfile.getDefault(), factory.getProfile());
+        assertSame(ColumnTypeClassifier.getDefault(), factory.getClassifier());
+
+        factory = new CdiacReaderFactory(null, null);
+        assertSame(CdiacParserProfile.getDefault(), factory.getProfile());
+        assertSame(ColumnTypeClassifier.getDefault(), factory.getClassifier());
+    }
+
+    @Test
+    public void testCreateReader() {
+        HashMap<String,VarType> addnMap = new HashMap<String,VarType>();
+        addnMap.put("windspeed", VarType.SEA_LEVEL_PRESSURE);
+        ColumnTypeClassifier classifier = new ColumnTypeClassifier(addnMap);
+        CdiacReaderFactory factory = new CdiacReaderFactory(null, classifier);
+        SDIMetadata expected = new CdiacReader(new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING),
+                addnMap).createSDIMetadata();
+
+        // Reusing the parser gives the same result each time
+        for (int k = 0; k < 3; k++) {
+            CdiacReader reader = factory.createReader(new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING));
+            assertEquals(VarType.SEA_LEVEL_PRESSURE, reader.getVarTypeFromColumnName("Wind Speed"));
+            assertEquals(expected, reader.createSDIMetadata());
+            reader = factory.createStreamingReader(
+                    new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING));
+            assertEquals(VarType.SEA_LEVEL_PRESSURE, reader.getVarTypeFromColumnName("Wind Speed"));
+            assertEquals(expected, reader.createSDIMetadata());
+        }
+
+        // A failed parse does not affect later use of the parser
+        try {
+            factory.createReader(new StringReader("<x_tags><User></x_tags>"));
+            fail("createReader of invalid XML succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            factory.createStreamingReader(new StringReader("<x_tags><User></x_tags>"));
+            fail("createStreamingReader of invalid XML succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        assertEquals(expected, factory.createReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING)).createSDIMetadata());
+        assertEquals(expected, factory.createStreamingReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING)).createSDIMetadata());
+    }
+
+    @Test
+    public void testProfileLimits() {
+        String xml = CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING;
+        CdiacReaderFactory factory = new CdiacReaderFactory(new CdiacParserProfile(false, null,
+                CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS, xml.length() - 1), null);
+        try {
+            factory.createReader(new StringReader(xml));
+            fail("document size limit not enforced");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            factory.createStreamingReader(new StringReader(xml));
+            fail("document size limit not enforced for streaming");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        // Limits apply to each document, not to all documents read by a parser
+        factory = new CdiacReaderFactory(new CdiacParserProfile(false, null,
+                CdiacParserProfile.DEFAULT_MAX_ENTITY_EXPANSIONS, xml.length()), null);
+        for (int k = 0; k < 3; k++) {
+            factory.createReader(new StringReader(xml));
+            factory.createStreamingReader(new StringReader(xml));
+        }
+    }
+
+    @Test
+    public void testSharedFactory() throws Exception {
+        final SDIMetadata expected = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        final CdiacReaderFactory factory = CdiacReaderFactory.getDefault();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArrayList<Future<String>> results = new ArrayList<Future<String>>();
+            for (int k = 0; k < 8; k++) {
+                final boolean streaming = (k % 2) == 1;
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        for (int j = 0; j < 50; j++) {
+                            StringReader xmlReader = new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING);
+                            CdiacReader reader = streaming ? factory.createStreamingReader(xmlReader) :
+                                    factory.createReader(xmlReader);
+                            SDIMetadata mdata = reader.createSDIMetadata();
+                            if ( !expected.equals(mdata) )
+                                return "metadata differs: " + mdata;
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertNull(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
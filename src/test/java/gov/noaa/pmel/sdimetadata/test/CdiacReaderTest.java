@@ -30,6 +30,11 @@ import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
 import gov.noaa.pmel.sdimetadata.xml.CdiacReader.VarType;
 import org.junit.Test;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -78,6 +83,50 @@ public class CdiacReaderTest {
         assertEquals(VarType.SEA_SURFACE_TEMPERATURE, reader.getVarTypeFromColumnName("My Name (for SST)"));
     }
 
+    @Test
+    public void testGetVarTypeFromColumnNameKeys() throws IOException {
+        CdiacReader reader = new CdiacReader(new StringReader(AOML_CDIAC_XML_DATA_STRING), null);
+        // Every key given in the original table of default key to type mappings
+        BufferedReader keysReader = new BufferedReader(new InputStreamReader(
+                CdiacReaderTest.class.getResourceAsStream("CdiacColumnKeyTypes.tsv"), "UTF-8"));
+        try {
+            int numKeys = 0;
+            String line = keysReader.readLine();
+            while ( line != null ) {
+                String[] pieces = line.split("\t");
+                assertEquals(pieces[0], VarType.valueOf(pieces[1]), reader.getVarTypeFromColumnName(pieces[0]));
+                numKeys++;
+                line = keysReader.readLine();
+            }
+            assertEquals(924, numKeys);
+        } finally {
+            keysReader.close();
+        }
+
+        // Keys not in the table are not classified
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("fCO2 at equilibrator temp [uatm]"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("fCO2 equ interpolated"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("fCO2 equ WOCE flag"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("Salinity (PSU) ±0.01"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("Salinité (PSU)"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("Températures"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("-- ** --"));
+
+        // Wildcard rules in additional mappings
+        HashMap<String,VarType> addnSet = new HashMap<String,VarType>();
+        addnSet.put("sst", VarType.OTHER);
+        addnSet.put("*wind*", VarType.OTHER);
+        addnSet.put("fco2*sal*", VarType.SALINITY);
+        addnSet.put("Bad Key", VarType.SALINITY);
+        reader = new CdiacReader(new StringReader(AOML_CDIAC_XML_DATA_STRING), addnSet);
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("SST"));
+        assertEquals(VarType.SEA_SURFACE_TEMPERATURE, reader.getVarTypeFromColumnName("SST [deg C]"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("Temp of wind"));
+        assertEquals(VarType.SALINITY, reader.getVarTypeFromColumnName("fCO2 at sal 35"));
+        assertEquals(VarType.OTHER, reader.getVarTypeFromColumnName("Bad Key"));
+        assertEquals(VarType.FCO2_WATER_EQU, reader.getVarTypeFromColumnName("fCO2_equ_w"));
+    }
+
     @Test
     public void testCreateSDIMetadata() {
         CdiacReader reader = new CdiacReader(new StringReader(AOML_CDIAC_XML_DATA_STRING), null);
@@ -842,6 +891,34 @@ public class CdiacReaderTest {
 
     }
 
+    @Test
+    public void testCreateSDIMetadataFromStream() throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        CdiacReader reader = new CdiacReader(
+                factory.createXMLStreamReader(new StringReader(AOML_CDIAC_XML_DATA_STRING)), null);
+        SDIMetadata streamed = reader.createSDIMetadata();
+        reader = new CdiacReader(new StringReader(AOML_CDIAC_XML_DATA_STRING), null);
+        SDIMetadata expected = reader.createSDIMetadata();
+        assertEquals(expected, streamed);
+
+        // Only the first element with a name is used, and elements in a namespace are ignored
+        String xml = "<x_tags xmlns:o=\"http://other\">\n" +
+                "  <User><Name>Doe, John</Name><o:Email>other@somewhere.org</o:Email></User>\n" +
+                "  <User><Name>Roe, Richard</Name><Email>richard@somewhere.org</Email></User>\n" +
+                "  <Investigator><Name>Smith, Jane</Name><Email>jane@somewhere.org</Email></Investigator>\n" +
+                "  <Investigator><Name>Jones, Ann</Name><Email>ann@somewhere.org</Email></Investigator>\n" +
+                "</x_tags>\n";
+        reader = new CdiacReader(factory.createXMLStreamReader(new StringReader(xml)), null);
+        streamed = reader.createSDIMetadata();
+        reader = new CdiacReader(new StringReader(xml), null);
+        expected = reader.createSDIMetadata();
+        assertEquals(expected, streamed);
+        assertEquals("Doe", streamed.getSubmitter().getLastName());
+        assertEquals("", streamed.getSubmitter().getEmail());
+        assertEquals(2, streamed.getInvestigators().size());
+        assertEquals("ann@somewhere.org", streamed.getInvestigators().get(1).getEmail());
+    }
+
     static final String AOML_CDIAC_XML_DATA_STRING = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
             "<?xml-stylesheet type=\"text/xsl\" href=\"http://www.aoml.noaa.gov/ocd/gcc/xml/xmlunderway2.xsl\"?>\n" +
             "<x_tags xml:space=\"preserve\">\n" +
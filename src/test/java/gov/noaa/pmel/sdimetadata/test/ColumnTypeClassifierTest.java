@@ -0,0 +1,138 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader.VarType;
+import gov.noaa.pmel.sdimetadata.xml.ColumnTypeClassifier;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class ColumnTypeClassifierTest {
+
+    private static final String[] COLUMN_NAMES = {
+            "fCO2_equ_w", "pCO2w-SST (uatm)", "xCO2AirDry (umol/mol)", "SST °C", "Equ Temp",
+            "PPPP", "PRS EQ", "Sal <permil>", "WOCE {Water}", "QC CO2 Air", "Sta", "Day", "WOCE SST",
+            "My Name (for SST)", "Wind speed"
+    };
+
+    @Test
+    public void testGetDefault() {
+        ColumnTypeClassifier classifier = ColumnTypeClassifier.getDefault();
+        assertNotNull(classifier);
+        assertSame(classifier, ColumnTypeClassifier.getDefault());
+        assertEquals(VarType.FCO2_WATER_EQU, classifier.getVarTypeFromColumnName("fCO2_equ_w"));
+        assertEquals(VarType.SEA_SURFACE_TEMPERATURE, classifier.getVarTypeFromColumnName("SST °C"));
+        assertEquals(VarType.OTHER, classifier.getVarTypeFromColumnName("My Name (for SST)"));
+        assertEquals(VarType.OTHER, classifier.getVarTypeFromColumnName(""));
+
+        classifier = new ColumnTypeClassifier(null);
+        for (String colName : COLUMN_NAMES) {
+            assertEquals(colName, ColumnTypeClassifier.getDefault().getVarTypeFromColumnName(colName),
+                    classifier.getVarTypeFromColumnName(colName));
+        }
+    }
+
+    @Test
+    public void testUnlistedColumnNames() {
+        // Column names whose keys are not in the default table remain OTHER
+        String[] otherNames = {
+                "Temp_air", "temperature_air", "Temperature QC", "pCO2_atm_flag", "pCO2_qc", "sst_std",
+                "Salinity flag", "sal_qc", "pair_count", "atm_press_std", "QF", "qf_sst", "xCO2_std",
+                "fCO2 at equilibrator temp [uatm]", "Salinity (PSU) ±0.01"
+        };
+        ColumnTypeClassifier classifier = ColumnTypeClassifier.getDefault();
+        for (String colName : otherNames) {
+            assertEquals(colName, VarType.OTHER, classifier.getVarTypeFromColumnName(colName));
+        }
+        // Keys in the default table with similar names
+        assertEquals(VarType.SEA_SURFACE_TEMPERATURE, classifier.getVarTypeFromColumnName("Temp"));
+        assertEquals(VarType.SALINITY, classifier.getVarTypeFromColumnName("Salinity"));
+        assertEquals(VarType.WOCE_CO2_ATM, classifier.getVarTypeFromColumnName("QC_air"));
+    }
+
+    @Test
+    public void testGetVarTypeFromColumnName() {
+        LinkedHashMap<String,VarType> addnMap = new LinkedHashMap<String,VarType>();
+        addnMap.put("mynameforsst", VarType.SEA_SURFACE_TEMPERATURE);
+        addnMap.put("sst", VarType.OTHER);
+        addnMap.put("wind*", VarType.OTHER);
+        addnMap.put("wind*sal*", VarType.SALINITY);
+        addnMap.put("*speed", VarType.SEA_LEVEL_PRESSURE);
+        ColumnTypeClassifier classifier = new ColumnTypeClassifier(addnMap);
+        assertEquals(VarType.SEA_SURFACE_TEMPERATURE, classifier.getVarTypeFromColumnName("My Name (for SST)"));
+        assertEquals(VarType.OTHER, classifier.getVarTypeFromColumnName("SST"));
+        assertEquals(VarType.SEA_SURFACE_TEMPERATURE, classifier.getVarTypeFromColumnName("SST °C"));
+        assertEquals(VarType.OTHER, classifier.getVarTypeFromColumnName("Wind speed"));
+        assertEquals(VarType.OTHER, classifier.getVarTypeFromColumnName("Wind (salty)"));
+        assertEquals(VarType.SEA_LEVEL_PRESSURE, classifier.getVarTypeFromColumnName("Ship speed"));
+        assertEquals(VarType.FCO2_WATER_EQU, classifier.getVarTypeFromColumnName("fCO2_equ_w"));
+        assertEquals(VarType.OTHER, classifier.getVarTypeFromColumnName("Day"));
+
+        // Changes to the map after creating the classifier have no effect
+        addnMap.put("day", VarType.SALINITY);
+        assertEquals(VarType.OTHER, classifier.getVarTypeFromColumnName("Day"));
+
+        // The default classifier is not changed
+        assertEquals(VarType.OTHER, ColumnTypeClassifier.getDefault().getVarTypeFromColumnName("My Name (for SST)"));
+        assertEquals(VarType.SEA_SURFACE_TEMPERATURE,
+                ColumnTypeClassifier.getDefault().getVarTypeFromColumnName("SST"));
+    }
+
+    @Test
+    public void testSharedClassifier() throws Exception {
+        HashMap<String,VarType> addnMap = new HashMap<String,VarType>();
+        addnMap.put("mynameforsst", VarType.SEA_SURFACE_TEMPERATURE);
+        addnMap.put("windspeed", VarType.OTHER);
+        final ColumnTypeClassifier classifier = new ColumnTypeClassifier(addnMap);
+
+        final CdiacReader expectedReader = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), addnMap);
+        for (String colName : COLUMN_NAMES) {
+            assertEquals(colName, expectedReader.getVarTypeFromColumnName(colName),
+                    classifier.getVarTypeFromColumnName(colName));
+        }
+
+        CdiacReader reader = new CdiacReader(classifier,
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING));
+        assertEquals(expectedReader.createSDIMetadata(), reader.createSDIMetadata());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArrayList<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int k = 0; k < 16; k++) {
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        CdiacReader threadReader = new CdiacReader(classifier,
+                                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING));
+                        for (int j = 0; j < 1000; j++) {
+                            for (String colName : COLUMN_NAMES) {
+                                if ( expectedReader.getVarTypeFromColumnName(colName) !=
+                                        threadReader.getVarTypeFromColumnName(colName) )
+                                    return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertEquals(Boolean.TRUE, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
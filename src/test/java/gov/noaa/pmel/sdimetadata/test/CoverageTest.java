@@ -18,6 +18,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -61,8 +62,8 @@ public class CoverageTest {
         coverage.setWesternLongitude(WESTERN_LONGITUDE);
         NumericString numstr = coverage.getWesternLongitude();
         assertEquals(WESTERN_LONGITUDE, numstr);
-        assertNotSame(WESTERN_LONGITUDE, numstr);
-        assertNotSame(numstr, coverage.getWesternLongitude());
+        assertSame(WESTERN_LONGITUDE, numstr);
+        assertSame(numstr, coverage.getWesternLongitude());
         coverage.setWesternLongitude(null);
         assertEquals(EMPTY_LONGITUDE, coverage.getWesternLongitude());
         try {
@@ -86,8 +87,8 @@ public class CoverageTest {
         coverage.setEasternLongitude(EASTERN_LONGITUDE);
         NumericString numstr = coverage.getEasternLongitude();
         assertEquals(EASTERN_LONGITUDE, numstr);
-        assertNotSame(EASTERN_LONGITUDE, numstr);
-        assertNotSame(numstr, coverage.getEasternLongitude());
+        assertSame(EASTERN_LONGITUDE, numstr);
+        assertSame(numstr, coverage.getEasternLongitude());
         assertEquals(EMPTY_LONGITUDE, coverage.getWesternLongitude());
         coverage.setEasternLongitude(null);
         assertEquals(EMPTY_LONGITUDE, coverage.getEasternLongitude());
@@ -112,8 +113,8 @@ public class CoverageTest {
         coverage.setSouthernLatitude(SOUTHERN_LATITUDE);
         NumericString numstr = coverage.getSouthernLatitude();
         assertEquals(SOUTHERN_LATITUDE, numstr);
-        assertNotSame(SOUTHERN_LATITUDE, numstr);
-        assertNotSame(numstr, coverage.getSouthernLatitude());
+        assertSame(SOUTHERN_LATITUDE, numstr);
+        assertSame(numstr, coverage.getSouthernLatitude());
         assertEquals(EMPTY_LONGITUDE, coverage.getEasternLongitude());
         assertEquals(EMPTY_LONGITUDE, coverage.getWesternLongitude());
         coverage.setSouthernLatitude(null);
@@ -139,8 +140,8 @@ public class CoverageTest {
         coverage.setNorthernLatitude(NORTHERN_LATITUDE);
         NumericString numstr = coverage.getNorthernLatitude();
         assertEquals(NORTHERN_LATITUDE, numstr);
-        assertNotSame(NORTHERN_LATITUDE, numstr);
-        assertNotSame(numstr, coverage.getNorthernLatitude());
+        assertSame(NORTHERN_LATITUDE, numstr);
+        assertSame(numstr, coverage.getNorthernLatitude());
         assertEquals(EMPTY_LATITUDE, coverage.getSouthernLatitude());
         assertEquals(EMPTY_LONGITUDE, coverage.getEasternLongitude());
         assertEquals(EMPTY_LONGITUDE, coverage.getWesternLongitude());
@@ -356,10 +357,10 @@ public class CoverageTest {
         dup = coverage.clone();
         assertEquals(coverage, dup);
         assertNotSame(coverage, dup);
-        assertNotSame(coverage.getWesternLongitude(), dup.getWesternLongitude());
-        assertNotSame(coverage.getEasternLongitude(), dup.getEasternLongitude());
-        assertNotSame(coverage.getSouthernLatitude(), dup.getSouthernLatitude());
-        assertNotSame(coverage.getNorthernLatitude(), dup.getNorthernLatitude());
+        assertSame(coverage.getWesternLongitude(), dup.getWesternLongitude());
+        assertSame(coverage.getEasternLongitude(), dup.getEasternLongitude());
+        assertSame(coverage.getSouthernLatitude(), dup.getSouthernLatitude());
+        assertSame(coverage.getNorthernLatitude(), dup.getNorthernLatitude());
         assertNotSame(coverage.getEarliestDataTime(), dup.getEarliestDataTime());
         assertNotSame(coverage.getLatestDataTime(), dup.getLatestDataTime());
         assertNotSame(coverage.getGeographicNames(), dup.getGeographicNames());
@@ -15,6 +15,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -129,8 +130,8 @@ public class DataVarTest {
         var.setAccuracy(ACCURACY);
         NumericString numstr = var.getAccuracy();
         assertEquals(ACCURACY, numstr);
-        assertNotSame(ACCURACY, numstr);
-        assertNotSame(numstr, var.getAccuracy());
+        assertSame(ACCURACY, numstr);
+        assertSame(numstr, var.getAccuracy());
         assertEquals(EMPTY_STRING, var.getFlagColName());
         assertEquals(EMPTY_STRING, var.getMissVal());
         assertEquals(EMPTY_STRING, var.getVarUnit());
@@ -161,8 +162,8 @@ public class DataVarTest {
         var.setPrecision(PRECISION);
         NumericString numstr = var.getPrecision();
         assertEquals(PRECISION, numstr);
-        assertNotSame(PRECISION, numstr);
-        assertNotSame(numstr, var.getPrecision());
+        assertSame(PRECISION, numstr);
+        assertSame(numstr, var.getPrecision());
         assertEquals(EMPTY_NUMSTR, var.getAccuracy());
         assertEquals(EMPTY_STRING, var.getFlagColName());
         assertEquals(EMPTY_STRING, var.getMissVal());
@@ -671,8 +672,8 @@ public class DataVarTest {
         dup = var.clone();
         assertEquals(var, dup);
         assertNotSame(var, dup);
-        assertNotSame(var.getAccuracy(), dup.getAccuracy());
-        assertNotSame(var.getPrecision(), dup.getPrecision());
+        assertSame(var.getAccuracy(), dup.getAccuracy());
+        assertSame(var.getPrecision(), dup.getPrecision());
         assertNotSame(var.getAddnInfo(), dup.getAddnInfo());
         assertNotSame(var.getResearcher(), dup.getResearcher());
         assertNotSame(var.getInstrumentNames(), dup.getInstrumentNames());
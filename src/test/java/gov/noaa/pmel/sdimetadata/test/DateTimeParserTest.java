@@ -0,0 +1,182 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.Coverage;
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.util.DateTimeParser;
+import gov.noaa.pmel.sdimetadata.util.Datestamp;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import gov.noaa.pmel.sdimetadata.xml.OcadsWriter;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DateTimeParserTest {
+
+    private static final Datestamp STAMP = new Datestamp("2010", "3", "24");
+    private static final long STAMP_TIME = 1269388800000L;
+
+    private static final String[] DATE_STRINGS = {
+            "20100324", "2010/03/24", "2010-03-24", "2010-3-24", "2010/3/24 extra", " \t2010-03-24",
+            "2010 03 24", "2010324", "20100332", "2010-02-29", "2012-02-29", "1900-02-29", "2000-02-29",
+            "1500-02-29", "1582-10-10", "1582-10-15", "0000-01-01", "2010--3-24", "10/03/24", "Mar 24, 2010",
+            "2010/03/0000000024", "\n20100324", "", "\t"
+    };
+
+    @Test
+    public void testParseDatestamp() {
+        assertEquals(STAMP, DateTimeParser.parseDatestamp("20100324"));
+        assertEquals(STAMP, DateTimeParser.parseDatestamp("2010/03/24"));
+        assertEquals(STAMP, DateTimeParser.parseDatestamp("2010-03-24"));
+        assertEquals(STAMP, DateTimeParser.parseDatestamp("2010/3/24"));
+        assertEquals(STAMP, DateTimeParser.parseDatestamp("2010-3-24 12:00"));
+        assertEquals(STAMP, DateTimeParser.parseDatestamp(" 2010-03-24"));
+        assertEquals(STAMP, DateTimeParser.parseDatestamp("2010/03/0000000024"));
+        assertEquals(new Datestamp("2010", "3", "2"), DateTimeParser.parseDatestamp("2010032"));
+        assertEquals(new Datestamp("2012", "2", "29"), DateTimeParser.parseDatestamp("2012-02-29"));
+        assertEquals(new Datestamp("1500", "2", "29"), DateTimeParser.parseDatestamp("1500-02-29"));
+        assertNull(DateTimeParser.parseDatestamp("2010 03 24"));
+        assertNull(DateTimeParser.parseDatestamp("2010324"));
+        assertNull(DateTimeParser.parseDatestamp("20100332"));
+        assertNull(DateTimeParser.parseDatestamp("2010-02-29"));
+        assertNull(DateTimeParser.parseDatestamp("1900-02-29"));
+        assertNull(DateTimeParser.parseDatestamp("1582-10-10"));
+        assertNull(DateTimeParser.parseDatestamp("0000-01-01"));
+        assertNull(DateTimeParser.parseDatestamp("2010--3-24"));
+        assertNull(DateTimeParser.parseDatestamp("\n20100324"));
+        assertNull(DateTimeParser.parseDatestamp("Mar 24, 2010"));
+        assertNull(DateTimeParser.parseDatestamp(""));
+        assertNull(DateTimeParser.parseDatestamp(null));
+        // Exponent notation is not accepted in numeric fields, unlike SimpleDateFormat
+        assertNull(DateTimeParser.parseDatestamp("9E6 31]19D102"));
+        assertEquals(new Datestamp("12", "1", "8"), DateTimeParser.parseDatestamp("12 18E7~ 84"));
+    }
+
+    @Test
+    public void testParseTimestamp() throws ParseException {
+        assertEquals(new Date(STAMP_TIME), DateTimeParser.parseTimestamp("2010-03-24 00:00:00"));
+        assertEquals(new Date(STAMP_TIME + 3723000L), DateTimeParser.parseTimestamp("2010-3-24 1:2:3"));
+        assertEquals(new Date(STAMP_TIME + 86399000L), DateTimeParser.parseTimestamp("2010-03-24 23:59:59.999"));
+        assertEquals(new Date(-2208988800000L), DateTimeParser.parseTimestamp("1900-01-01 00:00:00"));
+        for (String timestamp : new String[] { "2010-03-24", "2010-03-24T00:00:00", "2010-03-24 24:00:00",
+                "2010-03-24 00:60:00", "2010-03-24 00:00:60", "2010-02-29 00:00:00", "2010/03/24 00:00:00" }) {
+            try {
+                DateTimeParser.parseTimestamp(timestamp);
+                fail("parseTimestamp of " + timestamp + " succeeded");
+            } catch ( ParseException ex ) {
+                // Expected result
+            }
+        }
+    }
+
+    @Test
+    public void testToDatestamp() {
+        assertEquals(STAMP, DateTimeParser.toDatestamp(new Date(STAMP_TIME)));
+        assertEquals(STAMP, DateTimeParser.toDatestamp(new Date(STAMP_TIME + 86399999L)));
+        assertEquals(new Datestamp("2010", "3", "23"), DateTimeParser.toDatestamp(new Date(STAMP_TIME - 1L)));
+        assertEquals(new Datestamp("1899", "12", "31"), DateTimeParser.toDatestamp(new Date(-2208988800001L)));
+        assertEquals(new Datestamp("1582", "10", "4"), DateTimeParser.toDatestamp(new Date(-12219292800001L)));
+        assertEquals(new Datestamp("1582", "10", "15"), DateTimeParser.toDatestamp(new Date(-12219292800000L)));
+    }
+
+    @Test
+    public void testIsValidDate() {
+        assertTrue(DateTimeParser.isValidDate(2010, 3, 24));
+        assertTrue(DateTimeParser.isValidDate(2000, 2, 29));
+        assertFalse(DateTimeParser.isValidDate(2100, 2, 29));
+        assertFalse(DateTimeParser.isValidDate(2010, 4, 31));
+        assertFalse(DateTimeParser.isValidDate(2010, 13, 1));
+        assertFalse(DateTimeParser.isValidDate(2010, 0, 1));
+        assertFalse(DateTimeParser.isValidDate(2010, 1, 0));
+        assertFalse(DateTimeParser.isValidDate(0, 1, 1));
+    }
+
+    @Test
+    public void testGetEpochDay() {
+        assertEquals(0L, DateTimeParser.getEpochDay(1970, 1, 1));
+        assertEquals(STAMP_TIME / 86400000L, DateTimeParser.getEpochDay(2010, 3, 24));
+        assertEquals(-25567L, DateTimeParser.getEpochDay(1900, 1, 1));
+        assertEquals(-141427L, DateTimeParser.getEpochDay(1582, 10, 15));
+        assertEquals(-141428L, DateTimeParser.getEpochDay(1582, 10, 4));
+    }
+
+    @Test
+    public void testConcurrentParsing() throws Exception {
+        // Results from a single thread
+        final ArrayList<Datestamp> expectedStamps = new ArrayList<Datestamp>(DATE_STRINGS.length);
+        for (String datestring : DATE_STRINGS) {
+            expectedStamps.add(DateTimeParser.parseDatestamp(datestring));
+        }
+        final SDIMetadata expectedMetadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        StringWriter strWriter = new StringWriter();
+        new OcadsWriter().writeSDIMetadata(expectedMetadata, strWriter);
+        final String expectedXml = strWriter.toString();
+
+        int numThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            ArrayList<Future<String>> results = new ArrayList<Future<String>>();
+            for (int k = 0; k < numThreads; k++) {
+                final int offset = k;
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        startLatch.await();
+                        for (int j = 0; j < 2000; j++) {
+                            int idx = (offset + j) % DATE_STRINGS.length;
+                            Datestamp stamp = DateTimeParser.parseDatestamp(DATE_STRINGS[idx]);
+                            if ( (stamp == null) ? (expectedStamps.get(idx) != null) :
+                                    !stamp.equals(expectedStamps.get(idx)) )
+                                return "datestamp from " + DATE_STRINGS[idx] + " was " + stamp;
+                            long time = STAMP_TIME - (offset + j) * 86400000L;
+                            stamp = DateTimeParser.toDatestamp(new Date(time + 3723000L));
+                            if ( time != stamp.getEarliestTime().getTime() )
+                                return "datestamp time for " + time + " was " + stamp.getEarliestTime();
+                            Coverage coverage = new Coverage(null, null, null, null,
+                                    stamp.stampString() + " 01:02:03", null);
+                            if ( time + 3723000L != coverage.getEarliestDataTime().getTime() )
+                                return "coverage time for " + time + " was " + coverage.getEarliestDataTime();
+                        }
+                        for (int j = 0; j < 10; j++) {
+                            SDIMetadata metadata = new CdiacReader(
+                                    new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null)
+                                    .createSDIMetadata();
+                            if ( !expectedMetadata.equals(metadata) )
+                                return "metadata differs: " + metadata;
+                            StringWriter writer = new StringWriter();
+                            new OcadsWriter().writeSDIMetadata(metadata, writer);
+                            if ( !expectedXml.equals(writer.toString()) )
+                                return "OCADS XML differs: " + writer.toString();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            startLatch.countDown();
+            for (Future<String> result : results) {
+                assertNull(result.get());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(60, TimeUnit.SECONDS);
+        }
+    }
+
+}
@@ -78,6 +78,42 @@ public class DatestampTest {
         }
     }
 
+    @Test
+    public void testGetEarliestMillis() {
+        Datestamp datestamp = new Datestamp();
+        try {
+            datestamp.getEarliestMillis();
+            fail("getEarliestMillis called on an empty datestamp did not throw an exception");
+        } catch ( IllegalStateException ex ) {
+            // expected result
+        }
+        datestamp.setYear(YEAR);
+        datestamp.setMonth(MONTH);
+        datestamp.setDay(DAY);
+        assertEquals(TIME_OF_DATESTAMP.getTime(), datestamp.getEarliestMillis());
+        datestamp.setYear(1900);
+        datestamp.setMonth(1);
+        datestamp.setDay(1);
+        assertEquals(-2208988800000L, datestamp.getEarliestMillis());
+        assertEquals("1900-01-01", datestamp.stampString());
+        datestamp.setYear(9999);
+        try {
+            datestamp.getEarliestMillis();
+            fail("getEarliestMillis called on a future datestamp did not throw an exception");
+        } catch ( IllegalStateException ex ) {
+            // expected result
+        }
+        datestamp.setYear(1899);
+        datestamp.setMonth(12);
+        datestamp.setDay(31);
+        try {
+            datestamp.getEarliestMillis();
+            fail("getEarliestMillis called on a datestamp before 1900 did not throw an exception");
+        } catch ( IllegalStateException ex ) {
+            // expected result
+        }
+    }
+
     @Test
     public void testStampString() {
         Datestamp datestamp = new Datestamp();
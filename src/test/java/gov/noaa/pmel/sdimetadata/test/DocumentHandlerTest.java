@@ -5,6 +5,7 @@ import gov.noaa.pmel.sdimetadata.platform.PlatformType;
 import gov.noaa.pmel.sdimetadata.util.Datestamp;
 import gov.noaa.pmel.sdimetadata.util.NumericString;
 import gov.noaa.pmel.sdimetadata.xml.DocumentHandler;
+import gov.noaa.pmel.sdimetadata.xml.ElementPath;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.input.SAXBuilder;
@@ -20,6 +21,7 @@ import static gov.noaa.pmel.sdimetadata.xml.DocumentHandler.SEP;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 public class DocumentHandlerTest {
 
@@ -35,6 +37,10 @@ public class DocumentHandlerTest {
             if ( rootElement == null )
                 throw new RuntimeException("No root element found");
         }
+
+        void setRootElement(Element root) {
+            rootElement = root;
+        }
     }
 
     @Test
@@ -151,6 +157,16 @@ public class DocumentHandlerTest {
         assertEquals(numstr, DocumentHandler.getNumericString(concat, null));
         concat = numVal + " ({" + unitVal + "})";
         assertEquals(numstr, DocumentHandler.getNumericString(concat, null));
+        concat = "\u00b1" + numVal + "\t" + unitVal;
+        assertEquals(numstr, DocumentHandler.getNumericString(concat, null));
+        assertEquals(new NumericString("", unitVal), DocumentHandler.getNumericString("(" + unitVal + ")", null));
+        assertEquals(new NumericString("", unitVal), DocumentHandler.getNumericString(null, unitVal));
+        assertEquals(invalid, DocumentHandler.getNumericString("unknown " + unitVal, null));
+        assertEquals(invalid, DocumentHandler.getNumericString(numVal + "ABCD " + unitVal, null));
+        assertEquals(invalid, DocumentHandler.getNumericString("-Infinity " + unitVal, null));
+        assertEquals(invalid, DocumentHandler.getNumericString("1e400 " + unitVal, null));
+        assertEquals(invalid, DocumentHandler.getNumericString(" ( ) ", null));
+        assertEquals(invalid, DocumentHandler.getNumericString("", null));
     }
 
     @Test
@@ -285,6 +301,67 @@ public class DocumentHandlerTest {
         assertEquals(otherval, elemList.get(1).getText());
     }
 
+    @Test
+    public void testCompiledPaths() {
+        MyDocHandler docHandler = new MyDocHandler(EMPTY_OCADS_XML_DATA_STRING);
+        ElementPath path = ElementPath.compile("person" + SEP + "address" + SEP + "city");
+        docHandler.setElementText(null, path, "Seattle");
+        assertEquals("Seattle", docHandler.getElementText(null, path));
+        assertEquals("Seattle", docHandler.getElementText(null, path.getFullName()));
+        Element person = docHandler.getElementList(null, path.getParent().getParent()).get(0);
+        assertEquals("Seattle", docHandler.getElementText(person, path));
+
+        // Replacing the content of an element removes the indexed elements under it
+        docHandler.setElementText(null, "person", "Ronald H. Brown");
+        assertEquals("", docHandler.getElementText(null, path));
+        assertEquals(0, docHandler.getElementList(null, path).size());
+        docHandler.setElementText(person, path, "Boston");
+        assertEquals("Boston", docHandler.getElementText(null, path));
+        Element city = docHandler.addListElement(null, path);
+        city.setText("Chicago");
+        elemListEquals(docHandler.getElementList(null, path), "Boston", "Chicago");
+
+        // Elements inserted directly into the document ahead of indexed elements are found
+        Element earlier = new Element("person");
+        earlier.addContent(new Element("address").addContent(new Element("city").setText("Portland")));
+        person.getParentElement().addContent(person.getParentElement().indexOf(person), earlier);
+        assertEquals("Portland", docHandler.getElementText(null, path));
+        earlier.getChild("address").addContent(0, new Element("city").setText("Eugene"));
+        assertEquals("Eugene", docHandler.getElementText(null, path));
+        docHandler.setElementText(null, path, "Salem");
+        elemListEquals(docHandler.getElementList(null, path), "Salem", "Portland");
+
+        // Index is discarded when the root element changes
+        docHandler = new MyDocHandler(EMPTY_OCADS_XML_DATA_STRING);
+        docHandler.setElementText(null, path, "Seattle");
+        Element root = new Element("metadata");
+        docHandler.setRootElement(root);
+        assertEquals("", docHandler.getElementText(null, path));
+        docHandler.setElementText(null, path, "Denver");
+        assertEquals("Denver", root.getChild("person").getChild("address").getChildText("city"));
+
+        try {
+            docHandler.getElementText(person, path);
+            fail("getElementText with an ancestor from another document succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        person = root.getChild("person");
+        try {
+            docHandler.getElementText(person, ElementPath.compile("persons" + SEP + "address"));
+            fail("getElementText with a path not through the ancestor succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+    }
+
+    private static void elemListEquals(List<Element> elemList, String... values) {
+        assertEquals(values.length, elemList.size());
+        for (int k = 0; k < values.length; k++) {
+            assertEquals(values[k], elemList.get(k).getText());
+        }
+    }
+
     static final String EMPTY_OCADS_XML_DATA_STRING = "<?xml-stylesheet href=\"xmlblob.xsl\" type=\"text/xsl\"?>" +
             "<metadata></metadata>";
 
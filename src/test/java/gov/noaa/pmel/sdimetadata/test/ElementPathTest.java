@@ -0,0 +1,72 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.xml.ElementPath;
+import org.junit.Test;
+
+import static gov.noaa.pmel.sdimetadata.xml.DocumentHandler.SEP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ElementPathTest {
+
+    @Test
+    public void testCompile() {
+        String fullName = "Cruise_Info" + SEP + "Experiment" + SEP + "Experiment_Name";
+        ElementPath path = ElementPath.compile(fullName);
+        assertSame(path, ElementPath.compile(fullName));
+        assertSame(path, ElementPath.compile(new String(fullName)));
+        assertEquals(fullName, path.getFullName());
+        assertEquals(3, path.getLength());
+        assertEquals("Cruise_Info", path.getName(0));
+        assertSame("Experiment", path.getName(1));
+        assertEquals("Experiment_Name", path.getName(2));
+        try {
+            path.getName(3);
+            fail("getName with an index past the end succeeded");
+        } catch ( IndexOutOfBoundsException ex ) {
+            // Expected result
+        }
+
+        path = ElementPath.compile("Cruise_Info");
+        assertEquals(1, path.getLength());
+        assertEquals("Cruise_Info", path.getName(0));
+        assertNull(path.getParent());
+    }
+
+    @Test
+    public void testGetParent() {
+        ElementPath path = ElementPath.compile("Cruise_Info" + SEP + "Experiment" + SEP + "Experiment_Name");
+        ElementPath parent = path.getParent();
+        assertEquals(ElementPath.compile("Cruise_Info" + SEP + "Experiment"), parent);
+        assertEquals("Cruise_Info" + SEP + "Experiment", parent.getFullName());
+        assertEquals(2, parent.getLength());
+        assertEquals(ElementPath.compile("Cruise_Info"), parent.getParent());
+        assertNull(parent.getParent().getParent());
+    }
+
+    @Test
+    public void testChild() {
+        ElementPath parent = ElementPath.compile("Cruise_Info" + SEP + "Experiment");
+        ElementPath path = parent.child("Experiment_Name");
+        assertSame(ElementPath.compile("Cruise_Info" + SEP + "Experiment" + SEP + "Experiment_Name"), path);
+        assertEquals(3, path.getLength());
+        assertSame("Experiment_Name", path.getName(2));
+        assertEquals(parent, path.getParent());
+    }
+
+    @Test
+    public void testHashCodeEquals() {
+        ElementPath first = ElementPath.compile("Cruise_Info" + SEP + "Experiment");
+        ElementPath second = ElementPath.compile("Cruise_Info" + SEP + "Experiment" + SEP + "Cruise").getParent();
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        ElementPath other = ElementPath.compile("Cruise_Info" + SEP + "Vessel");
+        assertNotEquals(first, other);
+        assertNotEquals(first, null);
+        assertNotEquals(first, first.getFullName());
+    }
+
+}
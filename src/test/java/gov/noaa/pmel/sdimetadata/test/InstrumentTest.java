@@ -1,6 +1,14 @@
 package gov.noaa.pmel.sdimetadata.test;
 
+import gov.noaa.pmel.sdimetadata.instrument.Analyzer;
+import gov.noaa.pmel.sdimetadata.instrument.Equilibrator;
+import gov.noaa.pmel.sdimetadata.instrument.GasSensor;
 import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.instrument.InstrumentVisitor;
+import gov.noaa.pmel.sdimetadata.instrument.PressureSensor;
+import gov.noaa.pmel.sdimetadata.instrument.SalinitySensor;
+import gov.noaa.pmel.sdimetadata.instrument.Sampler;
+import gov.noaa.pmel.sdimetadata.instrument.TemperatureSensor;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -123,6 +131,59 @@ public class InstrumentTest {
         assertEquals(EMPTY_NAMESET, sensor.invalidFieldNames());
     }
 
+    @Test
+    public void testAccept() {
+        InstrumentVisitor<String> visitor = new InstrumentVisitor<String>() {
+            @Override
+            public String visitInstrument(Instrument inst) {
+                return "Instrument " + inst.getName();
+            }
+
+            @Override
+            public String visitSampler(Sampler sampler) {
+                return "Sampler " + sampler.getName();
+            }
+
+            @Override
+            public String visitEquilibrator(Equilibrator equilibrator) {
+                return "Equilibrator " + equilibrator.getName();
+            }
+
+            @Override
+            public String visitAnalyzer(Analyzer analyzer) {
+                return "Analyzer " + analyzer.getName();
+            }
+
+            @Override
+            public String visitGasSensor(GasSensor sensor) {
+                return "GasSensor " + sensor.getName();
+            }
+
+            @Override
+            public String visitPressureSensor(PressureSensor sensor) {
+                return "PressureSensor " + sensor.getName();
+            }
+
+            @Override
+            public String visitSalinitySensor(SalinitySensor sensor) {
+                return "SalinitySensor " + sensor.getName();
+            }
+
+            @Override
+            public String visitTemperatureSensor(TemperatureSensor sensor) {
+                return "TemperatureSensor " + sensor.getName();
+            }
+        };
+        Instrument[] instruments = new Instrument[] {
+                new Instrument(), new Sampler(), new Equilibrator(), new Analyzer(),
+                new GasSensor(), new PressureSensor(), new SalinitySensor(), new TemperatureSensor()
+        };
+        for (Instrument inst : instruments) {
+            inst.setName(NAME);
+            assertEquals(inst.getClass().getSimpleName() + " " + NAME, inst.accept(visitor));
+        }
+    }
+
     @Test
     public void testClone() {
         Instrument sensor = new Instrument();
@@ -7,6 +7,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -23,62 +24,103 @@ public class NumericStringTest {
     private static final String UNIT_STR = "deg C";
 
     @Test
-    public void testGetSetValueString() {
+    public void testGetWithValueString() {
         NumericString numstr = new NumericString();
         assertEquals(EMPTY_STR, numstr.getValueString());
-        numstr.setValueString(POSVAL_STR);
+        numstr = numstr.withValueString(POSVAL_STR);
         assertEquals(POSVAL_STR, numstr.getValueString());
-        numstr.setValueString("\t" + NEGVAL_STR + "  ");
+        numstr = numstr.withValueString("\t" + NEGVAL_STR + "  ");
         assertEquals(NEGVAL_STR, numstr.getValueString());
-        numstr.setValueString(null);
+        numstr = numstr.withValueString(null);
         assertEquals(EMPTY_STR, numstr.getValueString());
-        numstr.setValueString("\t");
+        numstr = numstr.withValueString("\t");
         assertEquals(EMPTY_STR, numstr.getValueString());
         try {
-            numstr.setValueString("-1.0ABCD");
-            fail("calling setValueString with a non-numeric value succeeded");
+            numstr.withValueString("-1.0ABCD");
+            fail("calling withValueString with a non-numeric value succeeded");
         } catch ( IllegalArgumentException ex ) {
             // Expected result
         }
         try {
-            numstr.setValueString("NaN");
-            fail("calling setValueString with NaN succeeded");
+            numstr.withValueString("NaN");
+            fail("calling withValueString with NaN succeeded");
         } catch ( IllegalArgumentException ex ) {
             // Expected result
         }
         try {
-            numstr.setValueString("Inf");
-            fail("calling setValueString with Inf succeeded");
+            numstr.withValueString("Inf");
+            fail("calling withValueString with Inf succeeded");
         } catch ( IllegalArgumentException ex ) {
             // Expected result
         }
         try {
-            numstr.setValueString("+Inf");
-            fail("calling setValueString with +Inf succeeded");
+            numstr.withValueString("+Inf");
+            fail("calling withValueString with +Inf succeeded");
         } catch ( IllegalArgumentException ex ) {
             // Expected result
         }
         try {
-            numstr.setValueString("-Inf");
-            fail("calling setValueString with -Inf succeeded");
+            numstr.withValueString("-Inf");
+            fail("calling withValueString with -Inf succeeded");
         } catch ( IllegalArgumentException ex ) {
             // Expected result
         }
     }
 
     @Test
-    public void testGetSetUnitString() {
+    public void testIsNumeric() {
+        for (String str : new String[] { "1", "-5.0", "+.5", "5.", "1e3", "1.5E-3", "2d", "2.5F", "0x1.8p1",
+                "-0X10P-2d", "1e400" }) {
+            assertTrue(str, NumericString.isNumeric(str, 0, str.length()));
+            assertTrue(str, NumericString.isNumeric("(" + str + ")", 1, str.length() + 1));
+        }
+        for (String str : new String[] { "", "-", ".", "e3", "1e", "1e+", "1.0ABCD", "NaN", "Infinity", "-Infinity",
+                "0x10", "0x.p1", " 1", "1 ", "1dd", "1,000", "\u0663" }) {
+            assertFalse(str, NumericString.isNumeric(str, 0, str.length()));
+        }
+    }
+
+    @Test
+    public void testGetWithUnitString() {
         NumericString numstr = new NumericString();
         assertEquals(EMPTY_STR, numstr.getUnitString());
-        numstr.setUnitString(UNIT_STR);
+        numstr = numstr.withUnitString(UNIT_STR);
         assertEquals(UNIT_STR, numstr.getUnitString());
         assertEquals(EMPTY_STR, numstr.getValueString());
-        numstr.setUnitString(null);
+        numstr = numstr.withUnitString(null);
         assertEquals(EMPTY_STR, numstr.getUnitString());
-        numstr.setUnitString("\t" + UNIT_STR + "  ");
+        numstr = numstr.withUnitString("\t" + UNIT_STR + "  ");
         assertEquals(UNIT_STR, numstr.getUnitString());
-        numstr.setUnitString("\t");
+        numstr = numstr.withUnitString("\t");
         assertEquals(EMPTY_STR, numstr.getUnitString());
+
+        // Unit strings of shared instances are reused; other unit strings are not interned
+        String unit = NumericString.valueOf(null, UNIT_STR).getUnitString();
+        numstr = new NumericString(NEGVAL_STR, new String(UNIT_STR.toCharArray()));
+        assertSame(unit, numstr.getUnitString());
+        String otherUnit = new String("unshared unit".toCharArray());
+        numstr = new NumericString(NEGVAL_STR, otherUnit);
+        assertSame(otherUnit, numstr.getUnitString());
+    }
+
+    @Test
+    public void testValueOf() {
+        assertSame(NumericString.EMPTY, NumericString.valueOf(null, null));
+        assertSame(NumericString.EMPTY, NumericString.valueOf("\t", "  "));
+        assertEquals(new NumericString(), NumericString.EMPTY);
+        NumericString numstr = NumericString.valueOf(null, UNIT_STR);
+        assertEquals(new NumericString(null, UNIT_STR), numstr);
+        assertSame(numstr, NumericString.valueOf(" ", "\t" + UNIT_STR));
+        assertSame(numstr, new NumericString(NEGVAL_STR, UNIT_STR).withValueString(null));
+        numstr = NumericString.valueOf(NEGVAL_STR, UNIT_STR);
+        assertEquals(new NumericString(NEGVAL_STR, UNIT_STR), numstr);
+        assertNotSame(numstr, NumericString.valueOf(NEGVAL_STR, UNIT_STR));
+        try {
+            NumericString.valueOf("-1.0ABCD", UNIT_STR);
+            fail("calling valueOf with a non-numeric value succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
     }
 
     @Test
@@ -90,9 +132,7 @@ public class NumericStringTest {
         numstr = new NumericString(POSVAL_STR, UNIT_STR);
         assertEquals(POSVAL_STR, numstr.getValueString());
         assertEquals(UNIT_STR, numstr.getUnitString());
-        NumericString other = new NumericString(null, null);
-        other.setValueString(POSVAL_STR);
-        other.setUnitString(UNIT_STR);
+        NumericString other = new NumericString(null, null).withValueString(POSVAL_STR).withUnitString(UNIT_STR);
         assertEquals(numstr, other);
     }
 
@@ -100,13 +140,13 @@ public class NumericStringTest {
     public void testGetNumericValue() {
         NumericString numstr = new NumericString();
         assertTrue(Double.isNaN(numstr.getNumericValue()));
-        numstr.setValueString(POSVAL_STR);
+        numstr = numstr.withValueString(POSVAL_STR);
         assertEquals(POSVAL_NUM, numstr.getNumericValue(), DELTA);
-        numstr.setValueString(ZERVAL_STR);
+        numstr = numstr.withValueString(ZERVAL_STR);
         assertEquals(ZERVAL_NUM, numstr.getNumericValue(), DELTA);
-        numstr.setValueString(NEGVAL_STR);
+        numstr = numstr.withValueString(NEGVAL_STR);
         assertEquals(NEGVAL_NUM, numstr.getNumericValue(), DELTA);
-        numstr.setValueString("\t" + NEGVAL_STR + "  ");
+        numstr = numstr.withValueString("\t" + NEGVAL_STR + "  ");
         assertEquals(NEGVAL_NUM, numstr.getNumericValue(), DELTA);
         numstr = new NumericString(NEGVAL_STR, "E-3");
         assertEquals(NEGVAL_NUM, numstr.getNumericValue(), DELTA);
@@ -154,33 +194,18 @@ public class NumericStringTest {
     public void testAsOneString() {
         NumericString numstr = new NumericString();
         assertEquals(EMPTY_STR, numstr.asOneString());
-        numstr.setValueString(POSVAL_STR);
+        numstr = numstr.withValueString(POSVAL_STR);
         assertEquals(POSVAL_STR, numstr.asOneString());
-        numstr.setUnitString(UNIT_STR);
+        numstr = numstr.withUnitString(UNIT_STR);
         assertEquals(POSVAL_STR + " " + UNIT_STR, numstr.asOneString());
-        numstr.setValueString("\t" + NEGVAL_STR + "  ");
+        numstr = numstr.withValueString("\t" + NEGVAL_STR + "  ");
         assertEquals(NEGVAL_STR + " " + UNIT_STR, numstr.asOneString());
-        numstr.setValueString(null);
+        numstr = numstr.withValueString(null);
         assertEquals(UNIT_STR, numstr.asOneString());
-        numstr.setUnitString("\t");
-        assertEquals(EMPTY_STR, numstr.getValueString());
-    }
-
-    @Test
-    public void testClone() {
-        NumericString numstr = new NumericString();
-        NumericString dup = numstr.clone();
-        assertEquals(numstr, dup);
-        assertNotSame(numstr, dup);
-
-        numstr.setValueString(NEGVAL_STR);
-        numstr.setUnitString(UNIT_STR);
-        assertNotEquals(numstr, dup);
-
-        dup = numstr.clone();
-        assertEquals(numstr, dup);
-        assertNotSame(numstr, dup);
-        assertTrue(dup.isNegative());
+        numstr = numstr.withUnitString("\t");
+        assertEquals(EMPTY_STR, numstr.asOneString());
+        numstr = new NumericString(POSVAL_STR, UNIT_STR);
+        assertSame(numstr.asOneString(), numstr.asOneString());
     }
 
     @Test
@@ -193,17 +218,17 @@ public class NumericStringTest {
         assertEquals(first.hashCode(), second.hashCode());
         assertTrue(first.equals(second));
 
-        first.setValueString(ZERVAL_STR);
+        first = first.withValueString(ZERVAL_STR);
         assertNotEquals(first.hashCode(), second.hashCode());
         assertFalse(first.equals(second));
-        second.setValueString(ZERVAL_STR);
+        second = second.withValueString(ZERVAL_STR);
         assertEquals(first.hashCode(), second.hashCode());
         assertTrue(first.equals(second));
 
-        first.setUnitString(UNIT_STR);
+        first = first.withUnitString(UNIT_STR);
         assertNotEquals(first.hashCode(), second.hashCode());
         assertFalse(first.equals(second));
-        second.setUnitString(UNIT_STR);
+        second = second.withUnitString(UNIT_STR);
         assertEquals(first.hashCode(), second.hashCode());
         assertTrue(first.equals(second));
     }
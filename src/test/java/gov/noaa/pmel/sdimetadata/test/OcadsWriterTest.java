@@ -1,22 +1,51 @@
 package gov.noaa.pmel.sdimetadata.test;
 
 import gov.noaa.pmel.sdimetadata.Coverage;
+import gov.noaa.pmel.sdimetadata.MiscInfo;
 import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.instrument.Equilibrator;
+import gov.noaa.pmel.sdimetadata.instrument.GasSensor;
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.instrument.PressureSensor;
+import gov.noaa.pmel.sdimetadata.instrument.TemperatureSensor;
+import gov.noaa.pmel.sdimetadata.util.NumericString;
+import gov.noaa.pmel.sdimetadata.variable.AirPressure;
+import gov.noaa.pmel.sdimetadata.variable.AquGasConc;
+import gov.noaa.pmel.sdimetadata.variable.GasConc;
+import gov.noaa.pmel.sdimetadata.variable.MethodType;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
 import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
 import gov.noaa.pmel.sdimetadata.xml.DocumentHandler;
+import gov.noaa.pmel.sdimetadata.xml.OcadsSchema;
+import gov.noaa.pmel.sdimetadata.xml.OcadsValidationResult;
 import gov.noaa.pmel.sdimetadata.xml.OcadsWriter;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.input.SAXBuilder;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static gov.noaa.pmel.sdimetadata.xml.DocumentHandler.SEP;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -1052,5 +1081,308 @@ public class OcadsWriterTest {
 
     }
 
-}
+    private static String writeOcadsXml(SDIMetadata metadata, boolean streaming) {
+        return writeOcadsXml(metadata, streaming, false);
+    }
+
+    private static String writeOcadsXml(SDIMetadata metadata, boolean streaming, boolean compact) {
+        StringWriter xmlWriter = new StringWriter();
+        try {
+            (new OcadsWriter(streaming, compact)).writeSDIMetadata(metadata, xmlWriter);
+        } catch ( Exception ex ) {
+            fail("Problems creating the OCADS XML contents: " + ex.getMessage());
+        }
+        return xmlWriter.getBuffer().toString();
+    }
+
+    @Test
+    public void writeSDIMetadataStreaming() {
+        CdiacReader cdiacReader = new CdiacReader(new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null);
+        SDIMetadata metadata = cdiacReader.createSDIMetadata();
+        assertEquals(writeOcadsXml(metadata, false), writeOcadsXml(metadata, true));
+
+        SDIMetadata empty = new SDIMetadata();
+        assertEquals(writeOcadsXml(empty, false), writeOcadsXml(empty, true));
+
+        MiscInfo info = new MiscInfo();
+        info.setDatasetName("  A & B <C>\r\nsecond line \uD83D\uDE00  ");
+        info.setSynopsis("\t");
+        info.setReferences(Arrays.asList("first", "second\nline"));
+        SDIMetadata special = new SDIMetadata();
+        special.setMiscInfo(info);
+        Coverage coverage = new Coverage();
+        coverage.setWesternLongitude(new NumericString("-158.0", Coverage.LONGITUDE_UNITS));
+        coverage.setGeographicNames(Arrays.asList("North Pacific", "  Hawaii  "));
+        special.setCoverage(coverage);
+        String xmlString = writeOcadsXml(special, true);
+        assertEquals(writeOcadsXml(special, false), xmlString);
+        MyDocHandler docHandler = new MyDocHandler(xmlString);
+        assertEquals("A & B <C>\r\nsecond line \uD83D\uDE00", docHandler.getElementText(null, "cruiseID"));
+        assertEquals(2, docHandler.getElementList(null, "geographicName").size());
+
+        SDIMetadata illegal = new SDIMetadata();
+        info = new MiscInfo();
+        info.setDatasetName("A\u0001B");
+        illegal.setMiscInfo(info);
+        try {
+            (new OcadsWriter(true)).writeSDIMetadata(illegal, new StringWriter());
+            fail("streaming write of text with an illegal character succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        } catch ( Exception ex ) {
+            fail("unexpected exception writing text with an illegal character: " + ex.getMessage());
+        }
+    }
+
+    @Test
+    public void writeSDIMetadataShared() throws Exception {
+        final SDIMetadata[] metadata = new SDIMetadata[2];
+        metadata[0] = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        metadata[1] = new SDIMetadata();
+        MiscInfo info = new MiscInfo();
+        info.setDatasetName("Other dataset");
+        metadata[1].setMiscInfo(info);
+        final String[] expected = new String[2];
+        for (int k = 0; k < 2; k++) {
+            expected[k] = writeOcadsXml(metadata[k], false);
+        }
+        assertTrue(expected[0].contains("RB1501A"));
+        assertFalse(expected[1].contains("RB1501A"));
+        assertTrue(expected[1].contains("Other dataset"));
+
+        // Repeated writes with the same writer must produce independent documents
+        for (boolean streaming : new boolean[] { false, true }) {
+            OcadsWriter ocadsWriter = new OcadsWriter(streaming);
+            for (int k = 0; k < 4; k++) {
+                StringWriter xmlWriter = new StringWriter();
+                ocadsWriter.writeSDIMetadata(metadata[k % 2], xmlWriter);
+                assertEquals(expected[k % 2], xmlWriter.toString());
+            }
+        }
+
+        // Concurrent writes with shared writers
+        final OcadsWriter[] ocadsWriters = new OcadsWriter[] { new OcadsWriter(false), new OcadsWriter(true) };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ArrayList<Future<String>> results = new ArrayList<Future<String>>();
+            for (int k = 0; k < 8; k++) {
+                final OcadsWriter ocadsWriter = ocadsWriters[k % 2];
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        for (int j = 0; j < 50; j++) {
+                            StringWriter xmlWriter = new StringWriter();
+                            ocadsWriter.writeSDIMetadata(metadata[j % 2], xmlWriter);
+                            if ( !expected[j % 2].equals(xmlWriter.toString()) )
+                                return "document differs: " + xmlWriter.toString();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertNull(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void writeSDIMetadataInstruments() {
+        TemperatureSensor firstTemp = new TemperatureSensor();
+        firstTemp.setName("Temperature sensor");
+        firstTemp.setModel("First");
+        TemperatureSensor secondTemp = new TemperatureSensor();
+        secondTemp.setName("Temperature sensor");
+        secondTemp.setModel("Second");
+        PressureSensor pressure = new PressureSensor();
+        pressure.setName("Pressure sensor");
+        Equilibrator equil = new Equilibrator();
+        equil.setName("Equilibrator");
+        equil.setInstrumentNames(Arrays.asList("Pressure sensor", "Temperature sensor", "Missing sensor"));
+        GasSensor co2Sensor = new GasSensor();
+        co2Sensor.setName("CO2 sensor");
+        Instrument unused = new Instrument();
+        unused.setName("Unused instrument");
+        SDIMetadata metadata = new SDIMetadata();
+        metadata.setInstruments(Arrays.asList(co2Sensor, firstTemp, unused, equil, pressure, secondTemp));
+        AquGasConc var = new AquGasConc();
+        var.setColName("xCO2_water");
+        var.setMeasureMethod(MethodType.MEASURED_INSITU);
+        var.setInstrumentNames(Arrays.asList("Equilibrator", "CO2 sensor"));
+        metadata.setVariables(Arrays.asList((Variable) var, var));
 
+        for (boolean streaming : new boolean[] { false, true }) {
+            MyDocHandler docHandler = new MyDocHandler(writeOcadsXml(metadata, streaming));
+            List<Element> varElems = docHandler.getElementList(null, "variable");
+            assertEquals(2, varElems.size());
+            for (Element varElem : varElems) {
+                assertEquals("CO2 sensor: (no information)", varElem.getChildTextTrim("analyzingInstrument"));
+                assertEquals("Equilibrator: (no information)", varElem.getChildTextTrim("samplingInstrument"));
+                Element equilElem = varElem.getChild("equilibrator");
+                // Attached instruments are given in the order of the list of instruments
+                assertEquals("Temperature sensor: Model: First\nTemperature sensor: Model: Second",
+                        equilElem.getChildTextTrim("temperatureEquilibratorMethod"));
+                assertEquals("Pressure sensor: (no information)",
+                        equilElem.getChildTextTrim("pressureEquilibratorMethod"));
+            }
+            assertEquals("Unused instrument: (no information)", docHandler.getElementText(null, "suppleInfo"));
+        }
+    }
+
+    @Test
+    public void writeSDIMetadataDetailedInfo() {
+        AquGasConc aqu = new AquGasConc();
+        aqu.setColName("pCO2_water");
+        aqu.setMeasureMethod(MethodType.MEASURED_DISCRETE);
+        aqu.setMissVal("-999");
+        aqu.setAddnInfo(Arrays.asList("First note", "Second note"));
+        aqu.setSamplingLocation("Bow intake");
+        aqu.setSamplingElevation("5 m");
+        aqu.setStorageMethod("Poisoned with HgCl2");
+        aqu.setAnalysisTemperature("20 deg C");
+        aqu.setDryingMethod("Nafion dryer");
+        aqu.setWaterVaporCorrection("None");
+        AirPressure press = new AirPressure();
+        press.setColName("Pressure_atm");
+        press.setPressureCorrection("Corrected to sea level");
+        GasConc gas = new GasConc();
+        gas.setColName("xCO2_air");
+        SDIMetadata metadata = new SDIMetadata();
+        metadata.setVariables(Arrays.asList(aqu, press, gas));
+
+        for (boolean streaming : new boolean[] { false, true }) {
+            MyDocHandler docHandler = new MyDocHandler(writeOcadsXml(metadata, streaming));
+            List<Element> varElems = docHandler.getElementList(null, "variable");
+            assertEquals(3, varElems.size());
+            // Storage is given in its own elements for discrete aqueous CO2
+            assertEquals(1, varElems.get(0).getChildren("detailedInfo").size());
+            assertEquals("Drying Method: Nafion dryer\n" +
+                    "Water Vapor Correction: None\n" +
+                    "Sampling location: Bow intake\n" +
+                    "Sampling elevation: 5 m\n" +
+                    "Missing Value: -999\n" +
+                    "First note\n" +
+                    "Second note", varElems.get(0).getChildText("detailedInfo"));
+            assertEquals("Poisoned with HgCl2", varElems.get(0).getChildTextTrim("storageMethod"));
+            assertEquals(1, varElems.get(1).getChildren("detailedInfo").size());
+            assertEquals("Pressure Correction: Corrected to sea level\n" +
+                    "Resolution/Precision: hPa", varElems.get(1).getChildText("detailedInfo"));
+            assertEquals(0, varElems.get(2).getChildren("detailedInfo").size());
+        }
+    }
+
+    @Test
+    public void writeSDIMetadataCompact() {
+        MiscInfo info = new MiscInfo();
+        info.setDatasetName("  A & B <C>\r\nsecond line \uD83D\uDE00  ");
+        info.setReferences(Arrays.asList("first", "second\nline"));
+        SDIMetadata special = new SDIMetadata();
+        special.setMiscInfo(info);
+        SDIMetadata[] metadata = new SDIMetadata[] {
+                new CdiacReader(new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null)
+                        .createSDIMetadata(),
+                new SDIMetadata(),
+                special
+        };
+        for (SDIMetadata mdata : metadata) {
+            String xmlString = writeOcadsXml(mdata, false, true);
+            assertEquals(xmlString, writeOcadsXml(mdata, true, true));
+            String prettyString = writeOcadsXml(mdata, false, false);
+            assertTrue(xmlString.length() < prettyString.length());
+            // Only the declaration and the root element are followed by line separators
+            String[] lines = xmlString.split("\r\n", -1);
+            assertEquals(3, lines.length);
+            assertTrue(lines[0].startsWith("<?xml "));
+            assertTrue(lines[1].startsWith("<metadata"));
+            assertFalse(lines[1].contains("  <"));
+            assertEquals("", lines[2]);
+            // The same elements and text as the pretty format
+            MyDocHandler compactHandler = new MyDocHandler(xmlString);
+            MyDocHandler prettyHandler = new MyDocHandler(prettyString);
+            assertEquals(prettyHandler.getElementList(null, "variable").size(),
+                    compactHandler.getElementList(null, "variable").size());
+            assertEquals(prettyHandler.getElementText(null, "cruiseID"),
+                    compactHandler.getElementText(null, "cruiseID"));
+            assertEquals(prettyHandler.getElementText(null, "reference"),
+                    compactHandler.getElementText(null, "reference"));
+        }
+        MyDocHandler docHandler = new MyDocHandler(writeOcadsXml(special, true, true));
+        assertEquals("A & B <C>\r\nsecond line \uD83D\uDE00", docHandler.getElementText(null, "cruiseID"));
+    }
+
+    @Test
+    public void writeSDIMetadataBytes() throws Exception {
+        SDIMetadata metadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        MiscInfo info = metadata.getMiscInfo();
+        info.setDatasetName("Caf\u00E9 \u00C5land \u4E2D");
+        metadata.setMiscInfo(info);
+        for (boolean streaming : new boolean[] { false, true }) {
+            for (boolean compact : new boolean[] { false, true }) {
+                OcadsWriter ocadsWriter = new OcadsWriter(streaming, compact);
+                byte[] expected = writeOcadsXml(metadata, streaming, compact).getBytes(StandardCharsets.UTF_8);
+
+                ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+                ocadsWriter.writeSDIMetadata(metadata, byteStream);
+                assertArrayEquals(expected, byteStream.toByteArray());
+
+                byteStream = new ByteArrayOutputStream();
+                WritableByteChannel channel = Channels.newChannel(byteStream);
+                ocadsWriter.writeSDIMetadata(metadata, channel);
+                assertTrue(channel.isOpen());
+                assertArrayEquals(expected, byteStream.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    public void writeSDIMetadataValidated() throws Exception {
+        File xsdFile = new File(OcadsWriterTest.class.getResource("OcadsTest.xsd").toURI());
+        OcadsSchema schema = OcadsSchema.load(xsdFile);
+        assertSame(schema, OcadsSchema.load(new File(xsdFile.getParentFile(), "." + File.separator + "OcadsTest.xsd")));
+        assertEquals(xsdFile.getCanonicalPath(), schema.getLocation());
+
+        SDIMetadata metadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        SDIMetadata invalid = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        MiscInfo info = invalid.getMiscInfo();
+        info.setDatasetId("33RO 2015");
+        invalid.setMiscInfo(info);
+
+        for (boolean streaming : new boolean[] { false, true }) {
+            for (boolean compact : new boolean[] { false, true }) {
+                OcadsWriter ocadsWriter = new OcadsWriter(streaming, compact);
+                StringWriter xmlWriter = new StringWriter();
+                OcadsValidationResult result = ocadsWriter.writeSDIMetadata(metadata, xmlWriter, schema);
+                assertTrue(result.toString(), result.isValid());
+                assertEquals(0, result.getProblems().size());
+                // Validation does not change what is written
+                assertEquals(writeOcadsXml(metadata, streaming, compact), xmlWriter.toString());
+
+                ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+                result = ocadsWriter.writeSDIMetadata(invalid, byteStream, schema);
+                assertArrayEquals(writeOcadsXml(invalid, streaming, compact).getBytes(StandardCharsets.UTF_8),
+                        byteStream.toByteArray());
+                assertFalse(result.isValid());
+                assertTrue(result.getProblems().size() > 0);
+                for (OcadsValidationResult.Problem problem : result.getProblems()) {
+                    assertEquals(OcadsValidationResult.Severity.ERROR, problem.getSeverity());
+                    assertEquals("/metadata/expocode", problem.getElementPath());
+                    assertTrue(problem.getMessage().contains("33RO 2015"));
+                }
+            }
+        }
+
+        try {
+            OcadsSchema.load(new File(xsdFile.getParentFile(), "NoSuchSchema.xsd"));
+            fail("loading a nonexistent schema file succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+    }
+
+}
@@ -11,6 +11,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class PersonTest {
 
@@ -158,6 +159,29 @@ public class PersonTest {
         assertNotSame(person, dup);
     }
 
+    @Test
+    public void testMakeReadOnly() {
+        Person person = new Person();
+        person.setLastName(LAST_NAME);
+        assertFalse(person.isReadOnly());
+        person.makeReadOnly();
+        assertTrue(person.isReadOnly());
+        try {
+            person.setLastName(FIRST_NAME);
+            fail("setting the last name of a read-only person succeeded");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+        assertEquals(LAST_NAME, person.getLastName());
+
+        Person dup = person.clone();
+        assertEquals(person, dup);
+        assertFalse(dup.isReadOnly());
+        dup.setLastName(FIRST_NAME);
+        assertEquals(FIRST_NAME, dup.getLastName());
+        assertEquals(LAST_NAME, person.getLastName());
+    }
+
     @Test
     public void testHashCodeEquals() {
         Person first = new Person();
@@ -0,0 +1,123 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.Coverage;
+import gov.noaa.pmel.sdimetadata.MiscInfo;
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.SDIMetadataBuilder;
+import gov.noaa.pmel.sdimetadata.SDIMetadataSnapshot;
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.person.Investigator;
+import gov.noaa.pmel.sdimetadata.person.Submitter;
+import gov.noaa.pmel.sdimetadata.platform.Platform;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class SDIMetadataBuilderTest {
+
+    @Test
+    public void testBuild() {
+        SDIMetadataBuilder builder = new SDIMetadataBuilder();
+        assertEquals(new SDIMetadata(), builder.build());
+        assertEquals(new SDIMetadataSnapshot(), builder.buildSnapshot());
+
+        SDIMetadata expected = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        Submitter submitter = expected.getSubmitter();
+        Platform platform = expected.getPlatform();
+        Coverage coverage = expected.getCoverage();
+        MiscInfo miscInfo = expected.getMiscInfo();
+        Investigator pi = expected.getInvestigators().get(0);
+        Instrument inst = expected.getInstruments().get(0);
+        Variable var = expected.getVariables().get(0);
+
+        builder.setSubmitter(submitter);
+        builder.setInvestigators(expected.getInvestigators());
+        builder.setPlatform(platform);
+        builder.setCoverage(coverage);
+        builder.setInstruments(expected.getInstruments());
+        builder.setVariables(expected.getVariables());
+        builder.setMiscInfo(miscInfo);
+        SDIMetadata metadata = builder.build();
+        assertEquals(expected, metadata);
+        // The builder is reset after building
+        assertEquals(new SDIMetadata(), builder.build());
+
+        // The objects given are used without copying
+        builder.setSubmitter(submitter);
+        builder.setInvestigators(Arrays.asList(pi));
+        builder.setPlatform(platform);
+        builder.setCoverage(coverage);
+        builder.setInstruments(Arrays.asList(inst));
+        builder.setVariables(Arrays.asList(var));
+        builder.setMiscInfo(miscInfo);
+        SDIMetadataSnapshot snapshot = builder.buildSnapshot();
+        assertSame(submitter, snapshot.viewSubmitter());
+        assertSame(pi, snapshot.viewInvestigators().get(0));
+        assertSame(platform, snapshot.viewPlatform());
+        assertSame(coverage, snapshot.viewCoverage());
+        assertSame(inst, snapshot.viewInstruments().get(0));
+        assertSame(var, snapshot.viewVariables().get(0));
+        assertSame(miscInfo, snapshot.viewMiscInfo());
+
+        builder.setSubmitter(submitter);
+        builder.setVariables(Arrays.asList(var));
+        builder.setSubmitter(null);
+        builder.setVariables(null);
+        assertEquals(new SDIMetadata(), builder.build());
+
+        try {
+            builder.setVariables(Arrays.asList(var, null));
+            fail("setting variables containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            builder.setInstruments(Arrays.asList((Instrument) null));
+            fail("setting instruments containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            builder.setInvestigators(Arrays.asList((Investigator) null));
+            fail("setting investigators containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+
+        // A rejected list leaves the previous list in place
+        builder.setVariables(Arrays.asList(var));
+        builder.setInstruments(Arrays.asList(inst));
+        builder.setInvestigators(Arrays.asList(pi));
+        try {
+            builder.setVariables(Arrays.asList(var, null));
+            fail("setting variables containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            builder.setInstruments(Arrays.asList(inst, null));
+            fail("setting instruments containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            builder.setInvestigators(Arrays.asList(pi, null));
+            fail("setting investigators containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        snapshot = builder.buildSnapshot();
+        assertEquals(Arrays.asList(var), snapshot.viewVariables());
+        assertEquals(Arrays.asList(inst), snapshot.viewInstruments());
+        assertEquals(Arrays.asList(pi), snapshot.viewInvestigators());
+    }
+
+}
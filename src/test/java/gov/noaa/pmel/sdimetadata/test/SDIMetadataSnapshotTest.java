@@ -0,0 +1,156 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.Coverage;
+import gov.noaa.pmel.sdimetadata.MiscInfo;
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.SDIMetadataSnapshot;
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.person.Investigator;
+import gov.noaa.pmel.sdimetadata.person.Submitter;
+import gov.noaa.pmel.sdimetadata.platform.Platform;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SDIMetadataSnapshotTest {
+
+    @Test
+    public void testEmpty() {
+        SDIMetadataSnapshot snapshot = new SDIMetadataSnapshot();
+        assertEquals(new Submitter(), snapshot.viewSubmitter());
+        assertEquals(0, snapshot.viewInvestigators().size());
+        assertEquals(new Platform(), snapshot.viewPlatform());
+        assertEquals(new Coverage(), snapshot.viewCoverage());
+        assertEquals(0, snapshot.viewInstruments().size());
+        assertEquals(0, snapshot.viewVariables().size());
+        assertEquals(new MiscInfo(), snapshot.viewMiscInfo());
+        assertEquals(new SDIMetadata(), snapshot.toSDIMetadata());
+        assertEquals(new SDIMetadata().snapshot(), snapshot);
+        assertEquals(new SDIMetadata().snapshot().hashCode(), snapshot.hashCode());
+    }
+
+    @Test
+    public void testSnapshot() {
+        SDIMetadata metadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        SDIMetadataSnapshot snapshot = metadata.snapshot();
+        assertEquals(metadata.viewSubmitter(), snapshot.viewSubmitter());
+        assertEquals(metadata.viewInvestigators(), snapshot.viewInvestigators());
+        assertEquals(metadata.viewPlatform(), snapshot.viewPlatform());
+        assertEquals(metadata.viewCoverage(), snapshot.viewCoverage());
+        assertEquals(metadata.viewInstruments(), snapshot.viewInstruments());
+        assertEquals(metadata.viewVariables(), snapshot.viewVariables());
+        assertEquals(metadata.viewMiscInfo(), snapshot.viewMiscInfo());
+        assertEquals(metadata, snapshot.toSDIMetadata());
+        assertEquals(metadata, metadata.clone());
+        // The objects held are shared with the metadata rather than copied
+        assertSame(metadata.viewCoverage(), snapshot.viewCoverage());
+        assertSame(metadata.viewVariables().get(0), snapshot.viewVariables().get(0));
+
+        try {
+            snapshot.viewVariables().remove(0);
+            fail("removing from the variables of a snapshot succeeded");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+        try {
+            snapshot.viewInstruments().add(new Instrument());
+            fail("adding to the instruments of a snapshot succeeded");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+
+        // Later changes to the metadata do not change the snapshot
+        metadata.setVariables(null);
+        metadata.setMiscInfo(null);
+        assertTrue(snapshot.viewVariables().size() > 0);
+        assertNotEquals(new MiscInfo(), snapshot.viewMiscInfo());
+        assertNotEquals(metadata, snapshot.toSDIMetadata());
+
+        // Changes to metadata created from the snapshot do not change the snapshot
+        SDIMetadata dup = snapshot.toSDIMetadata();
+        dup.setInvestigators(null);
+        assertTrue(snapshot.viewInvestigators().size() > 0);
+    }
+
+    @Test
+    public void testWith() {
+        SDIMetadataSnapshot snapshot = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata().snapshot();
+        assertTrue(snapshot.viewVariables().size() > 1);
+
+        Variable var = snapshot.viewVariables().get(1).clone();
+        var.setFullName("Changed full name");
+        SDIMetadataSnapshot changed = snapshot.withVariable(1, var);
+        assertNotEquals(snapshot, changed);
+        assertEquals(var, changed.viewVariables().get(1));
+        assertNotSame(var, changed.viewVariables().get(1));
+        assertNotEquals(var, snapshot.viewVariables().get(1));
+        // Unchanged parts are shared
+        assertSame(snapshot.viewVariables().get(0), changed.viewVariables().get(0));
+        assertSame(snapshot.viewSubmitter(), changed.viewSubmitter());
+        assertSame(snapshot.viewInvestigators(), changed.viewInvestigators());
+        assertSame(snapshot.viewPlatform(), changed.viewPlatform());
+        assertSame(snapshot.viewCoverage(), changed.viewCoverage());
+        assertSame(snapshot.viewInstruments(), changed.viewInstruments());
+        assertSame(snapshot.viewMiscInfo(), changed.viewMiscInfo());
+        // Changes to the given variable do not change the snapshot
+        var.setFullName("Another full name");
+        assertEquals("Changed full name", changed.viewVariables().get(1).getFullName());
+
+        Instrument inst = snapshot.viewInstruments().get(0).clone();
+        inst.setManufacturer("Changed manufacturer");
+        changed = snapshot.withInstrument(0, inst);
+        assertEquals(inst, changed.viewInstruments().get(0));
+        assertSame(snapshot.viewVariables(), changed.viewVariables());
+
+        Investigator pi = new Investigator();
+        pi.setLastName("Smith");
+        changed = snapshot.withInvestigator(0, pi);
+        assertEquals(pi, changed.viewInvestigators().get(0));
+        assertEquals(snapshot.viewInvestigators().size(), changed.viewInvestigators().size());
+        changed = snapshot.withInvestigators(Arrays.asList(pi));
+        assertEquals(Arrays.asList(pi), changed.viewInvestigators());
+        assertSame(snapshot.viewInstruments(), changed.viewInstruments());
+
+        changed = snapshot.withSubmitter(null).withPlatform(null).withCoverage(null).withMiscInfo(null)
+                          .withInstruments(null).withVariables(null).withInvestigators(null);
+        assertEquals(new SDIMetadataSnapshot(), changed);
+
+        SDIMetadata metadata = snapshot.toSDIMetadata();
+        MiscInfo info = metadata.getMiscInfo();
+        info.setDatasetId("33RO20150115");
+        metadata.setMiscInfo(info);
+        assertEquals(metadata.snapshot(), snapshot.withMiscInfo(info));
+
+        try {
+            snapshot.withVariable(snapshot.viewVariables().size(), var);
+            fail("replacing a variable beyond the end of the list succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            snapshot.withVariable(0, null);
+            fail("replacing a variable with null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        try {
+            snapshot.withInstruments(Arrays.asList(inst, null));
+            fail("setting instruments containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+    }
+
+}
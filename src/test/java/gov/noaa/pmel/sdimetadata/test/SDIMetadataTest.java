@@ -0,0 +1,219 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.MiscInfo;
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.person.Investigator;
+import gov.noaa.pmel.sdimetadata.variable.DataVar;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SDIMetadataTest {
+
+    @Test
+    public void testClone() {
+        SDIMetadata metadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        SDIMetadata dup = metadata.clone();
+        assertEquals(metadata, dup);
+        assertNotSame(metadata, dup);
+        // The read-only parts are shared
+        assertSame(metadata.viewSubmitter(), dup.viewSubmitter());
+        assertSame(metadata.viewCoverage(), dup.viewCoverage());
+        assertSame(metadata.viewVariables().get(0), dup.viewVariables().get(0));
+        try {
+            dup.viewMiscInfo().setDatasetId("33RO20150115");
+            fail("setting the dataset ID of the miscellaneous information of a clone succeeded");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+
+        // Changes to the clone do not change the original
+        SDIMetadata expected = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        MiscInfo info = dup.getMiscInfo();
+        info.setDatasetId("33RO20150115");
+        dup.setMiscInfo(info);
+        dup.setVariables(null);
+        dup.setInstruments(Arrays.asList(new Instrument()));
+        assertNotEquals(metadata, dup);
+        assertEquals(expected, metadata);
+        assertEquals(expected.invalidFieldNames(), metadata.invalidFieldNames());
+    }
+
+    @Test
+    public void testForEach() {
+        SDIMetadata metadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+
+        final ArrayList<Variable> varList = new ArrayList<Variable>();
+        metadata.forEachVariable(new Consumer<Variable>() {
+            @Override
+            public void accept(Variable var) {
+                varList.add(var);
+            }
+        });
+        assertEquals(metadata.viewVariables().size(), varList.size());
+        for (int k = 0; k < varList.size(); k++) {
+            assertSame(metadata.viewVariables().get(k), varList.get(k));
+        }
+
+        final ArrayList<Instrument> instList = new ArrayList<Instrument>();
+        metadata.forEachInstrument(new Consumer<Instrument>() {
+            @Override
+            public void accept(Instrument inst) {
+                instList.add(inst);
+            }
+        });
+        assertEquals(metadata.viewInstruments(), instList);
+
+        final ArrayList<Investigator> piList = new ArrayList<Investigator>();
+        metadata.forEachInvestigator(new Consumer<Investigator>() {
+            @Override
+            public void accept(Investigator pi) {
+                piList.add(pi);
+            }
+        });
+        assertEquals(metadata.viewInvestigators(), piList);
+    }
+
+    /**
+     * Variable counting the number of times its invalid field names are determined
+     */
+    private static class CountingVariable extends Variable {
+        static int numChecks = 0;
+
+        @Override
+        public HashSet<String> invalidFieldNames() {
+            numChecks++;
+            return super.invalidFieldNames();
+        }
+    }
+
+    @Test
+    public void testInvalidFieldNames() {
+        SDIMetadata metadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        HashSet<String> invalid = metadata.invalidFieldNames();
+        assertEquals(invalid.isEmpty(), metadata.isValid());
+
+        ArrayList<Variable> varList = metadata.getVariables();
+        Variable var = varList.get(1);
+        var.setFullName(null);
+        metadata.setVariables(varList);
+        HashSet<String> expected = new HashSet<String>(invalid);
+        expected.add("variables[1].fullName");
+        assertEquals(expected, metadata.invalidFieldNames());
+        assertFalse(metadata.isValid());
+        // A copy gives the same results
+        assertEquals(expected, metadata.clone().invalidFieldNames());
+
+        MiscInfo info = metadata.getMiscInfo();
+        info.setDatasetId(null);
+        metadata.setMiscInfo(info);
+        expected.add("miscInfo.datasetId");
+        assertEquals(expected, metadata.invalidFieldNames());
+
+        varList = metadata.getVariables();
+        varList.get(1).setFullName("Restored full name");
+        metadata.setVariables(varList);
+        info.setDatasetId("33RO20150114");
+        metadata.setMiscInfo(info);
+        assertEquals(invalid, metadata.invalidFieldNames());
+        assertEquals(invalid.isEmpty(), metadata.isValid());
+
+        // Only variables that have changed are checked again
+        varList = new ArrayList<Variable>();
+        for (int k = 0; k < 3; k++) {
+            CountingVariable countVar = new CountingVariable();
+            countVar.setColName("var" + k);
+            countVar.setFullName("Variable " + k);
+            varList.add(countVar);
+        }
+        metadata = new SDIMetadata();
+        HashSet<String> emptyInvalid = metadata.invalidFieldNames();
+        metadata.setVariables(varList);
+        CountingVariable.numChecks = 0;
+        assertEquals(emptyInvalid, metadata.invalidFieldNames());
+        assertEquals(3, CountingVariable.numChecks);
+        assertEquals(emptyInvalid, metadata.invalidFieldNames());
+        assertEquals(3, CountingVariable.numChecks);
+        varList.get(2).setFullName(null);
+        metadata.setVariables(varList);
+        expected = new HashSet<String>(emptyInvalid);
+        expected.add("variables[2].fullName");
+        assertEquals(expected, metadata.invalidFieldNames());
+        assertEquals(4, CountingVariable.numChecks);
+        // Checking stops at the first invalid part, the submitter
+        assertFalse(metadata.isValid());
+        assertEquals(4, CountingVariable.numChecks);
+    }
+
+    @Test
+    public void testInvalidFieldNamesReplacedClass() {
+        SDIMetadata metadata = new SDIMetadata();
+        HashSet<String> emptyInvalid = metadata.invalidFieldNames();
+        DataVar dataVar = new DataVar();
+        dataVar.setColName("var");
+        dataVar.setFullName("Variable");
+        metadata.setVariables(Arrays.asList((Variable) dataVar));
+        assertTrue(metadata.invalidFieldNames().contains("variables[0].observeType"));
+
+        // A plain variable equal to the data variable in its variable fields does not reuse its invalid names
+        Variable var = new Variable();
+        var.setColName("var");
+        var.setFullName("Variable");
+        assertTrue(var.equals(dataVar));
+        metadata.setVariables(Arrays.asList(var));
+        assertEquals(emptyInvalid, metadata.invalidFieldNames());
+    }
+
+    @Test
+    public void testConcurrentInvalidFieldNames() throws Exception {
+        final SDIMetadata expected = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        final HashSet<String> invalid = expected.invalidFieldNames();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int j = 0; j < 20; j++) {
+                final SDIMetadata metadata = expected.clone();
+                metadata.setVariables(expected.getVariables());
+                ArrayList<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+                for (int k = 0; k < 4; k++) {
+                    results.add(executor.submit(new Callable<Boolean>() {
+                        @Override
+                        public Boolean call() {
+                            return invalid.equals(metadata.invalidFieldNames()) &&
+                                    (invalid.isEmpty() == metadata.isValid());
+                        }
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertEquals(Boolean.TRUE, result.get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,387 @@
+package gov.noaa.pmel.sdimetadata.test;
+
+import gov.noaa.pmel.sdimetadata.Coverage;
+import gov.noaa.pmel.sdimetadata.MiscInfo;
+import gov.noaa.pmel.sdimetadata.SDIMetadata;
+import gov.noaa.pmel.sdimetadata.SDIMetadataSnapshot;
+import gov.noaa.pmel.sdimetadata.SDIMetadataView;
+import gov.noaa.pmel.sdimetadata.instrument.CalibrationGas;
+import gov.noaa.pmel.sdimetadata.instrument.GasSensor;
+import gov.noaa.pmel.sdimetadata.instrument.Instrument;
+import gov.noaa.pmel.sdimetadata.instrument.Sampler;
+import gov.noaa.pmel.sdimetadata.person.Investigator;
+import gov.noaa.pmel.sdimetadata.person.Person;
+import gov.noaa.pmel.sdimetadata.util.Datestamp;
+import gov.noaa.pmel.sdimetadata.util.NumericString;
+import gov.noaa.pmel.sdimetadata.variable.DataVar;
+import gov.noaa.pmel.sdimetadata.variable.Variable;
+import gov.noaa.pmel.sdimetadata.xml.CdiacReader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of the contract of the view methods of the metadata classes: collections are returned as unmodifiable
+ * views, objects are returned read-only, and neither can be used to change the copies or snapshots sharing them.
+ */
+public class SDIMetadataViewTest {
+
+    private static final ArrayList<String> NAMES = new ArrayList<String>(Arrays.asList(
+            "Atlantic Ocean", "Caribbean Sea", "Gulf of Mexico"
+    ));
+    private static final ArrayList<CalibrationGas> CALIBRATION_GASES = new ArrayList<CalibrationGas>(Arrays.asList(
+            new CalibrationGas("SM-250", "CO2", "Scott Marin", "248.73", "0.01", "every 3.5 h"),
+            new CalibrationGas("SM-500", "CO2", "Scott Marin", "567.40", "0.01", "every 4.5 h")
+    ));
+    private static final Datestamp START_DATESTAMP = new Datestamp("2015", "1", "15");
+    private static final ArrayList<Datestamp> HISTORY = new ArrayList<Datestamp>(Arrays.asList(
+            new Datestamp("2015", "2", "20"), new Datestamp("2015", "3", "25")
+    ));
+    private static final NumericString ACCURACY = new NumericString("0.01", "deg C");
+
+    /**
+     * Assert that the given collection view holds the expected items and cannot be modified.
+     */
+    private static <T> void assertUnmodifiable(String name, Collection<T> expected, Collection<T> view, T item) {
+        assertEquals(name, expected.size(), view.size());
+        assertTrue(name, view.containsAll(expected));
+        try {
+            view.add(item);
+            fail("adding to the " + name + " view succeeded");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+        try {
+            view.clear();
+            fail("clearing the " + name + " view succeeded");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+        assertEquals(name, expected.size(), view.size());
+    }
+
+    /**
+     * Assert that running the given modification fails because the object modified is read-only.
+     */
+    private static void assertReadOnly(String name, Runnable modification) {
+        try {
+            modification.run();
+            fail("modifying the " + name + " view succeeded");
+        } catch ( UnsupportedOperationException ex ) {
+            // Expected result
+        }
+    }
+
+    /**
+     * @return metadata with some of everything, read from the AOML CDIAC XML test data
+     */
+    private static SDIMetadata readMetadata() {
+        SDIMetadata metadata = new CdiacReader(
+                new StringReader(CdiacReaderTest.AOML_CDIAC_XML_DATA_STRING), null).createSDIMetadata();
+        assertTrue(metadata.viewInvestigators().size() > 0);
+        assertTrue(metadata.viewInstruments().size() > 0);
+        assertTrue(metadata.viewVariables().size() > 0);
+        return metadata;
+    }
+
+    @Test
+    public void testCollectionViews() {
+        Investigator pi = new Investigator();
+        pi.setStreets(NAMES);
+        assertUnmodifiable("streets", NAMES, pi.viewStreets(), "x");
+
+        Coverage coverage = new Coverage();
+        coverage.setGeographicNames(NAMES);
+        assertUnmodifiable("geographic names", new TreeSet<String>(NAMES), coverage.viewGeographicNames(), "x");
+
+        Instrument inst = new Instrument();
+        inst.setAddnInfo(NAMES);
+        assertUnmodifiable("instrument additional information", NAMES, inst.viewAddnInfo(), "x");
+
+        Sampler sampler = new Sampler();
+        sampler.setInstrumentNames(NAMES);
+        assertUnmodifiable("sampler instrument names", new HashSet<String>(NAMES), sampler.viewInstrumentNames(),
+                "x");
+
+        GasSensor sensor = new GasSensor();
+        sensor.setCalibrationGases(CALIBRATION_GASES);
+        assertUnmodifiable("calibration gases", CALIBRATION_GASES, sensor.viewCalibrationGases(),
+                new CalibrationGas());
+
+        Variable var = new Variable();
+        var.setAddnInfo(NAMES);
+        assertUnmodifiable("variable additional information", NAMES, var.viewAddnInfo(), "x");
+
+        DataVar dataVar = new DataVar();
+        dataVar.setInstrumentNames(NAMES);
+        assertUnmodifiable("variable instrument names", new HashSet<String>(NAMES), dataVar.viewInstrumentNames(),
+                "x");
+
+        MiscInfo info = new MiscInfo();
+        info.setReferences(NAMES);
+        info.setPortsOfCall(NAMES);
+        info.setAddnInfo(NAMES);
+        info.setHistory(HISTORY);
+        assertUnmodifiable("references", NAMES, info.viewReferences(), "x");
+        assertUnmodifiable("ports of call", NAMES, info.viewPortsOfCall(), "x");
+        assertUnmodifiable("miscellaneous additional information", NAMES, info.viewAddnInfo(), "x");
+        assertUnmodifiable("history", HISTORY, info.viewHistory(), new Datestamp());
+
+        SDIMetadata metadata = readMetadata();
+        assertUnmodifiable("investigators", metadata.getInvestigators(), metadata.viewInvestigators(),
+                new Investigator());
+        assertUnmodifiable("instruments", metadata.getInstruments(), metadata.viewInstruments(), new Instrument());
+        assertUnmodifiable("variables", metadata.getVariables(), metadata.viewVariables(), new Variable());
+        SDIMetadataSnapshot snapshot = metadata.snapshot();
+        assertUnmodifiable("snapshot investigators", metadata.getInvestigators(), snapshot.viewInvestigators(),
+                new Investigator());
+        assertUnmodifiable("snapshot instruments", metadata.getInstruments(), snapshot.viewInstruments(),
+                new Instrument());
+        assertUnmodifiable("snapshot variables", metadata.getVariables(), snapshot.viewVariables(),
+                new Variable());
+
+        // Collection views of metadata reflect later changes to the metadata
+        List<Variable> varView = metadata.viewVariables();
+        metadata.setVariables(null);
+        assertEquals(0, varView.size());
+        assertTrue(snapshot.viewVariables().size() > 0);
+    }
+
+    @Test
+    public void testSetFromViews() {
+        Investigator pi = new Investigator();
+        pi.setStreets(NAMES);
+        pi.setStreets(pi.viewStreets());
+        assertEquals(NAMES, pi.getStreets());
+
+        Coverage coverage = new Coverage();
+        coverage.setGeographicNames(NAMES);
+        coverage.setGeographicNames(coverage.viewGeographicNames());
+        assertEquals(new TreeSet<String>(NAMES), coverage.getGeographicNames());
+
+        Instrument inst = new Instrument();
+        inst.setAddnInfo(NAMES);
+        inst.setAddnInfo(inst.viewAddnInfo());
+        assertEquals(NAMES, inst.getAddnInfo());
+
+        Sampler sampler = new Sampler();
+        sampler.setInstrumentNames(NAMES);
+        sampler.setInstrumentNames(sampler.viewInstrumentNames());
+        assertEquals(new HashSet<String>(NAMES), sampler.getInstrumentNames());
+
+        GasSensor sensor = new GasSensor();
+        sensor.setCalibrationGases(CALIBRATION_GASES);
+        sensor.setCalibrationGases(sensor.viewCalibrationGases());
+        assertEquals(CALIBRATION_GASES, sensor.getCalibrationGases());
+
+        Variable var = new Variable();
+        var.setAddnInfo(NAMES);
+        var.setAddnInfo(var.viewAddnInfo());
+        assertEquals(NAMES, var.getAddnInfo());
+
+        DataVar dataVar = new DataVar();
+        dataVar.setInstrumentNames(NAMES);
+        dataVar.setInstrumentNames(dataVar.viewInstrumentNames());
+        assertEquals(new HashSet<String>(NAMES), dataVar.getInstrumentNames());
+
+        MiscInfo info = new MiscInfo();
+        info.setReferences(NAMES);
+        info.setPortsOfCall(NAMES);
+        info.setAddnInfo(NAMES);
+        info.setHistory(HISTORY);
+        info.setReferences(info.viewReferences());
+        info.setPortsOfCall(info.viewPortsOfCall());
+        info.setAddnInfo(info.viewAddnInfo());
+        info.setHistory(info.viewHistory());
+        assertEquals(NAMES, info.getReferences());
+        assertEquals(NAMES, info.getPortsOfCall());
+        assertEquals(NAMES, info.getAddnInfo());
+        assertEquals(HISTORY, info.getHistory());
+        // A failed assignment leaves the previous values
+        try {
+            info.setReferences(Arrays.asList("Some information", null));
+            fail("calling setReferences with a list containing a null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        assertEquals(NAMES, info.getReferences());
+
+        SDIMetadata metadata = readMetadata();
+        SDIMetadata expected = readMetadata();
+        metadata.setInvestigators(metadata.viewInvestigators());
+        metadata.setInstruments(metadata.viewInstruments());
+        metadata.setVariables(metadata.viewVariables());
+        metadata.setSubmitter(metadata.viewSubmitter());
+        metadata.setPlatform(metadata.viewPlatform());
+        metadata.setCoverage(metadata.viewCoverage());
+        metadata.setMiscInfo(metadata.viewMiscInfo());
+        assertEquals(expected, metadata);
+        assertEquals(expected.invalidFieldNames(), metadata.invalidFieldNames());
+        // A failed assignment leaves the previous values
+        try {
+            metadata.setVariables(Arrays.asList(metadata.viewVariables().get(0), null));
+            fail("setting variables containing null succeeded");
+        } catch ( IllegalArgumentException ex ) {
+            // Expected result
+        }
+        assertEquals(expected, metadata);
+        assertEquals(expected.invalidFieldNames(), metadata.invalidFieldNames());
+    }
+
+    @Test
+    public void testReadOnlyObjects() {
+        final DataVar dataVar = new DataVar();
+        Person researcher = new Person();
+        researcher.setLastName("Smith");
+        dataVar.setResearcher(researcher);
+        assertSame(dataVar.viewResearcher(), dataVar.viewResearcher());
+        assertReadOnly("researcher", new Runnable() {
+            @Override
+            public void run() {
+                dataVar.viewResearcher().setLastName("Jones");
+            }
+        });
+        assertEquals(researcher, dataVar.getResearcher());
+
+        final GasSensor sensor = new GasSensor();
+        sensor.setCalibrationGases(CALIBRATION_GASES);
+        assertSame(sensor.viewCalibrationGases().get(0), sensor.viewCalibrationGases().get(0));
+        assertReadOnly("calibration gas", new Runnable() {
+            @Override
+            public void run() {
+                sensor.viewCalibrationGases().get(0).setSupplier("Luxfer");
+            }
+        });
+        assertEquals(CALIBRATION_GASES, sensor.getCalibrationGases());
+
+        final MiscInfo info = new MiscInfo();
+        info.setStartDatestamp(START_DATESTAMP);
+        info.setHistory(HISTORY);
+        assertSame(info.viewStartDatestamp(), info.viewStartDatestamp());
+        assertReadOnly("start datestamp", new Runnable() {
+            @Override
+            public void run() {
+                info.viewStartDatestamp().setYear(2016);
+            }
+        });
+        assertReadOnly("history datestamp", new Runnable() {
+            @Override
+            public void run() {
+                info.viewHistory().get(0).setDay(1);
+            }
+        });
+        assertEquals(START_DATESTAMP, info.getStartDatestamp());
+        assertEquals(HISTORY, info.getHistory());
+
+        // Immutable numeric strings are shared by the getters
+        Variable var = new Variable();
+        var.setAccuracy(ACCURACY);
+        assertEquals(ACCURACY, var.getAccuracy());
+        assertSame(var.getAccuracy(), var.getAccuracy());
+
+        SDIMetadata metadata = readMetadata();
+        assertReadOnlyParts(metadata);
+        assertReadOnlyParts(metadata.snapshot());
+        assertReadOnlyParts(metadata.clone());
+    }
+
+    /**
+     * Assert that each of the objects returned by the view methods of the given view is read-only.
+     */
+    private static void assertReadOnlyParts(final SDIMetadataView view) {
+        assertSame(view.viewSubmitter(), view.viewSubmitter());
+        assertReadOnly("submitter", new Runnable() {
+            @Override
+            public void run() {
+                view.viewSubmitter().setLastName("Jones");
+            }
+        });
+        assertReadOnly("investigator", new Runnable() {
+            @Override
+            public void run() {
+                view.viewInvestigators().get(0).setEmail("someone@example.com");
+            }
+        });
+        assertReadOnly("platform", new Runnable() {
+            @Override
+            public void run() {
+                view.viewPlatform().setPlatformName("Another ship");
+            }
+        });
+        assertReadOnly("coverage", new Runnable() {
+            @Override
+            public void run() {
+                view.viewCoverage().setEarliestDataTime(new Date());
+            }
+        });
+        assertReadOnly("instrument", new Runnable() {
+            @Override
+            public void run() {
+                view.viewInstruments().get(0).setManufacturer("Another manufacturer");
+            }
+        });
+        assertReadOnly("variable", new Runnable() {
+            @Override
+            public void run() {
+                view.viewVariables().get(0).setColName("another");
+            }
+        });
+        assertReadOnly("miscellaneous information", new Runnable() {
+            @Override
+            public void run() {
+                view.viewMiscInfo().setDatasetId("33RO20150115");
+            }
+        });
+    }
+
+    @Test
+    public void testViewsDoNotChangeCopies() {
+        final SDIMetadata metadata = readMetadata();
+        SDIMetadata dup = metadata.clone();
+        SDIMetadataSnapshot snapshot = metadata.snapshot();
+        SDIMetadata expected = readMetadata();
+
+        // Attempts to modify the objects returned by the view methods fail
+        assertReadOnlyParts(metadata);
+        assertReadOnly("variables", new Runnable() {
+            @Override
+            public void run() {
+                metadata.viewVariables().remove(0);
+            }
+        });
+        // The copies returned by the getters may be modified
+        Coverage coverage = metadata.getCoverage();
+        coverage.setEarliestDataTime(new Date(0L));
+        coverage.getLatestDataTime().setTime(0L);
+        List<Variable> varList = metadata.getVariables();
+        varList.get(0).setColName("another");
+        varList.remove(varList.size() - 1);
+        MiscInfo info = metadata.getMiscInfo();
+        info.setDatasetId("33RO20150115");
+        assertEquals(expected, metadata);
+
+        // Neither changes the clone or the snapshot, nor does changing the metadata using the modified copies
+        metadata.setCoverage(coverage);
+        metadata.setVariables(varList);
+        metadata.setMiscInfo(info);
+        assertNotEquals(expected, metadata);
+        assertEquals(expected, dup);
+        assertEquals(expected.invalidFieldNames(), dup.invalidFieldNames());
+        assertEquals(expected.snapshot(), snapshot);
+        assertEquals(expected, snapshot.toSDIMetadata());
+    }
+
+}
@@ -9,6 +9,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -38,7 +39,7 @@ public class TemperatureTest {
         assertEquals(EMPTY_TEMPERATURE, pressure.getAccuracy());
         pressure.setAccuracy(ACCURACY);
         assertEquals(ACCURACY, pressure.getAccuracy());
-        assertNotSame(ACCURACY, pressure.getAccuracy());
+        assertSame(ACCURACY, pressure.getAccuracy());
         assertEquals(Temperature.DEGREES_CELSIUS_UNIT, pressure.getVarUnit());
         pressure.setAccuracy(null);
         assertEquals(EMPTY_TEMPERATURE, pressure.getAccuracy());
@@ -70,7 +71,7 @@ public class TemperatureTest {
         assertEquals(EMPTY_TEMPERATURE, pressure.getPrecision());
         pressure.setPrecision(PRECISION);
         assertEquals(PRECISION, pressure.getPrecision());
-        assertNotSame(PRECISION, pressure.getPrecision());
+        assertSame(PRECISION, pressure.getPrecision());
         assertEquals(EMPTY_TEMPERATURE, pressure.getAccuracy());
         assertEquals(Temperature.DEGREES_CELSIUS_UNIT, pressure.getVarUnit());
         pressure.setPrecision(null);
@@ -113,8 +114,8 @@ public class TemperatureTest {
         dup = pressure.clone();
         assertEquals(pressure, dup);
         assertNotSame(pressure, dup);
-        assertNotSame(pressure.getAccuracy(), dup.getAccuracy());
-        assertNotSame(pressure.getPrecision(), dup.getPrecision());
+        assertSame(pressure.getAccuracy(), dup.getAccuracy());
+        assertSame(pressure.getPrecision(), dup.getPrecision());
     }
 
     @Test
@@ -1,7 +1,14 @@
 package gov.noaa.pmel.sdimetadata.test;
 
 import gov.noaa.pmel.sdimetadata.util.NumericString;
+import gov.noaa.pmel.sdimetadata.variable.AirPressure;
+import gov.noaa.pmel.sdimetadata.variable.AquGasConc;
+import gov.noaa.pmel.sdimetadata.variable.BioDataVar;
+import gov.noaa.pmel.sdimetadata.variable.DataVar;
+import gov.noaa.pmel.sdimetadata.variable.GasConc;
+import gov.noaa.pmel.sdimetadata.variable.Temperature;
 import gov.noaa.pmel.sdimetadata.variable.Variable;
+import gov.noaa.pmel.sdimetadata.variable.VariableVisitor;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -12,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -110,8 +118,8 @@ public class VariableTest {
         var.setAccuracy(ACCURACY);
         NumericString numstr = var.getAccuracy();
         assertEquals(ACCURACY, numstr);
-        assertNotSame(ACCURACY, numstr);
-        assertNotSame(numstr, var.getAccuracy());
+        assertSame(ACCURACY, numstr);
+        assertSame(numstr, var.getAccuracy());
         assertEquals(EMPTY_STRING, var.getFlagColName());
         assertEquals(EMPTY_STRING, var.getMissVal());
         assertEquals(EMPTY_STRING, var.getVarUnit());
@@ -142,8 +150,8 @@ public class VariableTest {
         var.setPrecision(PRECISION);
         NumericString numstr = var.getPrecision();
         assertEquals(PRECISION, numstr);
-        assertNotSame(PRECISION, numstr);
-        assertNotSame(numstr, var.getPrecision());
+        assertSame(PRECISION, numstr);
+        assertSame(numstr, var.getPrecision());
         assertEquals(EMPTY_NUMSTR, var.getAccuracy());
         assertEquals(EMPTY_STRING, var.getFlagColName());
         assertEquals(EMPTY_STRING, var.getMissVal());
@@ -212,6 +220,54 @@ public class VariableTest {
         assertEquals(new HashSet<String>(), var.invalidFieldNames());
     }
 
+    @Test
+    public void testAccept() {
+        VariableVisitor<String> visitor = new VariableVisitor<String>() {
+            @Override
+            public String visitVariable(Variable var) {
+                return "Variable " + var.getColName();
+            }
+
+            @Override
+            public String visitDataVar(DataVar var) {
+                return "DataVar " + var.getColName();
+            }
+
+            @Override
+            public String visitAirPressure(AirPressure var) {
+                return "AirPressure " + var.getColName();
+            }
+
+            @Override
+            public String visitTemperature(Temperature var) {
+                return "Temperature " + var.getColName();
+            }
+
+            @Override
+            public String visitBioDataVar(BioDataVar var) {
+                return "BioDataVar " + var.getColName();
+            }
+
+            @Override
+            public String visitGasConc(GasConc var) {
+                return "GasConc " + var.getColName();
+            }
+
+            @Override
+            public String visitAquGasConc(AquGasConc var) {
+                return "AquGasConc " + var.getColName();
+            }
+        };
+        Variable[] variables = new Variable[] {
+                new Variable(), new DataVar(), new AirPressure(), new Temperature(),
+                new BioDataVar(), new GasConc(), new AquGasConc()
+        };
+        for (Variable var : variables) {
+            var.setColName(COL_NAME);
+            assertEquals(var.getClass().getSimpleName() + " " + COL_NAME, var.accept(visitor));
+        }
+    }
+
     @Test
     public void testClone() {
         Variable var = new Variable();
@@ -232,8 +288,8 @@ public class VariableTest {
         dup = var.clone();
         assertEquals(var, dup);
         assertNotSame(var, dup);
-        assertNotSame(var.getAccuracy(), dup.getAccuracy());
-        assertNotSame(var.getPrecision(), dup.getPrecision());
+        assertSame(var.getAccuracy(), dup.getAccuracy());
+        assertSame(var.getPrecision(), dup.getPrecision());
         assertNotSame(var.getAddnInfo(), dup.getAddnInfo());
     }
 